@@ -0,0 +1,20 @@
+package com.decisiondesk.backend.ai;
+
+/**
+ * One frame of a streamed completion: either a piece of generated text, or the final frame
+ * carrying the whole answer and its token usage.
+ */
+public record AiCompletionChunk(String delta, AiCompletion completion) {
+
+    public static AiCompletionChunk delta(String text) {
+        return new AiCompletionChunk(text, null);
+    }
+
+    public static AiCompletionChunk done(AiCompletion completion) {
+        return new AiCompletionChunk(null, completion);
+    }
+
+    public boolean isDone() {
+        return completion != null;
+    }
+}
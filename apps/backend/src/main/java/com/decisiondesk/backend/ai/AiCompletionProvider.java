@@ -2,6 +2,8 @@ package com.decisiondesk.backend.ai;
 
 import java.math.BigDecimal;
 
+import reactor.core.publisher.Flux;
+
 /**
  * Abstraction over AI completion providers (OpenAI, Ollama).
  */
@@ -10,6 +12,13 @@ public interface AiCompletionProvider {
     AiCompletion chatCompletion(String systemPrompt, String userPrompt,
                                  String model, int maxTokens, BigDecimal temperature);
 
+    /**
+     * Streams the completion as it is generated: text frames followed by one final frame with
+     * usage. Cancelling the subscription aborts the upstream request.
+     */
+    Flux<AiCompletionChunk> streamChatCompletion(String systemPrompt, String userPrompt,
+                                                 String model, int maxTokens, BigDecimal temperature);
+
     boolean isAvailable();
 
     String name();
@@ -9,7 +9,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.decisiondesk.backend.cost.CostProperties;
+import com.decisiondesk.backend.meetings.model.UsageRecord;
 import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
+import com.decisiondesk.backend.meetings.persistence.UsageRecordRepository;
 import com.decisiondesk.backend.web.ApiException;
 
 /**
@@ -44,11 +47,23 @@ public class AiExtractionService {
 
     private final AiProviderRouter aiProviderRouter;
     private final TranscriptRepository transcriptRepository;
+    private final AiSettingsService aiSettingsService;
+    private final AiResponseCache responseCache;
+    private final UsageRecordRepository usageRecordRepository;
+    private final CostProperties costProperties;
 
     public AiExtractionService(AiProviderRouter aiProviderRouter,
-                                TranscriptRepository transcriptRepository) {
+                                TranscriptRepository transcriptRepository,
+                                AiSettingsService aiSettingsService,
+                                AiResponseCache responseCache,
+                                UsageRecordRepository usageRecordRepository,
+                                CostProperties costProperties) {
         this.aiProviderRouter = aiProviderRouter;
         this.transcriptRepository = transcriptRepository;
+        this.aiSettingsService = aiSettingsService;
+        this.responseCache = responseCache;
+        this.usageRecordRepository = usageRecordRepository;
+        this.costProperties = costProperties;
     }
 
     /**
@@ -56,12 +71,13 @@ public class AiExtractionService {
      *
      * @param meetingId the meeting to extract from
      * @param config extraction config (keys: action_items, decisions, deadlines, backlog)
-     * @param providerName optional provider override ("ollama" or "openai")
-     * @param model optional model override
+     * @param providerName optional provider override ("ollama" or "openai"); defaults to the extraction setting
+     * @param model optional model override; defaults to the extraction setting
+     * @param noCache call the provider even when an identical request has a cached answer
      * @return extracted JSON as string
      */
     public ExtractionResult extract(UUID meetingId, Map<String, Object> config,
-                                     String providerName, String model) {
+                                     String providerName, String model, boolean noCache) {
         String transcriptText = transcriptRepository.findByMeetingId(meetingId)
                 .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST,
                         "NO_TRANSCRIPT", "Meeting has no transcript"))
@@ -80,9 +96,11 @@ public class AiExtractionService {
         String userPrompt = String.format(EXTRACTION_USER_TEMPLATE,
                 requestedItems, transcriptText);
 
-        AiCompletionProvider provider = aiProviderRouter.getProvider(
-                providerName != null ? providerName : "ollama");
-        String effectiveModel = model != null ? model : "qwen3:14b";
+        AiSettings.Task configured = aiSettingsService.current().extraction();
+        AiResponseCache.CachingProvider provider = responseCache.wrap(aiProviderRouter.getProvider(
+                providerName != null ? providerName : configured.provider()), noCache);
+        String effectiveModel = model != null ? model
+                : configured.model() != null ? configured.model() : AiSettings.DEFAULT_MODEL;
 
         log.info("Extracting from meeting={} via provider={} model={}",
                 meetingId, provider.name(), effectiveModel);
@@ -94,10 +112,35 @@ public class AiExtractionService {
                 2048,
                 new BigDecimal("0.3")
         );
+        recordUsage(meetingId, completion, provider.hits() > 0);
 
         return new ExtractionResult(completion.content(), completion.provider(),
                 completion.model(), completion.totalTokens());
     }
 
+    /**
+     * Records the extraction's usage; an answer served from the response cache is recorded with
+     * zero tokens and cost.
+     */
+    private void recordUsage(UUID meetingId, AiCompletion completion, boolean cacheHit) {
+        BigDecimal costUsd = completion.calculateCostUsd();
+        usageRecordRepository.insert(new UsageRecord(
+                UUID.randomUUID(),
+                meetingId,
+                UsageRecord.Service.GPT,
+                new BigDecimal(completion.totalTokens()),
+                costUsd,
+                costUsd.multiply(costProperties.fxUsdBrl()),
+                String.format(
+                        "{\"kind\":\"extraction\",\"model\":\"%s\",\"provider\":\"%s\",\"prompt_tokens\":%d,\"completion_tokens\":%d,\"cache_hit\":%b}",
+                        completion.model(),
+                        completion.provider(),
+                        completion.promptTokens(),
+                        completion.completionTokens(),
+                        cacheHit),
+                null
+        ));
+    }
+
     public record ExtractionResult(String json, String provider, String model, int tokensUsed) {}
 }
@@ -0,0 +1,244 @@
+package com.decisiondesk.backend.ai;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decisiondesk.backend.ai.persistence.AiResponseCacheRepository;
+import com.decisiondesk.backend.ai.persistence.AiResponseCacheRepository.CachedResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+
+/**
+ * Content-addressed, persistent cache of AI completions (see V24).
+ *
+ * <p>An answer is keyed by a SHA-256 of provider, model, system prompt, user prompt, temperature
+ * and max tokens, so re-running a summary or extraction over an unchanged transcript with the same
+ * template and model reuses the stored answer instead of paying for a new call. Entries are reused
+ * for {@code ai.response-cache.ttl}; a periodic sweep deletes expired entries and trims the table to
+ * {@code ai.response-cache.max-mb}, least recently hit first.</p>
+ *
+ * <p>Lookups and stores run in their own transaction, so a cache error degrades to a miss
+ * without aborting the caller's transaction (on PostgreSQL any failed statement would).</p>
+ *
+ * <p>Callers {@link #wrap} a provider per request. A hit comes back with zero tokens, so the usage
+ * recorded for it costs nothing. Bypassing skips the lookup but still stores the fresh answer.</p>
+ *
+ * <p>Meters: {@code ai.response.cache.requests{result=hit|miss|bypass}},
+ * {@code ai.response.cache.hit.ratio}, {@code ai.response.cache.tokens.saved},
+ * {@code ai.response.cache.evictions{cause}} and {@code ai.response.cache.size.bytes}.</p>
+ */
+@Component
+public class AiResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AiResponseCache.class);
+
+    private final AiResponseCacheRepository repository;
+    private final AiResponseCacheProperties properties;
+    private final TransactionTemplate cacheTx;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+    private final Counter tokensSaved;
+    private final Counter expired;
+    private final Counter evicted;
+    private final AtomicLong sizeBytes = new AtomicLong();
+
+    public AiResponseCache(AiResponseCacheRepository repository, AiResponseCacheProperties properties,
+                           MeterRegistry registry, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.properties = properties;
+        this.cacheTx = new TransactionTemplate(transactionManager);
+        this.cacheTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.hits = requests(registry, "hit");
+        this.misses = requests(registry, "miss");
+        this.bypasses = requests(registry, "bypass");
+        this.tokensSaved = Counter.builder("ai.response.cache.tokens.saved")
+                .description("Prompt and completion tokens of cached answers served instead of new calls")
+                .register(registry);
+        this.expired = evictions(registry, "expired");
+        this.evicted = evictions(registry, "size");
+        Gauge.builder("ai.response.cache.hit.ratio", this, cache -> cache.hitRatio())
+                .description("Share of cache lookups answered from the cache since start")
+                .register(registry);
+        Gauge.builder("ai.response.cache.size.bytes", sizeBytes, AtomicLong::get)
+                .description("Stored answer text, as of the last sweep")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Returns {@code provider} with its blocking completions served from the cache where possible.
+     *
+     * @param bypass skip the lookup and always call the provider, refreshing the stored answer
+     */
+    public CachingProvider wrap(AiCompletionProvider provider, boolean bypass) {
+        return new CachingProvider(provider, bypass);
+    }
+
+    /**
+     * Deletes expired entries and evicts the least recently hit ones beyond the size budget.
+     */
+    @Scheduled(fixedDelayString = "${ai.response-cache.sweep-interval-minutes:60}",
+               initialDelayString = "${ai.response-cache.sweep-initial-delay-minutes:5}",
+               timeUnit = TimeUnit.MINUTES)
+    public void sweep() {
+        try {
+            int expiredRows = repository.deleteCreatedBefore(OffsetDateTime.now().minus(properties.ttl()));
+            int evictedRows = repository.trimToSize(properties.maxMb() * 1024 * 1024);
+            expired.increment(expiredRows);
+            evicted.increment(evictedRows);
+            sizeBytes.set(repository.totalBytes());
+            if (expiredRows + evictedRows > 0) {
+                log.info("AI response cache sweep: expired={}, evicted={}, sizeBytes={}",
+                        expiredRows, evictedRows, sizeBytes.get());
+            }
+        } catch (DataAccessException e) {
+            log.warn("AI response cache sweep failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cache key for one request. Every field is length-prefixed so that no two different requests
+     * produce the same byte stream.
+     */
+    static byte[] key(String provider, String model, String systemPrompt, String userPrompt,
+                      BigDecimal temperature, int maxTokens) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        String normalizedTemperature = temperature != null ? temperature.stripTrailingZeros().toPlainString() : "";
+        for (String field : new String[] {provider, model, systemPrompt, userPrompt, normalizedTemperature}) {
+            byte[] bytes = (field != null ? field : "").getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+        digest.update(ByteBuffer.allocate(4).putInt(maxTokens).array());
+        return digest.digest();
+    }
+
+    double hitRatio() {
+        double lookups = hits.count() + misses.count();
+        return lookups == 0 ? 0 : hits.count() / lookups;
+    }
+
+    private Optional<CachedResponse> lookup(byte[] key) {
+        try {
+            return cacheTx.execute(status -> repository.hit(key, properties.ttl()));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("AI response cache lookup failed, calling the provider: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(byte[] key, AiCompletion completion) {
+        try {
+            CachedResponse response = new CachedResponse(completion.provider(), completion.model(),
+                    completion.content(), completion.promptTokens(), completion.completionTokens());
+            cacheTx.executeWithoutResult(status -> repository.put(key, response));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("AI response cache store failed: {}", e.getMessage());
+        }
+    }
+
+    private static Counter requests(MeterRegistry registry, String result) {
+        return Counter.builder("ai.response.cache.requests")
+                .description("Blocking AI completions by cache outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter evictions(MeterRegistry registry, String cause) {
+        return Counter.builder("ai.response.cache.evictions")
+                .description("Cached AI answers deleted by the sweep")
+                .tag("cause", cause)
+                .register(registry);
+    }
+
+    /**
+     * A provider whose blocking completions go through the cache. Streaming is passed through.
+     * Counts the hits it served, so callers can note them on the usage record.
+     */
+    public final class CachingProvider implements AiCompletionProvider {
+
+        private final AiCompletionProvider delegate;
+        private final boolean bypass;
+        private final AtomicInteger servedHits = new AtomicInteger();
+
+        private CachingProvider(AiCompletionProvider delegate, boolean bypass) {
+            this.delegate = delegate;
+            this.bypass = bypass;
+        }
+
+        @Override
+        public AiCompletion chatCompletion(String systemPrompt, String userPrompt,
+                                           String model, int maxTokens, BigDecimal temperature) {
+            if (!properties.enabled()) {
+                return delegate.chatCompletion(systemPrompt, userPrompt, model, maxTokens, temperature);
+            }
+            byte[] key = key(delegate.name(), model, systemPrompt, userPrompt, temperature, maxTokens);
+            if (bypass) {
+                bypasses.increment();
+            } else {
+                Optional<CachedResponse> cached = lookup(key);
+                if (cached.isPresent()) {
+                    CachedResponse response = cached.get();
+                    hits.increment();
+                    tokensSaved.increment(response.promptTokens() + response.completionTokens());
+                    servedHits.incrementAndGet();
+                    return new AiCompletion(response.content(), response.model(), response.provider(), 0, 0, 0);
+                }
+                misses.increment();
+            }
+            AiCompletion completion = delegate.chatCompletion(systemPrompt, userPrompt, model, maxTokens, temperature);
+            store(key, completion);
+            return completion;
+        }
+
+        @Override
+        public Flux<AiCompletionChunk> streamChatCompletion(String systemPrompt, String userPrompt,
+                                                            String model, int maxTokens, BigDecimal temperature) {
+            return delegate.streamChatCompletion(systemPrompt, userPrompt, model, maxTokens, temperature);
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return delegate.isAvailable();
+        }
+
+        @Override
+        public String name() {
+            return delegate.name();
+        }
+
+        /**
+         * Completions this wrapper served from the cache.
+         */
+        public int hits() {
+            return servedHits.get();
+        }
+    }
+}
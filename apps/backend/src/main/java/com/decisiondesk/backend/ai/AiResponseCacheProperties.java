@@ -0,0 +1,25 @@
+package com.decisiondesk.backend.ai;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Persistent cache of AI completions.
+ *
+ * @param enabled consult and fill the cache; off sends every request to the provider
+ * @param ttl     how long an answer is reused after it was generated
+ * @param maxMb   budget for stored answers; the sweep evicts the least recently hit beyond it
+ */
+@ConfigurationProperties(prefix = "ai.response-cache")
+public record AiResponseCacheProperties(
+        Boolean enabled,
+        Duration ttl,
+        Long maxMb) {
+
+    public AiResponseCacheProperties {
+        enabled = enabled == null || enabled;
+        ttl = ttl == null ? Duration.ofDays(30) : ttl;
+        maxMb = maxMb == null ? 256L : maxMb;
+    }
+}
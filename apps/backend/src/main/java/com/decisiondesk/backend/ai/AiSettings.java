@@ -0,0 +1,80 @@
+package com.decisiondesk.backend.ai;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, parsed snapshot of the AI settings stored in {@code user_preferences.ai_config}.
+ *
+ * @param summarization provider/model for summaries
+ * @param extraction    provider/model for action item and decision extraction
+ * @param chat          provider/model for transcript chat
+ * @param openaiEnabled whether OpenAI may be used at all
+ * @param config        the full configuration as stored, including keys not modelled here
+ */
+public record AiSettings(
+        Task summarization,
+        Task extraction,
+        Task chat,
+        boolean openaiEnabled,
+        Map<String, Object> config
+) {
+
+    public static final String DEFAULT_PROVIDER = "ollama";
+    public static final String DEFAULT_MODEL = "qwen3:14b";
+
+    /** Settings used when nothing is stored or the stored JSON is unreadable. */
+    public static final AiSettings DEFAULTS = fromConfig(Map.of(
+            "summarization", Map.of("provider", DEFAULT_PROVIDER, "model", DEFAULT_MODEL),
+            "extraction", Map.of("provider", DEFAULT_PROVIDER, "model", DEFAULT_MODEL),
+            "chat", Map.of("provider", DEFAULT_PROVIDER, "model", DEFAULT_MODEL),
+            "openaiEnabled", false));
+
+    /**
+     * Provider and model for one kind of AI task. Either may be {@code null} when not configured.
+     */
+    public record Task(String provider, String model) {
+
+        static Task from(Object node) {
+            if (node instanceof Map<?, ?> map) {
+                return new Task(text(map.get("provider")), text(map.get("model")));
+            }
+            return new Task(null, null);
+        }
+
+        private static String text(Object value) {
+            return value instanceof String s && !s.isBlank() ? s : null;
+        }
+    }
+
+    /**
+     * Builds a snapshot from a parsed {@code ai_config} document. The map is deep-copied.
+     */
+    public static AiSettings fromConfig(Map<String, Object> config) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> frozen = (Map<String, Object>) freeze(config);
+        return new AiSettings(
+                Task.from(frozen.get("summarization")),
+                Task.from(frozen.get("extraction")),
+                Task.from(frozen.get("chat")),
+                Boolean.TRUE.equals(frozen.get("openaiEnabled")),
+                frozen);
+    }
+
+    private static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((k, v) -> copy.put(String.valueOf(k), freeze(v)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(v -> copy.add(freeze(v)));
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,64 @@
+package com.decisiondesk.backend.ai;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decisiondesk.backend.cache.CacheInvalidationBus;
+
+/**
+ * Holds the current {@link AiSettings} snapshot between writes.
+ *
+ * <p>{@code UserPreferenceRepository} invalidates on every write; like
+ * {@code MeetingDetailsCache}, the snapshot is dropped immediately and again when the
+ * transaction ends, and a generation counter discards loads that raced a write.</p>
+ */
+@Component
+public class AiSettingsCache {
+
+    static final String CACHE_NAME = "aiSettings";
+
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile AiSettings snapshot;
+
+    public AiSettingsCache(CacheInvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CACHE_NAME, key -> evict());
+    }
+
+    public AiSettings get(Supplier<AiSettings> loader) {
+        AiSettings current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        long loadedAt = generation.get();
+        AiSettings loaded = loader.get();
+        snapshot = loaded;
+        if (generation.get() != loadedAt) {
+            snapshot = null;
+        }
+        return loaded;
+    }
+
+    public void invalidate() {
+        evict();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict();
+                }
+            });
+        }
+        invalidationBus.publish(CACHE_NAME, "default");
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+}
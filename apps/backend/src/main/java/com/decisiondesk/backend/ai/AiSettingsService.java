@@ -0,0 +1,84 @@
+package com.decisiondesk.backend.ai;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.decisiondesk.backend.notes.model.UserPreference;
+import com.decisiondesk.backend.notes.persistence.UserPreferenceRepository;
+import com.decisiondesk.backend.web.ApiException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads and writes the AI provider settings. Reads are served from {@link AiSettingsCache},
+ * so resolving a provider or model costs neither a query nor a JSON parse.
+ */
+@Service
+public class AiSettingsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AiSettingsService.class);
+    private static final String DEFAULT_USER = "default";
+    private static final TypeReference<Map<String, Object>> CONFIG_TYPE = new TypeReference<>() {};
+
+    private final UserPreferenceRepository preferenceRepository;
+    private final AiSettingsCache cache;
+    private final ObjectMapper objectMapper;
+
+    public AiSettingsService(UserPreferenceRepository preferenceRepository,
+                             AiSettingsCache cache,
+                             ObjectMapper objectMapper) {
+        this.preferenceRepository = preferenceRepository;
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the current settings snapshot, falling back to {@link AiSettings#DEFAULTS}.
+     */
+    public AiSettings current() {
+        try {
+            return cache.get(this::load);
+        } catch (RuntimeException e) {
+            // not cached, so the next call retries the read
+            log.warn("Failed to read AI settings, using defaults: {}", e.getMessage());
+            return AiSettings.DEFAULTS;
+        }
+    }
+
+    /**
+     * Replaces the stored configuration and returns the new snapshot.
+     */
+    public AiSettings update(Map<String, Object> config) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(config);
+        } catch (JsonProcessingException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_AI_CONFIG", "Invalid AI config JSON", e);
+        }
+        UserPreference pref = preferenceRepository.findByUserId(DEFAULT_USER)
+                .orElse(UserPreference.create(DEFAULT_USER));
+        preferenceRepository.upsert(pref.withAiConfig(json));
+        return AiSettings.fromConfig(config);
+    }
+
+    private AiSettings load() {
+        return preferenceRepository.findByUserId(DEFAULT_USER)
+                .map(UserPreference::aiConfig)
+                .map(this::parse)
+                .orElse(AiSettings.DEFAULTS);
+    }
+
+    private AiSettings parse(String json) {
+        try {
+            return AiSettings.fromConfig(objectMapper.readValue(json, CONFIG_TYPE));
+        } catch (JsonProcessingException e) {
+            log.warn("Stored AI config is not valid JSON, using defaults: {}", e.getMessage());
+            return AiSettings.DEFAULTS;
+        }
+    }
+}
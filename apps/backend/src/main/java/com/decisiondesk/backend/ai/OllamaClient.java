@@ -2,17 +2,23 @@ package com.decisiondesk.backend.ai;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 /**
  * REST client for local Ollama API.
  * Mirrors the pattern from {@link com.decisiondesk.backend.openai.GptClient}.
@@ -41,18 +47,7 @@ public class OllamaClient implements AiCompletionProvider {
                                         String model, int maxTokens, BigDecimal temperature) {
         log.info("Sending Ollama chat request: model={}", model);
 
-        Map<String, Object> request = Map.of(
-                "model", model,
-                "messages", List.of(
-                        Map.of("role", "system", "content", systemPrompt),
-                        Map.of("role", "user", "content", userPrompt)
-                ),
-                "stream", false,
-                "options", Map.of(
-                        "num_predict", maxTokens,
-                        "temperature", temperature.doubleValue()
-                )
-        );
+        Map<String, Object> request = chatRequest(systemPrompt, userPrompt, model, maxTokens, temperature, false);
 
         try {
             String requestBody = objectMapper.writeValueAsString(request);
@@ -90,6 +85,87 @@ public class OllamaClient implements AiCompletionProvider {
         }
     }
 
+    /**
+     * Streams {@code /api/chat} with {@code "stream": true}. Ollama answers with one JSON object
+     * per line; the last one has {@code "done": true} and the token counts. The timeout applies
+     * between frames, so a slow first token (model loading) gets the same allowance as the
+     * blocking call but a long answer is never cut off.
+     */
+    @Override
+    public Flux<AiCompletionChunk> streamChatCompletion(String systemPrompt, String userPrompt,
+                                                        String model, int maxTokens, BigDecimal temperature) {
+        log.info("Streaming Ollama chat request: model={}", model);
+        Flux<String> lines = webClient.post()
+                .uri("/api/chat")
+                .bodyValue(chatRequest(systemPrompt, userPrompt, model, maxTokens, temperature, true))
+                .retrieve()
+                .bodyToFlux(String.class)
+                .timeout(Duration.ofMinutes(5));
+        return decodeStream(lines, model, objectMapper)
+                .onErrorMap(e -> !(e instanceof OllamaException),
+                        e -> new OllamaException("Ollama stream failed: " + e.getMessage(), e));
+    }
+
+    /**
+     * Turns Ollama's NDJSON lines into chunks, accumulating the answer for the final frame.
+     */
+    static Flux<AiCompletionChunk> decodeStream(Flux<String> lines, String model, ObjectMapper objectMapper) {
+        return Flux.defer(() -> {
+            StringBuilder content = new StringBuilder();
+            AtomicBoolean done = new AtomicBoolean();
+            return lines
+                    .filter(line -> !line.isBlank())
+                    .concatMapIterable(line -> {
+                        JsonNode frame = readFrame(objectMapper, line);
+                        if (frame.hasNonNull("error")) {
+                            throw new OllamaException("Ollama error: " + frame.path("error").asText());
+                        }
+                        List<AiCompletionChunk> chunks = new ArrayList<>(2);
+                        String delta = frame.path("message").path("content").asText("");
+                        if (!delta.isEmpty()) {
+                            content.append(delta);
+                            chunks.add(AiCompletionChunk.delta(delta));
+                        }
+                        if (frame.path("done").asBoolean(false)) {
+                            done.set(true);
+                            int promptTokens = frame.path("prompt_eval_count").asInt(0);
+                            int completionTokens = frame.path("eval_count").asInt(0);
+                            chunks.add(AiCompletionChunk.done(new AiCompletion(content.toString(),
+                                    frame.path("model").asText(model), "ollama",
+                                    promptTokens, completionTokens, promptTokens + completionTokens)));
+                        }
+                        return chunks;
+                    })
+                    .concatWith(Mono.defer(() -> done.get()
+                            ? Mono.empty()
+                            : Mono.error(new OllamaException("Ollama stream ended before the final frame"))));
+        });
+    }
+
+    private static JsonNode readFrame(ObjectMapper objectMapper, String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new OllamaException("Malformed Ollama stream frame", e);
+        }
+    }
+
+    private static Map<String, Object> chatRequest(String systemPrompt, String userPrompt, String model,
+                                                   int maxTokens, BigDecimal temperature, boolean stream) {
+        return Map.of(
+                "model", model,
+                "messages", List.of(
+                        Map.of("role", "system", "content", systemPrompt),
+                        Map.of("role", "user", "content", userPrompt)
+                ),
+                "stream", stream,
+                "options", Map.of(
+                        "num_predict", maxTokens,
+                        "temperature", temperature.doubleValue()
+                )
+        );
+    }
+
     @Override
     public boolean isAvailable() {
         try {
@@ -7,6 +7,8 @@ import org.springframework.stereotype.Component;
 import com.decisiondesk.backend.openai.GptClient;
 import com.decisiondesk.backend.openai.GptCompletion;
 
+import reactor.core.publisher.Flux;
+
 /**
  * Wraps the existing {@link GptClient} as an {@link AiCompletionProvider}.
  */
@@ -22,7 +24,19 @@ public class OpenAiCompletionProvider implements AiCompletionProvider {
     @Override
     public AiCompletion chatCompletion(String systemPrompt, String userPrompt,
                                         String model, int maxTokens, BigDecimal temperature) {
-        GptCompletion c = gptClient.chatCompletion(systemPrompt, userPrompt, model, maxTokens, temperature);
+        return toCompletion(gptClient.chatCompletion(systemPrompt, userPrompt, model, maxTokens, temperature));
+    }
+
+    @Override
+    public Flux<AiCompletionChunk> streamChatCompletion(String systemPrompt, String userPrompt,
+                                                        String model, int maxTokens, BigDecimal temperature) {
+        return gptClient.streamChatCompletion(systemPrompt, userPrompt, model, maxTokens, temperature)
+                .map(chunk -> chunk.completion() == null
+                        ? AiCompletionChunk.delta(chunk.delta())
+                        : AiCompletionChunk.done(toCompletion(chunk.completion())));
+    }
+
+    private static AiCompletion toCompletion(GptCompletion c) {
         return new AiCompletion(c.content(), c.model(), "openai",
                 c.promptTokens(), c.completionTokens(), c.totalTokens());
     }
@@ -0,0 +1,113 @@
+package com.decisiondesk.backend.ai.persistence;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Storage for cached AI completions (see V24).
+ */
+@Repository
+public class AiResponseCacheRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public AiResponseCacheRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * A cached completion with the usage of the call that produced it.
+     */
+    public record CachedResponse(String provider, String model, String content,
+                                 int promptTokens, int completionTokens) {}
+
+    /**
+     * Returns the entry if it is younger than {@code ttl}, counting the hit in the same statement.
+     */
+    public Optional<CachedResponse> hit(byte[] key, Duration ttl) {
+        return jdbcClient.sql("""
+                UPDATE ai_response_cache
+                SET hit_count = hit_count + 1, last_hit_at = NOW()
+                WHERE cache_key = :key AND created_at > :notBefore
+                RETURNING provider, model, content, prompt_tokens, completion_tokens
+                """)
+                .param("key", key)
+                .param("notBefore", OffsetDateTime.now().minus(ttl))
+                .query((rs, rowNum) -> new CachedResponse(
+                        rs.getString("provider"),
+                        rs.getString("model"),
+                        rs.getString("content"),
+                        rs.getInt("prompt_tokens"),
+                        rs.getInt("completion_tokens")))
+                .optional();
+    }
+
+    /**
+     * Stores a completion, replacing (and restarting the TTL of) any entry under the same key.
+     */
+    public void put(byte[] key, CachedResponse response) {
+        jdbcClient.sql("""
+                INSERT INTO ai_response_cache
+                    (cache_key, provider, model, content, prompt_tokens, completion_tokens, size_bytes)
+                VALUES (:key, :provider, :model, :content, :promptTokens, :completionTokens, OCTET_LENGTH(CAST(:content AS TEXT)))
+                ON CONFLICT (cache_key) DO UPDATE SET
+                    provider = EXCLUDED.provider,
+                    model = EXCLUDED.model,
+                    content = EXCLUDED.content,
+                    prompt_tokens = EXCLUDED.prompt_tokens,
+                    completion_tokens = EXCLUDED.completion_tokens,
+                    size_bytes = EXCLUDED.size_bytes,
+                    hit_count = 0,
+                    created_at = NOW(),
+                    last_hit_at = NOW()
+                """)
+                .param("key", key)
+                .param("provider", response.provider())
+                .param("model", response.model())
+                .param("content", response.content())
+                .param("promptTokens", response.promptTokens())
+                .param("completionTokens", response.completionTokens())
+                .update();
+    }
+
+    /**
+     * Deletes entries created before {@code cutoff}.
+     */
+    public int deleteCreatedBefore(OffsetDateTime cutoff) {
+        return jdbcClient.sql("DELETE FROM ai_response_cache WHERE created_at < :cutoff")
+                .param("cutoff", cutoff)
+                .update();
+    }
+
+    /**
+     * Deletes the least recently hit entries until the stored content fits in {@code maxBytes}.
+     */
+    public int trimToSize(long maxBytes) {
+        return jdbcClient.sql("""
+                DELETE FROM ai_response_cache
+                WHERE cache_key IN (
+                    SELECT cache_key FROM (
+                        SELECT cache_key,
+                               SUM(size_bytes) OVER (ORDER BY last_hit_at DESC, cache_key) AS retained
+                        FROM ai_response_cache
+                    ) ranked
+                    WHERE retained > :maxBytes
+                )
+                """)
+                .param("maxBytes", maxBytes)
+                .update();
+    }
+
+    /**
+     * Total size of the stored content, in bytes.
+     */
+    public long totalBytes() {
+        return jdbcClient.sql("SELECT COALESCE(SUM(size_bytes), 0) FROM ai_response_cache")
+                .query(Long.class)
+                .single();
+    }
+}
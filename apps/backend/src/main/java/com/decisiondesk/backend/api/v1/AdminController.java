@@ -1,12 +1,17 @@
 package com.decisiondesk.backend.api.v1;
 
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.decisiondesk.backend.meetings.DurationBackfillService;
 import com.decisiondesk.backend.meetings.DurationBackfillService.BackfillResult;
+import com.decisiondesk.backend.meetings.persistence.MeetingPurgeRepository.PurgeState;
+import com.decisiondesk.backend.meetings.persistence.MeetingStatsRepository;
+import com.decisiondesk.backend.meetings.service.MeetingPurgeService;
+import com.decisiondesk.backend.meetings.service.MeetingPurgeService.PurgeReport;
 
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -18,9 +23,15 @@ import io.swagger.v3.oas.annotations.Operation;
 public class AdminController {
 
     private final DurationBackfillService durationBackfillService;
+    private final MeetingStatsRepository meetingStatsRepository;
+    private final MeetingPurgeService meetingPurgeService;
 
-    public AdminController(DurationBackfillService durationBackfillService) {
+    public AdminController(DurationBackfillService durationBackfillService,
+                           MeetingStatsRepository meetingStatsRepository,
+                           MeetingPurgeService meetingPurgeService) {
         this.durationBackfillService = durationBackfillService;
+        this.meetingStatsRepository = meetingStatsRepository;
+        this.meetingPurgeService = meetingPurgeService;
     }
 
     @PostMapping("/backfill-durations")
@@ -32,5 +43,31 @@ public class AdminController {
         return new BackfillResponse(result.total(), result.updated(), result.failed());
     }
 
+    @PostMapping("/stats/rebuild")
+    @Operation(
+            summary = "Rebuild dashboard stats",
+            description = "Recomputes the meeting_daily_stats rollup from meetings and audio assets")
+    public RebuildStatsResponse rebuildStats() {
+        return new RebuildStatsResponse(meetingStatsRepository.rebuild());
+    }
+
+    @GetMapping("/purge")
+    @Operation(
+            summary = "Purge status",
+            description = "Lifetime totals of purged meetings and reclaimed audio, and the resume checkpoint")
+    public PurgeState purgeStatus() {
+        return meetingPurgeService.state();
+    }
+
+    @PostMapping("/purge")
+    @Operation(
+            summary = "Purge deleted meetings",
+            description = "Permanently removes meetings soft-deleted longer ago than the retention window, "
+                    + "with their audio files; 409 if a purge is already running")
+    public PurgeReport purge() {
+        return meetingPurgeService.purgeNow();
+    }
+
     public record BackfillResponse(int total, int updated, int failed) {}
+    public record RebuildStatsResponse(int days) {}
 }
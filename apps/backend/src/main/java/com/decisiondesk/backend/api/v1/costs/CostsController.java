@@ -0,0 +1,87 @@
+package com.decisiondesk.backend.api.v1.costs;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.decisiondesk.backend.cost.CostDimension;
+import com.decisiondesk.backend.cost.CostReportRepository;
+import com.decisiondesk.backend.cost.CostReportRow;
+import com.decisiondesk.backend.meetings.model.UsageRecord;
+import com.decisiondesk.backend.web.ApiException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Cost analytics across meetings, aggregated in the database.
+ */
+@RestController
+@RequestMapping(path = "/api/v1/costs", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Costs", description = "Usage cost reports")
+public class CostsController {
+
+    private final CostReportRepository reportRepository;
+
+    public CostsController(CostReportRepository reportRepository) {
+        this.reportRepository = reportRepository;
+    }
+
+    @GetMapping
+    @Operation(summary = "Cost report",
+            description = "Sums usage costs grouped by month, provider, model, folder or meeting-type. "
+                    + "from/to are inclusive days in the given time zone; both are optional.")
+    public List<CostReportRow> report(
+            @RequestParam(defaultValue = "month") String groupBy,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(required = false) String service,
+            @RequestParam(defaultValue = "UTC") String timezone) {
+        CostDimension dimension = CostDimension.fromValue(groupBy)
+                .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST, "INVALID_GROUP_BY",
+                        "groupBy must be one of month, provider, model, folder, meeting-type"));
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_DATE_RANGE", "from must not be after to");
+        }
+        return reportRepository.report(dimension, from, to, parseService(service), parseZone(timezone));
+    }
+
+    private static UsageRecord.Service parseService(String service) {
+        if (service == null || service.isBlank()) {
+            return null;
+        }
+        try {
+            return UsageRecord.Service.valueOf(service.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_SERVICE", "service must be WHISPER or GPT");
+        }
+    }
+
+    private static String parseZone(String timezone) {
+        ZoneId zone;
+        try {
+            zone = ZoneId.of(timezone);
+        } catch (DateTimeException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_TIMEZONE", "Unknown time zone: " + timezone);
+        }
+        // PostgreSQL reads numeric offsets with the POSIX sign, the reverse of ISO-8601
+        if (zone instanceof ZoneOffset offset) {
+            if (offset.getTotalSeconds() != 0) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_TIMEZONE",
+                        "Use a region id such as America/Sao_Paulo instead of an offset");
+            }
+            return "UTC";
+        }
+        return zone.getId();
+    }
+}
@@ -1,10 +1,15 @@
 package com.decisiondesk.backend.api.v1.desktop;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.FileSystemResource;
@@ -18,9 +23,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.decisiondesk.backend.meetings.MeetingStatus;
+import com.decisiondesk.backend.meetings.WhisperModel;
+import com.decisiondesk.backend.meetings.model.DesktopWorker;
+import com.decisiondesk.backend.meetings.model.JobThroughputSummary;
 import com.decisiondesk.backend.meetings.model.Transcript;
 import com.decisiondesk.backend.meetings.model.UsageRecord;
 import com.decisiondesk.backend.meetings.persistence.MeetingRepository;
@@ -28,6 +38,7 @@ import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
 import com.decisiondesk.backend.meetings.persistence.UsageRecordRepository;
 import com.decisiondesk.backend.meetings.service.DesktopQueueService;
 import com.decisiondesk.backend.meetings.service.DesktopTranscriptionJob;
+import com.decisiondesk.backend.meetings.service.DesktopWorkerRegistry;
 import com.decisiondesk.backend.web.ApiException;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,6 +51,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
  * 
  * <p>The desktop app polls this endpoint for pending jobs, downloads
  * audio files, processes them locally, and POSTs results back.</p>
+ *
+ * <p>Workers that register via {@code POST /workers} and pass their {@code workerId}
+ * only see and claim jobs they are able to run, and receive completion estimates
+ * based on their measured real-time factor.</p>
  */
 @RestController
 @RequestMapping(path = "/api/v1/desktop", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -47,51 +62,116 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 public class DesktopQueueController {
 
     private final DesktopQueueService queueService;
+    private final DesktopWorkerRegistry workerRegistry;
     private final MeetingRepository meetingRepository;
     private final TranscriptRepository transcriptRepository;
     private final UsageRecordRepository usageRecordRepository;
 
     public DesktopQueueController(DesktopQueueService queueService,
+                                   DesktopWorkerRegistry workerRegistry,
                                    MeetingRepository meetingRepository,
                                    TranscriptRepository transcriptRepository,
                                    UsageRecordRepository usageRecordRepository) {
         this.queueService = queueService;
+        this.workerRegistry = workerRegistry;
         this.meetingRepository = meetingRepository;
         this.transcriptRepository = transcriptRepository;
         this.usageRecordRepository = usageRecordRepository;
     }
 
+    @PostMapping("/workers")
+    @Operation(summary = "Register a desktop worker",
+               description = "Registers installed Whisper models, core count and diarization support. Idempotent.")
+    @ApiResponse(responseCode = "200", description = "Worker registered")
+    public WorkerResponse registerWorker(@RequestBody RegisterWorkerRequest request) {
+        DesktopWorker worker = workerRegistry.register(
+                request.workerId(),
+                request.name(),
+                parseModels(request.installedModels()),
+                request.cpuCores() != null ? request.cpuCores() : 1,
+                Boolean.TRUE.equals(request.supportsDiarization()));
+        return toWorkerResponse(worker);
+    }
+
+    @PostMapping("/workers/{workerId}/heartbeat")
+    @Operation(summary = "Worker heartbeat", description = "Marks the worker as alive")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void heartbeat(@PathVariable String workerId) {
+        workerRegistry.heartbeat(workerId);
+    }
+
+    @GetMapping("/workers")
+    @Operation(summary = "List desktop workers", description = "Returns registered workers with measured throughput per model")
+    @ApiResponse(responseCode = "200", description = "List of workers")
+    public List<WorkerResponse> listWorkers() {
+        return workerRegistry.listWorkers().stream()
+                .map(this::toWorkerResponse)
+                .toList();
+    }
+
+    @GetMapping("/history/throughput")
+    @Operation(summary = "Job history throughput",
+               description = "Completed jobs per worker and model over the last N days, with processing-time percentiles")
+    @ApiResponse(responseCode = "200", description = "Throughput per worker and model")
+    public List<JobThroughputSummary> historyThroughput(@RequestParam(defaultValue = "30") int days) {
+        if (days < 1 || days > 366) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", "days must be between 1 and 366");
+        }
+        return workerRegistry.summarizeHistory(Duration.ofDays(days));
+    }
+
     @GetMapping("/queue")
     @Operation(summary = "List pending transcription jobs", 
-               description = "Returns all jobs waiting for desktop processing")
+               description = "Returns jobs waiting for desktop processing. With workerId, only jobs the worker can run are returned, with estimated processing time.")
     @ApiResponse(responseCode = "200", description = "List of pending jobs")
-    public List<PendingJobResponse> listPendingJobs() {
-        return queueService.getPendingJobs().stream()
-                .map(job -> new PendingJobResponse(
-                        job.meetingId(),
-                        job.model().getValue(),
-                        job.language(),
-                        job.enableDiarization()))
+    public List<PendingJobResponse> listPendingJobs(@RequestParam(required = false) String workerId) {
+        if (workerId == null) {
+            return queueService.getPendingJobs().stream()
+                    .map(job -> toPendingResponse(job, null))
+                    .toList();
+        }
+        DesktopWorker worker = workerRegistry.require(workerId);
+        return queueService.getPendingJobs(worker).stream()
+                .map(job -> toPendingResponse(job, workerRegistry.estimateProcessingTime(worker, job).orElse(null)))
                 .toList();
     }
 
+    @PostMapping("/queue/claim")
+    @Operation(summary = "Claim the next job for a worker",
+               description = "Atomically claims the oldest pending job the worker can run. Returns 204 when nothing matches.")
+    @ApiResponse(responseCode = "200", description = "Job claimed")
+    @ApiResponse(responseCode = "204", description = "No matching job")
+    public ResponseEntity<AcceptJobResponse> claimJob(@RequestParam String workerId) {
+        DesktopWorker worker = workerRegistry.require(workerId);
+        return queueService.claimNext(worker)
+                .map(job -> ResponseEntity.ok(toAcceptResponse(job, worker)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     @PostMapping("/queue/{meetingId}/accept")
     @Operation(summary = "Accept a job for processing",
                description = "Desktop app calls this when starting to process a job")
     @ApiResponse(responseCode = "200", description = "Job accepted")
-    public AcceptJobResponse acceptJob(@PathVariable UUID meetingId) {
+    @ApiResponse(responseCode = "409", description = "Worker cannot run the job's model")
+    public AcceptJobResponse acceptJob(@PathVariable UUID meetingId,
+                                       @RequestParam(required = false) String workerId) {
         DesktopTranscriptionJob job = queueService.getJob(meetingId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "JOB_NOT_FOUND", 
                         "No pending job for meeting " + meetingId));
-        
-        queueService.markAccepted(meetingId);
-        
-        return new AcceptJobResponse(
-                meetingId,
-                job.model().getValue(),
-                job.language(),
-                job.enableDiarization(),
-                "/api/v1/desktop/queue/" + meetingId + "/audio");
+
+        if (workerId == null) {
+            queueService.markAccepted(meetingId);
+            return toAcceptResponse(job, null);
+        }
+
+        DesktopWorker worker = workerRegistry.require(workerId);
+        if (!worker.canRun(job.model(), job.enableDiarization())) {
+            throw new ApiException(HttpStatus.CONFLICT, "WORKER_NOT_CAPABLE",
+                    "Worker %s cannot run model %s%s".formatted(workerId, job.model().getValue(),
+                            job.enableDiarization() ? " with diarization" : ""));
+        }
+        queueService.markAccepted(meetingId, worker);
+        return toAcceptResponse(job, worker);
     }
 
     @GetMapping("/queue/{meetingId}/audio")
@@ -159,6 +239,59 @@ public class DesktopQueueController {
         return new ResultResponse(meetingId, MeetingStatus.DONE);
     }
 
+    private PendingJobResponse toPendingResponse(DesktopTranscriptionJob job, Duration estimate) {
+        return new PendingJobResponse(
+                job.meetingId(),
+                job.model().getValue(),
+                job.language(),
+                job.enableDiarization(),
+                job.audioDurationSec(),
+                estimate != null ? estimate.toSeconds() : null);
+    }
+
+    private AcceptJobResponse toAcceptResponse(DesktopTranscriptionJob job, DesktopWorker worker) {
+        OffsetDateTime estimatedCompletionAt = worker == null ? null
+                : workerRegistry.estimateProcessingTime(worker, job)
+                        .map(d -> OffsetDateTime.now(ZoneOffset.UTC).plus(d))
+                        .orElse(null);
+        return new AcceptJobResponse(
+                job.meetingId(),
+                job.model().getValue(),
+                job.language(),
+                job.enableDiarization(),
+                "/api/v1/desktop/queue/" + job.meetingId() + "/audio",
+                estimatedCompletionAt);
+    }
+
+    private WorkerResponse toWorkerResponse(DesktopWorker worker) {
+        Map<String, Double> realtimeFactors = worker.installedModels().stream()
+                .collect(Collectors.toMap(WhisperModel::getValue,
+                        model -> workerRegistry.realtimeFactor(worker, model)));
+        return new WorkerResponse(
+                worker.id(),
+                worker.name(),
+                worker.installedModels().stream().map(WhisperModel::getValue).sorted().toList(),
+                worker.cpuCores(),
+                worker.supportsDiarization(),
+                realtimeFactors,
+                worker.lastSeenAt());
+    }
+
+    private Set<WhisperModel> parseModels(List<String> values) {
+        Set<WhisperModel> models = EnumSet.noneOf(WhisperModel.class);
+        if (values == null) {
+            return models;
+        }
+        for (String value : values) {
+            try {
+                models.add(WhisperModel.fromValue(value));
+            } catch (IllegalArgumentException ignored) {
+                // models this backend does not know about cannot be scheduled anyway
+            }
+        }
+        return models;
+    }
+
     private String buildUsageMeta(DesktopTranscriptionJob job, TranscriptionResultRequest result) {
         return """
                 {"provider":"desktop_local","model":"%s","diarization":%s,"processingTimeMs":%d}
@@ -175,7 +308,9 @@ public class DesktopQueueController {
             @Schema(description = "Meeting ID") UUID meetingId,
             @Schema(description = "Whisper model") String model,
             @Schema(description = "Language code") String language,
-            @Schema(description = "Diarization enabled") boolean diarization
+            @Schema(description = "Diarization enabled") boolean diarization,
+            @Schema(description = "Audio length in seconds, if known") Integer audioDurationSec,
+            @Schema(description = "Estimated processing time for the polling worker") Long estimatedProcessingSec
     ) {}
 
     public record AcceptJobResponse(
@@ -183,7 +318,26 @@ public class DesktopQueueController {
             String model,
             String language,
             boolean diarization,
-            String audioUrl
+            String audioUrl,
+            @Schema(description = "Estimated completion based on the worker's real-time factor") OffsetDateTime estimatedCompletionAt
+    ) {}
+
+    public record RegisterWorkerRequest(
+            @Schema(description = "Stable worker identifier") String workerId,
+            @Schema(description = "Machine name") String name,
+            @Schema(description = "Installed Whisper models, e.g. large-v3") List<String> installedModels,
+            @Schema(description = "CPU core count") Integer cpuCores,
+            @Schema(description = "Speaker diarization available") Boolean supportsDiarization
+    ) {}
+
+    public record WorkerResponse(
+            String workerId,
+            String name,
+            List<String> installedModels,
+            int cpuCores,
+            boolean supportsDiarization,
+            @Schema(description = "Audio seconds per wall-clock second, per model") Map<String, Double> realtimeFactors,
+            OffsetDateTime lastSeenAt
     ) {}
 
     public record TranscriptionResultRequest(
@@ -15,9 +15,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.decisiondesk.backend.catalog.Catalog;
 import com.decisiondesk.backend.folders.FolderService;
 import com.decisiondesk.backend.folders.model.Folder;
+import com.decisiondesk.backend.meetings.model.MeetingSummary;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -26,15 +29,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 /**
  * REST controller for folder operations (PR07).
+ * GETs carry the {@link Catalog} version as an ETag and honour {@code If-None-Match}.
  */
 @RestController
 @RequestMapping(path = "/api/v1/folders", produces = MediaType.APPLICATION_JSON_VALUE)
 public class FoldersController {
 
     private final FolderService folderService;
+    private final Catalog catalog;
 
-    public FoldersController(FolderService folderService) {
+    public FoldersController(FolderService folderService, Catalog catalog) {
         this.folderService = folderService;
+        this.catalog = catalog;
     }
 
     @PostMapping
@@ -55,7 +61,10 @@ public class FoldersController {
     @Operation(summary = "List all folders", description = "Returns all folders in hierarchical order")
     @ApiResponse(responseCode = "200", description = "Folders retrieved")
     public List<FolderResponse> listFolders(
-            @RequestParam(required = false) UUID parentId) {
+            @RequestParam(required = false) UUID parentId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalog.snapshot().etag())) {
+            return null;
+        }
         List<Folder> folders = parentId != null 
             ? folderService.getChildFolders(parentId)
             : folderService.getAllFolders();
@@ -65,13 +74,18 @@ public class FoldersController {
     @GetMapping("/{folderId}")
     @Operation(summary = "Get folder details", description = "Returns details of a specific folder")
     @ApiResponse(responseCode = "200", description = "Folder retrieved", content = @Content(schema = @Schema(implementation = FolderResponse.class)))
-    public FolderResponse getFolder(@PathVariable UUID folderId) {
+    public FolderResponse getFolder(@PathVariable UUID folderId, WebRequest webRequest) {
+        // etag read first: a catalog swap in between pairs a newer folder with an older tag, never the reverse
+        String etag = catalog.snapshot().etag();
         Folder folder = folderService.getFolder(folderId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         return toResponse(folder);
     }
 
     @PutMapping("/{folderId}")
-    @Operation(summary = "Update a folder", description = "Updates folder name, tags, or whisper model")
+    @Operation(summary = "Update a folder", description = "Updates folder name, tags, or whisper model; a rename also updates subfolder paths")
     @ApiResponse(responseCode = "200", description = "Folder updated", content = @Content(schema = @Schema(implementation = FolderResponse.class)))
     public FolderResponse updateFolder(@PathVariable UUID folderId, @RequestBody FolderRequest request) {
         Folder folder = folderService.updateFolder(
@@ -83,6 +97,29 @@ public class FoldersController {
         return toResponse(folder);
     }
 
+    @PostMapping("/{folderId}/move")
+    @Operation(summary = "Move a folder", description = "Moves a folder and all of its subfolders under a new parent")
+    @ApiResponse(responseCode = "200", description = "Folder moved", content = @Content(schema = @Schema(implementation = FolderResponse.class)))
+    public FolderResponse moveFolder(@PathVariable UUID folderId, @RequestBody MoveFolderRequest request) {
+        return toResponse(folderService.moveFolder(folderId, request.parentId()));
+    }
+
+    @GetMapping("/{folderId}/meetings")
+    @Operation(summary = "List meetings in a folder", description = "Returns the folder's meetings, by default including all subfolders, newest first")
+    @ApiResponse(responseCode = "200", description = "Meetings retrieved")
+    public List<MeetingSummary> listMeetings(@PathVariable UUID folderId,
+                                             @RequestParam(defaultValue = "true") boolean includeSubfolders) {
+        return folderService.getMeetings(folderId, includeSubfolders);
+    }
+
+    @GetMapping("/{folderId}/meetings/count")
+    @Operation(summary = "Count meetings in a folder", description = "Counts the folder's meetings, by default including all subfolders")
+    @ApiResponse(responseCode = "200", description = "Count retrieved")
+    public MeetingCountResponse countMeetings(@PathVariable UUID folderId,
+                                              @RequestParam(defaultValue = "true") boolean includeSubfolders) {
+        return new MeetingCountResponse(folderId, includeSubfolders, folderService.countMeetings(folderId, includeSubfolders));
+    }
+
     @DeleteMapping("/{folderId}")
     @Operation(summary = "Delete a folder", description = "Deletes a folder and orphans its meetings")
     @ApiResponse(responseCode = "204", description = "Folder deleted")
@@ -91,6 +128,8 @@ public class FoldersController {
         folderService.deleteFolder(folderId);
     }
 
+    public record MeetingCountResponse(UUID folderId, boolean includeSubfolders, long meetingCount) {}
+
     private FolderResponse toResponse(Folder folder) {
         return new FolderResponse(
             folder.id(),
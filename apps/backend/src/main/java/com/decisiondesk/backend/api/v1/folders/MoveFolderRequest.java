@@ -0,0 +1,14 @@
+package com.decisiondesk.backend.api.v1.folders;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Request payload for moving a folder.
+ */
+@Schema(description = "Folder move request")
+public record MoveFolderRequest(
+    @Schema(description = "New parent folder ID (null for top level)", example = "00000000-0000-0000-0000-000000000001")
+    UUID parentId
+) {}
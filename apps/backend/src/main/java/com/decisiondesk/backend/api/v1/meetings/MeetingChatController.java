@@ -3,8 +3,11 @@ package com.decisiondesk.backend.api.v1.meetings;
 import java.math.BigDecimal;
 import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -12,13 +15,22 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.decisiondesk.backend.ai.AiCompletion;
+import com.decisiondesk.backend.ai.AiCompletionChunk;
 import com.decisiondesk.backend.ai.AiCompletionProvider;
 import com.decisiondesk.backend.ai.AiProviderRouter;
+import com.decisiondesk.backend.ai.AiSettings;
+import com.decisiondesk.backend.ai.AiSettingsService;
+import com.decisiondesk.backend.cost.CostProperties;
+import com.decisiondesk.backend.meetings.model.UsageRecord;
 import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
+import com.decisiondesk.backend.meetings.persistence.UsageRecordRepository;
 import com.decisiondesk.backend.web.ApiException;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Chat with a meeting's transcript using AI.
@@ -28,6 +40,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Meeting Chat", description = "Chat with meeting transcript via AI")
 public class MeetingChatController {
 
+    private static final Logger log = LoggerFactory.getLogger(MeetingChatController.class);
+
     private static final String CHAT_SYSTEM_PROMPT = """
             You are a helpful meeting assistant. You have access to the full transcript of a meeting.
             Answer the user's questions based on what was discussed in the meeting.
@@ -38,41 +52,125 @@ public class MeetingChatController {
             %s
             """;
 
+    private static final int MAX_TOKENS = 1024;
+    private static final BigDecimal TEMPERATURE = new BigDecimal("0.5");
+
     private final AiProviderRouter aiProviderRouter;
     private final TranscriptRepository transcriptRepository;
+    private final AiSettingsService aiSettingsService;
+    private final UsageRecordRepository usageRecordRepository;
+    private final CostProperties costProperties;
 
     public MeetingChatController(AiProviderRouter aiProviderRouter,
-                                  TranscriptRepository transcriptRepository) {
+                                  TranscriptRepository transcriptRepository,
+                                  AiSettingsService aiSettingsService,
+                                  UsageRecordRepository usageRecordRepository,
+                                  CostProperties costProperties) {
         this.aiProviderRouter = aiProviderRouter;
         this.transcriptRepository = transcriptRepository;
+        this.aiSettingsService = aiSettingsService;
+        this.usageRecordRepository = usageRecordRepository;
+        this.costProperties = costProperties;
     }
 
     @PostMapping
     @Operation(summary = "Chat with meeting transcript",
                description = "Send a message and get an AI-generated response based on the meeting transcript")
     public ChatResponse chat(@PathVariable UUID meetingId, @RequestBody ChatRequest request) {
+        ChatPrompt prompt = prepare(meetingId, request);
+
+        AiCompletion completion = prompt.provider().chatCompletion(
+                prompt.systemPrompt(),
+                request.message(),
+                prompt.model(),
+                MAX_TOKENS,
+                TEMPERATURE
+        );
+        recordUsage(meetingId, completion);
+
+        return new ChatResponse(completion.content(), completion.provider(),
+                completion.model(), completion.totalTokens());
+    }
+
+    /**
+     * Same as {@link #chat} but forwards the answer token by token as server-sent events.
+     *
+     * <p>Tokens are pulled from the provider only as fast as they are written to the client, and a
+     * client that disconnects cancels the upstream request, which stops generation. Usage is
+     * recorded from the provider's final frame, so an answer abandoned mid-stream records none.</p>
+     */
+    @PostMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Chat with meeting transcript, streamed",
+               description = "Server-sent events: token events with {text} as the answer is generated, then one "
+                       + "done event with {provider, model, tokensUsed}, or an error event with {message}")
+    public Flux<ServerSentEvent<Object>> streamChat(@PathVariable UUID meetingId, @RequestBody ChatRequest request) {
+        ChatPrompt prompt = prepare(meetingId, request);
+
+        return prompt.provider()
+                .streamChatCompletion(prompt.systemPrompt(), request.message(), prompt.model(), MAX_TOKENS, TEMPERATURE)
+                .concatMap(chunk -> chunk.isDone() ? finish(meetingId, chunk.completion()) : Mono.just(token(chunk)))
+                .onErrorResume(e -> {
+                    log.warn("Chat stream for meeting {} failed: {}", meetingId, e.getMessage());
+                    return Mono.just(event("error", new ChatStreamError(e.getMessage())));
+                });
+    }
+
+    private Mono<ServerSentEvent<Object>> finish(UUID meetingId, AiCompletion completion) {
+        return Mono.fromCallable(() -> {
+                    recordUsage(meetingId, completion);
+                    return event("done", new ChatStreamDone(completion.provider(), completion.model(),
+                            completion.totalTokens()));
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static ServerSentEvent<Object> token(AiCompletionChunk chunk) {
+        return event("token", new ChatToken(chunk.delta()));
+    }
+
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+
+    private ChatPrompt prepare(UUID meetingId, ChatRequest request) {
         String transcriptText = transcriptRepository.findByMeetingId(meetingId)
                 .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST,
                         "NO_TRANSCRIPT", "Meeting has no transcript"))
                 .text();
 
-        String systemPrompt = String.format(CHAT_SYSTEM_PROMPT, transcriptText);
+        AiSettings.Task configured = aiSettingsService.current().chat();
         AiCompletionProvider provider = aiProviderRouter.getProvider(
-                request.provider() != null ? request.provider() : "ollama");
-        String model = request.model() != null ? request.model() : "qwen3:14b";
+                request.provider() != null ? request.provider() : configured.provider());
+        String model = request.model() != null ? request.model()
+                : configured.model() != null ? configured.model() : AiSettings.DEFAULT_MODEL;
 
-        AiCompletion completion = provider.chatCompletion(
-                systemPrompt,
-                request.message(),
-                model,
-                1024,
-                new BigDecimal("0.5")
-        );
+        return new ChatPrompt(String.format(CHAT_SYSTEM_PROMPT, transcriptText), provider, model);
+    }
 
-        return new ChatResponse(completion.content(), completion.provider(),
-                completion.model(), completion.totalTokens());
+    private void recordUsage(UUID meetingId, AiCompletion completion) {
+        BigDecimal costUsd = completion.calculateCostUsd();
+        usageRecordRepository.insert(new UsageRecord(
+                UUID.randomUUID(),
+                meetingId,
+                UsageRecord.Service.GPT,
+                new BigDecimal(completion.totalTokens()),
+                costUsd,
+                costUsd.multiply(costProperties.fxUsdBrl()),
+                String.format(
+                        "{\"kind\":\"chat\",\"model\":\"%s\",\"provider\":\"%s\",\"prompt_tokens\":%d,\"completion_tokens\":%d}",
+                        completion.model(),
+                        completion.provider(),
+                        completion.promptTokens(),
+                        completion.completionTokens()),
+                null
+        ));
     }
 
+    private record ChatPrompt(String systemPrompt, AiCompletionProvider provider, String model) {}
+
     public record ChatRequest(String message, String provider, String model) {}
     public record ChatResponse(String answer, String provider, String model, int tokensUsed) {}
+    public record ChatToken(String text) {}
+    public record ChatStreamDone(String provider, String model, int tokensUsed) {}
+    public record ChatStreamError(String message) {}
 }
@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -35,6 +37,8 @@ import com.decisiondesk.backend.meetings.model.AudioUploadResult;
 import com.decisiondesk.backend.meetings.model.Meeting;
 import com.decisiondesk.backend.meetings.model.MeetingCostBreakdown;
 import com.decisiondesk.backend.meetings.model.MeetingDetails;
+import com.decisiondesk.backend.meetings.model.MeetingListFilter;
+import com.decisiondesk.backend.meetings.model.MeetingPage;
 import com.decisiondesk.backend.meetings.model.Transcript;
 import com.decisiondesk.backend.meetings.persistence.AudioAssetRepository;
 import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
@@ -42,6 +46,7 @@ import com.decisiondesk.backend.summaries.model.Summary;
 import com.decisiondesk.backend.summaries.service.SummaryService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -53,6 +58,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 @RequestMapping(path = "/api/v1/meetings", produces = MediaType.APPLICATION_JSON_VALUE)
 public class MeetingsController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int DEFAULT_PAGE_SIZE = 50;
+
     private final MeetingService meetingService;
     private final SummaryService summaryService;
     private final AudioAssetRepository audioAssetRepository;
@@ -71,13 +79,33 @@ public class MeetingsController {
     }
 
     @GetMapping
-    @Operation(summary = "List all meetings", description = "Returns all meetings ordered by creation date (newest first)")
+    @Operation(summary = "List meetings",
+               description = "Returns one page of meetings ordered by creation date (newest first). "
+                       + "When more pages exist the X-Next-Cursor header carries the cursor for the next request. "
+                       + "Tag filter accepts key or key:value. size is accepted as an alias of limit.")
     @ApiResponse(responseCode = "200", description = "Meetings retrieved")
-    public List<ListMeetingResponse> listMeetings() {
-        return meetingService.listMeetingsEnriched().stream()
+    public ResponseEntity<List<ListMeetingResponse>> listMeetings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) UUID folderId,
+            @RequestParam(required = false) UUID meetingTypeId,
+            @RequestParam(required = false) MeetingStatus status,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to) {
+        MeetingPage page = meetingService.listMeetingsPage(
+                MeetingListFilter.of(folderId, meetingTypeId, status, tag, from, to), cursor,
+                limit != null ? limit : size != null ? size : DEFAULT_PAGE_SIZE);
+        List<ListMeetingResponse> body = page.items().stream()
                 .map(m -> new ListMeetingResponse(m.id(), m.status(), m.title(), m.createdAt(), m.updatedAt(),
                         m.durationSec(), m.minutes(), m.meetingTypeId(), m.meetingTypeName()))
                 .toList();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(body);
     }
 
     @PostMapping
@@ -167,7 +195,9 @@ public class MeetingsController {
     @ApiResponse(responseCode = "200", description = "Summary generated", content = @Content(schema = @Schema(implementation = SummarizeResponse.class)))
     public SummarizeResponse summarize(
             @PathVariable UUID meetingId,
-            @RequestBody(required = false) SummarizeRequest request) {
+            @RequestBody(required = false) SummarizeRequest request,
+            @Parameter(description = "Call the AI provider even if an identical request has a cached answer")
+            @RequestParam(defaultValue = "false") boolean noCache) {
         Summary summary;
         String provider = request != null ? request.provider() : null;
         String model = request != null ? request.model() : null;
@@ -176,10 +206,10 @@ public class MeetingsController {
                     meetingId, request.templateId(),
                     request.systemPromptOverride(), request.userPromptOverride(),
                     Boolean.TRUE.equals(request.saveAsTemplate()), request.newTemplateName(),
-                    provider, model);
+                    provider, model, noCache);
         } else {
             UUID templateId = request != null ? request.templateId() : null;
-            summary = summaryService.generateSummary(meetingId, templateId, provider, model);
+            summary = summaryService.generateSummary(meetingId, templateId, provider, model, noCache);
         }
         return new SummarizeResponse(summary.id(), summary.meetingId(), summary.textMd(),
                 summary.templateId(), summary.model(), summary.tokensUsed());
@@ -216,8 +246,11 @@ public class MeetingsController {
             summary = "Generate all summaries from meeting type",
             description = "Generates summaries for all templates configured in the meeting's type.")
     @ApiResponse(responseCode = "200", description = "Summaries generated")
-    public List<SummarizeResponse> summarizeAll(@PathVariable UUID meetingId) {
-        return summaryService.generateAllForMeetingType(meetingId).stream()
+    public List<SummarizeResponse> summarizeAll(
+            @PathVariable UUID meetingId,
+            @Parameter(description = "Call the AI provider even if an identical request has a cached answer")
+            @RequestParam(defaultValue = "false") boolean noCache) {
+        return summaryService.generateAllForMeetingType(meetingId, noCache).stream()
                 .map(s -> new SummarizeResponse(s.id(), s.meetingId(), s.textMd(),
                         s.templateId(), s.model(), s.tokensUsed()))
                 .toList();
@@ -236,13 +269,15 @@ public class MeetingsController {
     @ApiResponse(responseCode = "200", description = "Extraction completed")
     public AiExtractionService.ExtractionResult extractFromTranscript(
             @PathVariable UUID meetingId,
-            @RequestBody(required = false) ExtractionRequest request) {
+            @RequestBody(required = false) ExtractionRequest request,
+            @Parameter(description = "Call the AI provider even if an identical request has a cached answer")
+            @RequestParam(defaultValue = "false") boolean noCache) {
         Map<String, Object> config = request != null && request.config() != null
                 ? request.config()
                 : Map.of("action_items", true, "decisions", true, "deadlines", true);
         String provider = request != null ? request.provider() : null;
         String model = request != null ? request.model() : null;
-        return aiExtractionService.extract(meetingId, config, provider, model);
+        return aiExtractionService.extract(meetingId, config, provider, model, noCache);
     }
 
     @PutMapping("/{meetingId}")
@@ -0,0 +1,56 @@
+package com.decisiondesk.backend.api.v1.meetings;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+
+import com.decisiondesk.backend.api.v1.meetings.SegmentsController.SpeakerResponse;
+import com.decisiondesk.backend.meetings.persistence.PackedSegments;
+import com.decisiondesk.backend.meetings.persistence.SegmentPackRepository.StoredPack;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a packed meeting as the same JSON as {@link SegmentsController.SegmentsWithSpeakersResponse},
+ * decoding segment by segment straight into the output.
+ *
+ * <p>No segment records or strings are created: texts are written as ranges of the pack's
+ * character array, and the shared {@code createdAt} is serialized once.</p>
+ */
+final class PackedSegmentsJsonWriter {
+
+    private PackedSegmentsJsonWriter() {
+    }
+
+    static void write(ObjectMapper objectMapper, OutputStream out, UUID meetingId, StoredPack stored,
+                      List<SpeakerResponse> speakers) throws IOException {
+        PackedSegments pack = stored.pack();
+        char[] text = pack.textChars();
+        String createdAt = objectMapper.writeValueAsString(stored.createdAt());
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("segments");
+            PackedSegments.Reader reader = pack.reader();
+            while (reader.next()) {
+                json.writeStartObject();
+                json.writeStringField("id", PackedSegments.segmentId(meetingId, reader.ordinal()).toString());
+                json.writeNumberField("ordinal", reader.ordinal());
+                json.writeNumberField("startSec", reader.startSec());
+                json.writeNumberField("endSec", reader.endSec());
+                json.writeFieldName("text");
+                json.writeString(text, reader.textOffset(), reader.textLength());
+                json.writeStringField("speakerLabel", reader.speakerLabel());
+                UUID speakerId = reader.speakerId();
+                json.writeStringField("speakerId", speakerId != null ? speakerId.toString() : null);
+                json.writeFieldName("createdAt");
+                json.writeRawValue(createdAt);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeFieldName("speakers");
+            objectMapper.writeValue(json, speakers);
+            json.writeEndObject();
+        }
+    }
+}
@@ -5,12 +5,15 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,15 +21,27 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.decisiondesk.backend.meetings.model.MeetingSpeaker;
 import com.decisiondesk.backend.meetings.model.TranscriptSegment;
 import com.decisiondesk.backend.meetings.persistence.MeetingSpeakerRepository;
+import com.decisiondesk.backend.meetings.persistence.SegmentPackRepository;
+import com.decisiondesk.backend.meetings.persistence.SegmentPackRepository.StoredPack;
 import com.decisiondesk.backend.meetings.persistence.TranscriptSegmentRepository;
+import com.decisiondesk.backend.meetings.service.SegmentStorageService;
+import com.decisiondesk.backend.meetings.service.SegmentStorageService.Storage;
+import com.decisiondesk.backend.web.ApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 /**
  * REST controller for transcript segments and meeting speakers.
@@ -36,27 +51,49 @@ import io.swagger.v3.oas.annotations.Operation;
 public class SegmentsController {
 
     private final TranscriptSegmentRepository segmentRepo;
+    private final SegmentPackRepository packRepo;
+    private final SegmentStorageService segmentStorage;
     private final MeetingSpeakerRepository speakerRepo;
+    private final ObjectMapper objectMapper;
 
-    public SegmentsController(TranscriptSegmentRepository segmentRepo, MeetingSpeakerRepository speakerRepo) {
+    public SegmentsController(TranscriptSegmentRepository segmentRepo, SegmentPackRepository packRepo,
+                              SegmentStorageService segmentStorage, MeetingSpeakerRepository speakerRepo,
+                              ObjectMapper objectMapper) {
         this.segmentRepo = segmentRepo;
+        this.packRepo = packRepo;
+        this.segmentStorage = segmentStorage;
         this.speakerRepo = speakerRepo;
+        this.objectMapper = objectMapper;
     }
 
     // ─── Segments ─────────────────────────────────────────────
 
     /**
      * GET /api/v1/meetings/{meetingId}/segments
+     *
+     * <p>Packed meetings are decoded straight into the response; row-stored ones are loaded and
+     * serialized as before.</p>
      */
     @GetMapping("/segments")
     @Operation(summary = "List transcript segments for a meeting")
-    public SegmentsWithSpeakersResponse getSegments(@PathVariable UUID meetingId) {
-        List<TranscriptSegment> segments = segmentRepo.findByMeetingId(meetingId);
-        List<MeetingSpeaker> speakers = speakerRepo.findByMeetingId(meetingId);
-        return new SegmentsWithSpeakersResponse(
-            segments.stream().map(SegmentResponse::from).toList(),
-            speakers.stream().map(SpeakerResponse::from).toList()
-        );
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = SegmentsWithSpeakersResponse.class)))
+    public ResponseEntity<StreamingResponseBody> getSegments(@PathVariable UUID meetingId) {
+        List<SpeakerResponse> speakers = speakerRepo.findByMeetingId(meetingId).stream()
+            .map(SpeakerResponse::from)
+            .toList();
+        Optional<StoredPack> pack = packRepo.findByMeetingId(meetingId);
+        StreamingResponseBody body;
+        if (pack.isPresent()) {
+            body = out -> PackedSegmentsJsonWriter.write(objectMapper, out, meetingId, pack.get(), speakers);
+        } else {
+            SegmentsWithSpeakersResponse response = new SegmentsWithSpeakersResponse(
+                segmentRepo.findByMeetingId(meetingId).stream().map(SegmentResponse::from).toList(),
+                speakers);
+            body = out -> objectMapper.writeValue(out, response);
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     /**
@@ -67,10 +104,13 @@ public class SegmentsController {
     @Operation(summary = "Bulk insert transcript segments with speaker data")
     public SegmentsWithSpeakersResponse createSegments(
             @PathVariable UUID meetingId,
-            @RequestBody BulkSegmentsRequest request) {
+            @RequestBody BulkSegmentsRequest request,
+            @Parameter(description = "rows, packed, or auto (packed from segments.packed.min-segments)")
+            @RequestParam(defaultValue = "auto") String storage) {
+        Storage storageFormat = parseStorage(storage);
 
         // Clear existing data
-        segmentRepo.deleteByMeetingId(meetingId);
+        segmentStorage.delete(meetingId);
         speakerRepo.deleteByMeetingId(meetingId);
 
         // Create speakers from unique labels
@@ -100,7 +140,7 @@ public class SegmentsController {
             segments.add(seg);
         }
 
-        List<TranscriptSegment> inserted = segmentRepo.insertBatch(meetingId, segments);
+        List<TranscriptSegment> inserted = segmentStorage.replace(meetingId, segments, storageFormat);
 
         // Calculate talk time per speaker
         for (Map.Entry<String, MeetingSpeaker> entry : speakerMap.entrySet()) {
@@ -125,10 +165,28 @@ public class SegmentsController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Delete all segments for a meeting")
     public void deleteSegments(@PathVariable UUID meetingId) {
-        segmentRepo.deleteByMeetingId(meetingId);
+        segmentStorage.delete(meetingId);
         speakerRepo.deleteByMeetingId(meetingId);
     }
 
+    /**
+     * POST /api/v1/meetings/{meetingId}/segments/pack — convert stored rows to packed storage.
+     */
+    @PostMapping("/segments/pack")
+    @Operation(summary = "Convert a meeting's segment rows to packed storage",
+               description = "Packed segments read faster and use less space but are not searchable individually")
+    public PackResponse packSegments(@PathVariable UUID meetingId) {
+        return new PackResponse(segmentStorage.pack(meetingId));
+    }
+
+    private static Storage parseStorage(String storage) {
+        try {
+            return Storage.valueOf(storage.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_STORAGE", "storage must be rows, packed or auto");
+        }
+    }
+
     // ─── Speakers ─────────────────────────────────────────────
 
     /**
@@ -219,6 +277,8 @@ public class SegmentsController {
         public record SegmentInput(double startSec, double endSec, String text, String speakerLabel) {}
     }
 
+    public record PackResponse(int segmentsPacked) {}
+
     public record UpdateSpeakerRequest(String displayName, UUID personId) {}
 
     public record MergeSpeakersRequest(UUID keepId, UUID absorbId) {}
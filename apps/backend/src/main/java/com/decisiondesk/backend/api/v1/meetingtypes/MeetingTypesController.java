@@ -14,7 +14,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.decisiondesk.backend.catalog.Catalog;
 import com.decisiondesk.backend.meetingtypes.MeetingTypeService;
 import com.decisiondesk.backend.meetingtypes.model.MeetingType;
 
@@ -25,15 +27,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 
 /**
  * REST controller for meeting type operations.
+ * GETs carry the {@link Catalog} version as an ETag and honour {@code If-None-Match}.
  */
 @RestController
 @RequestMapping(path = "/api/v1/meeting-types", produces = MediaType.APPLICATION_JSON_VALUE)
 public class MeetingTypesController {
 
     private final MeetingTypeService meetingTypeService;
+    private final Catalog catalog;
 
-    public MeetingTypesController(MeetingTypeService meetingTypeService) {
+    public MeetingTypesController(MeetingTypeService meetingTypeService, Catalog catalog) {
         this.meetingTypeService = meetingTypeService;
+        this.catalog = catalog;
     }
 
     @PostMapping
@@ -59,7 +64,10 @@ public class MeetingTypesController {
     @GetMapping
     @Operation(summary = "List all meeting types", description = "Returns all meeting types")
     @ApiResponse(responseCode = "200", description = "Meeting types retrieved")
-    public List<MeetingTypeResponse> listMeetingTypes() {
+    public List<MeetingTypeResponse> listMeetingTypes(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalog.snapshot().etag())) {
+            return null;
+        }
         return meetingTypeService.getAllMeetingTypes().stream()
             .map(this::toResponse)
             .toList();
@@ -68,8 +76,13 @@ public class MeetingTypesController {
     @GetMapping("/{typeId}")
     @Operation(summary = "Get meeting type details", description = "Returns details of a specific meeting type")
     @ApiResponse(responseCode = "200", description = "Meeting type retrieved", content = @Content(schema = @Schema(implementation = MeetingTypeResponse.class)))
-    public MeetingTypeResponse getMeetingType(@PathVariable UUID typeId) {
+    public MeetingTypeResponse getMeetingType(@PathVariable UUID typeId, WebRequest webRequest) {
+        // etag read first: a catalog swap in between pairs a newer type with an older tag, never the reverse
+        String etag = catalog.snapshot().etag();
         MeetingType meetingType = meetingTypeService.getMeetingType(typeId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         return toResponse(meetingType);
     }
 
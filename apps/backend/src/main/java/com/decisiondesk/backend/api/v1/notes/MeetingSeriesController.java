@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.decisiondesk.backend.meetings.model.Meeting;
+import com.decisiondesk.backend.meetings.model.MeetingSummary;
 import com.decisiondesk.backend.notes.model.MeetingSeries;
 import com.decisiondesk.backend.notes.persistence.MeetingSeriesRepository;
 import com.decisiondesk.backend.notes.service.MeetingNotesService;
@@ -104,11 +105,12 @@ public class MeetingSeriesController {
     // Series Meetings
     // =========================================================================
 
-    @Operation(summary = "Get all meetings in a series")
+    @Operation(summary = "Get all meetings in a series",
+               description = "Agenda and notes are left out; fetch them from /api/v1/meetings/{id}/notes")
     @GetMapping("/{seriesId}/meetings")
-    public ResponseEntity<List<Meeting>> getSeriesMeetings(@PathVariable UUID seriesId) {
+    public ResponseEntity<List<MeetingSummary>> getSeriesMeetings(@PathVariable UUID seriesId) {
         getSeriesOrThrow(seriesId); // Validate exists
-        List<Meeting> meetings = notesService.getSeriesMeetings(seriesId);
+        List<MeetingSummary> meetings = notesService.getSeriesMeetings(seriesId);
         return ResponseEntity.ok(meetings);
     }
 
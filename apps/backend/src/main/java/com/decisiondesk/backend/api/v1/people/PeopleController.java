@@ -41,6 +41,17 @@ public class PeopleController {
             .toList();
     }
 
+    /**
+     * Look up people by email prefix.
+     * GET /api/v1/people/by-email?prefix=rod
+     */
+    @GetMapping("/by-email")
+    public List<PersonResponse> findByEmail(@RequestParam("prefix") String prefix) {
+        return personService.findByEmailPrefix(prefix).stream()
+            .map(PersonResponse::from)
+            .toList();
+    }
+
     /**
      * List all people.
      * GET /api/v1/people
@@ -0,0 +1,43 @@
+package com.decisiondesk.backend.api.v1.search;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.decisiondesk.backend.search.TranscriptSearchService;
+import com.decisiondesk.backend.search.model.TranscriptSearchHit;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Full-text search endpoints.
+ */
+@RestController
+@RequestMapping(path = "/api/v1/search", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Search", description = "Transcript search")
+public class SearchController {
+
+    private final TranscriptSearchService searchService;
+
+    public SearchController(TranscriptSearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping("/transcripts")
+    @Operation(summary = "Search transcripts",
+               description = "Ranked full-text search over transcript segments. Each hit carries an HTML-escaped "
+                       + "snippet with <mark> highlights and the segment startSec for seeking in the audio.")
+    public List<TranscriptSearchHit> searchTranscripts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) UUID meetingId,
+            @RequestParam(required = false) Integer limit) {
+        return searchService.search(query, language, meetingId, limit);
+    }
+}
@@ -13,50 +13,71 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.decisiondesk.backend.catalog.Catalog;
+import com.decisiondesk.backend.catalog.CatalogSnapshot;
 import com.decisiondesk.backend.summaries.model.SummaryTemplate;
 import com.decisiondesk.backend.summaries.persistence.SummaryTemplateRepository;
 import com.decisiondesk.backend.web.ApiException;
 
 /**
  * REST API for managing summary templates.
+ * Reads are served from the in-memory {@link Catalog} and carry its version as an ETag;
+ * a matching {@code If-None-Match} gets 304 Not Modified.
  */
 @RestController
 @RequestMapping("/api/v1/summary-templates")
 public class SummaryTemplatesController {
 
     private final SummaryTemplateRepository repository;
+    private final Catalog catalog;
 
-    public SummaryTemplatesController(SummaryTemplateRepository repository) {
+    public SummaryTemplatesController(SummaryTemplateRepository repository, Catalog catalog) {
         this.repository = repository;
+        this.catalog = catalog;
     }
 
     /**
      * Lists all summary templates.
      */
     @GetMapping
-    public List<SummaryTemplate> list() {
-        return repository.findAll();
+    public List<SummaryTemplate> list(WebRequest request) {
+        CatalogSnapshot snapshot = catalog.snapshot();
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return snapshot.summaryTemplates();
     }
 
     /**
      * Gets a specific template by ID.
      */
     @GetMapping("/{id}")
-    public SummaryTemplate get(@PathVariable UUID id) {
-        return repository.findById(id)
+    public SummaryTemplate get(@PathVariable UUID id, WebRequest request) {
+        CatalogSnapshot snapshot = catalog.snapshot();
+        SummaryTemplate template = snapshot.summaryTemplate(id)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND,
                         "TEMPLATE_NOT_FOUND", "Summary template not found: " + id));
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return template;
     }
 
     /**
      * Gets the default template.
      */
     @GetMapping("/default")
-    public SummaryTemplate getDefault() {
-        return repository.findDefault()
+    public SummaryTemplate getDefault(WebRequest request) {
+        CatalogSnapshot snapshot = catalog.snapshot();
+        SummaryTemplate template = snapshot.defaultSummaryTemplate()
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND,
                         "NO_DEFAULT_TEMPLATE", "No default summary template configured"));
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return template;
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.decisiondesk.backend.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Propagates cache invalidations to other backend nodes.
+ *
+ * <p>Caches evict locally themselves and call {@link #publish} so peers can do the same.
+ * {@link #publish} must be called inside the writing transaction where there is one:
+ * implementations may defer delivery until commit.</p>
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Announces that {@code key} in cache {@code cacheName} is stale.
+     */
+    void publish(String cacheName, String key);
+
+    /**
+     * Registers a handler for invalidations published by other nodes for {@code cacheName}.
+     * The handler receives {@code null} when the node may have missed messages and should
+     * drop the whole cache.
+     */
+    void subscribe(String cacheName, Consumer<String> handler);
+}
@@ -0,0 +1,24 @@
+package com.decisiondesk.backend.cache;
+
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node default: local eviction is all that is needed, so nothing is sent.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.postgres-notify", havingValue = "false", matchIfMissing = true)
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(String cacheName, String key) {
+        // no peers
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> handler) {
+        // no peers
+    }
+}
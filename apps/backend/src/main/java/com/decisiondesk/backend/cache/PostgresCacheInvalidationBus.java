@@ -0,0 +1,140 @@
+package com.decisiondesk.backend.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Cross-node invalidation over PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>{@code pg_notify} is transactional, so a notification published inside the writing
+ * transaction reaches peers only once the write is committed (and never if it rolls back).
+ * A daemon thread holds one dedicated connection listening on {@value #CHANNEL}; messages
+ * from this node are skipped since it already evicted locally.</p>
+ *
+ * <p>Enable with {@code cache.invalidation.postgres-notify=true} when running more than one
+ * backend against the same database.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.postgres-notify", havingValue = "true")
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+    private static final int POLL_TIMEOUT_MS = 5000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JdbcClient jdbcClient;
+    private final DataSource dataSource;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresCacheInvalidationBus(JdbcClient jdbcClient, DataSource dataSource) {
+        this.jdbcClient = jdbcClient;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        jdbcClient.sql("SELECT pg_notify(?, ?)")
+                .params(CHANNEL, nodeId + "|" + cacheName + "|" + key)
+                .query()
+                .listOfRows();
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> handler) {
+        handlers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("cache-invalidation-listener").start(this::listenLoop);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                log.info("Listening for cache invalidations on node {}", nodeId);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                // Peers may have invalidated while we were disconnected; drop everything
+                log.warn("Cache invalidation listener disconnected, flushing caches: {}", ex.getMessage());
+                handlers.values().forEach(list -> list.forEach(handler -> handler.accept(null)));
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        List<Consumer<String>> subscribers = handlers.get(parts[1]);
+        if (subscribers == null) {
+            return;
+        }
+        for (Consumer<String> handler : subscribers) {
+            try {
+                handler.accept(parts[2]);
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation handler for {} failed: {}", parts[1], ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.decisiondesk.backend.catalog;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decisiondesk.backend.folders.persistence.FolderRepository;
+import com.decisiondesk.backend.meetingtypes.persistence.MeetingTypeRepository;
+import com.decisiondesk.backend.notes.persistence.NotesTemplateRepository;
+import com.decisiondesk.backend.summaries.persistence.SummaryTemplateRepository;
+
+/**
+ * In-memory catalog of summary templates, meeting types, notes templates and folders.
+ *
+ * <p>Reads return the current {@link CatalogSnapshot} from a volatile field without
+ * locking or touching the database. After a catalog write (see {@link CatalogChanges})
+ * the next reader builds a fresh snapshot and swaps it in whole; concurrent readers keep
+ * using the previous one until then. The four tables and {@code catalog_version} are read
+ * in one repeatable-read transaction on the primary, so a snapshot never mixes versions
+ * and never predates the write that triggered it.</p>
+ */
+@Component
+public class Catalog {
+
+    private final SummaryTemplateRepository summaryTemplateRepository;
+    private final MeetingTypeRepository meetingTypeRepository;
+    private final NotesTemplateRepository notesTemplateRepository;
+    private final FolderRepository folderRepository;
+    private final CatalogChanges changes;
+    private final JdbcClient jdbcClient;
+    private final TransactionTemplate snapshotTx;
+
+    private volatile CatalogSnapshot snapshot;
+
+    public Catalog(SummaryTemplateRepository summaryTemplateRepository,
+                   MeetingTypeRepository meetingTypeRepository,
+                   NotesTemplateRepository notesTemplateRepository,
+                   FolderRepository folderRepository,
+                   CatalogChanges changes,
+                   JdbcClient jdbcClient,
+                   PlatformTransactionManager transactionManager) {
+        this.summaryTemplateRepository = summaryTemplateRepository;
+        this.meetingTypeRepository = meetingTypeRepository;
+        this.notesTemplateRepository = notesTemplateRepository;
+        this.folderRepository = folderRepository;
+        this.changes = changes;
+        this.jdbcClient = jdbcClient;
+        // deliberately not read-only: read-only transactions may go to a replica (see
+        // ReplicaRoutingConfiguration), and a snapshot taken from one that hasn't replayed the
+        // last catalog write would be served until the next write
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Returns the current snapshot, reloading it first if a catalog write happened since it was built.
+     */
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot current = snapshot;
+        if (current != null && current.changeMark() == changes.current()) {
+            return current;
+        }
+        return reload();
+    }
+
+    private synchronized CatalogSnapshot reload() {
+        CatalogSnapshot current = snapshot;
+        long mark = changes.current();
+        if (current != null && current.changeMark() == mark) {
+            return current;
+        }
+        CatalogSnapshot loaded = snapshotTx.execute(status -> CatalogSnapshot.of(
+                jdbcClient.sql("SELECT version FROM catalog_version").query(Long.class).single(),
+                mark,
+                summaryTemplateRepository.findAll(),
+                meetingTypeRepository.findAll(),
+                notesTemplateRepository.findAll(),
+                folderRepository.findAll()));
+        snapshot = loaded;
+        return loaded;
+    }
+}
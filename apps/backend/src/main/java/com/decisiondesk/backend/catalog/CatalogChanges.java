@@ -0,0 +1,47 @@
+package com.decisiondesk.backend.catalog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decisiondesk.backend.cache.CacheInvalidationBus;
+
+/**
+ * Write counter the catalog repositories bump so {@link Catalog} knows its snapshot is stale.
+ *
+ * <p>Kept separate from {@link Catalog} so repositories can depend on it without a cycle.
+ * A write bumps the counter immediately and again when its transaction ends, so a
+ * snapshot loaded from pre-commit rows in between is discarded too.</p>
+ */
+@Component
+public class CatalogChanges {
+
+    static final String CACHE_NAME = "catalog";
+
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLong changes = new AtomicLong();
+
+    public CatalogChanges(CacheInvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(CACHE_NAME, key -> changes.incrementAndGet());
+    }
+
+    public long current() {
+        return changes.get();
+    }
+
+    public void recordWrite() {
+        changes.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    changes.incrementAndGet();
+                }
+            });
+        }
+        invalidationBus.publish(CACHE_NAME, "*");
+    }
+}
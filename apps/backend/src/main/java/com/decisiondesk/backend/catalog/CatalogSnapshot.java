@@ -0,0 +1,100 @@
+package com.decisiondesk.backend.catalog;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.decisiondesk.backend.folders.model.Folder;
+import com.decisiondesk.backend.meetingtypes.model.MeetingType;
+import com.decisiondesk.backend.notes.model.NotesTemplate;
+import com.decisiondesk.backend.summaries.model.SummaryTemplate;
+
+/**
+ * Immutable copy of the catalog tables at one {@code catalog_version}.
+ * Lists keep the ordering of the corresponding repository {@code findAll} queries.
+ *
+ * @param version            {@code catalog_version.version} the rows were read at
+ * @param changeMark         {@link CatalogChanges#current()} when loading started
+ * @param summaryTemplates   summary templates, default first then by name
+ * @param meetingTypes       meeting types by name
+ * @param notesTemplates     notes templates by language, default first then by name
+ * @param folders            folders by path
+ */
+public record CatalogSnapshot(
+        long version,
+        long changeMark,
+        List<SummaryTemplate> summaryTemplates,
+        List<MeetingType> meetingTypes,
+        List<NotesTemplate> notesTemplates,
+        List<Folder> folders,
+        Map<UUID, SummaryTemplate> summaryTemplatesById,
+        Map<UUID, MeetingType> meetingTypesById,
+        Map<UUID, Folder> foldersById
+) {
+
+    public static CatalogSnapshot of(long version, long changeMark,
+                                     List<SummaryTemplate> summaryTemplates,
+                                     List<MeetingType> meetingTypes,
+                                     List<NotesTemplate> notesTemplates,
+                                     List<Folder> folders) {
+        return new CatalogSnapshot(version, changeMark,
+                List.copyOf(summaryTemplates),
+                List.copyOf(meetingTypes),
+                List.copyOf(notesTemplates),
+                List.copyOf(folders),
+                index(summaryTemplates, SummaryTemplate::id),
+                index(meetingTypes, MeetingType::id),
+                index(folders, Folder::id));
+    }
+
+    /**
+     * Strong ETag for any representation built from this snapshot.
+     */
+    public String etag() {
+        return "\"catalog-" + version + "\"";
+    }
+
+    public Optional<SummaryTemplate> summaryTemplate(UUID id) {
+        return Optional.ofNullable(summaryTemplatesById.get(id));
+    }
+
+    public Optional<SummaryTemplate> defaultSummaryTemplate() {
+        return summaryTemplates.stream().filter(SummaryTemplate::isDefault).findFirst();
+    }
+
+    public Optional<MeetingType> meetingType(UUID id) {
+        return Optional.ofNullable(meetingTypesById.get(id));
+    }
+
+    public List<NotesTemplate> notesTemplates(String language) {
+        return notesTemplates.stream().filter(t -> Objects.equals(t.language(), language)).toList();
+    }
+
+    public Optional<NotesTemplate> defaultNotesTemplate(String language) {
+        return notesTemplates.stream()
+                .filter(t -> Objects.equals(t.language(), language) && t.isDefault())
+                .findFirst();
+    }
+
+    public Optional<Folder> folder(UUID id) {
+        return Optional.ofNullable(foldersById.get(id));
+    }
+
+    /**
+     * Direct children of {@code parentId}, ordered by name.
+     */
+    public List<Folder> childFolders(UUID parentId) {
+        return folders.stream()
+                .filter(f -> Objects.equals(f.parentId(), parentId))
+                .sorted((a, b) -> a.name().compareTo(b.name()))
+                .toList();
+    }
+
+    private static <T> Map<UUID, T> index(List<T> items, Function<T, UUID> id) {
+        return items.stream().collect(Collectors.toUnmodifiableMap(id, Function.identity()));
+    }
+}
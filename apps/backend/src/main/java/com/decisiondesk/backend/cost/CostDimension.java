@@ -0,0 +1,36 @@
+package com.decisiondesk.backend.cost;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * What a cost report groups {@code usage_records} by.
+ */
+public enum CostDimension {
+    /** Calendar month of the usage in the requested time zone, {@code YYYY-MM}. */
+    MONTH,
+    /** {@code meta.provider}, e.g. {@code openai} or {@code ollama}. */
+    PROVIDER,
+    /** {@code meta.model}. */
+    MODEL,
+    /** Folder of the meeting the usage belongs to. */
+    FOLDER,
+    /** Meeting type of the meeting the usage belongs to. */
+    MEETING_TYPE;
+
+    /**
+     * Parses {@code month}, {@code meeting-type}, {@code MEETING_TYPE} and similar spellings.
+     */
+    public static Optional<CostDimension> fromValue(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        String normalized = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        for (CostDimension dimension : values()) {
+            if (dimension.name().equals(normalized)) {
+                return Optional.of(dimension);
+            }
+        }
+        return Optional.empty();
+    }
+}
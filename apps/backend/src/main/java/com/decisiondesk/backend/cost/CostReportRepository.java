@@ -0,0 +1,120 @@
+package com.decisiondesk.backend.cost;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import com.decisiondesk.backend.meetings.model.UsageRecord;
+
+/**
+ * Cost reports aggregated in PostgreSQL over {@code usage_records}.
+ *
+ * <p>Groups and sums the typed columns generated from {@code meta} (see V21), so only one row per
+ * group reaches the JVM. Date-bounded reports are served from the covering
+ * {@code idx_usage_records_created_at} index. Usage of soft-deleted meetings still counts, since
+ * it was paid for.</p>
+ */
+@Repository
+public class CostReportRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public CostReportRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Aggregates usage by {@code dimension}, largest USD total first ({@link CostDimension#MONTH}
+     * is chronological instead).
+     *
+     * @param from     first day included, or {@code null} for no lower bound
+     * @param to       last day included, or {@code null} for no upper bound
+     * @param service  only this service, or {@code null} for all
+     * @param timeZone IANA zone that defines days and months
+     */
+    public List<CostReportRow> report(CostDimension dimension, LocalDate from, LocalDate to,
+                                      UsageRecord.Service service, String timeZone) {
+        Grouping grouping = grouping(dimension);
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT ").append(grouping.key()).append(" AS group_key, ")
+                .append(grouping.label()).append(" AS group_label,\n")
+                .append("""
+                               COUNT(*) AS records,
+                               COALESCE(SUM(u.units) FILTER (WHERE u.service = 'WHISPER'), 0) AS whisper_minutes,
+                               COALESCE(SUM(u.prompt_tokens), 0) AS prompt_tokens,
+                               COALESCE(SUM(u.completion_tokens), 0) AS completion_tokens,
+                               COALESCE(SUM(u.usd), 0) AS usd,
+                               COALESCE(SUM(u.brl), 0) AS brl
+                        FROM usage_records u
+                        """)
+                .append(grouping.joins())
+                .append("WHERE TRUE\n");
+        if (from != null) {
+            sql.append("  AND u.created_at >= CAST(:from AS timestamp) AT TIME ZONE CAST(:tz AS text)\n");
+        }
+        if (to != null) {
+            sql.append("  AND u.created_at < CAST(:to AS timestamp) AT TIME ZONE CAST(:tz AS text)\n");
+        }
+        if (service != null) {
+            sql.append("  AND u.service = :service\n");
+        }
+        sql.append("GROUP BY 1, 2\n").append("ORDER BY ").append(grouping.order());
+
+        JdbcClient.StatementSpec statement = jdbcClient.sql(sql.toString()).param("tz", timeZone);
+        if (from != null) {
+            statement = statement.param("from", from);
+        }
+        if (to != null) {
+            statement = statement.param("to", to.plusDays(1));
+        }
+        if (service != null) {
+            statement = statement.param("service", service.name());
+        }
+        return statement
+                .query((rs, rowNum) -> new CostReportRow(
+                        rs.getString("group_key"),
+                        rs.getString("group_label"),
+                        rs.getLong("records"),
+                        rs.getBigDecimal("whisper_minutes"),
+                        rs.getLong("prompt_tokens"),
+                        rs.getLong("completion_tokens"),
+                        rs.getBigDecimal("usd"),
+                        rs.getBigDecimal("brl")))
+                .list();
+    }
+
+    private static Grouping grouping(CostDimension dimension) {
+        return switch (dimension) {
+            case MONTH -> new Grouping(
+                    "to_char(u.created_at AT TIME ZONE CAST(:tz AS text), 'YYYY-MM')",
+                    "to_char(u.created_at AT TIME ZONE CAST(:tz AS text), 'YYYY-MM')",
+                    "",
+                    "1");
+            case PROVIDER -> new Grouping("u.provider", "u.provider", "", "usd DESC, 1");
+            case MODEL -> new Grouping("u.model", "u.model", "", "usd DESC, 1");
+            case FOLDER -> new Grouping(
+                    "CAST(m.folder_id AS TEXT)",
+                    "f.name",
+                    """
+                    LEFT JOIN meetings m ON m.id = u.meeting_id
+                    LEFT JOIN folders f ON f.id = m.folder_id
+                    """,
+                    "usd DESC, 2");
+            case MEETING_TYPE -> new Grouping(
+                    "CAST(m.meeting_type_id AS TEXT)",
+                    "mt.name",
+                    """
+                    LEFT JOIN meetings m ON m.id = u.meeting_id
+                    LEFT JOIN meeting_types mt ON mt.id = m.meeting_type_id
+                    """,
+                    "usd DESC, 2");
+        };
+    }
+
+    /**
+     * SQL fragments for one dimension. All are constants, never user input.
+     */
+    private record Grouping(String key, String label, String joins, String order) {}
+}
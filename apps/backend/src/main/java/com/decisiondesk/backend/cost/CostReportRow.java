@@ -0,0 +1,27 @@
+package com.decisiondesk.backend.cost;
+
+import java.math.BigDecimal;
+
+/**
+ * One group of a cost report.
+ *
+ * @param key              group key: {@code YYYY-MM}, provider, model, or folder/meeting type id;
+ *                         {@code null} for usage without one
+ * @param label            display name; the key itself unless it is an id
+ * @param records          usage records in the group
+ * @param whisperMinutes   billed transcription minutes
+ * @param promptTokens     LLM prompt tokens
+ * @param completionTokens LLM completion tokens
+ * @param usd              total cost in USD
+ * @param brl              total cost in BRL
+ */
+public record CostReportRow(
+        String key,
+        String label,
+        long records,
+        BigDecimal whisperMinutes,
+        long promptTokens,
+        long completionTokens,
+        BigDecimal usd,
+        BigDecimal brl) {
+}
@@ -0,0 +1,208 @@
+package com.decisiondesk.backend.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.decisiondesk.backend.datasource.QueryStatsRecorder.QueryStats;
+
+/**
+ * Times every statement run through the wrapped DataSource and hands the numbers to
+ * {@link QueryStatsRecorder}.
+ *
+ * <p>Connections, statements and result sets are JDK proxies over the driver's objects. The
+ * statement's name comes from {@link QueryNames} when it is prepared; elapsed time is measured
+ * around each {@code execute*} call. Rows are the update count for writes and the number of
+ * {@code next()} calls that returned true for reads, recorded when the result set closes.
+ * {@code unwrap} still reaches the driver, so COPY and LISTEN keep working but aren't measured.</p>
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Class<?>[] CONNECTION = {Connection.class};
+    private static final Class<?>[] RESULT_SET = {ResultSet.class};
+
+    private final Supplier<QueryStatsRecorder> recorder;
+    private final QueryNames names = new QueryNames();
+
+    public InstrumentedDataSource(DataSource target, Supplier<QueryStatsRecorder> recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), CONNECTION,
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement && !name.equals("unwrap")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] {type},
+                        new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final QueryStats preparedStats;
+        private String[] bindShape = new String[0];
+        private QueryStats lastQuery;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.preparedStats = preparedSql != null ? recorder.get().stats(names.nameFor(preparedSql)) : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name, args[1]);
+            } else if (name.equals("clearParameters")) {
+                bindShape = new String[0];
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (name.equals("getResultSet") && result instanceof ResultSet rs && lastQuery != null) {
+                return countRows(rs, lastQuery);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            if (sql == null) {
+                return InstrumentedDataSource.invoke(target, method, args);
+            }
+            QueryStatsRecorder stats = recorder.get();
+            QueryStats query = sql == preparedSql ? preparedStats : stats.stats(names.nameFor(sql));
+            lastQuery = query;
+            long start = System.nanoTime();
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+            stats.recordExecution(query, sql, bindShape, elapsed, getTargetDataSource());
+            if (result instanceof ResultSet rs) {
+                return countRows(rs, query);
+            }
+            if (result instanceof Integer count) {
+                stats.recordRows(query, Math.max(count, 0));
+            } else if (result instanceof Long count) {
+                stats.recordRows(query, Math.max(count, 0));
+            } else if (result instanceof int[] counts) {
+                stats.recordRows(query, Arrays.stream(counts).filter(c -> c > 0).sum());
+            } else if (result instanceof long[] counts) {
+                stats.recordRows(query, Arrays.stream(counts).filter(c -> c > 0).sum());
+            } else if (Boolean.FALSE.equals(result)) {
+                stats.recordRows(query, Math.max(target.getUpdateCount(), 0));
+            }
+            // execute() returning true: rows are counted through getResultSet()
+            return result;
+        }
+
+        private void bind(int index, String setter, Object value) {
+            if (index < 1 || index > 65_535) {
+                return;
+            }
+            if (index > bindShape.length) {
+                bindShape = Arrays.copyOf(bindShape, Math.max(index, bindShape.length * 2));
+            }
+            String type;
+            if (setter.equals("setNull") || value == null) {
+                type = "null";
+            } else if (setter.equals("setObject")) {
+                type = value.getClass().getSimpleName();
+            } else {
+                type = setter.substring(3);
+            }
+            bindShape[index - 1] = type;
+        }
+
+        private ResultSet countRows(ResultSet rs, QueryStats query) {
+            return (ResultSet) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), RESULT_SET,
+                    new ResultSetHandler(rs, query));
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final QueryStats query;
+        private long rows;
+        private boolean recorded;
+
+        ResultSetHandler(ResultSet target, QueryStats query) {
+            this.target = target;
+            this.query = query;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            String name = method.getName();
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if (name.equals("close") && !recorded) {
+                recorded = true;
+                recorder.get().recordRows(query, rows);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.decisiondesk.backend.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.function.SingletonSupplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wraps the application {@code dataSource} bean in an {@link InstrumentedDataSource}. It is on by
+ * default and {@code datasource.query-stats.enabled=false} turns it off.
+ *
+ * <p>Only the bean named {@code dataSource} is wrapped, which is Boot's pool or, with replicas
+ * enabled, the routing proxy. The pools behind it stay unwrapped, so each statement is counted once
+ * and EXPLAINs run uninstrumented. The recorder is looked up on first use, because a post-processor
+ * must not pull the meter registry in early.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInstrumentationConfiguration {
+
+    @Bean
+    static BeanPostProcessor queryInstrumentationPostProcessor(ObjectProvider<QueryStatsRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, SingletonSupplier.of(recorder::getObject));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    public QueryStatsRecorder queryStatsRecorder(MeterRegistry registry, QueryStatsProperties properties) {
+        return new QueryStatsRecorder(registry, properties);
+    }
+
+    @Bean
+    public TopQueriesEndpoint topQueriesEndpoint(QueryStatsRecorder recorder) {
+        return new TopQueriesEndpoint(recorder);
+    }
+}
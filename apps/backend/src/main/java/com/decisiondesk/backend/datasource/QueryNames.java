@@ -0,0 +1,64 @@
+package com.decisiondesk.backend.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stable names for SQL strings, in the form {@code MeetingRepository.findAll}.
+ *
+ * <p>A statement is named after the first application frame that prepared it, found by walking
+ * the stack once per distinct SQL string. Repositories keep their SQL in constants, so the walk
+ * happens once per query for the life of the process. When several methods share one string the
+ * first caller's name sticks.</p>
+ */
+final class QueryNames {
+
+    static final String UNATTRIBUTED = "unattributed";
+
+    private static final String APP_PACKAGE = "com.decisiondesk.backend.";
+    private static final String INSTRUMENTATION = InstrumentedDataSource.class.getName();
+    private static final int MAX_CACHED = 4096;
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+
+    String nameFor(String sql) {
+        String name = names.get(sql);
+        if (name != null) {
+            return name;
+        }
+        name = callerName();
+        if (names.size() < MAX_CACHED) {
+            names.putIfAbsent(sql, name);
+        }
+        return name;
+    }
+
+    private static String callerName() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(INSTRUMENTATION)
+                        && !frame.getClassName().equals(QueryNames.class.getName()))
+                .findFirst()
+                .map(frame -> name(frame.getClassName(), frame.getMethodName()))
+                .orElse(UNATTRIBUTED));
+    }
+
+    /**
+     * {@code com.x.MeetingRepository$$SpringCGLIB$$0}, {@code lambda$findAll$3} becomes
+     * {@code MeetingRepository.findAll}.
+     */
+    static String name(String className, String methodName) {
+        String simple = className.substring(className.lastIndexOf('.') + 1);
+        int generated = simple.indexOf("$$");
+        if (generated >= 0) {
+            simple = simple.substring(0, generated);
+        }
+        String method = methodName;
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', "lambda$".length());
+            method = end > 0 ? method.substring("lambda$".length(), end) : method;
+        }
+        return simple + "." + method;
+    }
+}
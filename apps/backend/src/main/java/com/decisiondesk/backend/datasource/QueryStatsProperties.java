@@ -0,0 +1,25 @@
+package com.decisiondesk.backend.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-statement JDBC instrumentation.
+ *
+ * @param enabled         wrap the application DataSource; off leaves JDBC calls untouched
+ * @param slowThreshold   executions at least this long are counted as slow and sampled
+ * @param explainCooldown minimum time between two slow samples (and EXPLAINs) of the same query
+ */
+@ConfigurationProperties(prefix = "datasource.query-stats")
+public record QueryStatsProperties(
+        Boolean enabled,
+        Duration slowThreshold,
+        Duration explainCooldown) {
+
+    public QueryStatsProperties {
+        enabled = enabled == null || enabled;
+        slowThreshold = slowThreshold == null ? Duration.ofMillis(250) : slowThreshold;
+        explainCooldown = explainCooldown == null ? Duration.ofMinutes(10) : explainCooldown;
+    }
+}
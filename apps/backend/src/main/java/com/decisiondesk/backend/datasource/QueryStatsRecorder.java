@@ -0,0 +1,258 @@
+package com.decisiondesk.backend.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Aggregates what {@link InstrumentedDataSource} sees, per query name.
+ *
+ * <p>Meters: {@code jdbc.query{query}} (execution time) and {@code jdbc.query.rows{query}} (rows
+ * read or written). In-memory totals back the {@code topqueries} actuator endpoint.</p>
+ *
+ * <p>A slow execution stores a sample with the SQL and the types of its bind values (never the
+ * values), then runs {@code EXPLAIN (GENERIC_PLAN)} for it on a background thread. Placeholders
+ * become {@code $n}, so nothing is executed and no values are needed. Each query is sampled at most
+ * once per {@code explainCooldown}; if the explain queue is full, the plan is skipped.</p>
+ */
+public class QueryStatsRecorder implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsRecorder.class);
+
+    private static final int MAX_PLAN_LENGTH = 16_384;
+
+    private final MeterRegistry registry;
+    private final long slowNanos;
+    private final long cooldownNanos;
+    private final Map<String, QueryStats> stats = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainer;
+
+    public QueryStatsRecorder(MeterRegistry registry, QueryStatsProperties properties) {
+        this.registry = registry;
+        this.slowNanos = properties.slowThreshold().toNanos();
+        this.cooldownNanos = properties.explainCooldown().toNanos();
+        this.explainer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16),
+                Thread.ofPlatform().daemon().name("query-explain").factory(),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * A ranked row of the {@code topqueries} endpoint.
+     */
+    public record QuerySummary(String name, long calls, double totalMillis, double meanMillis, double maxMillis,
+                               long rows, long slowCalls, SlowSample lastSlow) {}
+
+    /**
+     * The latest slow execution of a query. {@code plan} is null until the EXPLAIN has run.
+     */
+    public record SlowSample(String sql, List<String> bindShape, double elapsedMillis,
+                             OffsetDateTime capturedAt, String plan) {
+
+        SlowSample withPlan(String plan) {
+            return new SlowSample(sql, bindShape, elapsedMillis, capturedAt, plan);
+        }
+    }
+
+    QueryStats stats(String name) {
+        return stats.computeIfAbsent(name, this::newStats);
+    }
+
+    /**
+     * Records one execution; {@code explainSource} must not be instrumented.
+     */
+    void recordExecution(QueryStats query, String sql, String[] bindSlots, long nanos, DataSource explainSource) {
+        query.calls.increment();
+        query.totalNanos.add(nanos);
+        query.maxNanos.accumulateAndGet(nanos, Math::max);
+        query.timer.record(nanos, TimeUnit.NANOSECONDS);
+        if (nanos < slowNanos) {
+            return;
+        }
+        query.slowCalls.increment();
+        long now = System.nanoTime();
+        long last = query.lastSampleNanos.get();
+        if (last != 0 && now - last < cooldownNanos) {
+            return;
+        }
+        if (!query.lastSampleNanos.compareAndSet(last, now)) {
+            return;
+        }
+        SlowSample sample = new SlowSample(sql, bindShape(bindSlots), nanos / 1_000_000.0, OffsetDateTime.now(), null);
+        query.lastSlow.set(sample);
+        explainer.execute(() -> explain(query, sample, explainSource));
+    }
+
+    void recordRows(QueryStats query, long rows) {
+        query.rows.add(rows);
+        query.rowSummary.record(rows);
+    }
+
+    /**
+     * Queries ranked by total execution time, highest first.
+     */
+    public List<QuerySummary> top(int limit) {
+        return stats.values().stream()
+                .map(QueryStats::summary)
+                .sorted(Comparator.comparingDouble(QuerySummary::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public Optional<QuerySummary> find(String name) {
+        return Optional.ofNullable(stats.get(name)).map(QueryStats::summary);
+    }
+
+    @Override
+    public void close() {
+        explainer.shutdownNow();
+    }
+
+    private QueryStats newStats(String name) {
+        Timer timer = Timer.builder("jdbc.query")
+                .description("JDBC statement execution time")
+                .tag("query", name)
+                .register(registry);
+        DistributionSummary rows = DistributionSummary.builder("jdbc.query.rows")
+                .description("Rows read or written per JDBC statement")
+                .tag("query", name)
+                .register(registry);
+        return new QueryStats(name, timer, rows);
+    }
+
+    private static void explain(QueryStats query, SlowSample sample, DataSource dataSource) {
+        String plan;
+        if (!explainable(sample.sql())) {
+            plan = "(not explainable)";
+        } else {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberedPlaceholders(sample.sql()))) {
+                StringJoiner lines = new StringJoiner("\n");
+                while (rs.next()) {
+                    lines.add(rs.getString(1));
+                }
+                plan = lines.toString();
+                if (plan.length() > MAX_PLAN_LENGTH) {
+                    plan = plan.substring(0, MAX_PLAN_LENGTH) + "\n...";
+                }
+            } catch (SQLException | RuntimeException ex) {
+                log.debug("EXPLAIN failed for {}", query.name, ex);
+                plan = "(explain failed: " + ex.getMessage() + ")";
+            }
+        }
+        query.lastSlow.compareAndSet(sample, sample.withPlan(plan));
+    }
+
+    /**
+     * Bind types by parameter index; setters may leave gaps and spare trailing slots.
+     */
+    static List<String> bindShape(String[] slots) {
+        int length = slots.length;
+        while (length > 0 && slots[length - 1] == null) {
+            length--;
+        }
+        List<String> shape = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            shape.add(slots[i] != null ? slots[i] : "unset");
+        }
+        return List.copyOf(shape);
+    }
+
+    static boolean explainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("with") || head.startsWith("insert")
+                || head.startsWith("update") || head.startsWith("delete");
+    }
+
+    /**
+     * Rewrites JDBC {@code ?} placeholders as {@code $1, $2, ...}, leaving literals, quoted
+     * identifiers and comments alone and turning the escaped operator {@code ??} back into {@code ?}.
+     */
+    static String numberedPlaceholders(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        int index = 0;
+        int i = 0;
+        int n = sql.length();
+        while (i < n) {
+            char c = sql.charAt(i);
+            if (c == '\'' || c == '"') {
+                int end = sql.indexOf(c, i + 1);
+                end = end < 0 ? n : end + 1;
+                out.append(sql, i, end);
+                i = end;
+            } else if (c == '-' && i + 1 < n && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i);
+                end = end < 0 ? n : end;
+                out.append(sql, i, end);
+                i = end;
+            } else if (c == '/' && i + 1 < n && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                end = end < 0 ? n : end + 2;
+                out.append(sql, i, end);
+                i = end;
+            } else if (c == '?' && i + 1 < n && sql.charAt(i + 1) == '?') {
+                out.append('?');
+                i += 2;
+            } else if (c == '?') {
+                out.append('$').append(++index);
+                i++;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    static final class QueryStats {
+        final String name;
+        final Timer timer;
+        final DistributionSummary rowSummary;
+        final LongAdder calls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder rows = new LongAdder();
+        final LongAdder slowCalls = new LongAdder();
+        final AtomicLong lastSampleNanos = new AtomicLong();
+        final AtomicReference<SlowSample> lastSlow = new AtomicReference<>();
+
+        QueryStats(String name, Timer timer, DistributionSummary rowSummary) {
+            this.name = name;
+            this.timer = timer;
+            this.rowSummary = rowSummary;
+        }
+
+        QuerySummary summary() {
+            long count = calls.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new QuerySummary(name, count, total, count == 0 ? 0 : total / count,
+                    maxNanos.get() / 1_000_000.0, rows.sum(), slowCalls.sum(), lastSlow.get());
+        }
+    }
+}
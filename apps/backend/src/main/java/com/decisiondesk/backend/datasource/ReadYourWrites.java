@@ -0,0 +1,30 @@
+package com.decisiondesk.backend.datasource;
+
+/**
+ * Per-thread flag that keeps read-only transactions on the primary.
+ *
+ * <p>Set by {@link ReadYourWritesFilter} for requests from a client that wrote recently, so it
+ * doesn't read stale data from a replica that hasn't replayed its write yet.</p>
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Whether the current thread must read from the primary.
+     */
+    public static boolean pinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,69 @@
+package com.decisiondesk.backend.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Keeps a client's reads on the primary for a short window after it writes.
+ *
+ * <p>A client is identified by its {@value #CLIENT_HEADER} header, or its remote address when
+ * the header is missing. Any request other than GET, HEAD or OPTIONS counts as a write. Requests
+ * from a client inside its window run with {@link ReadYourWrites} pinned, and so do the writes
+ * themselves. The window is tracked per backend node.</p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String CLIENT_HEADER = "X-Client-Id";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = clientKey(request);
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (write) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+        if (!write && recentWriters.getIfPresent(client) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReadYourWrites.pin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+            if (write) {
+                // the window starts when the write has committed, not when it arrived
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String header = request.getHeader(CLIENT_HEADER);
+        return StringUtils.hasText(header) ? "id:" + header : "ip:" + request.getRemoteAddr();
+    }
+}
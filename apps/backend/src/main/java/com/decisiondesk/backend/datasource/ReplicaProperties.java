@@ -0,0 +1,39 @@
+package com.decisiondesk.backend.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replicas that serve {@code @Transactional(readOnly = true)} work.
+ *
+ * @param enabled          route read-only transactions to replicas; off means one plain primary pool
+ * @param nodes            replica connection settings
+ * @param maxLag           replicas further behind the primary than this are skipped
+ * @param lagCheckInterval how often replica lag is measured
+ * @param stickyWindow     how long a client's reads stay on the primary after it writes
+ * @param poolSize         maximum connections per replica pool
+ */
+@ConfigurationProperties(prefix = "datasource.replicas")
+public record ReplicaProperties(
+        boolean enabled,
+        List<Node> nodes,
+        Duration maxLag,
+        Duration lagCheckInterval,
+        Duration stickyWindow,
+        Integer poolSize) {
+
+    public ReplicaProperties {
+        nodes = nodes == null ? List.of() : List.copyOf(nodes);
+        maxLag = maxLag == null ? Duration.ofSeconds(5) : maxLag;
+        lagCheckInterval = lagCheckInterval == null ? Duration.ofSeconds(2) : lagCheckInterval;
+        stickyWindow = stickyWindow == null ? Duration.ofSeconds(5) : stickyWindow;
+        poolSize = poolSize == null ? 10 : poolSize;
+    }
+
+    /**
+     * One replica; credentials default to the primary's when blank.
+     */
+    public record Node(String name, String url, String username, String password) {}
+}
@@ -0,0 +1,104 @@
+package com.decisiondesk.backend.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions to replicas when {@code datasource.replicas.enabled=true}.
+ *
+ * <p>The application {@link DataSource} becomes a {@link LazyConnectionDataSourceProxy} over the
+ * primary pool. It fetches a physical connection only on first use, by which time the transaction
+ * manager has marked the connection read-only or not. Read-only ones then come from
+ * {@link ReplicaRoutingDataSource}. Everything else goes to the primary: writes, non-transactional
+ * {@code JdbcClient} calls, Flyway and the cache invalidation listener.</p>
+ *
+ * <p>Any reachable PostgreSQL works as a stand-in replica for local testing; a server that isn't
+ * in recovery reports zero lag.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+    /**
+     * The primary pool, built the way Boot builds its own: connection settings from
+     * {@code spring.datasource.*} and pool settings bound from {@code spring.datasource.hikari.*}
+     * (including {@code data-source-properties} such as {@code reWriteBatchedInserts}).
+     */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaProperties properties,
+                                                             MeterRegistry registry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        int index = 0;
+        for (ReplicaProperties.Node node : properties.nodes()) {
+            String name = StringUtils.hasText(node.name()) ? node.name() : "replica-" + index;
+            index++;
+            HikariDataSource replica = new HikariDataSource();
+            // same pool and driver settings as the primary, then the replica's own overrides
+            primaryDataSource.copyStateTo(replica);
+            replica.setPoolName(name);
+            replica.setJdbcUrl(node.url());
+            replica.setUsername(StringUtils.hasText(node.username()) ? node.username() : primaryDataSource.getUsername());
+            replica.setPassword(StringUtils.hasText(node.password()) ? node.password() : primaryDataSource.getPassword());
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(properties.poolSize());
+            // a replica that is down must not stop the application from starting
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(name, replica);
+        }
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                properties.maxLag(), registry) {
+            @Override
+            public synchronized void close() {
+                super.close();
+                replicas.values().forEach(replica -> ((HikariDataSource) replica).close());
+            }
+        };
+        routing.start(properties.lagCheckInterval());
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.stickyWindow()));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
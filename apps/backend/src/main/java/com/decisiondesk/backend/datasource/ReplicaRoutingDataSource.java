@@ -0,0 +1,213 @@
+package com.decisiondesk.backend.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The read-only side of the routing setup: hands out replica connections, falling back to the primary.
+ *
+ * <p>Replicas are probed in the background; one whose replay lag exceeds the limit, or that can't
+ * be reached, is skipped until a later probe finds it healthy again. Healthy replicas are used
+ * round-robin. The primary is used when no replica is healthy, when a replica refuses a
+ * connection, and when {@link ReadYourWrites} pins the current thread.</p>
+ *
+ * <p>Meters: {@code datasource.replica.lag{replica}} in seconds (negative when unreachable), and
+ * {@code datasource.replica.fallbacks{reason}}.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /**
+     * Seconds of replay lag; zero when fully replayed and still streaming, so an idle primary
+     * doesn't look behind. A replica that lost its upstream has replayed everything it received
+     * but receives nothing, so it is measured by the age of its last replayed transaction
+     * instead, and NULL (treated as unreachable) when it never replayed one. Without
+     * {@code pg_read_all_stats} the receiver's status reads as NULL; its row still shows
+     * whether a receiver is running at all.
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn()
+                     AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver
+                                 WHERE COALESCE(status, 'streaming') = 'streaming') THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            END
+            """;
+
+    /**
+     * Measures a replica's lag; throws when it can't be reached.
+     */
+    @FunctionalInterface
+    interface LagProbe {
+        Duration lag(DataSource replica) throws SQLException;
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final LagProbe probe;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter noHealthyReplica;
+    private final Counter pinned;
+    private final Counter connectFailed;
+    private ScheduledExecutorService prober;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    MeterRegistry registry) {
+        this(primary, replicas, maxLag, registry, ReplicaRoutingDataSource::queryLag);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                             MeterRegistry registry, LagProbe probe) {
+        this.primary = primary;
+        this.maxLag = maxLag;
+        this.probe = probe;
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replica replay lag in seconds, negative when unreachable")
+                    .tag("replica", name)
+                    .register(registry);
+        });
+        this.noHealthyReplica = fallbackCounter(registry, "no_healthy_replica");
+        this.pinned = fallbackCounter(registry, "read_your_writes");
+        this.connectFailed = fallbackCounter(registry, "connect_failed");
+    }
+
+    /**
+     * Probes once now, then every {@code interval} on a daemon thread.
+     */
+    public synchronized void start(Duration interval) {
+        if (prober != null) {
+            return;
+        }
+        probeReplicas();
+        prober = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("replica-lag-probe").factory());
+        prober.scheduleWithFixedDelay(this::probeReplicas, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (prober != null) {
+            prober.shutdownNow();
+            prober = null;
+        }
+    }
+
+    void probeReplicas() {
+        for (Replica replica : replicas) {
+            try {
+                Duration lag = probe.lag(replica.dataSource);
+                boolean healthy = lag.compareTo(maxLag) <= 0;
+                if (healthy != replica.healthy) {
+                    log.info("Replica {} is {} (lag {} ms)", replica.name,
+                            healthy ? "back in rotation" : "lagging, reads go elsewhere", lag.toMillis());
+                }
+                replica.lagSeconds = lag.toMillis() / 1000.0;
+                replica.healthy = healthy;
+            } catch (SQLException | RuntimeException ex) {
+                if (replica.healthy) {
+                    log.warn("Replica {} unreachable, reads go elsewhere: {}", replica.name, ex.getMessage());
+                }
+                replica.lagSeconds = -1;
+                replica.healthy = false;
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(username, password);
+    }
+
+    private Connection route(String username, String password) throws SQLException {
+        if (ReadYourWrites.pinnedToPrimary()) {
+            pinned.increment();
+            return connect(primary, username, password);
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return connect(replica.dataSource, username, password);
+            } catch (SQLException ex) {
+                log.warn("Replica {} refused a connection, taking it out of rotation: {}", replica.name, ex.getMessage());
+                replica.healthy = false;
+                connectFailed.increment();
+            }
+        }
+        noHealthyReplica.increment();
+        return connect(primary, username, password);
+    }
+
+    private static Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+    private static Duration queryLag(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            rs.next();
+            double seconds = rs.getDouble(1);
+            if (rs.wasNull()) {
+                throw new SQLException("Replica is not receiving WAL and has no replayed transaction to measure");
+            }
+            return Duration.ofMillis(Math.round(seconds * 1000));
+        }
+    }
+
+    private static Counter fallbackCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy;
+        volatile double lagSeconds = -1;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.decisiondesk.backend.datasource;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import com.decisiondesk.backend.datasource.QueryStatsRecorder.QuerySummary;
+
+/**
+ * {@code /actuator/topqueries}: the queries with the most total execution time since startup,
+ * with the latest slow sample and its plan. {@code /actuator/topqueries/{name}} returns one query.
+ */
+@Endpoint(id = "topqueries")
+public class TopQueriesEndpoint {
+
+    static final int LIMIT = 50;
+
+    private final QueryStatsRecorder recorder;
+
+    public TopQueriesEndpoint(QueryStatsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public List<QuerySummary> topQueries() {
+        return recorder.top(LIMIT);
+    }
+
+    @ReadOperation
+    public QuerySummary query(@Selector String name) {
+        return recorder.find(name).orElse(null);
+    }
+}
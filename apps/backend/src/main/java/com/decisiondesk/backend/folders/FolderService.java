@@ -4,10 +4,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.decisiondesk.backend.catalog.Catalog;
 import com.decisiondesk.backend.folders.model.Folder;
 import com.decisiondesk.backend.folders.persistence.FolderRepository;
+import com.decisiondesk.backend.meetings.model.MeetingSummary;
+import com.decisiondesk.backend.meetings.persistence.MeetingRepository;
+import com.decisiondesk.backend.web.ApiException;
 
 /**
  * Service layer for folder operations.
@@ -15,10 +21,17 @@ import com.decisiondesk.backend.folders.persistence.FolderRepository;
 @Service
 public class FolderService {
 
+    /** Length of {@code folders.path}. */
+    static final int MAX_PATH_LENGTH = 500;
+
     private final FolderRepository folderRepository;
+    private final MeetingRepository meetingRepository;
+    private final Catalog catalog;
 
-    public FolderService(FolderRepository folderRepository) {
+    public FolderService(FolderRepository folderRepository, MeetingRepository meetingRepository, Catalog catalog) {
         this.folderRepository = folderRepository;
+        this.meetingRepository = meetingRepository;
+        this.catalog = catalog;
     }
 
     /**
@@ -32,6 +45,7 @@ public class FolderService {
      */
     public Folder createFolder(String name, UUID parentId, Map<String, String> defaultTags, String defaultWhisperModel) {
         String path = buildPath(name, parentId);
+        checkPathLength(null, path);
         
         Folder folder = new Folder(
             UUID.randomUUID(),
@@ -56,7 +70,7 @@ public class FolderService {
      * @throws FolderNotFoundException if not found
      */
     public Folder getFolder(UUID id) {
-        return folderRepository.findById(id)
+        return catalog.snapshot().folder(id)
             .orElseThrow(() -> new FolderNotFoundException(id));
     }
 
@@ -66,7 +80,7 @@ public class FolderService {
      * @return list of all folders
      */
     public List<Folder> getAllFolders() {
-        return folderRepository.findAll();
+        return catalog.snapshot().folders();
     }
 
     /**
@@ -76,11 +90,35 @@ public class FolderService {
      * @return list of child folders
      */
     public List<Folder> getChildFolders(UUID parentId) {
-        return folderRepository.findByParentId(parentId);
+        return catalog.snapshot().childFolders(parentId);
+    }
+
+    /**
+     * Gets the live meetings in a folder, newest first.
+     *
+     * @param id folder id
+     * @param includeSubfolders whether to include meetings in all descendant folders
+     * @return meeting summaries
+     */
+    public List<MeetingSummary> getMeetings(UUID id, boolean includeSubfolders) {
+        getFolder(id);
+        return includeSubfolders ? meetingRepository.findByFolderSubtree(id) : meetingRepository.findByFolderId(id);
     }
 
     /**
-     * Updates a folder.
+     * Counts the live meetings in a folder.
+     *
+     * @param id folder id
+     * @param includeSubfolders whether to include meetings in all descendant folders
+     * @return meeting count
+     */
+    public long countMeetings(UUID id, boolean includeSubfolders) {
+        getFolder(id);
+        return meetingRepository.countByFolder(id, includeSubfolders);
+    }
+
+    /**
+     * Updates a folder. A rename also rewrites the paths of all descendant folders.
      *
      * @param id folder id
      * @param name new name (null to keep)
@@ -88,13 +126,20 @@ public class FolderService {
      * @param defaultWhisperModel new model (null to keep)
      * @return the updated folder
      */
+    @Transactional
     public Folder updateFolder(UUID id, String name, Map<String, String> defaultTags, String defaultWhisperModel) {
         Folder existing = getFolder(id);
+        if (name != null && !name.equals(existing.name())) {
+            // the root keeps "/" whatever it is called
+            String path = "/".equals(existing.path()) ? "/" : buildPath(name, existing.parentId());
+            checkPathLength(id, path);
+            folderRepository.rename(id, name, path);
+        }
         
         Folder updated = new Folder(
             existing.id(),
-            name != null ? name : existing.name(),
-            name != null ? buildPath(name, existing.parentId()) : existing.path(),
+            existing.name(),
+            existing.path(),
             existing.parentId(),
             defaultTags != null ? defaultTags : existing.defaultTags(),
             defaultWhisperModel != null ? defaultWhisperModel : existing.defaultWhisperModel(),
@@ -107,6 +152,33 @@ public class FolderService {
         return folderRepository.findById(id).orElseThrow();
     }
 
+    /**
+     * Moves a folder, with everything below it, under another parent.
+     *
+     * @param id folder id
+     * @param newParentId new parent folder id (null for top level)
+     * @return the moved folder
+     */
+    @Transactional
+    public Folder moveFolder(UUID id, UUID newParentId) {
+        Folder existing = getFolder(id);
+        if ("/".equals(existing.path())) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_FOLDER_MOVE", "The root folder cannot be moved");
+        }
+        if (newParentId != null && folderRepository.isInSubtree(newParentId, id)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_FOLDER_MOVE",
+                "Cannot move folder %s into itself or one of its subfolders".formatted(id));
+        }
+        String path = buildPath(existing.name(), newParentId);
+        checkPathLength(id, path);
+        if (folderRepository.move(id, newParentId, path) == 0) {
+            // the parent moved into this subtree after the check above
+            throw new ApiException(HttpStatus.CONFLICT, "INVALID_FOLDER_MOVE",
+                "Folder %s could not be moved under %s".formatted(id, newParentId));
+        }
+        return folderRepository.findById(id).orElseThrow();
+    }
+
     /**
      * Deletes a folder.
      *
@@ -116,11 +188,25 @@ public class FolderService {
         folderRepository.deleteById(id);
     }
 
+    /**
+     * Rejects a new path for folder {@code id} (null for a new folder) when it, or the path it
+     * gives to the deepest subfolder, would not fit in {@code folders.path}.
+     */
+    private void checkPathLength(UUID id, String path) {
+        int longest = path.codePointCount(0, path.length())
+            + (id != null ? folderRepository.subtreePathSuffixLength(id) : 0);
+        if (longest > MAX_PATH_LENGTH) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "FOLDER_PATH_TOO_LONG",
+                "Folder paths are limited to %d characters; this change would make one %d long"
+                    .formatted(MAX_PATH_LENGTH, longest));
+        }
+    }
+
     private String buildPath(String name, UUID parentId) {
         if (parentId == null) {
             return "/" + name;
         }
-        Folder parent = folderRepository.findById(parentId)
+        Folder parent = catalog.snapshot().folder(parentId)
             .orElseThrow(() -> new FolderNotFoundException(parentId));
         return parent.path().equals("/") ? "/" + name : parent.path() + "/" + name;
     }
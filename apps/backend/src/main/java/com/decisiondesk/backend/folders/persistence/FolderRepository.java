@@ -11,6 +11,7 @@ import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.catalog.CatalogChanges;
 import com.decisiondesk.backend.folders.model.Folder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -18,16 +19,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Repository responsible for CRUD interactions with the {@code folders} table.
+ *
+ * <p>Besides the display {@code path}, every folder carries a {@code tree_path} ltree of ancestor
+ * ids (see V20), so whole subtrees are addressed with one indexed {@code <@} predicate. Renames and
+ * moves rewrite the folder and all of its descendants in a single statement.</p>
  */
 @Repository
 public class FolderRepository {
 
     private final JdbcClient jdbcClient;
     private final ObjectMapper objectMapper;
+    private final CatalogChanges catalogChanges;
 
-    public FolderRepository(JdbcClient jdbcClient, ObjectMapper objectMapper) {
+    public FolderRepository(JdbcClient jdbcClient, ObjectMapper objectMapper, CatalogChanges catalogChanges) {
         this.jdbcClient = jdbcClient;
         this.objectMapper = objectMapper;
+        this.catalogChanges = catalogChanges;
     }
 
     /**
@@ -37,9 +44,11 @@ public class FolderRepository {
      * @return the persisted folder
      */
     public Folder create(Folder folder) {
+        catalogChanges.recordWrite();
         jdbcClient.sql("""
-                INSERT INTO folders (id, name, path, parent_id, default_tags, default_whisper_model, summary_template_id)
-                VALUES (:id, :name, :path, :parentId, :defaultTags::jsonb, :defaultWhisperModel, :summaryTemplateId)
+                INSERT INTO folders (id, name, path, parent_id, default_tags, default_whisper_model, summary_template_id, tree_path)
+                VALUES (:id, :name, :path, :parentId, :defaultTags::jsonb, :defaultWhisperModel, :summaryTemplateId,
+                        COALESCE((SELECT tree_path FROM folders WHERE id = :parentId), CAST('' AS ltree)) || folder_label(:id))
                 """)
                 .param("id", folder.id())
                 .param("name", folder.name())
@@ -119,17 +128,16 @@ public class FolderRepository {
     }
 
     /**
-     * Updates a folder.
+     * Updates a folder's settings. Name and position in the tree change through
+     * {@link #rename} and {@link #move}, which keep descendants consistent.
      *
      * @param folder the folder with updated values
      * @return number of rows updated
      */
     public int update(Folder folder) {
+        catalogChanges.recordWrite();
         return jdbcClient.sql("""
                 UPDATE folders SET 
-                    name = :name, 
-                    path = :path, 
-                    parent_id = :parentId,
                     default_tags = :defaultTags::jsonb, 
                     default_whisper_model = :defaultWhisperModel,
                     summary_template_id = :summaryTemplateId,
@@ -137,15 +145,99 @@ public class FolderRepository {
                 WHERE id = :id
                 """)
                 .param("id", folder.id())
-                .param("name", folder.name())
-                .param("path", folder.path())
-                .param("parentId", folder.parentId())
                 .param("defaultTags", toJson(folder.defaultTags()))
                 .param("defaultWhisperModel", folder.defaultWhisperModel())
                 .param("summaryTemplateId", folder.summaryTemplateId())
                 .update();
     }
 
+    /**
+     * Renames a folder and rewrites the display path of its whole subtree.
+     *
+     * @param id      folder to rename
+     * @param name    new name
+     * @param newPath the folder's new display path
+     * @return number of rows updated (the folder plus its descendants)
+     */
+    public int rename(UUID id, String name, String newPath) {
+        catalogChanges.recordWrite();
+        return jdbcClient.sql("""
+                UPDATE folders f SET
+                    name = CASE WHEN f.id = target.id THEN :name ELSE f.name END,
+                    path = :newPath || substr(f.path, length(target.path) + 1),
+                    updated_at = NOW()
+                FROM folders target
+                WHERE target.id = :id
+                  AND f.tree_path <@ target.tree_path
+                """)
+                .param("id", id)
+                .param("name", name)
+                .param("newPath", newPath)
+                .update();
+    }
+
+    /**
+     * Moves a folder under a new parent, rewriting {@code tree_path} and the display path of its
+     * whole subtree. Nothing is updated if the new parent lies inside the subtree.
+     *
+     * @param id          folder to move
+     * @param newParentId new parent, or null for top level
+     * @param newPath     the folder's new display path
+     * @return number of rows updated (the folder plus its descendants), 0 if the move was refused
+     */
+    public int move(UUID id, UUID newParentId, String newPath) {
+        catalogChanges.recordWrite();
+        return jdbcClient.sql("""
+                UPDATE folders f SET
+                    parent_id = CASE WHEN f.id = target.id THEN parent.id ELSE f.parent_id END,
+                    tree_path = COALESCE(parent.tree_path, CAST('' AS ltree))
+                                || subpath(f.tree_path, nlevel(target.tree_path) - 1),
+                    path = :newPath || substr(f.path, length(target.path) + 1),
+                    updated_at = NOW()
+                FROM folders target
+                LEFT JOIN folders parent ON parent.id = :newParentId
+                WHERE target.id = :id
+                  AND f.tree_path <@ target.tree_path
+                  AND (parent.id IS NULL OR NOT parent.tree_path <@ target.tree_path)
+                """)
+                .param("id", id)
+                .param("newParentId", newParentId)
+                .param("newPath", newPath)
+                .update();
+    }
+
+    /**
+     * Returns how much longer the longest display path in the subtree of {@code id} is than the
+     * folder's own path (0 for a folder without subfolders).
+     */
+    public int subtreePathSuffixLength(UUID id) {
+        return jdbcClient.sql("""
+                SELECT COALESCE(MAX(length(f.path) - length(target.path)), 0)
+                FROM folders target
+                JOIN folders f ON f.tree_path <@ target.tree_path
+                WHERE target.id = :id
+                """)
+                .param("id", id)
+                .query(Integer.class)
+                .single();
+    }
+
+    /**
+     * Tells whether {@code folderId} is {@code ancestorId} or one of its descendants.
+     */
+    public boolean isInSubtree(UUID folderId, UUID ancestorId) {
+        return jdbcClient.sql("""
+                SELECT EXISTS (
+                    SELECT 1 FROM folders f, folders a
+                    WHERE f.id = :folderId AND a.id = :ancestorId AND f.tree_path <@ a.tree_path
+                )
+                """)
+                .param("folderId", folderId)
+                .param("ancestorId", ancestorId)
+                .query(Boolean.class)
+                .single();
+    }
+
     /**
      * Deletes a folder by id.
      *
@@ -153,6 +245,7 @@ public class FolderRepository {
      * @return number of rows deleted
      */
     public int deleteById(UUID id) {
+        catalogChanges.recordWrite();
         return jdbcClient.sql("DELETE FROM folders WHERE id = :id")
                 .param("id", id)
                 .update();
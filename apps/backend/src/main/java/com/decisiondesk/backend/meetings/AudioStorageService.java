@@ -3,11 +3,18 @@ package com.decisiondesk.backend.meetings;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import jakarta.annotation.PostConstruct;
 
@@ -55,6 +62,53 @@ public class AudioStorageService {
         return new StoredAudio(assetId, destination, file.getSize(), originalName, file.getContentType());
     }
 
+    /**
+     * Removes a meeting's audio directory and any listed asset files stored elsewhere under the
+     * audio root. Files that are already gone are not an error; paths outside the root are ignored.
+     *
+     * @param meetingId  meeting whose directory is removed
+     * @param assetPaths stored paths of the meeting's assets
+     * @return how many files were deleted and their total size
+     * @throws IOException if a file or directory exists but cannot be removed
+     */
+    public ReclaimedAudio deleteMeetingAudio(UUID meetingId, Collection<String> assetPaths) throws IOException {
+        Path root = audioRoot.toAbsolutePath().normalize();
+        Path meetingDirectory = root.resolve(meetingId.toString());
+        long[] totals = new long[2];
+        if (Files.isDirectory(meetingDirectory, LinkOption.NOFOLLOW_LINKS)) {
+            List<Path> entries;
+            try (Stream<Path> walk = Files.walk(meetingDirectory)) {
+                entries = walk.sorted(Comparator.reverseOrder()).toList();
+            }
+            for (Path entry : entries) {
+                deleteCounting(entry, totals);
+            }
+        }
+        for (String assetPath : assetPaths) {
+            if (assetPath == null) {
+                continue;
+            }
+            Path asset = Path.of(assetPath).toAbsolutePath().normalize();
+            if (asset.startsWith(root) && !asset.startsWith(meetingDirectory)) {
+                deleteCounting(asset, totals);
+            }
+        }
+        return new ReclaimedAudio(totals[0], totals[1]);
+    }
+
+    private static void deleteCounting(Path path, long[] totals) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException ex) {
+            return;
+        }
+        if (Files.deleteIfExists(path) && !attributes.isDirectory()) {
+            totals[0]++;
+            totals[1] += attributes.size();
+        }
+    }
+
     private String sanitize(String candidate) {
         if (candidate == null || candidate.isBlank()) {
             return "audio";
@@ -77,4 +131,10 @@ public class AudioStorageService {
      */
     public record StoredAudio(UUID assetId, Path path, long sizeBytes, String originalFilename, String contentType) {
     }
+
+    /**
+     * Files removed by {@link #deleteMeetingAudio} and the bytes they occupied.
+     */
+    public record ReclaimedAudio(long files, long bytes) {
+    }
 }
@@ -75,14 +75,22 @@ public class MeetingCostAggregator {
         }
         try {
             JsonNode node = objectMapper.readTree(meta);
-            Long prompt = node.path("promptTokens").isNumber() ? node.get("promptTokens").longValue() : null;
-            Long completion = node.path("completionTokens").isNumber() ? node.get("completionTokens").longValue() : null;
-            return new Tokens(prompt, completion);
+            return new Tokens(tokenCount(node, "prompt_tokens", "promptTokens"),
+                    tokenCount(node, "completion_tokens", "completionTokens"));
         } catch (IOException ignored) {
             return Tokens.EMPTY;
         }
     }
 
+    /**
+     * Summaries write snake_case keys; older records used camelCase. Same precedence as the
+     * generated columns in V21.
+     */
+    private static Long tokenCount(JsonNode node, String key, String legacyKey) {
+        JsonNode value = node.has(key) ? node.get(key) : node.path(legacyKey);
+        return value.isNumber() ? value.longValue() : null;
+    }
+
     private record Tokens(Long promptTokens, Long completionTokens) {
         private static final Tokens EMPTY = new Tokens(null, null);
     }
@@ -0,0 +1,157 @@
+package com.decisiondesk.backend.meetings;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.decisiondesk.backend.cache.CacheInvalidationBus;
+import com.decisiondesk.backend.datasource.ReplicaProperties;
+import com.decisiondesk.backend.meetings.model.MeetingDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of assembled {@link MeetingDetails}, bounded by approximate heap size.
+ *
+ * <p>The repositories behind the read model ({@code meetings}, {@code transcripts},
+ * {@code summaries}, {@code usage_records}, {@code audio_assets}) call {@link #invalidate}
+ * from every write. Invalidation evicts immediately and again when the transaction ends,
+ * so a reader that reloads the pre-commit rows in between cannot leave a stale entry
+ * behind; a generation counter covers loads that race with the eviction itself.</p>
+ *
+ * <p>With read replicas enabled, misses are loaded from a replica that may not have replayed
+ * the invalidating write yet. Loads within the replicas' staleness bound of an eviction are
+ * returned but not cached.</p>
+ *
+ * <p>Meters are published as {@code cache.*{cache=meetingDetails}} (gets by hit/miss,
+ * evictions, size and weight).</p>
+ */
+@Component
+public class MeetingDetailsCache {
+
+    static final String CACHE_NAME = "meetingDetails";
+
+    /** Fixed per-entry cost for the record, cost breakdown and object headers. */
+    private static final int ENTRY_OVERHEAD_BYTES = 2048;
+
+    private final Cache<UUID, MeetingDetails> cache;
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLong generation = new AtomicLong();
+    private final long staleReadNanos;
+    private final Cache<UUID, Boolean> recentlyEvicted;
+    private volatile long allEvictedAt;
+
+    public MeetingDetailsCache(MeterRegistry meterRegistry,
+                               CacheInvalidationBus invalidationBus,
+                               ReplicaProperties replicaProperties,
+                               @Value("${cache.meeting-details.max-weight-mb:64}") long maxWeightMb,
+                               @Value("${cache.meeting-details.expire-after-access-minutes:120}") long expireAfterAccessMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightMb * 1024 * 1024)
+                .weigher((UUID id, MeetingDetails details) -> weigh(details))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .recordStats()
+                .build();
+        this.invalidationBus = invalidationBus;
+        Duration staleRead = replicaProperties.enabled()
+                ? replicaProperties.maxLag().plus(replicaProperties.lagCheckInterval())
+                : Duration.ZERO;
+        this.staleReadNanos = staleRead.toNanos();
+        this.recentlyEvicted = Caffeine.newBuilder()
+                .expireAfterWrite(staleRead)
+                .build();
+        this.allEvictedAt = System.nanoTime() - staleReadNanos;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        invalidationBus.subscribe(CACHE_NAME, key -> {
+            if (key == null) {
+                evictAll();
+            } else {
+                evict(UUID.fromString(key));
+            }
+        });
+    }
+
+    /**
+     * Returns the cached details or loads them. Loader exceptions propagate and nothing is cached.
+     */
+    public MeetingDetails get(UUID meetingId, Function<UUID, MeetingDetails> loader) {
+        MeetingDetails cached = cache.getIfPresent(meetingId);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        MeetingDetails loaded = loader.apply(meetingId);
+        if (mayBeStale(meetingId)) {
+            // a replica may not have replayed the write that evicted this entry
+            return loaded;
+        }
+        cache.put(meetingId, loaded);
+        if (generation.get() != loadedAt) {
+            // a write landed while loading; the value may predate it
+            cache.invalidate(meetingId);
+        }
+        return loaded;
+    }
+
+    /**
+     * Marks the meeting's details stale, locally now and after commit, and on other nodes.
+     */
+    public void invalidate(UUID meetingId) {
+        if (meetingId == null) {
+            return;
+        }
+        evict(meetingId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(meetingId);
+                }
+            });
+        }
+        invalidationBus.publish(CACHE_NAME, meetingId.toString());
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        allEvictedAt = System.nanoTime();
+        cache.invalidateAll();
+    }
+
+    private void evict(UUID meetingId) {
+        generation.incrementAndGet();
+        if (staleReadNanos > 0) {
+            recentlyEvicted.put(meetingId, Boolean.TRUE);
+        }
+        cache.invalidate(meetingId);
+    }
+
+    private boolean mayBeStale(UUID meetingId) {
+        return staleReadNanos > 0
+                && (recentlyEvicted.getIfPresent(meetingId) != null
+                        || System.nanoTime() - allEvictedAt < staleReadNanos);
+    }
+
+    static int weigh(MeetingDetails details) {
+        long chars = 0;
+        if (details.title() != null) {
+            chars += details.title().length();
+        }
+        if (details.transcript() != null && details.transcript().text() != null) {
+            chars += details.transcript().text().length();
+        }
+        if (details.summary() != null && details.summary().textMd() != null) {
+            chars += details.summary().textMd().length();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + chars * 2);
+    }
+}
@@ -6,10 +6,8 @@ import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,15 +17,15 @@ import com.decisiondesk.backend.config.AppProps;
 import com.decisiondesk.backend.meetings.model.AudioAsset;
 import com.decisiondesk.backend.meetings.model.AudioUploadResult;
 import com.decisiondesk.backend.meetings.model.Meeting;
-import com.decisiondesk.backend.meetings.model.MeetingCostBreakdown;
+import com.decisiondesk.backend.meetings.model.MeetingCursor;
 import com.decisiondesk.backend.meetings.model.MeetingDetails;
-import com.decisiondesk.backend.meetings.model.Transcript;
-import com.decisiondesk.backend.meetings.model.UsageRecord;
+import com.decisiondesk.backend.meetings.model.MeetingListFilter;
+import com.decisiondesk.backend.meetings.model.MeetingListItem;
+import com.decisiondesk.backend.meetings.model.MeetingPage;
+import com.decisiondesk.backend.meetings.model.MeetingSummary;
 import com.decisiondesk.backend.meetings.persistence.AudioAssetRepository;
+import com.decisiondesk.backend.meetings.persistence.MeetingDetailsRepository;
 import com.decisiondesk.backend.meetings.persistence.MeetingRepository;
-import com.decisiondesk.backend.meetings.persistence.SummaryRepository;
-import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
-import com.decisiondesk.backend.meetings.persistence.UsageRecordRepository;
 import com.decisiondesk.backend.meetings.service.TranscriptionOperations;
 import com.decisiondesk.backend.web.ApiException;
 
@@ -37,51 +35,67 @@ import com.decisiondesk.backend.web.ApiException;
 @Service
 public class MeetingService {
 
+    /** Upper bound for a meeting list page. */
+    public static final int MAX_PAGE_SIZE = 200;
+
     private final MeetingRepository meetingRepository;
     private final AudioAssetRepository audioAssetRepository;
-    private final TranscriptRepository transcriptRepository;
-    private final SummaryRepository summaryRepository;
-    private final UsageRecordRepository usageRecordRepository;
+    private final MeetingDetailsRepository detailsRepository;
     private final AudioStorageService storageService;
     private final AudioDurationExtractor durationExtractor;
-    private final MeetingCostAggregator costAggregator;
     private final AppProps appProps;
     private final TranscriptionOperations transcriptionService;
+    private final MeetingDetailsCache detailsCache;
 
     public MeetingService(MeetingRepository meetingRepository,
                           AudioAssetRepository audioAssetRepository,
-                          TranscriptRepository transcriptRepository,
-                          @Qualifier("meetingsSummaryRepository") SummaryRepository summaryRepository,
-                          UsageRecordRepository usageRecordRepository,
+                          MeetingDetailsRepository detailsRepository,
                           AudioStorageService storageService,
                           AudioDurationExtractor durationExtractor,
-                          MeetingCostAggregator costAggregator,
                           AppProps appProps,
-                          TranscriptionOperations transcriptionService) {
+                          TranscriptionOperations transcriptionService,
+                          MeetingDetailsCache detailsCache) {
         this.meetingRepository = meetingRepository;
         this.audioAssetRepository = audioAssetRepository;
-        this.transcriptRepository = transcriptRepository;
-        this.summaryRepository = summaryRepository;
-        this.usageRecordRepository = usageRecordRepository;
+        this.detailsRepository = detailsRepository;
         this.storageService = storageService;
         this.durationExtractor = durationExtractor;
-        this.costAggregator = costAggregator;
         this.appProps = appProps;
         this.transcriptionService = transcriptionService;
+        this.detailsCache = detailsCache;
     }
 
     /**
      * Returns all meetings ordered by creation date (newest first).
      */
-    public List<Meeting> listMeetings() {
+    public List<MeetingSummary> listMeetings() {
         return meetingRepository.findAll();
     }
 
     /**
-     * Returns enriched meeting list items with duration and category info.
+     * Returns one page of enriched meeting list items (duration and category info), newest first.
+     *
+     * @param cursor token from a previous page's {@link MeetingPage#nextCursor()}, or {@code null}
+     * @param limit  page size, clamped to {@value #MAX_PAGE_SIZE}
      */
-    public List<com.decisiondesk.backend.meetings.model.MeetingListItem> listMeetingsEnriched() {
-        return meetingRepository.findAllEnriched();
+    @Transactional(readOnly = true)
+    public MeetingPage listMeetingsPage(MeetingListFilter filter, String cursor, int limit) {
+        MeetingCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = MeetingCursor.decode(cursor);
+            } catch (IllegalArgumentException ex) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "Cursor is malformed");
+            }
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // one extra row tells us whether another page exists
+        List<MeetingListItem> rows = meetingRepository.findPage(filter, after, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new MeetingPage(rows, null);
+        }
+        List<MeetingListItem> items = rows.subList(0, pageSize);
+        return new MeetingPage(List.copyOf(items), MeetingCursor.after(items.get(pageSize - 1)).encode());
     }
 
     /**
@@ -154,21 +168,16 @@ public class MeetingService {
     }
 
     /**
-     * Retrieves the meeting read model presented by the API.
+     * Retrieves the meeting read model presented by the API, served from {@link MeetingDetailsCache}.
+     * Misses are loaded with a single query by {@link MeetingDetailsRepository}.
      */
     public MeetingDetails getMeeting(UUID meetingId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "MEETING_NOT_FOUND", "Meeting %s not found".formatted(meetingId)));
-
-        Optional<Transcript> transcript = transcriptRepository.findByMeetingId(meetingId);
-        Optional<com.decisiondesk.backend.meetings.model.Summary> summary = summaryRepository.findByMeetingId(meetingId);
-        List<UsageRecord> usageRecords = usageRecordRepository.findByMeetingId(meetingId);
-        MeetingCostBreakdown costBreakdown = costAggregator.aggregate(usageRecords);
-        Integer durationSec = audioAssetRepository.findLatestByMeetingId(meetingId)
-                .map(AudioAsset::durationSec)
-                .orElse(null);
+        return detailsCache.get(meetingId, this::loadMeeting);
+    }
 
-        return new MeetingDetails(meeting.id(), meeting.status(), meeting.createdAt(), meeting.title(), transcript.orElse(null), summary.orElse(null), costBreakdown, durationSec);
+    private MeetingDetails loadMeeting(UUID meetingId) {
+        return detailsRepository.findById(meetingId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "MEETING_NOT_FOUND", "Meeting %s not found".formatted(meetingId)));
     }
 
     /**
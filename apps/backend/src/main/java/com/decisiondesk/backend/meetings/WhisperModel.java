@@ -11,34 +11,36 @@ public enum WhisperModel {
     /**
      * Large V3 - 4GB, ~15x realtime on M3 Max, best accuracy.
      */
-    LARGE_V3("large-v3", "ggml-large-v3.bin"),
+    LARGE_V3("large-v3", "ggml-large-v3.bin", 15),
 
     /**
      * Medium - 2GB, ~30x realtime, great accuracy.
      */
-    MEDIUM("medium", "ggml-medium.bin"),
+    MEDIUM("medium", "ggml-medium.bin", 30),
 
     /**
      * Small - 1GB, ~45x realtime, good accuracy.
      */
-    SMALL("small", "ggml-small.bin"),
+    SMALL("small", "ggml-small.bin", 45),
 
     /**
      * Base - 142MB, ~100x realtime, acceptable accuracy.
      */
-    BASE("base", "ggml-base.bin"),
+    BASE("base", "ggml-base.bin", 100),
 
     /**
      * Tiny - 75MB, ~150x realtime, basic accuracy.
      */
-    TINY("tiny", "ggml-tiny.bin");
+    TINY("tiny", "ggml-tiny.bin", 150);
 
     private final String value;
     private final String modelFile;
+    private final double nominalRealtimeFactor;
 
-    WhisperModel(String value, String modelFile) {
+    WhisperModel(String value, String modelFile, double nominalRealtimeFactor) {
         this.value = value;
         this.modelFile = modelFile;
+        this.nominalRealtimeFactor = nominalRealtimeFactor;
     }
 
     public String getValue() {
@@ -49,6 +51,14 @@ public enum WhisperModel {
         return modelFile;
     }
 
+    /**
+     * Audio seconds processed per wall-clock second on the reference machine (M3 Max).
+     * Used as the estimate for workers without measured throughput.
+     */
+    public double getNominalRealtimeFactor() {
+        return nominalRealtimeFactor;
+    }
+
     /**
      * Parse model from string value.
      *
@@ -0,0 +1,35 @@
+package com.decisiondesk.backend.meetings.model;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+import com.decisiondesk.backend.meetings.WhisperModel;
+
+/**
+ * A desktop app instance that processes queued transcription jobs.
+ *
+ * @param id                  stable identifier chosen by the desktop app
+ * @param name                human-readable machine name
+ * @param installedModels     Whisper models available locally on the worker
+ * @param cpuCores            number of CPU cores reported by the worker
+ * @param supportsDiarization whether the worker can run speaker diarization
+ * @param registeredAt        first registration timestamp
+ * @param lastSeenAt          last registration or heartbeat
+ */
+public record DesktopWorker(
+        String id,
+        String name,
+        Set<WhisperModel> installedModels,
+        int cpuCores,
+        boolean supportsDiarization,
+        OffsetDateTime registeredAt,
+        OffsetDateTime lastSeenAt
+) {
+
+    /**
+     * Checks whether this worker can process a job with the given requirements.
+     */
+    public boolean canRun(WhisperModel model, boolean enableDiarization) {
+        return installedModels.contains(model) && (!enableDiarization || supportsDiarization);
+    }
+}
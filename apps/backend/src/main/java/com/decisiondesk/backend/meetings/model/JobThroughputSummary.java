@@ -0,0 +1,28 @@
+package com.decisiondesk.backend.meetings.model;
+
+import com.decisiondesk.backend.meetings.WhisperModel;
+
+/**
+ * Aggregated history of completed desktop jobs for one worker and model.
+ *
+ * @param workerId              worker identifier ({@code null} for jobs accepted without one)
+ * @param model                 Whisper model
+ * @param jobsCompleted         number of completed jobs
+ * @param audioSeconds          total audio seconds transcribed (jobs with known duration)
+ * @param processingSeconds     total accept-to-completion seconds for those jobs
+ * @param realtimeFactor        audio seconds per processing second over the window
+ * @param p50ProcessingSeconds  median processing time
+ * @param p95ProcessingSeconds  95th percentile processing time
+ * @param avgQueueWaitSeconds   mean enqueue-to-accept wait
+ */
+public record JobThroughputSummary(
+        String workerId,
+        WhisperModel model,
+        long jobsCompleted,
+        double audioSeconds,
+        double processingSeconds,
+        Double realtimeFactor,
+        Double p50ProcessingSeconds,
+        Double p95ProcessingSeconds,
+        Double avgQueueWaitSeconds
+) {}
@@ -0,0 +1,43 @@
+package com.decisiondesk.backend.meetings.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the meeting list, ordered by {@code (created_at, id)} descending.
+ * Encoded as an opaque URL-safe token for clients.
+ *
+ * @param createdAt creation timestamp of the last meeting on the previous page
+ * @param id        identifier of the last meeting on the previous page (tie-breaker)
+ */
+public record MeetingCursor(OffsetDateTime createdAt, UUID id) {
+
+    public static MeetingCursor after(MeetingListItem item) {
+        return new MeetingCursor(item.createdAt(), item.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static MeetingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            if (sep < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new MeetingCursor(OffsetDateTime.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Malformed cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.decisiondesk.backend.meetings.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.decisiondesk.backend.meetings.MeetingStatus;
+
+/**
+ * Optional filters for the meeting list. {@code null} components are not applied.
+ *
+ * @param folderId      meetings filed directly in this folder
+ * @param meetingTypeId meetings of this type
+ * @param status        meetings in this status
+ * @param tagKey        meetings carrying this tag key
+ * @param tagValue      with {@code tagKey}, meetings whose tag has exactly this value
+ * @param createdFrom   created at or after (inclusive)
+ * @param createdTo     created before (exclusive)
+ */
+public record MeetingListFilter(
+    UUID folderId,
+    UUID meetingTypeId,
+    MeetingStatus status,
+    String tagKey,
+    String tagValue,
+    OffsetDateTime createdFrom,
+    OffsetDateTime createdTo
+) {
+
+    public static MeetingListFilter none() {
+        return new MeetingListFilter(null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Builds a filter from a {@code key} or {@code key:value} tag expression.
+     */
+    public static MeetingListFilter of(UUID folderId, UUID meetingTypeId, MeetingStatus status, String tag,
+                                       OffsetDateTime createdFrom, OffsetDateTime createdTo) {
+        String tagKey = null;
+        String tagValue = null;
+        if (tag != null && !tag.isBlank()) {
+            int sep = tag.indexOf(':');
+            tagKey = sep < 0 ? tag : tag.substring(0, sep);
+            tagValue = sep < 0 ? null : tag.substring(sep + 1);
+        }
+        return new MeetingListFilter(folderId, meetingTypeId, status, tagKey, tagValue, createdFrom, createdTo);
+    }
+}
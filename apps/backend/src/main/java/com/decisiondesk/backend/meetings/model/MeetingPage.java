@@ -0,0 +1,11 @@
+package com.decisiondesk.backend.meetings.model;
+
+import java.util.List;
+
+/**
+ * One page of the meeting list.
+ *
+ * @param items      meetings on this page, newest first
+ * @param nextCursor token for the following page, or {@code null} on the last page
+ */
+public record MeetingPage(List<MeetingListItem> items, String nextCursor) {}
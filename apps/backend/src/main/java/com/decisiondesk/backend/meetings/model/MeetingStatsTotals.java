@@ -0,0 +1,16 @@
+package com.decisiondesk.backend.meetings.model;
+
+/**
+ * Dashboard totals read from the {@code meeting_daily_stats} rollup.
+ *
+ * @param meetingCount     live (not soft-deleted) meetings
+ * @param audioSeconds     seconds of audio recorded, counting each meeting's latest asset
+ * @param processingCount  live meetings currently in {@code PROCESSING}
+ * @param thisWeekCount    live meetings created since the start of the current week
+ */
+public record MeetingStatsTotals(
+        long meetingCount,
+        long audioSeconds,
+        long processingCount,
+        long thisWeekCount
+) {}
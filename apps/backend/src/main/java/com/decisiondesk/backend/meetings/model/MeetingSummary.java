@@ -0,0 +1,30 @@
+package com.decisiondesk.backend.meetings.model;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import com.decisiondesk.backend.meetings.MeetingStatus;
+
+/**
+ * Projection of a {@link Meeting} without the agenda and notes documents, for listings.
+ * The {@code has*} flags say whether a document exists; load it through the meeting itself
+ * or the notes endpoint.
+ */
+public record MeetingSummary(
+    UUID id,
+    OffsetDateTime createdAt,
+    MeetingStatus status,
+    UUID folderId,
+    UUID meetingTypeId,
+    Map<String, String> tags,
+    String title,
+    OffsetDateTime updatedAt,
+    UUID previousMeetingId,
+    UUID seriesId,
+    Integer sequenceNum,
+    String importedTranscriptSource,
+    boolean hasAgenda,
+    boolean hasLiveNotes,
+    boolean hasPostNotes
+) {}
@@ -21,6 +21,8 @@ import com.decisiondesk.backend.meetings.WhisperModel;
  * @param retryCount      number of retry attempts
  * @param createdAt       when job was created
  * @param updatedAt       last update timestamp
+ * @param workerId        desktop worker that claimed the job (null until claimed)
+ * @param audioDurationSec audio length in seconds, if known
  */
 public record TranscriptionQueueJob(
         UUID id,
@@ -35,7 +37,9 @@ public record TranscriptionQueueJob(
         String errorMessage,
         int retryCount,
         OffsetDateTime createdAt,
-        OffsetDateTime updatedAt
+        OffsetDateTime updatedAt,
+        String workerId,
+        Integer audioDurationSec
 ) {
     public enum JobStatus {
         PENDING,
@@ -54,7 +58,8 @@ public record TranscriptionQueueJob(
             String audioPath,
             WhisperModel model,
             String language,
-            boolean enableDiarization) {
+            boolean enableDiarization,
+            Integer audioDurationSec) {
         OffsetDateTime now = OffsetDateTime.now();
         return new TranscriptionQueueJob(
                 UUID.randomUUID(),
@@ -69,7 +74,9 @@ public record TranscriptionQueueJob(
                 null,
                 0,
                 now,
-                now
+                now,
+                null,
+                audioDurationSec
         );
     }
 
@@ -81,7 +88,21 @@ public record TranscriptionQueueJob(
                 id, meetingId, audioPath, model, language, enableDiarization,
                 JobStatus.ACCEPTED,
                 OffsetDateTime.now(),
-                completedAt, errorMessage, retryCount, createdAt, updatedAt
+                completedAt, errorMessage, retryCount, createdAt, updatedAt,
+                workerId, audioDurationSec
+        );
+    }
+
+    /**
+     * Marks job as accepted by a specific desktop worker.
+     */
+    public TranscriptionQueueJob acceptBy(String acceptingWorkerId) {
+        return new TranscriptionQueueJob(
+                id, meetingId, audioPath, model, language, enableDiarization,
+                JobStatus.ACCEPTED,
+                OffsetDateTime.now(),
+                completedAt, errorMessage, retryCount, createdAt, updatedAt,
+                acceptingWorkerId, audioDurationSec
         );
     }
 
@@ -92,7 +113,8 @@ public record TranscriptionQueueJob(
         return new TranscriptionQueueJob(
                 id, meetingId, audioPath, model, language, enableDiarization,
                 JobStatus.PROCESSING,
-                acceptedAt, completedAt, errorMessage, retryCount, createdAt, updatedAt
+                acceptedAt, completedAt, errorMessage, retryCount, createdAt, updatedAt,
+                workerId, audioDurationSec
         );
     }
 
@@ -105,18 +127,20 @@ public record TranscriptionQueueJob(
                 JobStatus.COMPLETED,
                 acceptedAt,
                 OffsetDateTime.now(),
-                null, retryCount, createdAt, updatedAt
+                null, retryCount, createdAt, updatedAt,
+                workerId, audioDurationSec
         );
     }
 
     /**
-     * Marks job as failed with error message.
+     * Marks job as failed with error message. The retry count is only advanced by {@link #retry()}.
      */
     public TranscriptionQueueJob fail(String error) {
         return new TranscriptionQueueJob(
                 id, meetingId, audioPath, model, language, enableDiarization,
                 JobStatus.FAILED,
-                acceptedAt, completedAt, error, retryCount + 1, createdAt, updatedAt
+                acceptedAt, completedAt, error, retryCount, createdAt, updatedAt,
+                workerId, audioDurationSec
         );
     }
 
@@ -127,7 +151,8 @@ public record TranscriptionQueueJob(
         return new TranscriptionQueueJob(
                 id, meetingId, audioPath, model, language, enableDiarization,
                 JobStatus.CANCELLED,
-                acceptedAt, completedAt, "Cancelled by user", retryCount, createdAt, updatedAt
+                acceptedAt, completedAt, "Cancelled by user", retryCount, createdAt, updatedAt,
+                workerId, audioDurationSec
         );
     }
 
@@ -138,7 +163,8 @@ public record TranscriptionQueueJob(
         return new TranscriptionQueueJob(
                 id, meetingId, audioPath, model, language, enableDiarization,
                 JobStatus.PENDING,
-                null, null, null, retryCount + 1, createdAt, updatedAt
+                null, null, null, retryCount + 1, createdAt, updatedAt,
+                null, audioDurationSec
         );
     }
 
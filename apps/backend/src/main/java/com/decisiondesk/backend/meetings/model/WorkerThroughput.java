@@ -0,0 +1,26 @@
+package com.decisiondesk.backend.meetings.model;
+
+import java.time.OffsetDateTime;
+
+import com.decisiondesk.backend.meetings.WhisperModel;
+
+/**
+ * Measured throughput of a desktop worker for one Whisper model.
+ *
+ * @param workerId          worker identifier
+ * @param model             Whisper model the samples were taken with
+ * @param jobsCompleted     number of completed jobs sampled
+ * @param audioSeconds      total audio seconds processed
+ * @param processingSeconds total wall-clock seconds spent
+ * @param realtimeFactor    smoothed audio seconds per wall-clock second
+ * @param updatedAt         last sample timestamp
+ */
+public record WorkerThroughput(
+        String workerId,
+        WhisperModel model,
+        int jobsCompleted,
+        double audioSeconds,
+        double processingSeconds,
+        double realtimeFactor,
+        OffsetDateTime updatedAt
+) {}
@@ -9,6 +9,7 @@ import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
 import com.decisiondesk.backend.meetings.model.AudioAsset;
 
 /**
@@ -18,9 +19,28 @@ import com.decisiondesk.backend.meetings.model.AudioAsset;
 public class AudioAssetRepository {
 
     private final JdbcClient jdbcClient;
+    private final MeetingDetailsCache detailsCache;
 
-    public AudioAssetRepository(JdbcClient jdbcClient) {
+    /**
+     * Joins each meeting (aliased {@code m}) to its latest audio asset, aliased {@code a}.
+     *
+     * <p>A meeting can have several uploads; a plain join on {@code meeting_id} duplicates the
+     * meeting and double-counts durations. This top-1 LATERAL lookup is served by
+     * {@code idx_audio_assets_meeting_latest}.</p>
+     */
+    public static final String LATEST_ASSET_JOIN = """
+            LEFT JOIN LATERAL (
+                SELECT id, duration_sec, created_at
+                FROM audio_assets
+                WHERE meeting_id = m.id
+                ORDER BY created_at DESC, id DESC
+                LIMIT 1
+            ) a ON TRUE
+            """;
+
+    public AudioAssetRepository(JdbcClient jdbcClient, MeetingDetailsCache detailsCache) {
         this.jdbcClient = jdbcClient;
+        this.detailsCache = detailsCache;
     }
 
     /**
@@ -30,6 +50,7 @@ public class AudioAssetRepository {
      * @return the stored asset (including generated timestamps)
      */
     public AudioAsset save(AudioAsset asset) {
+        detailsCache.invalidate(asset.meetingId());
         jdbcClient.sql("""
                 INSERT INTO audio_assets (id, meeting_id, path, codec, sample_rate, size_bytes, duration_sec)
                 VALUES (:id, :meetingId, :path, :codec, :sampleRate, :sizeBytes, :durationSec)
@@ -57,13 +78,14 @@ public class AudioAssetRepository {
 
     /**
      * Fetches the most recent audio asset stored for the meeting.
+     * Uses the same ordering as {@link #LATEST_ASSET_JOIN}.
      */
     public Optional<AudioAsset> findLatestByMeetingId(UUID meetingId) {
         return jdbcClient.sql("""
                         SELECT id, meeting_id, path, codec, sample_rate, size_bytes, duration_sec, created_at
                         FROM audio_assets
                         WHERE meeting_id = :meetingId
-                        ORDER BY created_at DESC
+                        ORDER BY created_at DESC, id DESC
                         LIMIT 1
                         """)
                 .param("meetingId", meetingId)
@@ -79,10 +101,13 @@ public class AudioAssetRepository {
      * @return number of rows updated (0 or 1)
      */
     public int updateDuration(UUID id, int durationSec) {
-        return jdbcClient.sql("UPDATE audio_assets SET duration_sec = :durationSec WHERE id = :id")
+        Optional<UUID> meetingId = jdbcClient.sql("UPDATE audio_assets SET duration_sec = :durationSec WHERE id = :id RETURNING meeting_id")
                 .param("durationSec", durationSec)
                 .param("id", id)
-                .update();
+                .query(UUID.class)
+                .optional();
+        meetingId.ifPresent(detailsCache::invalidate);
+        return meetingId.isPresent() ? 1 : 0;
     }
 
     /**
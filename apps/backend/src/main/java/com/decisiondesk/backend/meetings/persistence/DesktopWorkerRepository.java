@@ -0,0 +1,177 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import com.decisiondesk.backend.meetings.WhisperModel;
+import com.decisiondesk.backend.meetings.model.DesktopWorker;
+import com.decisiondesk.backend.meetings.model.WorkerThroughput;
+
+/**
+ * Repository for the {@code desktop_workers} registry and per-model throughput samples.
+ */
+@Repository
+public class DesktopWorkerRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public DesktopWorkerRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Registers a worker or refreshes its capabilities if it is already known.
+     */
+    public DesktopWorker upsert(DesktopWorker worker) {
+        jdbcClient.sql("""
+                INSERT INTO desktop_workers (id, name, installed_models, cpu_cores, supports_diarization)
+                VALUES (:id, :name, string_to_array(:models, ','), :cpuCores, :supportsDiarization)
+                ON CONFLICT (id) DO UPDATE SET
+                    name = EXCLUDED.name,
+                    installed_models = EXCLUDED.installed_models,
+                    cpu_cores = EXCLUDED.cpu_cores,
+                    supports_diarization = EXCLUDED.supports_diarization,
+                    last_seen_at = NOW()
+                """)
+                .param("id", worker.id())
+                .param("name", worker.name())
+                .param("models", worker.installedModels().stream()
+                        .map(WhisperModel::getValue)
+                        .collect(Collectors.joining(",")))
+                .param("cpuCores", worker.cpuCores())
+                .param("supportsDiarization", worker.supportsDiarization())
+                .update();
+        return findById(worker.id()).orElseThrow();
+    }
+
+    public Optional<DesktopWorker> findById(String id) {
+        return jdbcClient.sql("""
+                SELECT id, name, installed_models, cpu_cores, supports_diarization, registered_at, last_seen_at
+                FROM desktop_workers WHERE id = :id
+                """)
+                .param("id", id)
+                .query(this::mapWorker)
+                .optional();
+    }
+
+    public List<DesktopWorker> findAll() {
+        return jdbcClient.sql("""
+                SELECT id, name, installed_models, cpu_cores, supports_diarization, registered_at, last_seen_at
+                FROM desktop_workers ORDER BY last_seen_at DESC
+                """)
+                .query(this::mapWorker)
+                .list();
+    }
+
+    /**
+     * Updates the last-seen timestamp for a worker.
+     *
+     * @return number of rows updated (0 if unknown)
+     */
+    public int touch(String id) {
+        return jdbcClient.sql("UPDATE desktop_workers SET last_seen_at = NOW() WHERE id = :id")
+                .param("id", id)
+                .update();
+    }
+
+    /**
+     * Returns throughput samples for one worker.
+     */
+    public List<WorkerThroughput> findThroughput(String workerId) {
+        return jdbcClient.sql("""
+                SELECT worker_id, model, jobs_completed, audio_seconds, processing_seconds, realtime_factor, updated_at
+                FROM desktop_worker_throughput WHERE worker_id = :workerId ORDER BY model
+                """)
+                .param("workerId", workerId)
+                .query(this::mapThroughput)
+                .list();
+    }
+
+    /**
+     * Returns the smoothed real-time factor for a worker and model, if any sample exists.
+     */
+    public Optional<Double> findRealtimeFactor(String workerId, WhisperModel model) {
+        return jdbcClient.sql("""
+                SELECT realtime_factor FROM desktop_worker_throughput
+                WHERE worker_id = :workerId AND model = :model
+                """)
+                .param("workerId", workerId)
+                .param("model", model.getValue())
+                .query(Double.class)
+                .optional();
+    }
+
+    /**
+     * Folds one completed job into the worker's throughput history.
+     *
+     * @param alpha weight of the new sample in the moving average (0..1]
+     */
+    public void recordSample(String workerId, WhisperModel model, double audioSeconds,
+                             double processingSeconds, double alpha) {
+        jdbcClient.sql("""
+                INSERT INTO desktop_worker_throughput
+                    (worker_id, model, jobs_completed, audio_seconds, processing_seconds, realtime_factor)
+                VALUES (:workerId, :model, 1, :audioSeconds, :processingSeconds, :audioSeconds / :processingSeconds)
+                ON CONFLICT (worker_id, model) DO UPDATE SET
+                    jobs_completed = desktop_worker_throughput.jobs_completed + 1,
+                    audio_seconds = desktop_worker_throughput.audio_seconds + EXCLUDED.audio_seconds,
+                    processing_seconds = desktop_worker_throughput.processing_seconds + EXCLUDED.processing_seconds,
+                    realtime_factor = :alpha * EXCLUDED.realtime_factor
+                                      + (1 - :alpha) * desktop_worker_throughput.realtime_factor,
+                    updated_at = NOW()
+                """)
+                .param("workerId", workerId)
+                .param("model", model.getValue())
+                .param("audioSeconds", audioSeconds)
+                .param("processingSeconds", processingSeconds)
+                .param("alpha", alpha)
+                .update();
+    }
+
+    private DesktopWorker mapWorker(ResultSet rs, int rowNum) throws SQLException {
+        return new DesktopWorker(
+                rs.getString("id"),
+                rs.getString("name"),
+                toModels(rs.getArray("installed_models")),
+                rs.getInt("cpu_cores"),
+                rs.getBoolean("supports_diarization"),
+                rs.getObject("registered_at", OffsetDateTime.class),
+                rs.getObject("last_seen_at", OffsetDateTime.class));
+    }
+
+    private WorkerThroughput mapThroughput(ResultSet rs, int rowNum) throws SQLException {
+        return new WorkerThroughput(
+                rs.getString("worker_id"),
+                WhisperModel.fromValue(rs.getString("model")),
+                rs.getInt("jobs_completed"),
+                rs.getDouble("audio_seconds"),
+                rs.getDouble("processing_seconds"),
+                rs.getDouble("realtime_factor"),
+                rs.getObject("updated_at", OffsetDateTime.class));
+    }
+
+    private Set<WhisperModel> toModels(Array array) throws SQLException {
+        Set<WhisperModel> models = EnumSet.noneOf(WhisperModel.class);
+        if (array == null) {
+            return models;
+        }
+        for (Object value : (Object[]) array.getArray()) {
+            try {
+                models.add(WhisperModel.fromValue((String) value));
+            } catch (IllegalArgumentException ignored) {
+                // model unknown to this backend version - not matchable
+            }
+        }
+        return models;
+    }
+}
@@ -0,0 +1,157 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.decisiondesk.backend.meetings.MeetingCostAggregator;
+import com.decisiondesk.backend.meetings.MeetingStatus;
+import com.decisiondesk.backend.meetings.model.MeetingDetails;
+import com.decisiondesk.backend.meetings.model.Summary;
+import com.decisiondesk.backend.meetings.model.Transcript;
+import com.decisiondesk.backend.meetings.model.UsageRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads the {@link MeetingDetails} read model in one statement.
+ *
+ * <p>The transcript (at most one per meeting), first summary and latest audio asset are one-row
+ * joins, so they come back as plain columns; the transcript keeps its compressed frame rather than
+ * being JSON-encoded. Usage records are the only one-to-many part and are folded into a JSON array
+ * with a {@code LATERAL} aggregate. Each piece matches what the single-table repositories return:
+ * {@link TranscriptRepository#findByMeetingId}, {@link SummaryRepository#findByMeetingId},
+ * {@link UsageRecordRepository#findByMeetingId} and {@link AudioAssetRepository#findLatestByMeetingId}.</p>
+ */
+@Repository
+public class MeetingDetailsRepository {
+
+    private static final String DETAILS_QUERY = """
+            SELECT m.id, m.status, m.created_at, m.title,
+                   t.id AS transcript_id, t.language, t.text_format, t.text, t.text_compressed,
+                   t.created_at AS transcript_created_at,
+                   s.id AS summary_id, s.text_md, s.template_id, s.model, s.tokens_used,
+                   s.created_at AS summary_created_at, s.updated_at AS summary_updated_at,
+                   a.duration_sec,
+                   u.records AS usage_records
+            FROM meetings m
+            LEFT JOIN transcripts t ON t.meeting_id = m.id
+            LEFT JOIN LATERAL (
+                SELECT id, text_md, template_id, model, tokens_used, created_at, updated_at
+                FROM summaries
+                WHERE meeting_id = m.id
+                ORDER BY created_at ASC
+                LIMIT 1
+            ) s ON TRUE
+            """ + AudioAssetRepository.LATEST_ASSET_JOIN + """
+            LEFT JOIN LATERAL (
+                SELECT json_agg(json_build_object(
+                           'id', id,
+                           'service', service,
+                           'units', CAST(units AS TEXT),
+                           'usd', CAST(usd AS TEXT),
+                           'brl', CAST(brl AS TEXT),
+                           'meta', CAST(meta AS TEXT),
+                           'createdAt', created_at)) AS records
+                FROM usage_records
+                WHERE meeting_id = m.id
+            ) u ON TRUE
+            WHERE m.id = :id
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final ObjectMapper objectMapper;
+    private final MeetingCostAggregator costAggregator;
+
+    public MeetingDetailsRepository(JdbcClient jdbcClient, ObjectMapper objectMapper,
+                                    MeetingCostAggregator costAggregator) {
+        this.jdbcClient = jdbcClient;
+        this.objectMapper = objectMapper;
+        this.costAggregator = costAggregator;
+    }
+
+    /**
+     * Loads the read model for a meeting, or empty if the meeting doesn't exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<MeetingDetails> findById(UUID meetingId) {
+        return jdbcClient.sql(DETAILS_QUERY)
+                .param("id", meetingId)
+                .query(this::mapDetails)
+                .optional();
+    }
+
+    private MeetingDetails mapDetails(ResultSet rs, int rowNum) throws SQLException {
+        UUID id = rs.getObject("id", UUID.class);
+        Transcript transcript = null;
+        UUID transcriptId = rs.getObject("transcript_id", UUID.class);
+        if (transcriptId != null) {
+            transcript = new Transcript(transcriptId, id, rs.getString("language"),
+                    TranscriptTextCodec.decode(rs.getString("text_format"), rs.getString("text"),
+                            rs.getBytes("text_compressed")),
+                    rs.getObject("transcript_created_at", OffsetDateTime.class));
+        }
+        Summary summary = null;
+        UUID summaryId = rs.getObject("summary_id", UUID.class);
+        if (summaryId != null) {
+            summary = new Summary(summaryId, id, rs.getString("text_md"),
+                    rs.getObject("template_id", UUID.class),
+                    rs.getString("model"),
+                    (Integer) rs.getObject("tokens_used"),
+                    rs.getObject("summary_created_at", OffsetDateTime.class),
+                    rs.getObject("summary_updated_at", OffsetDateTime.class));
+        }
+        List<UsageRecord> usageRecords = parseUsageRecords(id, rs.getString("usage_records"));
+        return new MeetingDetails(id,
+                MeetingStatus.valueOf(rs.getString("status")),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getString("title"),
+                transcript,
+                summary,
+                costAggregator.aggregate(usageRecords),
+                (Integer) rs.getObject("duration_sec"));
+    }
+
+    private List<UsageRecord> parseUsageRecords(UUID meetingId, String json) throws SQLException {
+        if (json == null) {
+            return List.of();
+        }
+        JsonNode array;
+        try {
+            array = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Malformed usage record aggregate for meeting " + meetingId, e);
+        }
+        List<UsageRecord> records = new ArrayList<>(array.size());
+        for (JsonNode node : array) {
+            records.add(new UsageRecord(
+                    UUID.fromString(node.get("id").asText()),
+                    meetingId,
+                    UsageRecord.Service.valueOf(node.get("service").asText()),
+                    decimal(node.get("units")),
+                    decimal(node.get("usd")),
+                    decimal(node.get("brl")),
+                    text(node.get("meta")),
+                    OffsetDateTime.parse(node.get("createdAt").asText())));
+        }
+        return records;
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        return node == null || node.isNull() ? null : new BigDecimal(node.asText());
+    }
+
+    private static String text(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+}
@@ -0,0 +1,185 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
+
+/**
+ * Hard-deletes soft-deleted meetings and keeps the purge checkpoint (see V22).
+ *
+ * <p>Meeting children from V1 ({@code transcripts}, {@code summaries}, {@code audio_assets},
+ * {@code usage_records}) have no {@code ON DELETE CASCADE}, so they are handled explicitly; later
+ * tables cascade. Usage rows are detached rather than deleted, so cost reports keep the spend.</p>
+ */
+@Repository
+public class MeetingPurgeRepository {
+
+    private final JdbcClient jdbcClient;
+    private final MeetingDetailsCache detailsCache;
+
+    public MeetingPurgeRepository(JdbcClient jdbcClient, MeetingDetailsCache detailsCache) {
+        this.jdbcClient = jdbcClient;
+        this.detailsCache = detailsCache;
+    }
+
+    /**
+     * Locks the next meetings soft-deleted before {@code cutoff}, oldest first, after the cursor.
+     * Must run inside a transaction; meetings locked by another transaction are skipped.
+     *
+     * @return candidates with the stored paths of their audio assets
+     */
+    public List<PurgeCandidate> lockBatch(OffsetDateTime cutoff, PurgeCursor after, int limit) {
+        List<PurgeCandidate> candidates = jdbcClient.sql("""
+                SELECT id, deleted_at FROM meetings
+                WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff
+                  AND (CAST(:afterAt AS TIMESTAMPTZ) IS NULL
+                       OR (deleted_at, id) > (CAST(:afterAt AS TIMESTAMPTZ), CAST(:afterId AS UUID)))
+                ORDER BY deleted_at, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+                """)
+                .param("cutoff", cutoff)
+                .param("afterAt", after != null ? after.deletedAt() : null)
+                .param("afterId", after != null ? after.id() : null)
+                .param("limit", limit)
+                .query((rs, rowNum) -> new PurgeCandidate(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("deleted_at", OffsetDateTime.class),
+                        new ArrayList<>()))
+                .list();
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Map<UUID, PurgeCandidate> byId = new LinkedHashMap<>();
+        candidates.forEach(candidate -> byId.put(candidate.id(), candidate));
+        jdbcClient.sql("SELECT meeting_id, path FROM audio_assets WHERE meeting_id IN (:ids)")
+                .param("ids", byId.keySet())
+                .query(rs -> {
+                    byId.get(rs.getObject("meeting_id", UUID.class)).audioPaths().add(rs.getString("path"));
+                });
+        return candidates;
+    }
+
+    /**
+     * Deletes the meetings and their rows. Only meetings that are still soft-deleted are removed.
+     *
+     * @return number of meetings deleted
+     */
+    public int deleteMeetings(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        ids.forEach(detailsCache::invalidate);
+        jdbcClient.sql("UPDATE usage_records SET meeting_id = NULL WHERE meeting_id IN (:ids)")
+                .param("ids", ids)
+                .update();
+        for (String table : List.of("transcripts", "summaries", "audio_assets")) {
+            jdbcClient.sql("DELETE FROM " + table + " WHERE meeting_id IN (:ids)")
+                    .param("ids", ids)
+                    .update();
+        }
+        return jdbcClient.sql("DELETE FROM meetings WHERE id IN (:ids) AND deleted_at IS NOT NULL")
+                .param("ids", ids)
+                .update();
+    }
+
+    /**
+     * Client sessions other than this one that are running a statement right now.
+     */
+    public int activeSessions() {
+        return jdbcClient.sql("""
+                SELECT COUNT(*) FROM pg_stat_activity
+                WHERE state = 'active' AND backend_type = 'client backend' AND pid <> pg_backend_pid()
+                """)
+                .query(Integer.class)
+                .single();
+    }
+
+    public PurgeState loadState() {
+        return jdbcClient.sql("""
+                SELECT cursor_deleted_at, cursor_id, meetings_purged, files_deleted, bytes_reclaimed,
+                       meetings_failed, last_run_started_at, last_run_finished_at
+                FROM meeting_purge_state WHERE id = 1
+                """)
+                .query((rs, rowNum) -> {
+                    OffsetDateTime cursorAt = rs.getObject("cursor_deleted_at", OffsetDateTime.class);
+                    return new PurgeState(
+                            cursorAt != null ? new PurgeCursor(cursorAt, rs.getObject("cursor_id", UUID.class)) : null,
+                            rs.getLong("meetings_purged"),
+                            rs.getLong("files_deleted"),
+                            rs.getLong("bytes_reclaimed"),
+                            rs.getLong("meetings_failed"),
+                            rs.getObject("last_run_started_at", OffsetDateTime.class),
+                            rs.getObject("last_run_finished_at", OffsetDateTime.class));
+                })
+                .single();
+    }
+
+    /**
+     * Moves the cursor and adds one batch to the totals; call in the batch's transaction.
+     */
+    public void checkpoint(PurgeCursor cursor, long meetings, long files, long bytes, long failed) {
+        jdbcClient.sql("""
+                UPDATE meeting_purge_state
+                SET cursor_deleted_at = :cursorAt, cursor_id = :cursorId,
+                    meetings_purged = meetings_purged + :meetings,
+                    files_deleted = files_deleted + :files,
+                    bytes_reclaimed = bytes_reclaimed + :bytes,
+                    meetings_failed = meetings_failed + :failed,
+                    updated_at = NOW()
+                WHERE id = 1
+                """)
+                .param("cursorAt", cursor != null ? cursor.deletedAt() : null)
+                .param("cursorId", cursor != null ? cursor.id() : null)
+                .param("meetings", meetings)
+                .param("files", files)
+                .param("bytes", bytes)
+                .param("failed", failed)
+                .update();
+    }
+
+    public void markRunStarted() {
+        jdbcClient.sql("UPDATE meeting_purge_state SET last_run_started_at = NOW(), updated_at = NOW() WHERE id = 1")
+                .update();
+    }
+
+    /**
+     * Records the end of a run; {@code passComplete} clears the cursor so the next run starts over.
+     */
+    public void markRunFinished(boolean passComplete) {
+        jdbcClient.sql("""
+                UPDATE meeting_purge_state
+                SET last_run_finished_at = NOW(), updated_at = NOW(),
+                    cursor_deleted_at = CASE WHEN :passComplete THEN NULL ELSE cursor_deleted_at END,
+                    cursor_id = CASE WHEN :passComplete THEN NULL ELSE cursor_id END
+                WHERE id = 1
+                """)
+                .param("passComplete", passComplete)
+                .update();
+    }
+
+    /**
+     * Position of the purge in {@code (deleted_at, id)} order.
+     */
+    public record PurgeCursor(OffsetDateTime deletedAt, UUID id) {}
+
+    /**
+     * A locked meeting and the stored paths of its audio assets.
+     */
+    public record PurgeCandidate(UUID id, OffsetDateTime deletedAt, List<String> audioPaths) {}
+
+    /**
+     * The checkpoint row: the resume cursor ({@code null} between passes) and lifetime totals.
+     */
+    public record PurgeState(PurgeCursor cursor, long meetingsPurged, long filesDeleted, long bytesReclaimed,
+                             long meetingsFailed, OffsetDateTime lastRunStartedAt, OffsetDateTime lastRunFinishedAt) {}
+}
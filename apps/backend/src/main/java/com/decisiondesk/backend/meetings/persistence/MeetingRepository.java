@@ -3,6 +3,7 @@ package com.decisiondesk.backend.meetings.persistence;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,9 +12,13 @@ import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
 import com.decisiondesk.backend.meetings.MeetingStatus;
 import com.decisiondesk.backend.meetings.model.Meeting;
+import com.decisiondesk.backend.meetings.model.MeetingCursor;
+import com.decisiondesk.backend.meetings.model.MeetingListFilter;
 import com.decisiondesk.backend.meetings.model.MeetingListItem;
+import com.decisiondesk.backend.meetings.model.MeetingSummary;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,10 +32,12 @@ public class MeetingRepository {
 
     private final JdbcClient jdbcClient;
     private final ObjectMapper objectMapper;
+    private final MeetingDetailsCache detailsCache;
 
-    public MeetingRepository(JdbcClient jdbcClient, ObjectMapper objectMapper) {
+    public MeetingRepository(JdbcClient jdbcClient, ObjectMapper objectMapper, MeetingDetailsCache detailsCache) {
         this.jdbcClient = jdbcClient;
         this.objectMapper = objectMapper;
+        this.detailsCache = detailsCache;
     }
 
     /**
@@ -47,17 +54,34 @@ public class MeetingRepository {
         return findById(id).orElseThrow();
     }
 
+    private static final String SELECT_FIELDS = """
+            SELECT id, created_at, status, folder_id, meeting_type_id, tags, title, updated_at,
+                   agenda, live_notes, post_notes, previous_meeting_id, series_id, sequence_num, imported_transcript_source
+            """;
+
+    /**
+     * Listing columns: the notes documents are replaced by presence flags. {@code octet_length}
+     * reads only the TOAST header, so the documents themselves are never fetched.
+     */
+    private static final String SUMMARY_FIELDS = """
+            SELECT id, created_at, status, folder_id, meeting_type_id, tags, title, updated_at,
+                   previous_meeting_id, series_id, sequence_num, imported_transcript_source,
+                   COALESCE(octet_length(agenda), 0) > 0 AS has_agenda,
+                   COALESCE(octet_length(live_notes), 0) > 0 AS has_live_notes,
+                   COALESCE(octet_length(post_notes), 0) > 0 AS has_post_notes
+            """;
+
+    /** Ids of {@code :folderId} and its descendants, via the {@code tree_path} GiST index (see V20). */
+    private static final String FOLDER_SUBTREE = """
+            SELECT d.id FROM folders d JOIN folders a ON d.tree_path <@ a.tree_path WHERE a.id = :folderId
+            """;
+
     /**
      * Finds a meeting by identifier.
      *
      * @param id target meeting
      * @return optional meeting row
      */
-    private static final String SELECT_FIELDS = """
-            SELECT id, created_at, status, folder_id, meeting_type_id, tags, title, updated_at,
-                   agenda, live_notes, post_notes, previous_meeting_id, series_id, sequence_num, imported_transcript_source
-            """;
-
     public Optional<Meeting> findById(UUID id) {
         return jdbcClient.sql(SELECT_FIELDS + " FROM meetings WHERE id = :id")
                 .param("id", id)
@@ -65,38 +89,78 @@ public class MeetingRepository {
                 .optional();
     }
 
-    /**
-     * Finds meetings by folder.
-     *
-     * @param folderId folder identifier
-     * @return list of meetings in the folder
-     */
     /**
      * Returns all meetings ordered by creation date (newest first).
      *
-     * @return list of all meetings
+     * @return summaries of all meetings
      */
-    public List<Meeting> findAll() {
-        return jdbcClient.sql(SELECT_FIELDS + " FROM meetings WHERE deleted_at IS NULL ORDER BY created_at DESC")
-                .query(this::mapMeeting)
+    public List<MeetingSummary> findAll() {
+        return jdbcClient.sql(SUMMARY_FIELDS + " FROM meetings WHERE deleted_at IS NULL ORDER BY created_at DESC")
+                .query(this::mapSummary)
                 .list();
     }
 
     /**
-     * Returns an enriched list of meetings with duration and category info via joins.
+     * Returns one page of the enriched meeting list, newest first, using keyset pagination
+     * on {@code (created_at, id)} so page cost does not grow with history.
+     *
+     * @param filter filters pushed into the WHERE clause
+     * @param after  position after which to continue, or {@code null} for the first page
+     * @param limit  maximum number of rows to return
      */
-    public List<MeetingListItem> findAllEnriched() {
-        return jdbcClient.sql("""
+    public List<MeetingListItem> findPage(MeetingListFilter filter, MeetingCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("""
                 SELECT m.id, m.status, m.title, m.created_at, m.updated_at,
                        a.duration_sec,
                        CAST(a.duration_sec / 60 AS INTEGER) AS minutes,
                        m.meeting_type_id, mt.name AS meeting_type_name
                 FROM meetings m
-                LEFT JOIN audio_assets a ON a.meeting_id = m.id
+                """ + AudioAssetRepository.LATEST_ASSET_JOIN + """
                 LEFT JOIN meeting_types mt ON mt.id = m.meeting_type_id
                 WHERE m.deleted_at IS NULL
-                ORDER BY m.created_at DESC
-                """)
+                """);
+        Map<String, Object> params = new HashMap<>();
+        if (filter.folderId() != null) {
+            sql.append(" AND m.folder_id = :folderId");
+            params.put("folderId", filter.folderId());
+        }
+        if (filter.meetingTypeId() != null) {
+            sql.append(" AND m.meeting_type_id = :meetingTypeId");
+            params.put("meetingTypeId", filter.meetingTypeId());
+        }
+        if (filter.status() != null) {
+            sql.append(" AND m.status = :status");
+            params.put("status", filter.status().name());
+        }
+        if (filter.tagKey() != null) {
+            // @> and ? are the jsonb_ops operators idx_meetings_tags can serve; the function form
+            // jsonb_exists() is not. "??" is the JDBC escape for a literal "?" operator.
+            if (filter.tagValue() != null) {
+                sql.append(" AND m.tags @> jsonb_build_object(CAST(:tagKey AS TEXT), CAST(:tagValue AS TEXT))");
+                params.put("tagValue", filter.tagValue());
+            } else {
+                sql.append(" AND m.tags ?? CAST(:tagKey AS TEXT)");
+            }
+            params.put("tagKey", filter.tagKey());
+        }
+        if (filter.createdFrom() != null) {
+            sql.append(" AND m.created_at >= :createdFrom");
+            params.put("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            sql.append(" AND m.created_at < :createdTo");
+            params.put("createdTo", filter.createdTo());
+        }
+        if (after != null) {
+            sql.append(" AND (m.created_at, m.id) < (:afterCreatedAt, :afterId)");
+            params.put("afterCreatedAt", after.createdAt());
+            params.put("afterId", after.id());
+        }
+        sql.append(" ORDER BY m.created_at DESC, m.id DESC LIMIT :limit");
+        params.put("limit", limit);
+
+        return jdbcClient.sql(sql.toString())
+                .params(params)
                 .query((rs, rowNum) -> new MeetingListItem(
                         rs.getObject("id", UUID.class),
                         MeetingStatus.valueOf(rs.getString("status")),
@@ -115,28 +179,60 @@ public class MeetingRepository {
      * Soft-deletes a meeting by setting deleted_at.
      */
     public int softDelete(UUID id) {
+        detailsCache.invalidate(id);
         return jdbcClient.sql("UPDATE meetings SET deleted_at = NOW(), updated_at = NOW() WHERE id = :id AND deleted_at IS NULL")
                 .param("id", id)
                 .update();
     }
 
-    public List<Meeting> findByFolderId(UUID folderId) {
-        return jdbcClient.sql(SELECT_FIELDS + " FROM meetings WHERE folder_id = :folderId ORDER BY created_at DESC")
+    /**
+     * Finds live meetings directly in a folder, newest first.
+     *
+     * @param folderId folder identifier
+     * @return summaries of the meetings in the folder
+     */
+    public List<MeetingSummary> findByFolderId(UUID folderId) {
+        return jdbcClient.sql(SUMMARY_FIELDS + " FROM meetings WHERE folder_id = :folderId AND deleted_at IS NULL ORDER BY created_at DESC")
                 .param("folderId", folderId)
-                .query(this::mapMeeting)
+                .query(this::mapSummary)
+                .list();
+    }
+
+    /**
+     * Finds live meetings in a folder and all of its subfolders, newest first.
+     *
+     * @param folderId root of the subtree
+     * @return summaries of the meetings in the subtree
+     */
+    public List<MeetingSummary> findByFolderSubtree(UUID folderId) {
+        return jdbcClient.sql(SUMMARY_FIELDS + " FROM meetings WHERE deleted_at IS NULL AND folder_id IN ("
+                        + FOLDER_SUBTREE + ") ORDER BY created_at DESC")
+                .param("folderId", folderId)
+                .query(this::mapSummary)
                 .list();
     }
 
+    /**
+     * Counts live meetings in a folder, optionally including all of its subfolders.
+     */
+    public long countByFolder(UUID folderId, boolean includeSubfolders) {
+        String folders = includeSubfolders ? "folder_id IN (" + FOLDER_SUBTREE + ")" : "folder_id = :folderId";
+        return jdbcClient.sql("SELECT count(*) FROM meetings WHERE deleted_at IS NULL AND " + folders)
+                .param("folderId", folderId)
+                .query(Long.class)
+                .single();
+    }
+
     /**
      * Finds meetings by meeting type.
      *
      * @param meetingTypeId meeting type identifier
-     * @return list of meetings of the type
+     * @return summaries of the meetings of the type
      */
-    public List<Meeting> findByMeetingTypeId(UUID meetingTypeId) {
-        return jdbcClient.sql(SELECT_FIELDS + " FROM meetings WHERE meeting_type_id = :meetingTypeId ORDER BY created_at DESC")
+    public List<MeetingSummary> findByMeetingTypeId(UUID meetingTypeId) {
+        return jdbcClient.sql(SUMMARY_FIELDS + " FROM meetings WHERE meeting_type_id = :meetingTypeId ORDER BY created_at DESC")
                 .param("meetingTypeId", meetingTypeId)
-                .query(this::mapMeeting)
+                .query(this::mapSummary)
                 .list();
     }
 
@@ -148,6 +244,7 @@ public class MeetingRepository {
      * @return number of rows updated
      */
     public int updateStatus(UUID id, MeetingStatus status) {
+        detailsCache.invalidate(id);
         return jdbcClient.sql("UPDATE meetings SET status = :status, updated_at = NOW() WHERE id = :id")
                 .param("status", status.name())
                 .param("id", id)
@@ -204,6 +301,7 @@ public class MeetingRepository {
      * @return number of rows updated
      */
     public int updateTitle(UUID id, String title) {
+        detailsCache.invalidate(id);
         return jdbcClient.sql("UPDATE meetings SET title = :title, updated_at = NOW() WHERE id = :id")
                 .param("title", title)
                 .param("id", id)
@@ -211,12 +309,12 @@ public class MeetingRepository {
     }
 
     /**
-     * Finds meetings by series.
+     * Finds meetings by series, in sequence order.
      */
-    public List<Meeting> findBySeriesId(UUID seriesId) {
-        return jdbcClient.sql(SELECT_FIELDS + " FROM meetings WHERE series_id = :seriesId ORDER BY sequence_num, created_at")
+    public List<MeetingSummary> findBySeriesId(UUID seriesId) {
+        return jdbcClient.sql(SUMMARY_FIELDS + " FROM meetings WHERE series_id = :seriesId ORDER BY sequence_num, created_at")
                 .param("seriesId", seriesId)
-                .query(this::mapMeeting)
+                .query(this::mapSummary)
                 .list();
     }
 
@@ -302,6 +400,25 @@ public class MeetingRepository {
                 agenda, liveNotes, postNotes, previousMeetingId, seriesId, sequenceNum, importedSource);
     }
 
+    private MeetingSummary mapSummary(ResultSet rs, int rowNum) throws SQLException {
+        return new MeetingSummary(
+                rs.getObject("id", UUID.class),
+                rs.getObject("created_at", OffsetDateTime.class),
+                MeetingStatus.valueOf(rs.getString("status")),
+                rs.getObject("folder_id", UUID.class),
+                rs.getObject("meeting_type_id", UUID.class),
+                fromJson(rs.getString("tags")),
+                rs.getString("title"),
+                rs.getObject("updated_at", OffsetDateTime.class),
+                rs.getObject("previous_meeting_id", UUID.class),
+                rs.getObject("series_id", UUID.class),
+                (Integer) rs.getObject("sequence_num"),
+                rs.getString("imported_transcript_source"),
+                rs.getBoolean("has_agenda"),
+                rs.getBoolean("has_live_notes"),
+                rs.getBoolean("has_post_notes"));
+    }
+
     private String toJson(Map<String, String> map) {
         try {
             return objectMapper.writeValueAsString(map != null ? map : Map.of());
@@ -111,14 +111,35 @@ public class MeetingSpeakerRepository {
                 .param("meetingId", meetingId)
                 .update();
 
+        // Same for a packed meeting: repoint its dictionary entries
+        jdbcClient.sql("""
+                UPDATE transcript_segment_packs p
+                SET speaker_labels = (
+                        SELECT array_agg(CASE WHEN d.id = :absorbId
+                                              THEN (SELECT label FROM meeting_speakers WHERE id = :keepId)
+                                              ELSE d.label END ORDER BY d.ord)
+                        FROM unnest(p.speaker_ids, p.speaker_labels) WITH ORDINALITY AS d(id, label, ord)),
+                    speaker_ids = array_replace(p.speaker_ids, CAST(:absorbId AS UUID), CAST(:keepId AS UUID))
+                WHERE p.meeting_id = :meetingId AND CAST(:absorbId AS UUID) = ANY (p.speaker_ids)
+                """)
+                .param("keepId", keepId)
+                .param("absorbId", absorbId)
+                .param("meetingId", meetingId)
+                .update();
+
         // Recalculate talk time for kept speaker
         jdbcClient.sql("""
                 UPDATE meeting_speakers
                 SET talk_time_sec = COALESCE(
                     (SELECT SUM(end_sec - start_sec) FROM transcript_segments WHERE speaker_id = :keepId), 0)
+                  + COALESCE(
+                    (SELECT SUM(d.talk) FROM transcript_segment_packs p,
+                            unnest(p.speaker_ids, p.speaker_talk_sec) AS d(id, talk)
+                     WHERE p.meeting_id = :meetingId AND d.id = :keepId), 0)
                 WHERE id = :keepId
                 """)
                 .param("keepId", keepId)
+                .param("meetingId", meetingId)
                 .update();
 
         // Delete absorbed speaker
@@ -0,0 +1,80 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.decisiondesk.backend.meetings.model.MeetingStatsTotals;
+
+/**
+ * Read side of {@code meeting_daily_stats}, the per-day dashboard rollup.
+ *
+ * <p>The table is maintained by triggers on {@code meetings} and {@code audio_assets}
+ * (see V17), so every write path updates it in the same transaction. Reads touch one
+ * row per day with activity, independent of how many meetings exist. Days are UTC
+ * calendar days (see V25), whatever the session time zone.</p>
+ */
+@Repository
+public class MeetingStatsRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public MeetingStatsRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Sums the rollup. The week starts on Monday in UTC, the same zone that assigns
+     * meetings to days.
+     */
+    @Transactional(readOnly = true)
+    public MeetingStatsTotals totals() {
+        return jdbcClient.sql("""
+                SELECT COALESCE(SUM(meeting_count), 0) AS meeting_count,
+                       COALESCE(SUM(audio_seconds), 0) AS audio_seconds,
+                       COALESCE(SUM(processing_count), 0) AS processing_count,
+                       COALESCE(SUM(meeting_count) FILTER (WHERE day >= CAST(date_trunc('week', NOW() AT TIME ZONE 'UTC') AS DATE)), 0) AS this_week_count
+                FROM meeting_daily_stats
+                """)
+                .query((rs, rowNum) -> new MeetingStatsTotals(
+                        rs.getLong("meeting_count"),
+                        rs.getLong("audio_seconds"),
+                        rs.getLong("processing_count"),
+                        rs.getLong("this_week_count")))
+                .single();
+    }
+
+    /**
+     * Returns {@code (day, meeting count)} pairs for UTC days in {@code [from, to]} with at least one meeting.
+     */
+    @Transactional(readOnly = true)
+    public List<DayCount> meetingCountsBetween(LocalDate from, LocalDate to) {
+        return jdbcClient.sql("""
+                SELECT day, meeting_count
+                FROM meeting_daily_stats
+                WHERE day BETWEEN ? AND ? AND meeting_count > 0
+                ORDER BY day
+                """)
+                .params(from, to)
+                .query((rs, rowNum) -> new DayCount(
+                        rs.getDate("day").toLocalDate(),
+                        rs.getInt("meeting_count")))
+                .list();
+    }
+
+    /**
+     * Recomputes the whole rollup from {@code meetings} and {@code audio_assets}.
+     *
+     * @return number of days written
+     */
+    public int rebuild() {
+        return jdbcClient.sql("SELECT rebuild_meeting_daily_stats()")
+                .query(Integer.class)
+                .single();
+    }
+
+    public record DayCount(LocalDate day, int count) {}
+}
@@ -0,0 +1,307 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+
+/**
+ * Column-packed form of one meeting's transcript segments (see V23).
+ *
+ * <p>Times are kept as whole milliseconds, the precision of {@code transcript_segments.start_sec}
+ * ({@code NUMERIC(10, 3)}), rounded the way that column rounds, so a meeting reads back the same
+ * timings packed or as rows.
+ * Each segment stores the change in ordinal, the change in start time and its duration, all as
+ * zigzag varints, so a typical segment costs three to five bytes of timing. Speakers are indexes
+ * into a per-meeting dictionary. Texts are one concatenated string plus a varint length per
+ * segment.</p>
+ *
+ * <p>{@link #reader()} walks the segments without allocating per segment; text is exposed as a
+ * range of {@link #textChars()} so callers can write it out without creating strings.</p>
+ *
+ * @param segmentCount   number of segments
+ * @param timings        ordinal delta, start delta and duration per segment
+ * @param speakers       dictionary index + 1 per segment, 0 for none
+ * @param textLengths    UTF-16 length of each segment's text
+ * @param text           all texts concatenated
+ * @param speakerIds     dictionary: speaker id per entry, may contain nulls
+ * @param speakerLabels  dictionary: label per entry
+ * @param speakerTalkSec dictionary: summed duration per entry
+ */
+public record PackedSegments(
+        int segmentCount,
+        byte[] timings,
+        byte[] speakers,
+        byte[] textLengths,
+        String text,
+        List<UUID> speakerIds,
+        List<String> speakerLabels,
+        double[] speakerTalkSec) {
+
+    /**
+     * Packs segments, which must be in ascending ordinal order.
+     */
+    public static PackedSegments pack(List<TranscriptSegment> segments) {
+        VarintWriter timings = new VarintWriter(segments.size() * 5);
+        VarintWriter speakers = new VarintWriter(segments.size());
+        VarintWriter lengths = new VarintWriter(segments.size() * 2);
+        StringBuilder text = new StringBuilder();
+        Map<SpeakerKey, Integer> dictionary = new LinkedHashMap<>();
+        List<Long> talkMillis = new ArrayList<>();
+
+        int previousOrdinal = -1;
+        long previousStart = 0;
+        for (TranscriptSegment segment : segments) {
+            if (segment.ordinal() <= previousOrdinal) {
+                throw new IllegalArgumentException("Segments must be in ascending ordinal order");
+            }
+            long start = toMillis(segment.startSec());
+            long end = toMillis(segment.endSec());
+            timings.writeSigned(segment.ordinal() - previousOrdinal);
+            timings.writeSigned(start - previousStart);
+            timings.writeSigned(end - start);
+            previousOrdinal = segment.ordinal();
+            previousStart = start;
+
+            if (segment.speakerLabel() == null && segment.speakerId() == null) {
+                speakers.writeUnsigned(0);
+            } else {
+                SpeakerKey key = new SpeakerKey(segment.speakerLabel(), segment.speakerId());
+                Integer index = dictionary.get(key);
+                if (index == null) {
+                    index = dictionary.size();
+                    dictionary.put(key, index);
+                    talkMillis.add(0L);
+                }
+                talkMillis.set(index, talkMillis.get(index) + (end - start));
+                speakers.writeUnsigned(index + 1);
+            }
+
+            String segmentText = segment.text() != null ? segment.text() : "";
+            lengths.writeUnsigned(segmentText.length());
+            text.append(segmentText);
+        }
+
+        List<UUID> ids = new ArrayList<>(dictionary.size());
+        List<String> labels = new ArrayList<>(dictionary.size());
+        dictionary.keySet().forEach(key -> {
+            ids.add(key.id());
+            labels.add(key.label());
+        });
+        return new PackedSegments(segments.size(), timings.toByteArray(), speakers.toByteArray(),
+                lengths.toByteArray(), text.toString(), ids, labels,
+                talkMillis.stream().mapToDouble(millis -> millis / 1000.0).toArray());
+    }
+
+    /**
+     * Rounds to whole milliseconds like a {@code NUMERIC(10, 3)} column: from the decimal form of
+     * the value, halves away from zero. {@code Math.round(sec * 1000)} differs on halves such as
+     * 0.5005, whose product lands just below 500.5.
+     */
+    static long toMillis(double seconds) {
+        return BigDecimal.valueOf(seconds).movePointRight(3).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * The concatenated texts as a char array, for {@link Reader#textOffset()} ranges.
+     */
+    public char[] textChars() {
+        return text.toCharArray();
+    }
+
+    public Reader reader() {
+        return new Reader(this);
+    }
+
+    /**
+     * Expands the pack back into segments. Segment ids are {@link #segmentId derived} from the
+     * meeting and ordinal.
+     */
+    public List<TranscriptSegment> unpack(UUID meetingId, OffsetDateTime createdAt) {
+        List<TranscriptSegment> segments = new ArrayList<>(segmentCount);
+        Reader reader = reader();
+        while (reader.next()) {
+            segments.add(new TranscriptSegment(
+                    segmentId(meetingId, reader.ordinal()),
+                    meetingId,
+                    reader.ordinal(),
+                    reader.startSec(),
+                    reader.endSec(),
+                    text.substring(reader.textOffset(), reader.textOffset() + reader.textLength()),
+                    reader.speakerLabel(),
+                    reader.speakerId(),
+                    createdAt));
+        }
+        return segments;
+    }
+
+    /**
+     * Stable id for a packed segment, which has no row of its own.
+     */
+    public static UUID segmentId(UUID meetingId, int ordinal) {
+        byte[] name = new byte[20];
+        long msb = meetingId.getMostSignificantBits();
+        long lsb = meetingId.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            name[i] = (byte) (msb >>> (56 - 8 * i));
+            name[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+        }
+        name[16] = (byte) (ordinal >>> 24);
+        name[17] = (byte) (ordinal >>> 16);
+        name[18] = (byte) (ordinal >>> 8);
+        name[19] = (byte) ordinal;
+        return UUID.nameUUIDFromBytes(name);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PackedSegments that
+                && segmentCount == that.segmentCount
+                && Arrays.equals(timings, that.timings)
+                && Arrays.equals(speakers, that.speakers)
+                && Arrays.equals(textLengths, that.textLengths)
+                && text.equals(that.text)
+                && speakerIds.equals(that.speakerIds)
+                && speakerLabels.equals(that.speakerLabels)
+                && Arrays.equals(speakerTalkSec, that.speakerTalkSec);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(segmentCount, Arrays.hashCode(timings), text);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedSegments[segmentCount=" + segmentCount + ", speakers=" + speakerLabels.size()
+                + ", bytes=" + (timings.length + speakers.length + textLengths.length) + "]";
+    }
+
+    /**
+     * Forward-only cursor over a pack; {@link #next()} before reading each segment.
+     */
+    public static final class Reader {
+
+        private final PackedSegments pack;
+        private final VarintCursor timings;
+        private final VarintCursor speakers;
+        private final VarintCursor lengths;
+        private int remaining;
+        private int ordinal = -1;
+        private long startMillis;
+        private long endMillis;
+        private int speakerIndex;
+        private int textOffset;
+        private int textLength;
+
+        private Reader(PackedSegments pack) {
+            this.pack = pack;
+            this.timings = new VarintCursor(pack.timings);
+            this.speakers = new VarintCursor(pack.speakers);
+            this.lengths = new VarintCursor(pack.textLengths);
+            this.remaining = pack.segmentCount;
+        }
+
+        public boolean next() {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            textOffset += textLength;
+            ordinal += (int) timings.nextSigned();
+            startMillis += timings.nextSigned();
+            endMillis = startMillis + timings.nextSigned();
+            speakerIndex = (int) speakers.nextUnsigned();
+            textLength = (int) lengths.nextUnsigned();
+            return true;
+        }
+
+        public int ordinal() {
+            return ordinal;
+        }
+
+        public double startSec() {
+            return startMillis / 1000.0;
+        }
+
+        public double endSec() {
+            return endMillis / 1000.0;
+        }
+
+        public int textOffset() {
+            return textOffset;
+        }
+
+        public int textLength() {
+            return textLength;
+        }
+
+        public String speakerLabel() {
+            return speakerIndex == 0 ? null : pack.speakerLabels.get(speakerIndex - 1);
+        }
+
+        public UUID speakerId() {
+            return speakerIndex == 0 ? null : pack.speakerIds.get(speakerIndex - 1);
+        }
+    }
+
+    private static final class VarintCursor {
+
+        private final byte[] data;
+        private int pos;
+
+        VarintCursor(byte[] data) {
+            this.data = data;
+        }
+
+        long nextSigned() {
+            long value = nextUnsigned();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        long nextUnsigned() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (pos >= data.length) {
+                    throw new IllegalStateException("Truncated segment pack");
+                }
+                b = data[pos++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    private record SpeakerKey(String label, UUID id) {}
+
+    private static final class VarintWriter extends ByteArrayOutputStream {
+
+        VarintWriter(int capacity) {
+            super(Math.max(16, capacity));
+        }
+
+        void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+    }
+}
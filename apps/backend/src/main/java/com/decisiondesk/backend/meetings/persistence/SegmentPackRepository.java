@@ -0,0 +1,111 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads and writes {@code transcript_segment_packs}, the packed alternative to segment rows
+ * (see {@link PackedSegments} and V23).
+ */
+@Repository
+public class SegmentPackRepository {
+
+    private final JdbcClient jdbcClient;
+
+    public SegmentPackRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * A stored pack and the time it was written, which stands in for every segment's {@code createdAt}.
+     */
+    public record StoredPack(PackedSegments pack, OffsetDateTime createdAt) {}
+
+    public Optional<StoredPack> findByMeetingId(UUID meetingId) {
+        return jdbcClient.sql("""
+                SELECT segment_count, timings, speakers, text_lengths, text_blob,
+                       speaker_ids, speaker_labels, speaker_talk_sec, created_at
+                FROM transcript_segment_packs
+                WHERE meeting_id = :meetingId
+                """)
+                .param("meetingId", meetingId)
+                .query(this::mapRow)
+                .optional();
+    }
+
+    public boolean existsByMeetingId(UUID meetingId) {
+        return jdbcClient.sql("SELECT EXISTS (SELECT 1 FROM transcript_segment_packs WHERE meeting_id = :meetingId)")
+                .param("meetingId", meetingId)
+                .query(Boolean.class)
+                .single();
+    }
+
+    /**
+     * Stores the pack, replacing any previous one for the meeting.
+     */
+    public void save(UUID meetingId, PackedSegments pack) {
+        jdbcClient.sql("""
+                INSERT INTO transcript_segment_packs (meeting_id, segment_count, timings, speakers, text_lengths,
+                                                      text_blob, speaker_ids, speaker_labels, speaker_talk_sec)
+                VALUES (:meetingId, :count, :timings, :speakers, :textLengths,
+                        :text, :speakerIds, :speakerLabels, :speakerTalkSec)
+                ON CONFLICT (meeting_id) DO UPDATE SET
+                    format_version = 1,
+                    segment_count = EXCLUDED.segment_count,
+                    timings = EXCLUDED.timings,
+                    speakers = EXCLUDED.speakers,
+                    text_lengths = EXCLUDED.text_lengths,
+                    text_blob = EXCLUDED.text_blob,
+                    speaker_ids = EXCLUDED.speaker_ids,
+                    speaker_labels = EXCLUDED.speaker_labels,
+                    speaker_talk_sec = EXCLUDED.speaker_talk_sec,
+                    created_at = NOW()
+                """)
+                .param("meetingId", meetingId)
+                .param("count", pack.segmentCount())
+                .param("timings", pack.timings())
+                .param("speakers", pack.speakers())
+                .param("textLengths", pack.textLengths())
+                .param("text", pack.text())
+                .param("speakerIds", pack.speakerIds().toArray(UUID[]::new))
+                .param("speakerLabels", pack.speakerLabels().toArray(String[]::new))
+                .param("speakerTalkSec", Arrays.stream(pack.speakerTalkSec()).boxed().toArray(Double[]::new))
+                .update();
+    }
+
+    public void deleteByMeetingId(UUID meetingId) {
+        jdbcClient.sql("DELETE FROM transcript_segment_packs WHERE meeting_id = :meetingId")
+                .param("meetingId", meetingId)
+                .update();
+    }
+
+    private StoredPack mapRow(ResultSet rs, int rowNum) throws SQLException {
+        PackedSegments pack = new PackedSegments(
+                rs.getInt("segment_count"),
+                rs.getBytes("timings"),
+                rs.getBytes("speakers"),
+                rs.getBytes("text_lengths"),
+                rs.getString("text_blob"),
+                Arrays.asList((UUID[]) array(rs.getArray("speaker_ids"))),
+                Arrays.asList((String[]) array(rs.getArray("speaker_labels"))),
+                Arrays.stream((Double[]) array(rs.getArray("speaker_talk_sec"))).mapToDouble(Double::doubleValue).toArray());
+        return new StoredPack(pack, rs.getObject("created_at", OffsetDateTime.class));
+    }
+
+    private static Object array(Array array) throws SQLException {
+        try {
+            return array.getArray();
+        } finally {
+            array.free();
+        }
+    }
+}
@@ -3,24 +3,39 @@ package com.decisiondesk.backend.meetings.persistence;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
 import com.decisiondesk.backend.meetings.model.Transcript;
 
 /**
  * JDBC-backed repository for the {@code transcripts} table.
+ *
+ * <p>Large transcripts are stored compressed (see {@link TranscriptTextCodec}). That's invisible to
+ * callers: they write and read plain {@link Transcript}s. The search vector is computed from the
+ * plain text on write, because the database cannot read the compressed frames.</p>
  */
 @Repository
 public class TranscriptRepository {
 
+    private static final String COLUMNS = "id, meeting_id, language, text_format, text, text_compressed, created_at";
+
     private final JdbcClient jdbcClient;
+    private final MeetingDetailsCache detailsCache;
+    private final int compressionThresholdBytes;
 
-    public TranscriptRepository(JdbcClient jdbcClient) {
+    public TranscriptRepository(JdbcClient jdbcClient, MeetingDetailsCache detailsCache,
+                                @Value("${transcripts.compression.threshold-bytes:16384}") int compressionThresholdBytes) {
         this.jdbcClient = jdbcClient;
+        this.detailsCache = detailsCache;
+        this.compressionThresholdBytes = compressionThresholdBytes;
     }
 
     /**
@@ -29,18 +44,27 @@ public class TranscriptRepository {
      * @param transcript transcript payload to persist
      */
     public void upsert(Transcript transcript) {
+        detailsCache.invalidate(transcript.meetingId());
+        TranscriptTextCodec.Encoded encoded = TranscriptTextCodec.encode(transcript.text(), compressionThresholdBytes);
         jdbcClient.sql("""
-                INSERT INTO transcripts (id, meeting_id, language, text)
-                VALUES (:id, :meetingId, :language, :text)
+                INSERT INTO transcripts (id, meeting_id, language, text_format, text, text_compressed, search_vector)
+                VALUES (:id, :meetingId, :language, :format, :text, :compressed,
+                        to_tsvector(text_search_config(:language), CAST(:plainText AS TEXT)))
                 ON CONFLICT (meeting_id) DO UPDATE SET
                     language = EXCLUDED.language,
+                    text_format = EXCLUDED.text_format,
                     text = EXCLUDED.text,
+                    text_compressed = EXCLUDED.text_compressed,
+                    search_vector = EXCLUDED.search_vector,
                     created_at = now()
                 """)
                 .param("id", transcript.id())
                 .param("meetingId", transcript.meetingId())
                 .param("language", transcript.language())
-                .param("text", transcript.text())
+                .param("format", encoded.format())
+                .param("text", encoded.text())
+                .param("compressed", encoded.compressed())
+                .param("plainText", transcript.text())
                 .update();
     }
 
@@ -48,18 +72,92 @@ public class TranscriptRepository {
      * Fetches the transcript for a meeting if one exists.
      */
     public Optional<Transcript> findByMeetingId(UUID meetingId) {
-        return jdbcClient.sql("SELECT id, meeting_id, language, text, created_at FROM transcripts WHERE meeting_id = :meetingId")
+        return jdbcClient.sql("SELECT " + COLUMNS + " FROM transcripts WHERE meeting_id = :meetingId")
                 .param("meetingId", meetingId)
                 .query(this::mapTranscript)
                 .optional();
     }
 
+    /**
+     * Fetches the transcripts of several meetings in one query; meetings without one are skipped.
+     */
+    public List<Transcript> findByMeetingIds(Collection<UUID> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql("SELECT " + COLUMNS + " FROM transcripts WHERE meeting_id IN (:meetingIds)")
+                .param("meetingIds", meetingIds)
+                .query(this::mapTranscript)
+                .list();
+    }
+
+    /**
+     * Compresses up to {@code limit} plain transcripts at or above the threshold with ids after
+     * {@code afterId}, in id order. Does nothing when compression is disabled.
+     *
+     * <p>Must run inside a transaction: the batch is locked with {@code FOR UPDATE SKIP LOCKED} so
+     * a concurrent {@link #upsert} waits for it rather than being overwritten. The text itself is
+     * unchanged, so cached meeting details stay valid.</p>
+     *
+     * @param afterId keyset cursor, or null to start from the beginning
+     * @return the batch outcome; {@code lastId} is the cursor for the next call
+     */
+    public CompressionBatch compressPlainBatch(UUID afterId, int limit) {
+        if (compressionThresholdBytes <= 0) {
+            return new CompressionBatch(0, 0, afterId);
+        }
+        List<PlainRow> rows = jdbcClient.sql("""
+                SELECT id, text FROM transcripts
+                WHERE text_format = 'plain'
+                  AND octet_length(text) >= :threshold
+                  AND (CAST(:afterId AS UUID) IS NULL OR id > :afterId)
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+                """)
+                .param("threshold", compressionThresholdBytes)
+                .param("afterId", afterId)
+                .param("limit", limit)
+                .query((rs, rowNum) -> new PlainRow(rs.getObject("id", UUID.class), rs.getString("text")))
+                .list();
+
+        int compressed = 0;
+        for (PlainRow row : rows) {
+            TranscriptTextCodec.Encoded encoded = TranscriptTextCodec.encode(row.text(), compressionThresholdBytes);
+            if (TranscriptTextCodec.DEFLATE.equals(encoded.format())) {
+                compressed += jdbcClient.sql("""
+                        UPDATE transcripts
+                        SET text_format = :format, text = NULL, text_compressed = :compressed
+                        WHERE id = :id
+                        """)
+                        .param("format", encoded.format())
+                        .param("compressed", encoded.compressed())
+                        .param("id", row.id())
+                        .update();
+            }
+        }
+        UUID lastId = rows.isEmpty() ? afterId : rows.get(rows.size() - 1).id();
+        return new CompressionBatch(rows.size(), compressed, lastId);
+    }
+
+    /**
+     * Outcome of one {@link #compressPlainBatch} call.
+     *
+     * @param scanned    plain rows examined
+     * @param compressed rows rewritten as deflate frames
+     * @param lastId     highest id examined
+     */
+    public record CompressionBatch(int scanned, int compressed, UUID lastId) {}
+
+    private record PlainRow(UUID id, String text) {}
+
     private Transcript mapTranscript(ResultSet rs, int rowNum) throws SQLException {
         return new Transcript(
                 rs.getObject("id", UUID.class),
                 rs.getObject("meeting_id", UUID.class),
                 rs.getString("language"),
-                rs.getString("text"),
+                TranscriptTextCodec.decode(rs.getString("text_format"), rs.getString("text"),
+                        rs.getBytes("text_compressed")),
                 rs.getObject("created_at", OffsetDateTime.class));
     }
 }
@@ -1,13 +1,21 @@
 package com.decisiondesk.backend.meetings.persistence;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,10 +28,17 @@ import com.decisiondesk.backend.meetings.model.TranscriptSegment;
 @Repository
 public class TranscriptSegmentRepository {
 
+    /** Segment count from which {@link #insertBatch} switches to {@code COPY}. */
+    static final int COPY_THRESHOLD = 5_000;
+    private static final int BATCH_SIZE = 500;
+    private static final int COPY_BUFFER_CHARS = 64 * 1024;
+
     private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
 
-    public TranscriptSegmentRepository(JdbcClient jdbcClient) {
+    public TranscriptSegmentRepository(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate) {
         this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     public List<TranscriptSegment> findByMeetingId(UUID meetingId) {
@@ -50,33 +65,151 @@ public class TranscriptSegmentRepository {
 
     /**
      * Bulk inserts segments for a meeting. Typically called after transcription.
+     *
+     * <p>Small and medium imports go through JDBC batching (rewritten into multi-row
+     * {@code INSERT}s by the driver when {@code reWriteBatchedInserts} is on); imports of
+     * {@value #COPY_THRESHOLD} segments or more are streamed with {@code COPY}. Either way a
+     * repeated ordinal is stored once, with the last segment given for it.</p>
      */
     @Transactional
     public List<TranscriptSegment> insertBatch(UUID meetingId, List<TranscriptSegment> segments) {
-        List<TranscriptSegment> inserted = new ArrayList<>(segments.size());
-        for (TranscriptSegment seg : segments) {
-            jdbcClient.sql("""
-                    INSERT INTO transcript_segments (id, meeting_id, ordinal, start_sec, end_sec, text, speaker_label, speaker_id)
-                    VALUES (:id, :meetingId, :ordinal, :startSec, :endSec, :text, :speakerLabel, :speakerId)
-                    ON CONFLICT (meeting_id, ordinal) DO UPDATE SET
-                        start_sec = EXCLUDED.start_sec,
-                        end_sec = EXCLUDED.end_sec,
-                        text = EXCLUDED.text,
-                        speaker_label = EXCLUDED.speaker_label,
-                        speaker_id = EXCLUDED.speaker_id
-                    """)
-                    .param("id", seg.id())
-                    .param("meetingId", meetingId)
-                    .param("ordinal", seg.ordinal())
-                    .param("startSec", seg.startSec())
-                    .param("endSec", seg.endSec())
-                    .param("text", seg.text())
-                    .param("speakerLabel", seg.speakerLabel())
-                    .param("speakerId", seg.speakerId())
-                    .update();
-            inserted.add(seg);
+        segments = lastPerOrdinal(segments);
+        if (segments.size() >= COPY_THRESHOLD) {
+            return insertWithCopy(meetingId, segments);
+        }
+        return insertWithBatch(meetingId, segments);
+    }
+
+    /**
+     * Upserts segments with JDBC batches of {@value #BATCH_SIZE} rows.
+     */
+    @Transactional
+    public List<TranscriptSegment> insertWithBatch(UUID meetingId, List<TranscriptSegment> segments) {
+        List<TranscriptSegment> unique = lastPerOrdinal(segments);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO transcript_segments (id, meeting_id, ordinal, start_sec, end_sec, text, speaker_label, speaker_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (meeting_id, ordinal) DO UPDATE SET
+                    start_sec = EXCLUDED.start_sec,
+                    end_sec = EXCLUDED.end_sec,
+                    text = EXCLUDED.text,
+                    speaker_label = EXCLUDED.speaker_label,
+                    speaker_id = EXCLUDED.speaker_id
+                """, unique, BATCH_SIZE, (ps, seg) -> {
+                    ps.setObject(1, seg.id());
+                    ps.setObject(2, meetingId);
+                    ps.setInt(3, seg.ordinal());
+                    ps.setDouble(4, seg.startSec());
+                    ps.setDouble(5, seg.endSec());
+                    ps.setString(6, seg.text());
+                    ps.setString(7, seg.speakerLabel());
+                    ps.setObject(8, seg.speakerId());
+                });
+        return unique;
+    }
+
+    /**
+     * Upserts segments by streaming them with {@code COPY} into a transaction-scoped
+     * staging table and merging that into {@code transcript_segments} in one statement.
+     */
+    @Transactional
+    public List<TranscriptSegment> insertWithCopy(UUID meetingId, List<TranscriptSegment> segments) {
+        List<TranscriptSegment> unique = lastPerOrdinal(segments);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TEMP TABLE IF NOT EXISTS transcript_segments_staging
+                            (LIKE transcript_segments INCLUDING DEFAULTS) ON COMMIT DROP
+                        """);
+                statement.execute("TRUNCATE transcript_segments_staging");
+            }
+            copyIn(connection.unwrap(PGConnection.class).getCopyAPI(), meetingId, unique);
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("""
+                        INSERT INTO transcript_segments (id, meeting_id, ordinal, start_sec, end_sec, text, speaker_label, speaker_id)
+                        SELECT id, meeting_id, ordinal, start_sec, end_sec, text, speaker_label, speaker_id
+                        FROM transcript_segments_staging
+                        ON CONFLICT (meeting_id, ordinal) DO UPDATE SET
+                            start_sec = EXCLUDED.start_sec,
+                            end_sec = EXCLUDED.end_sec,
+                            text = EXCLUDED.text,
+                            speaker_label = EXCLUDED.speaker_label,
+                            speaker_id = EXCLUDED.speaker_id
+                        """);
+            }
+            return null;
+        });
+        return unique;
+    }
+
+    /**
+     * Keeps the last segment for each ordinal, in order of first appearance. A single
+     * multi-row upsert cannot touch the same row twice, so repeats must go before the insert
+     * (row-by-row upserts used to let the last one win).
+     */
+    static List<TranscriptSegment> lastPerOrdinal(List<TranscriptSegment> segments) {
+        Map<Integer, TranscriptSegment> byOrdinal = new LinkedHashMap<>(segments.size() * 2);
+        for (TranscriptSegment segment : segments) {
+            byOrdinal.put(segment.ordinal(), segment);
+        }
+        return byOrdinal.size() == segments.size() ? segments : List.copyOf(byOrdinal.values());
+    }
+
+    private void copyIn(CopyManager copyManager, UUID meetingId, List<TranscriptSegment> segments) throws SQLException {
+        CopyIn copy = copyManager.copyIn("""
+                COPY transcript_segments_staging (id, meeting_id, ordinal, start_sec, end_sec, text, speaker_label, speaker_id)
+                FROM STDIN WITH (FORMAT csv)
+                """);
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+            for (TranscriptSegment seg : segments) {
+                buffer.append(seg.id()).append(',')
+                        .append(meetingId).append(',')
+                        .append(seg.ordinal()).append(',')
+                        .append(seg.startSec()).append(',')
+                        .append(seg.endSec()).append(',');
+                appendCsvQuoted(buffer, seg.text());
+                buffer.append(',');
+                if (seg.speakerLabel() != null) {
+                    appendCsvQuoted(buffer, seg.speakerLabel());
+                }
+                buffer.append(',');
+                if (seg.speakerId() != null) {
+                    buffer.append(seg.speakerId());
+                }
+                buffer.append('\n');
+                if (buffer.length() >= COPY_BUFFER_CHARS) {
+                    writeToCopy(copy, buffer);
+                }
+            }
+            writeToCopy(copy, buffer);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private static void writeToCopy(CopyIn copy, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Quotes a CSV field. Quoted empty strings stay empty strings; unquoted empty fields are NULL.
+     */
+    private static void appendCsvQuoted(StringBuilder buffer, String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
         }
-        return inserted;
+        buffer.append('"');
     }
 
     /**
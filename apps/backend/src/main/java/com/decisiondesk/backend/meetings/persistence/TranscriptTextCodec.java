@@ -0,0 +1,108 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes transcript text for the {@code transcripts} table (see V19).
+ *
+ * <p>Text at or above the threshold is stored as a zlib deflate frame in {@code text_compressed}
+ * with {@code text_format = 'deflate'}; anything smaller, or anything that does not shrink by at
+ * least a fifth, stays in the plain {@code text} column. Frames are only ever inflated in the JVM,
+ * so reading a compressed row moves the compressed bytes over the wire.</p>
+ */
+public final class TranscriptTextCodec {
+
+    public static final String PLAIN = "plain";
+    public static final String DEFLATE = "deflate";
+
+    private static final double MAX_RATIO = 0.8;
+
+    private TranscriptTextCodec() {
+    }
+
+    /**
+     * Column values for one transcript: exactly one of {@code text} and {@code compressed} is set.
+     */
+    public record Encoded(String format, String text, byte[] compressed) {
+
+        static Encoded plain(String text) {
+            return new Encoded(PLAIN, text, null);
+        }
+    }
+
+    /**
+     * Chooses the storage format for {@code text}.
+     *
+     * @param thresholdBytes UTF-8 size from which compression is attempted; zero or less disables it
+     */
+    public static Encoded encode(String text, int thresholdBytes) {
+        if (thresholdBytes <= 0 || text == null) {
+            return Encoded.plain(text);
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length < thresholdBytes) {
+            return Encoded.plain(text);
+        }
+        byte[] frame = deflate(utf8);
+        if (frame.length > utf8.length * MAX_RATIO) {
+            return Encoded.plain(text);
+        }
+        return new Encoded(DEFLATE, null, frame);
+    }
+
+    /**
+     * Reads back the text from the stored columns.
+     */
+    public static String decode(String format, String text, byte[] compressed) {
+        if (format == null || PLAIN.equals(format)) {
+            return text;
+        }
+        if (DEFLATE.equals(format)) {
+            return new String(inflate(compressed), StandardCharsets.UTF_8);
+        }
+        throw new IllegalStateException("Unknown transcript text format: " + format);
+    }
+
+    static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] inflate(byte[] frame) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(frame);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(frame.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new UncheckedIOException(new IOException("Truncated transcript frame"));
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException(new IOException("Corrupt transcript frame", e));
+        } finally {
+            inflater.end();
+        }
+    }
+}
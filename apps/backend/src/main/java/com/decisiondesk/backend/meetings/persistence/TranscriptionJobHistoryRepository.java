@@ -0,0 +1,135 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import com.decisiondesk.backend.meetings.WhisperModel;
+import com.decisiondesk.backend.meetings.model.JobThroughputSummary;
+
+/**
+ * Repository for {@code transcription_job_history}, the cold side of the desktop queue.
+ *
+ * <p>Rows are moved out of {@code transcription_queue} with a single
+ * {@code DELETE ... RETURNING} feeding an {@code INSERT}, so a job is never in both
+ * tables and never lost between them.</p>
+ */
+@Repository
+public class TranscriptionJobHistoryRepository {
+
+    private static final String ARCHIVE_MOVED = """
+            INSERT INTO transcription_job_history (
+                job_id, meeting_id, worker_id, model, language, enable_diarization, final_status,
+                retry_count, error_message, audio_duration_sec, queued_at, accepted_at, finished_at,
+                queue_wait_seconds, processing_seconds)
+            SELECT id, meeting_id, worker_id, model, language, enable_diarization, status,
+                   retry_count, error_message, audio_duration_sec, created_at, accepted_at,
+                   COALESCE(completed_at, updated_at),
+                   EXTRACT(EPOCH FROM (accepted_at - created_at)),
+                   CASE WHEN status = 'COMPLETED' THEN EXTRACT(EPOCH FROM (completed_at - accepted_at)) END
+            FROM moved
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    public TranscriptionJobHistoryRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Moves one queue row into history. The row must already carry its terminal status.
+     *
+     * @return number of rows moved (0 if the job was no longer queued)
+     */
+    public int archive(UUID jobId) {
+        return jdbcClient.sql("""
+                WITH moved AS (
+                    DELETE FROM transcription_queue WHERE id = ? RETURNING *
+                )
+                """ + ARCHIVE_MOVED)
+                .param(jobId)
+                .update();
+    }
+
+    /**
+     * Moves up to {@code limit} finished queue rows into history: completed or cancelled
+     * jobs, and failed jobs that used up their retries, last touched before {@code before}.
+     * Each kind is picked by its own branch so both can use their V27 partial index.
+     */
+    public int archiveFinishedBatch(OffsetDateTime before, int maxRetries, int limit) {
+        return jdbcClient.sql("""
+                WITH finished AS (
+                    SELECT id FROM transcription_queue
+                    WHERE status IN ('COMPLETED', 'CANCELLED') AND COALESCE(completed_at, updated_at) < ?
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ), exhausted AS (
+                    SELECT id FROM transcription_queue
+                    WHERE status = 'FAILED' AND updated_at < ? AND retry_count >= ?
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ), moved AS (
+                    DELETE FROM transcription_queue
+                    WHERE id IN (SELECT id FROM finished UNION ALL SELECT id FROM exhausted LIMIT ?)
+                    RETURNING *
+                )
+                """ + ARCHIVE_MOVED)
+                .params(before, limit, before, maxRetries, limit, limit)
+                .update();
+    }
+
+    /**
+     * Creates the monthly partition containing {@code month} if it does not exist yet,
+     * moving that month's rows out of the DEFAULT partition into it.
+     */
+    public void ensurePartition(LocalDate month) {
+        jdbcClient.sql("SELECT ensure_transcription_job_history_partition(?)")
+                .param(month)
+                .query()
+                .listOfRows();
+    }
+
+    /**
+     * Aggregates completed jobs finished since {@code since}, per worker and model.
+     */
+    public List<JobThroughputSummary> summarizeThroughput(OffsetDateTime since) {
+        return jdbcClient.sql("""
+                SELECT worker_id,
+                       model,
+                       COUNT(*) AS jobs_completed,
+                       COALESCE(SUM(audio_duration_sec) FILTER (WHERE processing_seconds > 0), 0) AS audio_seconds,
+                       COALESCE(SUM(processing_seconds) FILTER (WHERE audio_duration_sec > 0), 0) AS processing_seconds,
+                       percentile_cont(0.5) WITHIN GROUP (ORDER BY processing_seconds) AS p50_processing,
+                       percentile_cont(0.95) WITHIN GROUP (ORDER BY processing_seconds) AS p95_processing,
+                       AVG(queue_wait_seconds) AS avg_queue_wait
+                FROM transcription_job_history
+                WHERE final_status = 'COMPLETED' AND finished_at >= ?
+                GROUP BY worker_id, model
+                ORDER BY worker_id NULLS LAST, model
+                """)
+                .param(since)
+                .query(this::mapSummary)
+                .list();
+    }
+
+    private JobThroughputSummary mapSummary(ResultSet rs, int rowNum) throws SQLException {
+        double audioSeconds = rs.getDouble("audio_seconds");
+        double processingSeconds = rs.getDouble("processing_seconds");
+        return new JobThroughputSummary(
+                rs.getString("worker_id"),
+                WhisperModel.fromValue(rs.getString("model")),
+                rs.getLong("jobs_completed"),
+                audioSeconds,
+                processingSeconds,
+                processingSeconds > 0 ? audioSeconds / processingSeconds : null,
+                rs.getObject("p50_processing", Double.class),
+                rs.getObject("p95_processing", Double.class),
+                rs.getObject("avg_queue_wait", Double.class));
+    }
+}
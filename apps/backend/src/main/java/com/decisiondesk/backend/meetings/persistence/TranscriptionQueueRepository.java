@@ -3,7 +3,9 @@ package com.decisiondesk.backend.meetings.persistence;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,13 +37,15 @@ public class TranscriptionQueueRepository {
         jdbcClient.sql("""
                 INSERT INTO transcription_queue 
                 (id, meeting_id, audio_path, model, language, enable_diarization, 
-                 status, accepted_at, completed_at, error_message, retry_count, created_at, updated_at)
-                VALUES (?, ?, ?, ?, ?, ?, ?::VARCHAR, ?, ?, ?, ?, ?, ?)
+                 status, accepted_at, completed_at, error_message, retry_count, created_at, updated_at,
+                 worker_id, audio_duration_sec)
+                VALUES (?, ?, ?, ?, ?, ?, ?::VARCHAR, ?, ?, ?, ?, ?, ?, ?, ?)
                 """)
                 .params(job.id(), job.meetingId(), job.audioPath(), job.model().getValue(),
                         job.language(), job.enableDiarization(), job.status().name(),
                         job.acceptedAt(), job.completedAt(), job.errorMessage(),
-                        job.retryCount(), job.createdAt(), job.updatedAt())
+                        job.retryCount(), job.createdAt(), job.updatedAt(),
+                        job.workerId(), job.audioDurationSec())
                 .update();
     }
 
@@ -52,11 +56,11 @@ public class TranscriptionQueueRepository {
         jdbcClient.sql("""
                 UPDATE transcription_queue 
                 SET status = ?::VARCHAR, accepted_at = ?, completed_at = ?, 
-                    error_message = ?, retry_count = ?
+                    error_message = ?, retry_count = ?, worker_id = ?
                 WHERE id = ?
                 """)
                 .params(job.status().name(), job.acceptedAt(), job.completedAt(),
-                        job.errorMessage(), job.retryCount(), job.id())
+                        job.errorMessage(), job.retryCount(), job.workerId(), job.id())
                 .update();
     }
 
@@ -98,53 +102,107 @@ public class TranscriptionQueueRepository {
     }
 
     /**
-     * Get all jobs that can be retried.
+     * Get pending jobs the given worker is able to run (installed model and diarization support).
      */
-    public List<TranscriptionQueueJob> findRetryable(int maxRetries) {
+    public List<TranscriptionQueueJob> findPendingForWorker(String workerId) {
         return jdbcClient.sql("""
-                SELECT * FROM transcription_queue 
-                WHERE status = 'FAILED' AND retry_count < ?
-                ORDER BY created_at
+                SELECT q.* FROM transcription_queue q
+                JOIN desktop_workers w ON w.id = ?
+                WHERE q.status = 'PENDING'
+                  AND q.model = ANY(w.installed_models)
+                  AND (NOT q.enable_diarization OR w.supports_diarization)
+                ORDER BY q.created_at
                 """)
-                .param(maxRetries)
+                .param(workerId)
                 .query(rowMapper)
                 .list();
     }
 
     /**
-     * Get all accepted jobs older than timeout.
+     * Atomically claims the oldest pending job the worker can run.
+     *
+     * <p>Uses {@code FOR UPDATE SKIP LOCKED} so concurrent workers never claim the same job.</p>
      */
-    public List<TranscriptionQueueJob> findTimedOut(OffsetDateTime timeoutBefore) {
+    public Optional<TranscriptionQueueJob> claimNextForWorker(String workerId) {
         return jdbcClient.sql("""
-                SELECT * FROM transcription_queue 
-                WHERE status IN ('ACCEPTED', 'PROCESSING') 
-                  AND accepted_at < ?
-                ORDER BY accepted_at
+                UPDATE transcription_queue
+                SET status = 'PROCESSING', accepted_at = NOW(), worker_id = ?
+                WHERE id = (
+                    SELECT q.id FROM transcription_queue q
+                    JOIN desktop_workers w ON w.id = ?
+                    WHERE q.status = 'PENDING'
+                      AND q.model = ANY(w.installed_models)
+                      AND (NOT q.enable_diarization OR w.supports_diarization)
+                    ORDER BY q.created_at
+                    LIMIT 1
+                    FOR UPDATE OF q SKIP LOCKED
+                )
+                RETURNING *
                 """)
-                .param(timeoutBefore)
+                .params(workerId, workerId)
                 .query(rowMapper)
-                .list();
+                .optional();
     }
 
     /**
-     * Delete a job.
+     * Puts up to {@code limit} failed jobs back to pending, oldest first, and counts the retry.
+     *
+     * <p>Rows locked by a concurrent sweep are skipped. Returns the jobs as updated.</p>
      */
-    public void delete(UUID id) {
-        jdbcClient.sql("DELETE FROM transcription_queue WHERE id = ?")
-                .param(id)
-                .update();
+    public List<TranscriptionQueueJob> retryFailedBatch(int maxRetries, int limit) {
+        return jdbcClient.sql("""
+                UPDATE transcription_queue
+                SET status = 'PENDING',
+                    accepted_at = NULL,
+                    completed_at = NULL,
+                    error_message = NULL,
+                    worker_id = NULL,
+                    retry_count = retry_count + 1
+                WHERE id IN (
+                    SELECT id FROM transcription_queue
+                    WHERE status = 'FAILED' AND retry_count < ?
+                    ORDER BY created_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING *
+                """)
+                .params(maxRetries, limit)
+                .query(rowMapper)
+                .list();
     }
 
     /**
-     * Delete completed jobs older than retention period.
+     * Fails up to {@code limit} accepted jobs whose acceptance is older than {@code timeoutBefore}.
+     *
+     * <p>Rows locked by a concurrent sweep are skipped. Returns the jobs as updated.</p>
      */
-    public int deleteCompleted(OffsetDateTime before) {
+    public List<TranscriptionQueueJob> timeoutStalledBatch(OffsetDateTime timeoutBefore, String error, int limit) {
         return jdbcClient.sql("""
-                DELETE FROM transcription_queue 
-                WHERE status IN ('COMPLETED', 'CANCELLED') 
-                  AND completed_at < ?
+                UPDATE transcription_queue
+                SET status = 'FAILED',
+                    error_message = ?
+                WHERE id IN (
+                    SELECT id FROM transcription_queue
+                    WHERE status IN ('ACCEPTED', 'PROCESSING')
+                      AND accepted_at < ?
+                    ORDER BY accepted_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING *
                 """)
-                .param(before)
+                .params(error, timeoutBefore, limit)
+                .query(rowMapper)
+                .list();
+    }
+
+    /**
+     * Delete a job.
+     */
+    public void delete(UUID id) {
+        jdbcClient.sql("DELETE FROM transcription_queue WHERE id = ?")
+                .param(id)
                 .update();
     }
 
@@ -161,6 +219,18 @@ public class TranscriptionQueueRepository {
         return count != null ? count : 0;
     }
 
+    /**
+     * Count jobs for every status in a single scan.
+     */
+    public Map<JobStatus, Long> countGroupedByStatus() {
+        Map<JobStatus, Long> counts = new EnumMap<>(JobStatus.class);
+        jdbcClient.sql("SELECT status, COUNT(*) AS total FROM transcription_queue GROUP BY status")
+                .query(rs -> {
+                    counts.put(JobStatus.valueOf(rs.getString("status")), rs.getLong("total"));
+                });
+        return counts;
+    }
+
     private static class TranscriptionQueueRowMapper implements RowMapper<TranscriptionQueueJob> {
         @Override
         public TranscriptionQueueJob mapRow(ResultSet rs, int rowNum) throws SQLException {
@@ -177,7 +247,9 @@ public class TranscriptionQueueRepository {
                     rs.getString("error_message"),
                     rs.getInt("retry_count"),
                     rs.getObject("created_at", OffsetDateTime.class),
-                    rs.getObject("updated_at", OffsetDateTime.class)
+                    rs.getObject("updated_at", OffsetDateTime.class),
+                    rs.getString("worker_id"),
+                    (Integer) rs.getObject("audio_duration_sec")
             );
         }
     }
@@ -11,6 +11,7 @@ import org.postgresql.util.PGobject;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
 import com.decisiondesk.backend.meetings.model.UsageRecord;
 import com.decisiondesk.backend.meetings.model.UsageRecord.Service;
 
@@ -21,12 +22,15 @@ import com.decisiondesk.backend.meetings.model.UsageRecord.Service;
 public class UsageRecordRepository {
 
     private final JdbcClient jdbcClient;
+    private final MeetingDetailsCache detailsCache;
 
-    public UsageRecordRepository(JdbcClient jdbcClient) {
+    public UsageRecordRepository(JdbcClient jdbcClient, MeetingDetailsCache detailsCache) {
         this.jdbcClient = jdbcClient;
+        this.detailsCache = detailsCache;
     }
 
     public void insert(UsageRecord record) {
+        detailsCache.invalidate(record.meetingId());
         PGobject jsonb = new PGobject();
         try {
             jsonb.setType("jsonb");
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.decisiondesk.backend.meetings.model.DesktopWorker;
+
 /**
  * Service for managing the desktop transcription queue.
  * 
@@ -27,6 +29,30 @@ public interface DesktopQueueService {
      */
     List<DesktopTranscriptionJob> getPendingJobs();
 
+    /**
+     * Get pending jobs the given worker is able to run.
+     *
+     * @param worker the polling desktop worker
+     * @return list of pending jobs matching the worker's capabilities
+     */
+    default List<DesktopTranscriptionJob> getPendingJobs(DesktopWorker worker) {
+        return getPendingJobs().stream()
+                .filter(job -> worker.canRun(job.model(), job.enableDiarization()))
+                .toList();
+    }
+
+    /**
+     * Claim the oldest pending job the worker is able to run.
+     *
+     * @param worker the claiming desktop worker
+     * @return the claimed job, or empty if nothing matches
+     */
+    default Optional<DesktopTranscriptionJob> claimNext(DesktopWorker worker) {
+        Optional<DesktopTranscriptionJob> next = getPendingJobs(worker).stream().findFirst();
+        next.ifPresent(job -> markAccepted(job.meetingId()));
+        return next;
+    }
+
     /**
      * Get a specific job by meeting ID.
      *
@@ -42,6 +68,16 @@ public interface DesktopQueueService {
      */
     void markAccepted(UUID meetingId);
 
+    /**
+     * Mark a job as accepted by a specific desktop worker.
+     *
+     * @param meetingId the meeting ID
+     * @param worker    the accepting worker
+     */
+    default void markAccepted(UUID meetingId, DesktopWorker worker) {
+        markAccepted(meetingId);
+    }
+
     /**
      * Mark a job as completed.
      *
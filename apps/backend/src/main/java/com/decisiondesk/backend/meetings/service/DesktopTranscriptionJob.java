@@ -13,11 +13,22 @@ import com.decisiondesk.backend.meetings.WhisperModel;
  * @param model        whisper model to use
  * @param language     target language code
  * @param enableDiarization whether to perform speaker diarization
+ * @param audioDurationSec audio length in seconds, if known (drives completion estimates)
  */
 public record DesktopTranscriptionJob(
         UUID meetingId,
         Path audioPath,
         WhisperModel model,
         String language,
-        boolean enableDiarization
-) {}
+        boolean enableDiarization,
+        Integer audioDurationSec
+) {
+
+    /**
+     * Creates a job without a known audio duration.
+     */
+    public DesktopTranscriptionJob(UUID meetingId, Path audioPath, WhisperModel model,
+                                   String language, boolean enableDiarization) {
+        this(meetingId, audioPath, model, language, enableDiarization, null);
+    }
+}
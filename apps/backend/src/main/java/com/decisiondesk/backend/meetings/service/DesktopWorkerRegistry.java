@@ -0,0 +1,163 @@
+package com.decisiondesk.backend.meetings.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.decisiondesk.backend.meetings.WhisperModel;
+import com.decisiondesk.backend.meetings.model.DesktopWorker;
+import com.decisiondesk.backend.meetings.model.JobThroughputSummary;
+import com.decisiondesk.backend.meetings.model.WorkerThroughput;
+import com.decisiondesk.backend.meetings.persistence.DesktopWorkerRepository;
+import com.decisiondesk.backend.meetings.persistence.TranscriptionJobHistoryRepository;
+import com.decisiondesk.backend.web.ApiException;
+
+/**
+ * Registry of desktop workers, their capabilities and measured throughput.
+ *
+ * <p>Workers register the Whisper models they have installed, their core count and
+ * diarization support. Each completed job feeds a per-(worker, model) real-time factor
+ * that is used to estimate completion times. Workers without samples fall back to the
+ * model's nominal speed scaled by core count.</p>
+ */
+@Service
+@ConditionalOnProperty(name = "transcription.desktop.enabled", havingValue = "true")
+public class DesktopWorkerRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(DesktopWorkerRegistry.class);
+
+    /** Core count of the machine the nominal real-time factors were measured on. */
+    private static final int REFERENCE_CORES = 16;
+    /** Weight of the newest sample in the moving average. */
+    private static final double SMOOTHING_ALPHA = 0.3;
+    /** Samples shorter than this are dominated by model load time and are ignored. */
+    private static final double MIN_SAMPLE_SECONDS = 1.0;
+
+    private final DesktopWorkerRepository workerRepository;
+    private final TranscriptionJobHistoryRepository historyRepository;
+
+    public DesktopWorkerRegistry(DesktopWorkerRepository workerRepository,
+                                 TranscriptionJobHistoryRepository historyRepository) {
+        this.workerRepository = workerRepository;
+        this.historyRepository = historyRepository;
+    }
+
+    /**
+     * Registers a worker or refreshes its capabilities.
+     */
+    @Transactional
+    public DesktopWorker register(String workerId, String name, Set<WhisperModel> installedModels,
+                                  int cpuCores, boolean supportsDiarization) {
+        if (workerId == null || workerId.isBlank()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", "workerId is required");
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        DesktopWorker worker = workerRepository.upsert(new DesktopWorker(
+                workerId, name, installedModels, Math.max(1, cpuCores), supportsDiarization, now, now));
+        log.info("Desktop worker registered: id={}, models={}, cores={}, diarization={}",
+                worker.id(), worker.installedModels(), worker.cpuCores(), worker.supportsDiarization());
+        return worker;
+    }
+
+    /**
+     * Records a heartbeat from a worker.
+     */
+    @Transactional
+    public void heartbeat(String workerId) {
+        if (workerRepository.touch(workerId) == 0) {
+            throw workerNotFound(workerId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DesktopWorker> find(String workerId) {
+        return workerRepository.findById(workerId);
+    }
+
+    /**
+     * Returns the worker or fails with 404 if it never registered.
+     */
+    @Transactional(readOnly = true)
+    public DesktopWorker require(String workerId) {
+        return workerRepository.findById(workerId).orElseThrow(() -> workerNotFound(workerId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DesktopWorker> listWorkers() {
+        return workerRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public List<WorkerThroughput> getThroughput(String workerId) {
+        return workerRepository.findThroughput(workerId);
+    }
+
+    /**
+     * Summarizes completed jobs from the job history over the given window, per worker and model.
+     * Unlike {@link #getThroughput(String)} this is not smoothed and includes percentiles.
+     */
+    @Transactional(readOnly = true)
+    public List<JobThroughputSummary> summarizeHistory(Duration window) {
+        return historyRepository.summarizeThroughput(OffsetDateTime.now().minus(window));
+    }
+
+    /**
+     * Folds a completed job into the worker's throughput history.
+     *
+     * @param workerId          worker that processed the job
+     * @param model             model used
+     * @param audioSeconds      length of the processed audio
+     * @param processingSeconds wall-clock seconds from accept to completion
+     */
+    @Transactional
+    public void recordCompletion(String workerId, WhisperModel model, double audioSeconds, double processingSeconds) {
+        if (audioSeconds <= 0 || processingSeconds < MIN_SAMPLE_SECONDS) {
+            return;
+        }
+        workerRepository.recordSample(workerId, model, audioSeconds, processingSeconds, SMOOTHING_ALPHA);
+        log.debug("Throughput sample: worker={}, model={}, rtf={}",
+                workerId, model.getValue(), audioSeconds / processingSeconds);
+    }
+
+    /**
+     * Returns the worker's real-time factor for a model: measured if available,
+     * otherwise the model's nominal speed scaled by the worker's core count.
+     */
+    @Transactional(readOnly = true)
+    public double realtimeFactor(DesktopWorker worker, WhisperModel model) {
+        return workerRepository.findRealtimeFactor(worker.id(), model)
+                .filter(rtf -> rtf > 0)
+                .orElseGet(() -> nominalRealtimeFactor(worker, model));
+    }
+
+    /**
+     * Estimates how long the worker needs for a job, or empty if the audio length is unknown.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Duration> estimateProcessingTime(DesktopWorker worker, DesktopTranscriptionJob job) {
+        if (job.audioDurationSec() == null || job.audioDurationSec() <= 0) {
+            return Optional.empty();
+        }
+        double seconds = job.audioDurationSec() / realtimeFactor(worker, job.model());
+        return Optional.of(Duration.ofSeconds((long) Math.ceil(seconds)));
+    }
+
+    static double nominalRealtimeFactor(DesktopWorker worker, WhisperModel model) {
+        double coreScale = (double) worker.cpuCores() / REFERENCE_CORES;
+        return model.getNominalRealtimeFactor() * Math.min(1.5, Math.max(0.25, coreScale));
+    }
+
+    private ApiException workerNotFound(String workerId) {
+        return new ApiException(HttpStatus.NOT_FOUND, "WORKER_NOT_FOUND",
+                "Desktop worker %s is not registered".formatted(workerId));
+    }
+}
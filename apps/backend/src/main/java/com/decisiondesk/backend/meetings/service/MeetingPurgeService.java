@@ -0,0 +1,273 @@
+package com.decisiondesk.backend.meetings.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decisiondesk.backend.meetings.AudioStorageService;
+import com.decisiondesk.backend.meetings.AudioStorageService.ReclaimedAudio;
+import com.decisiondesk.backend.meetings.persistence.MeetingPurgeRepository;
+import com.decisiondesk.backend.meetings.persistence.MeetingPurgeRepository.PurgeCandidate;
+import com.decisiondesk.backend.meetings.persistence.MeetingPurgeRepository.PurgeCursor;
+import com.decisiondesk.backend.web.ApiException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Permanently removes meetings that were soft-deleted more than the retention window ago, together
+ * with their rows and audio files.
+ *
+ * <p>Each batch is one transaction. It locks up to {@code batch-size} meetings, oldest deletion
+ * first, and deletes their audio directories in parallel. It then deletes the rows of the meetings
+ * whose files are gone and advances the checkpoint in {@code meeting_purge_state}. A meeting whose
+ * files can't be removed keeps its rows and is retried on the next pass. A restart resumes from the
+ * checkpoint.</p>
+ *
+ * <p>The purge yields to traffic. Before each batch it checks how many other sessions are running
+ * statements and waits while that is above {@code max-active-sessions}, giving up the run after a
+ * few waits. Between batches it sleeps at least as long as the last batch took, so it holds a
+ * connection at most half the time.</p>
+ *
+ * <p>Meters: {@code meetings.purge.meetings}, {@code meetings.purge.files},
+ * {@code meetings.purge.bytes} and {@code meetings.purge.failures}.</p>
+ */
+@Component
+public class MeetingPurgeService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MeetingPurgeService.class);
+
+    private static final int MAX_BUSY_WAITS = 10;
+
+    private final MeetingPurgeRepository purgeRepository;
+    private final AudioStorageService storageService;
+    private final TransactionTemplate batchTx;
+    private final ExecutorService fileDeleter;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxActiveSessions;
+    private final Counter purgedMeetings;
+    private final Counter deletedFiles;
+    private final Counter reclaimedBytes;
+    private final Counter failures;
+
+    public MeetingPurgeService(MeetingPurgeRepository purgeRepository,
+                               AudioStorageService storageService,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry registry,
+                               @Value("${meetings.purge.enabled:true}") boolean enabled,
+                               @Value("${meetings.purge.retention-days:30}") int retentionDays,
+                               @Value("${meetings.purge.batch-size:20}") int batchSize,
+                               @Value("${meetings.purge.io-parallelism:4}") int ioParallelism,
+                               @Value("${meetings.purge.pause-millis:500}") long pauseMillis,
+                               @Value("${meetings.purge.max-active-sessions:8}") int maxActiveSessions) {
+        this.purgeRepository = purgeRepository;
+        this.storageService = storageService;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.fileDeleter = Executors.newFixedThreadPool(Math.max(1, ioParallelism),
+                Thread.ofPlatform().daemon().name("meeting-purge-io-", 0).factory());
+        this.enabled = enabled;
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxActiveSessions = maxActiveSessions;
+        this.purgedMeetings = Counter.builder("meetings.purge.meetings")
+                .description("Soft-deleted meetings permanently removed")
+                .register(registry);
+        this.deletedFiles = Counter.builder("meetings.purge.files")
+                .description("Audio files deleted by the purge")
+                .register(registry);
+        this.reclaimedBytes = Counter.builder("meetings.purge.bytes")
+                .description("Bytes of audio deleted by the purge")
+                .baseUnit("bytes")
+                .register(registry);
+        this.failures = Counter.builder("meetings.purge.failures")
+                .description("Meetings kept because their files could not be deleted")
+                .register(registry);
+    }
+
+    /**
+     * Outcome of one run.
+     *
+     * @param meetings     meetings removed
+     * @param files        audio files deleted
+     * @param bytes        bytes of audio deleted
+     * @param failed       meetings skipped because their files could not be deleted
+     * @param passComplete whether every eligible meeting was visited; false when the run yielded to load
+     */
+    public record PurgeReport(long meetings, long files, long bytes, long failed, boolean passComplete) {}
+
+    /**
+     * Scheduled run (ten minutes after startup, then hourly by default).
+     */
+    @Scheduled(fixedDelayString = "${meetings.purge.interval-minutes:60}",
+               initialDelayString = "${meetings.purge.initial-delay-minutes:10}",
+               timeUnit = TimeUnit.MINUTES)
+    public void scheduledPurge() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            PurgeReport report = purge();
+            if (report.meetings() > 0 || report.failed() > 0) {
+                log.info("Purged {} meetings, {} files, {} bytes reclaimed ({} kept after file errors{})",
+                        report.meetings(), report.files(), report.bytes(), report.failed(),
+                        report.passComplete() ? "" : ", paused for database load");
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Runs a purge now, regardless of {@code meetings.purge.enabled}.
+     *
+     * @throws ApiException 409 when a purge is already running
+     */
+    public PurgeReport purgeNow() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ApiException(HttpStatus.CONFLICT, "PURGE_RUNNING", "A purge is already running");
+        }
+        try {
+            return purge();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public MeetingPurgeRepository.PurgeState state() {
+        return purgeRepository.loadState();
+    }
+
+    @Override
+    public void destroy() {
+        fileDeleter.shutdownNow();
+    }
+
+    PurgeReport purge() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(retention);
+        purgeRepository.markRunStarted();
+        PurgeCursor cursor = purgeRepository.loadState().cursor();
+        long meetings = 0;
+        long files = 0;
+        long bytes = 0;
+        long failed = 0;
+        boolean passComplete = false;
+        while (waitForQuietDatabase()) {
+            long started = System.nanoTime();
+            PurgeCursor after = cursor;
+            BatchResult batch = batchTx.execute(status -> purgeBatch(cutoff, after));
+            meetings += batch.meetings();
+            files += batch.files();
+            bytes += batch.bytes();
+            failed += batch.failed();
+            cursor = batch.cursor();
+            if (batch.scanned() < batchSize) {
+                passComplete = true;
+                break;
+            }
+            if (!pause(Math.max(pauseMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)))) {
+                break;
+            }
+        }
+        purgeRepository.markRunFinished(passComplete);
+        return new PurgeReport(meetings, files, bytes, failed, passComplete);
+    }
+
+    private BatchResult purgeBatch(OffsetDateTime cutoff, PurgeCursor after) {
+        List<PurgeCandidate> candidates = purgeRepository.lockBatch(cutoff, after, batchSize);
+        if (candidates.isEmpty()) {
+            return new BatchResult(0, 0, 0, 0, 0, after);
+        }
+        List<CompletableFuture<ReclaimedAudio>> deletions = new ArrayList<>(candidates.size());
+        for (PurgeCandidate candidate : candidates) {
+            deletions.add(CompletableFuture.supplyAsync(() -> deleteAudio(candidate), fileDeleter));
+        }
+        List<UUID> deletable = new ArrayList<>(candidates.size());
+        long files = 0;
+        long bytes = 0;
+        long failed = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            try {
+                ReclaimedAudio reclaimed = deletions.get(i).join();
+                deletable.add(candidates.get(i).id());
+                files += reclaimed.files();
+                bytes += reclaimed.bytes();
+            } catch (CompletionException ex) {
+                log.warn("Keeping meeting {} for a later purge: {}", candidates.get(i).id(),
+                        ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage());
+                failed++;
+            }
+        }
+        int deleted = purgeRepository.deleteMeetings(deletable);
+        PurgeCandidate last = candidates.get(candidates.size() - 1);
+        PurgeCursor cursor = new PurgeCursor(last.deletedAt(), last.id());
+        purgeRepository.checkpoint(cursor, deleted, files, bytes, failed);
+
+        purgedMeetings.increment(deleted);
+        deletedFiles.increment(files);
+        reclaimedBytes.increment(bytes);
+        failures.increment(failed);
+        return new BatchResult(candidates.size(), deleted, files, bytes, failed, cursor);
+    }
+
+    private ReclaimedAudio deleteAudio(PurgeCandidate candidate) {
+        try {
+            return storageService.deleteMeetingAudio(candidate.id(), candidate.audioPaths());
+        } catch (IOException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Waits while the database is busy; false when it stayed busy or the thread was interrupted.
+     */
+    private boolean waitForQuietDatabase() {
+        for (int attempt = 0; attempt < MAX_BUSY_WAITS; attempt++) {
+            if (purgeRepository.activeSessions() <= maxActiveSessions) {
+                return true;
+            }
+            if (!pause(Math.max(pauseMillis, 1000) * (attempt + 1))) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record BatchResult(int scanned, int meetings, long files, long bytes, long failed, PurgeCursor cursor) {}
+}
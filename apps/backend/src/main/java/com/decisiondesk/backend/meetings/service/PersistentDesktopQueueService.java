@@ -1,22 +1,32 @@
 package com.decisiondesk.backend.meetings.service;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.decisiondesk.backend.config.AppProps;
+import com.decisiondesk.backend.meetings.TranscriptionProvider;
+import com.decisiondesk.backend.meetings.model.DesktopWorker;
 import com.decisiondesk.backend.meetings.model.TranscriptionQueueJob;
 import com.decisiondesk.backend.meetings.model.TranscriptionQueueJob.JobStatus;
+import com.decisiondesk.backend.meetings.persistence.TranscriptionJobHistoryRepository;
 import com.decisiondesk.backend.meetings.persistence.TranscriptionQueueRepository;
 
 /**
@@ -27,7 +37,11 @@ import com.decisiondesk.backend.meetings.persistence.TranscriptionQueueRepositor
  *   <li>Survives backend restarts</li>
  *   <li>Automatic retry for failed jobs</li>
  *   <li>Timeout detection for stalled jobs</li>
- *   <li>Cleanup of old completed jobs</li>
+ *   <li>Finished jobs are moved to {@code transcription_job_history}, keeping the queue table small</li>
+ *   <li>Capability-aware claims: workers only receive jobs whose model they have installed</li>
+ *   <li>Throughput sampling per worker on completion (see {@link DesktopWorkerRegistry})</li>
+ *   <li>Queue depth, wait/processing/latency timers and retry/timeout counters
+ *       (see {@link TranscriptionMetrics})</li>
  * </ul>
  * 
  * <p>Configuration:</p>
@@ -35,7 +49,8 @@ import com.decisiondesk.backend.meetings.persistence.TranscriptionQueueRepositor
  *   <li>{@code transcription.desktop.enabled=true} - enable this service</li>
  *   <li>{@code transcription.desktop.job-timeout-minutes=30} - timeout for stalled jobs</li>
  *   <li>{@code transcription.desktop.max-retries=3} - max retry attempts</li>
- *   <li>{@code transcription.desktop.cleanup-retention-hours=24} - retention for completed jobs</li>
+ *   <li>{@code transcription.desktop.cleanup-retention-hours=24} - how long exhausted failures stay queued</li>
+ *   <li>{@code transcription.desktop.maintenance-batch-size=500} - rows per maintenance statement</li>
  * </ul>
  */
 @Primary
@@ -46,17 +61,33 @@ public class PersistentDesktopQueueService implements DesktopQueueService {
     private static final Logger log = LoggerFactory.getLogger(PersistentDesktopQueueService.class);
 
     private final TranscriptionQueueRepository queueRepository;
+    private final TranscriptionJobHistoryRepository historyRepository;
+    private final DesktopWorkerRegistry workerRegistry;
+    private final TranscriptionMetrics metrics;
     private final AppProps appProps;
-
-    // Configuration with defaults
-    private static final int DEFAULT_JOB_TIMEOUT_MINUTES = 30;
-    private static final int DEFAULT_MAX_RETRIES = 3;
-    private static final int DEFAULT_CLEANUP_RETENTION_HOURS = 24;
+    private final int jobTimeoutMinutes;
+    private final int maxRetries;
+    private final int cleanupRetentionHours;
+    private final int maintenanceBatchSize;
 
     public PersistentDesktopQueueService(TranscriptionQueueRepository queueRepository,
-                                          AppProps appProps) {
+                                          TranscriptionJobHistoryRepository historyRepository,
+                                          DesktopWorkerRegistry workerRegistry,
+                                          TranscriptionMetrics metrics,
+                                          AppProps appProps,
+                                          @Value("${transcription.desktop.job-timeout-minutes:30}") int jobTimeoutMinutes,
+                                          @Value("${transcription.desktop.max-retries:3}") int maxRetries,
+                                          @Value("${transcription.desktop.cleanup-retention-hours:24}") int cleanupRetentionHours,
+                                          @Value("${transcription.desktop.maintenance-batch-size:500}") int maintenanceBatchSize) {
         this.queueRepository = queueRepository;
+        this.historyRepository = historyRepository;
+        this.workerRegistry = workerRegistry;
+        this.metrics = metrics;
         this.appProps = appProps;
+        this.jobTimeoutMinutes = jobTimeoutMinutes;
+        this.maxRetries = maxRetries;
+        this.cleanupRetentionHours = cleanupRetentionHours;
+        this.maintenanceBatchSize = maintenanceBatchSize;
     }
 
     @Override
@@ -75,10 +106,12 @@ public class PersistentDesktopQueueService implements DesktopQueueService {
                 job.audioPath().toString(),
                 job.model(),
                 job.language(),
-                job.enableDiarization()
+                job.enableDiarization(),
+                job.audioDurationSec()
         );
 
         queueRepository.insert(queueJob);
+        metrics.transition(null, JobStatus.PENDING);
         log.info("Job queued for desktop: meetingId={}, model={}", job.meetingId(), job.model());
     }
 
@@ -90,6 +123,26 @@ public class PersistentDesktopQueueService implements DesktopQueueService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<DesktopTranscriptionJob> getPendingJobs(DesktopWorker worker) {
+        return queueRepository.findPendingForWorker(worker.id()).stream()
+                .map(this::toDesktopJob)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<DesktopTranscriptionJob> claimNext(DesktopWorker worker) {
+        Optional<TranscriptionQueueJob> claimed = queueRepository.claimNextForWorker(worker.id());
+        claimed.ifPresent(job -> {
+            recordAccepted(job);
+            log.info("Job claimed by desktop worker: meetingId={}, worker={}, model={}",
+                    job.meetingId(), worker.id(), job.model().getValue());
+        });
+        return claimed.map(this::toDesktopJob);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<DesktopTranscriptionJob> getJob(UUID meetingId) {
@@ -108,21 +161,48 @@ public class PersistentDesktopQueueService implements DesktopQueueService {
             return;
         }
 
-        queueRepository.update(job.accept().startProcessing());
+        TranscriptionQueueJob accepted = job.accept().startProcessing();
+        queueRepository.update(accepted);
+        recordAccepted(accepted);
         log.info("Job accepted by desktop: meetingId={}", meetingId);
     }
 
+    @Override
+    @Transactional
+    public void markAccepted(UUID meetingId, DesktopWorker worker) {
+        TranscriptionQueueJob job = queueRepository.findByMeetingId(meetingId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + meetingId));
+
+        if (job.status() != JobStatus.PENDING) {
+            log.warn("Attempted to accept job in status {}: meetingId={}", job.status(), meetingId);
+            return;
+        }
+        if (!worker.canRun(job.model(), job.enableDiarization())) {
+            throw new IllegalStateException("Worker %s cannot run model %s (diarization=%s)"
+                    .formatted(worker.id(), job.model().getValue(), job.enableDiarization()));
+        }
+
+        TranscriptionQueueJob accepted = job.acceptBy(worker.id()).startProcessing();
+        queueRepository.update(accepted);
+        recordAccepted(accepted);
+        log.info("Job accepted by desktop: meetingId={}, worker={}", meetingId, worker.id());
+    }
+
     @Override
     @Transactional
     public void markCompleted(UUID meetingId) {
         TranscriptionQueueJob job = queueRepository.findByMeetingId(meetingId)
                 .orElseThrow(() -> new IllegalArgumentException("Job not found: " + meetingId));
 
-        queueRepository.update(job.complete());
+        TranscriptionQueueJob completed = job.complete();
+        queueRepository.update(completed);
         log.info("Job completed by desktop: meetingId={}", meetingId);
+        recordThroughput(completed);
+        recordCompleted(completed);
         
-        // Cleanup immediately after completion
-        queueRepository.delete(job.id());
+        // Move to history immediately after completion
+        historyRepository.archive(job.id());
+        metrics.transition(job.status(), null);
     }
 
     @Override
@@ -133,14 +213,15 @@ public class PersistentDesktopQueueService implements DesktopQueueService {
 
         TranscriptionQueueJob failedJob = job.fail(error);
         queueRepository.update(failedJob);
+        metrics.transition(job.status(), JobStatus.FAILED);
         log.error("Job failed on desktop: meetingId={}, error={}, retries={}", 
                 meetingId, error, failedJob.retryCount());
 
         // Check if can retry
-        if (failedJob.canRetry(getMaxRetries())) {
+        if (failedJob.canRetry(maxRetries)) {
             log.info("Job will be retried automatically: meetingId={}", meetingId);
         } else {
-            log.warn("Job exceeded max retries ({}): meetingId={}", getMaxRetries(), meetingId);
+            log.warn("Job exceeded max retries ({}): meetingId={}", maxRetries, meetingId);
         }
     }
 
@@ -153,113 +234,153 @@ public class PersistentDesktopQueueService implements DesktopQueueService {
         queueRepository.update(job.cancel());
         log.info("Job cancelled: meetingId={}", meetingId);
         
-        // Cleanup cancelled jobs immediately
-        queueRepository.delete(job.id());
+        // Move cancelled jobs to history immediately
+        historyRepository.archive(job.id());
+        metrics.transition(job.status(), null);
     }
 
     /**
      * Automatically retry failed jobs (runs every 5 minutes).
+     *
+     * <p>Runs without an enclosing transaction: each chunk is a single
+     * {@code UPDATE ... RETURNING} that commits on its own, so a large backlog
+     * never holds locks for the whole sweep.</p>
      */
     @Scheduled(fixedDelayString = "${transcription.desktop.retry-check-minutes:5}000", 
                initialDelay = 60000)
-    @Transactional
     public void retryFailedJobs() {
-        List<TranscriptionQueueJob> retryableJobs = queueRepository.findRetryable(getMaxRetries());
-        
-        if (retryableJobs.isEmpty()) {
-            return;
-        }
-
-        log.info("Found {} jobs to retry", retryableJobs.size());
-        
-        for (TranscriptionQueueJob job : retryableJobs) {
-            queueRepository.update(job.retry());
-            log.info("Retrying job: meetingId={}, attempt={}", 
-                    job.meetingId(), job.retryCount() + 1);
+        int batchSize = maintenanceBatchSize;
+        int total = 0;
+        List<TranscriptionQueueJob> batch;
+        do {
+            batch = queueRepository.retryFailedBatch(maxRetries, batchSize);
+            for (TranscriptionQueueJob job : batch) {
+                metrics.transition(JobStatus.FAILED, JobStatus.PENDING);
+                log.debug("Retrying job: meetingId={}, attempt={}", job.meetingId(), job.retryCount() + 1);
+            }
+            total += batch.size();
+        } while (batch.size() == batchSize);
+
+        if (total > 0) {
+            metrics.incrementRetries(total);
+            log.info("Retried {} failed jobs", total);
         }
     }
 
     /**
-     * Timeout stalled jobs (runs every 10 minutes).
+     * Timeout stalled jobs (runs every 10 minutes), in committed chunks like {@link #retryFailedJobs()}.
      */
     @Scheduled(fixedDelayString = "${transcription.desktop.timeout-check-minutes:10}000", 
                initialDelay = 120000)
-    @Transactional
     public void timeoutStalledJobs() {
         OffsetDateTime timeoutBefore = OffsetDateTime.now()
-                .minusMinutes(getJobTimeoutMinutes());
-        
-        List<TranscriptionQueueJob> timedOutJobs = queueRepository.findTimedOut(timeoutBefore);
-        
-        if (timedOutJobs.isEmpty()) {
-            return;
-        }
-
-        log.warn("Found {} timed-out jobs", timedOutJobs.size());
-        
-        for (TranscriptionQueueJob job : timedOutJobs) {
-            String error = String.format("Job timed out after %d minutes", getJobTimeoutMinutes());
-            queueRepository.update(job.fail(error));
-            log.error("Job timed out: meetingId={}, acceptedAt={}", 
-                    job.meetingId(), job.acceptedAt());
+                .minusMinutes(jobTimeoutMinutes);
+        String error = String.format("Job timed out after %d minutes", jobTimeoutMinutes);
+        int batchSize = maintenanceBatchSize;
+        int total = 0;
+        List<TranscriptionQueueJob> batch;
+        do {
+            batch = queueRepository.timeoutStalledBatch(timeoutBefore, error, batchSize);
+            for (TranscriptionQueueJob job : batch) {
+                // jobs are persisted as PROCESSING straight away on accept/claim
+                metrics.transition(JobStatus.PROCESSING, JobStatus.FAILED);
+                log.error("Job timed out: meetingId={}, acceptedAt={}", 
+                        job.meetingId(), job.acceptedAt());
+            }
+            total += batch.size();
+        } while (batch.size() == batchSize);
+
+        if (total > 0) {
+            metrics.incrementTimeouts(total);
+            log.warn("Timed out {} stalled jobs", total);
         }
     }
 
     /**
-     * Cleanup old completed/cancelled jobs (runs daily).
+     * Moves finished jobs still in the queue to history (runs daily), in committed chunks.
+     * Catches failed jobs that used up their retries and anything a crash left behind.
      */
     @Scheduled(cron = "${transcription.desktop.cleanup-cron:0 0 3 * * ?}")
-    @Transactional
     public void cleanupOldJobs() {
         OffsetDateTime cleanupBefore = OffsetDateTime.now()
-                .minusHours(getCleanupRetentionHours());
+                .minusHours(cleanupRetentionHours);
+        int batchSize = maintenanceBatchSize;
+        int total = 0;
+        int archived;
+        do {
+            archived = historyRepository.archiveFinishedBatch(cleanupBefore, maxRetries, batchSize);
+            total += archived;
+        } while (archived == batchSize);
         
-        int deleted = queueRepository.deleteCompleted(cleanupBefore);
-        
-        if (deleted > 0) {
-            log.info("Cleaned up {} old jobs", deleted);
+        if (total > 0) {
+            log.info("Archived {} finished jobs to history", total);
+            syncQueueStats();
         }
     }
 
     /**
-     * Log queue statistics (runs every hour).
+     * Makes sure the history partitions for this month and next exist (runs at startup
+     * and then daily), so a month missed while the app was down is created before
+     * anything is archived into it.
      */
-    @Scheduled(fixedDelayString = "${transcription.desktop.stats-log-minutes:60}000", 
-               initialDelay = 300000)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${transcription.desktop.history-partition-cron:0 30 2 * * ?}")
+    public void ensureHistoryPartitions() {
+        LocalDate today = LocalDate.now();
+        historyRepository.ensurePartition(today);
+        historyRepository.ensurePartition(today.plusMonths(1));
+    }
+
+    /**
+     * Reconciles the cached queue depth gauges with the database and logs a summary
+     * (runs at startup and then every 5 minutes). Gauges are otherwise kept current
+     * by the state transitions above, so metric scrapes never query the table.
+     */
+    @Scheduled(fixedDelayString = "${transcription.desktop.stats-sync-minutes:5}",
+               initialDelay = 0, timeUnit = TimeUnit.MINUTES)
     @Transactional(readOnly = true)
-    public void logQueueStats() {
-        long pending = queueRepository.countByStatus(JobStatus.PENDING);
-        long processing = queueRepository.countByStatus(JobStatus.PROCESSING);
-        long failed = queueRepository.countByStatus(JobStatus.FAILED);
-        
+    public void syncQueueStats() {
+        Map<JobStatus, Long> counts = queueRepository.countGroupedByStatus();
+        metrics.resetQueueDepth(counts);
+
+        long pending = counts.getOrDefault(JobStatus.PENDING, 0L);
+        long processing = counts.getOrDefault(JobStatus.PROCESSING, 0L);
+        long failed = counts.getOrDefault(JobStatus.FAILED, 0L);
         if (pending + processing + failed > 0) {
             log.info("Queue stats: pending={}, processing={}, failed={}", 
                     pending, processing, failed);
         }
     }
 
+    private void recordAccepted(TranscriptionQueueJob job) {
+        metrics.transition(JobStatus.PENDING, job.status());
+        metrics.recordQueueWait(TranscriptionProvider.DESKTOP_LOCAL, job.model().getValue(),
+                job.createdAt(), job.acceptedAt());
+    }
+
+    private void recordCompleted(TranscriptionQueueJob job) {
+        String model = job.model().getValue();
+        metrics.recordProcessing(TranscriptionProvider.DESKTOP_LOCAL, model, job.acceptedAt(), job.completedAt());
+        metrics.recordLatency(TranscriptionProvider.DESKTOP_LOCAL, model, job.createdAt(), job.completedAt());
+    }
+
+    private void recordThroughput(TranscriptionQueueJob job) {
+        if (job.workerId() == null || job.audioDurationSec() == null || job.acceptedAt() == null) {
+            return;
+        }
+        Duration elapsed = Duration.between(job.acceptedAt(), job.completedAt());
+        workerRegistry.recordCompletion(job.workerId(), job.model(),
+                job.audioDurationSec(), elapsed.toMillis() / 1000.0);
+    }
+
     private DesktopTranscriptionJob toDesktopJob(TranscriptionQueueJob job) {
         return new DesktopTranscriptionJob(
                 job.meetingId(),
                 Path.of(job.audioPath()),
                 job.model(),
                 job.language(),
-                job.enableDiarization()
+                job.enableDiarization(),
+                job.audioDurationSec()
         );
     }
-
-    private int getJobTimeoutMinutes() {
-        // TODO: Add to AppProps if needed
-        return DEFAULT_JOB_TIMEOUT_MINUTES;
-    }
-
-    private int getMaxRetries() {
-        // TODO: Add to AppProps if needed
-        return DEFAULT_MAX_RETRIES;
-    }
-
-    private int getCleanupRetentionHours() {
-        // TODO: Add to AppProps if needed
-        return DEFAULT_CLEANUP_RETENTION_HOURS;
-    }
 }
@@ -0,0 +1,104 @@
+package com.decisiondesk.backend.meetings.service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+import com.decisiondesk.backend.meetings.persistence.PackedSegments;
+import com.decisiondesk.backend.meetings.persistence.SegmentPackRepository;
+import com.decisiondesk.backend.meetings.persistence.TranscriptSegmentRepository;
+import com.decisiondesk.backend.web.ApiException;
+
+/**
+ * Chooses between row and packed storage for a meeting's segments and keeps the two exclusive.
+ *
+ * <p>Imports of at least {@code segments.packed.min-segments} segments are packed (0, the default,
+ * never packs automatically); callers can also ask for a format explicitly. Packed meetings read
+ * faster and take far less space. In exchange they drop out of segment-level search.</p>
+ */
+@Service
+public class SegmentStorageService {
+
+    private final TranscriptSegmentRepository segmentRepository;
+    private final SegmentPackRepository packRepository;
+    private final int packedMinSegments;
+
+    public SegmentStorageService(TranscriptSegmentRepository segmentRepository,
+                                 SegmentPackRepository packRepository,
+                                 @Value("${segments.packed.min-segments:0}") int packedMinSegments) {
+        this.segmentRepository = segmentRepository;
+        this.packRepository = packRepository;
+        this.packedMinSegments = packedMinSegments;
+    }
+
+    /**
+     * How to store an import.
+     */
+    public enum Storage {
+        /** By size, per {@code segments.packed.min-segments}. */
+        AUTO,
+        ROWS,
+        PACKED
+    }
+
+    /**
+     * Replaces the meeting's segments.
+     *
+     * @return the stored segments; packed ones carry {@link PackedSegments#segmentId derived ids}
+     */
+    @Transactional
+    public List<TranscriptSegment> replace(UUID meetingId, List<TranscriptSegment> segments, Storage storage) {
+        boolean packed = switch (storage) {
+            case PACKED -> true;
+            case ROWS -> false;
+            case AUTO -> packedMinSegments > 0 && segments.size() >= packedMinSegments;
+        };
+        segmentRepository.deleteByMeetingId(meetingId);
+        packRepository.deleteByMeetingId(meetingId);
+        if (!packed) {
+            return segmentRepository.insertBatch(meetingId, segments);
+        }
+        PackedSegments pack = PackedSegments.pack(segments);
+        packRepository.save(meetingId, pack);
+        return pack.unpack(meetingId, OffsetDateTime.now());
+    }
+
+    /**
+     * Converts a meeting's segment rows into a pack.
+     *
+     * @return number of segments packed
+     * @throws ApiException 404 when the meeting has no segment rows
+     */
+    @Transactional
+    public int pack(UUID meetingId) {
+        List<TranscriptSegment> segments = segmentRepository.findByMeetingId(meetingId);
+        if (segments.isEmpty()) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "SEGMENTS_NOT_FOUND",
+                    "No segment rows to pack for meeting " + meetingId);
+        }
+        packRepository.save(meetingId, PackedSegments.pack(segments));
+        segmentRepository.deleteByMeetingId(meetingId);
+        return segments.size();
+    }
+
+    /**
+     * The meeting's segments in ordinal order, whichever way they are stored.
+     */
+    public List<TranscriptSegment> findByMeetingId(UUID meetingId) {
+        return packRepository.findByMeetingId(meetingId)
+                .map(stored -> stored.pack().unpack(meetingId, stored.createdAt()))
+                .orElseGet(() -> segmentRepository.findByMeetingId(meetingId));
+    }
+
+    @Transactional
+    public void delete(UUID meetingId) {
+        segmentRepository.deleteByMeetingId(meetingId);
+        packRepository.deleteByMeetingId(meetingId);
+    }
+}
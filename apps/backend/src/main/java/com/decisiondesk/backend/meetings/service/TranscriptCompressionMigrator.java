@@ -0,0 +1,87 @@
+package com.decisiondesk.backend.meetings.service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
+import com.decisiondesk.backend.meetings.persistence.TranscriptRepository.CompressionBatch;
+
+/**
+ * Compresses transcripts stored before compression existed, or while it was disabled.
+ *
+ * <p>Walks the plain rows in id order, one committed batch at a time, pausing between batches
+ * so the sweep doesn't compete with request traffic. Rows locked by a concurrent write are
+ * skipped and picked up on the next run. Once everything is compressed a run is a single
+ * index lookup.</p>
+ */
+@Component
+public class TranscriptCompressionMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(TranscriptCompressionMigrator.class);
+
+    private final TranscriptRepository transcriptRepository;
+    private final TransactionTemplate batchTx;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    public TranscriptCompressionMigrator(TranscriptRepository transcriptRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${transcripts.compression.migration.enabled:true}") boolean enabled,
+                                         @Value("${transcripts.compression.migration.batch-size:50}") int batchSize,
+                                         @Value("${transcripts.compression.migration.pause-millis:200}") long pauseMillis) {
+        this.transcriptRepository = transcriptRepository;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * Runs the sweep (five minutes after startup, then every six hours by default).
+     */
+    @Scheduled(fixedDelayString = "${transcripts.compression.migration.interval-minutes:360}",
+               initialDelayString = "${transcripts.compression.migration.initial-delay-minutes:5}",
+               timeUnit = TimeUnit.MINUTES)
+    public void compressExisting() {
+        if (!enabled) {
+            return;
+        }
+        UUID cursor = null;
+        int scanned = 0;
+        int compressed = 0;
+        CompressionBatch batch;
+        do {
+            UUID after = cursor;
+            batch = batchTx.execute(status -> transcriptRepository.compressPlainBatch(after, batchSize));
+            scanned += batch.scanned();
+            compressed += batch.compressed();
+            cursor = batch.lastId();
+        } while (batch.scanned() == batchSize && pause());
+
+        if (compressed > 0) {
+            log.info("Compressed {} of {} large plain transcripts", compressed, scanned);
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.decisiondesk.backend.meetings.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.decisiondesk.backend.meetings.TranscriptionProvider;
+import com.decisiondesk.backend.meetings.model.TranscriptionQueueJob.JobStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer instrumentation for the transcription pipeline.
+ *
+ * <p>Meters:</p>
+ * <ul>
+ *   <li>{@code transcription.queue.depth{status}} - desktop queue size per status</li>
+ *   <li>{@code transcription.queue.wait{provider,model}} - enqueue to accept</li>
+ *   <li>{@code transcription.processing{provider,model}} - accept (or start) to completion</li>
+ *   <li>{@code transcription.latency{provider,model}} - request to completion</li>
+ *   <li>{@code transcription.queue.retries} / {@code transcription.queue.timeouts}</li>
+ * </ul>
+ *
+ * <p>Queue depth gauges read in-memory counters that the queue service adjusts on every
+ * state change and periodically reconciles with the database, so scrapes never hit the DB.</p>
+ */
+@Component
+public class TranscriptionMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<JobStatus, AtomicLong> queueDepth = new EnumMap<>(JobStatus.class);
+    private final Counter retries;
+    private final Counter timeouts;
+
+    public TranscriptionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (JobStatus status : JobStatus.values()) {
+            AtomicLong depth = new AtomicLong();
+            queueDepth.put(status, depth);
+            Gauge.builder("transcription.queue.depth", depth, AtomicLong::get)
+                    .description("Desktop transcription jobs by status")
+                    .tag("status", status.name().toLowerCase())
+                    .register(registry);
+        }
+        this.retries = Counter.builder("transcription.queue.retries")
+                .description("Failed desktop jobs put back to pending")
+                .register(registry);
+        this.timeouts = Counter.builder("transcription.queue.timeouts")
+                .description("Desktop jobs failed for exceeding the processing timeout")
+                .register(registry);
+    }
+
+    /**
+     * Moves one job between statuses. Pass {@code null} for {@code from} on insert
+     * and for {@code to} on delete.
+     */
+    public void transition(JobStatus from, JobStatus to) {
+        if (from != null) {
+            queueDepth.get(from).updateAndGet(v -> Math.max(0, v - 1));
+        }
+        if (to != null) {
+            queueDepth.get(to).incrementAndGet();
+        }
+    }
+
+    /**
+     * Replaces the cached depths with authoritative counts; statuses absent from the map are zeroed.
+     */
+    public void resetQueueDepth(Map<JobStatus, Long> counts) {
+        queueDepth.forEach((status, depth) -> depth.set(counts.getOrDefault(status, 0L)));
+    }
+
+    public long queueDepth(JobStatus status) {
+        return queueDepth.get(status).get();
+    }
+
+    public void recordQueueWait(TranscriptionProvider provider, String model,
+                                OffsetDateTime enqueuedAt, OffsetDateTime acceptedAt) {
+        record("transcription.queue.wait", provider, model, enqueuedAt, acceptedAt);
+    }
+
+    public void recordProcessing(TranscriptionProvider provider, String model,
+                                 OffsetDateTime startedAt, OffsetDateTime completedAt) {
+        record("transcription.processing", provider, model, startedAt, completedAt);
+    }
+
+    public void recordLatency(TranscriptionProvider provider, String model,
+                              OffsetDateTime requestedAt, OffsetDateTime completedAt) {
+        record("transcription.latency", provider, model, requestedAt, completedAt);
+    }
+
+    public void incrementRetries(int count) {
+        retries.increment(count);
+    }
+
+    public void incrementTimeouts(int count) {
+        timeouts.increment(count);
+    }
+
+    private void record(String name, TranscriptionProvider provider, String model,
+                        OffsetDateTime start, OffsetDateTime end) {
+        if (start == null || end == null) {
+            return;
+        }
+        Duration elapsed = Duration.between(start, end);
+        if (elapsed.isNegative()) {
+            return;
+        }
+        Timer.builder(name)
+                .tag("provider", provider.getValue())
+                .tag("model", model != null ? model : "unknown")
+                .publishPercentiles(0.5, 0.95)
+                .register(registry)
+                .record(elapsed);
+    }
+}
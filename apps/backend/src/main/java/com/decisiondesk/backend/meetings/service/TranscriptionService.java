@@ -64,6 +64,7 @@ public class TranscriptionService implements TranscriptionOperations {
     private final ObjectMapper objectMapper;
     private final Optional<LocalWhisperService> localWhisperService;
     private final Optional<DesktopQueueService> desktopQueueService;
+    private final TranscriptionMetrics metrics;
 
     public TranscriptionService(MeetingRepository meetingRepository,
                                 AudioAssetRepository audioAssetRepository,
@@ -74,7 +75,8 @@ public class TranscriptionService implements TranscriptionOperations {
                                 AppProps appProps,
                                 ObjectMapper objectMapper,
                                 Optional<LocalWhisperService> localWhisperService,
-                                Optional<DesktopQueueService> desktopQueueService) {
+                                Optional<DesktopQueueService> desktopQueueService,
+                                TranscriptionMetrics metrics) {
         this.meetingRepository = meetingRepository;
         this.audioAssetRepository = audioAssetRepository;
         this.transcriptRepository = transcriptRepository;
@@ -85,6 +87,7 @@ public class TranscriptionService implements TranscriptionOperations {
         this.objectMapper = objectMapper;
         this.localWhisperService = localWhisperService;
         this.desktopQueueService = desktopQueueService;
+        this.metrics = metrics;
     }
 
     @Override
@@ -123,6 +126,7 @@ public class TranscriptionService implements TranscriptionOperations {
      * Transcribes using OpenAI Whisper API (cloud).
      */
     private MeetingStatus transcribeWithOpenAI(UUID meetingId, AudioAsset asset) {
+        OffsetDateTime startedAt = OffsetDateTime.now(ZoneOffset.UTC);
         meetingRepository.updateStatus(meetingId, MeetingStatus.PROCESSING);
 
         try {
@@ -165,6 +169,7 @@ public class TranscriptionService implements TranscriptionOperations {
             usageRecordRepository.insert(usageRecord);
 
             meetingRepository.updateStatus(meetingId, MeetingStatus.DONE);
+            recordTiming(TranscriptionProvider.REMOTE_OPENAI, WhisperClient.DEFAULT_MODEL, startedAt);
             return MeetingStatus.DONE;
         } catch (WhisperClientException ex) {
             meetingRepository.updateStatus(meetingId, MeetingStatus.ERROR);
@@ -187,6 +192,7 @@ public class TranscriptionService implements TranscriptionOperations {
                 .orElseThrow(() -> new ApiException(HttpStatus.SERVICE_UNAVAILABLE, 
                         "PROVIDER_UNAVAILABLE", "server_local provider is not configured"));
 
+        OffsetDateTime startedAt = OffsetDateTime.now(ZoneOffset.UTC);
         meetingRepository.updateStatus(meetingId, MeetingStatus.PROCESSING);
 
         try {
@@ -224,6 +230,7 @@ public class TranscriptionService implements TranscriptionOperations {
             usageRecordRepository.insert(usageRecord);
 
             meetingRepository.updateStatus(meetingId, MeetingStatus.DONE);
+            recordTiming(TranscriptionProvider.SERVER_LOCAL, options.model().getValue(), startedAt);
             return MeetingStatus.DONE;
         } catch (LocalWhisperException ex) {
             meetingRepository.updateStatus(meetingId, MeetingStatus.ERROR);
@@ -254,12 +261,22 @@ public class TranscriptionService implements TranscriptionOperations {
                 Path.of(asset.path()),
                 options.model(),
                 appProps.ai().defaultLanguage(),
-                options.enableDiarization()));
+                options.enableDiarization(),
+                asset.durationSec()));
 
         log.info("Meeting {} queued for desktop transcription", meetingId);
         return MeetingStatus.PROCESSING;
     }
 
+    /**
+     * Synchronous providers have no queue wait, so processing time equals end-to-end latency.
+     */
+    private void recordTiming(TranscriptionProvider provider, String model, OffsetDateTime startedAt) {
+        OffsetDateTime completedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        metrics.recordProcessing(provider, model, startedAt, completedAt);
+        metrics.recordLatency(provider, model, startedAt, completedAt);
+    }
+
     private WhisperCostEstimate calculateCost(WhisperTranscription transcription) {
         Double durationSeconds = transcription.durationSeconds();
         if (durationSeconds == null || durationSeconds <= 0) {
@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
+import com.decisiondesk.backend.catalog.Catalog;
 import com.decisiondesk.backend.meetingtypes.model.MeetingType;
 import com.decisiondesk.backend.meetingtypes.persistence.MeetingTypeRepository;
 
@@ -16,9 +17,11 @@ import com.decisiondesk.backend.meetingtypes.persistence.MeetingTypeRepository;
 public class MeetingTypeService {
 
     private final MeetingTypeRepository meetingTypeRepository;
+    private final Catalog catalog;
 
-    public MeetingTypeService(MeetingTypeRepository meetingTypeRepository) {
+    public MeetingTypeService(MeetingTypeRepository meetingTypeRepository, Catalog catalog) {
         this.meetingTypeRepository = meetingTypeRepository;
+        this.catalog = catalog;
     }
 
     public MeetingType createMeetingType(String name, String description,
@@ -55,12 +58,12 @@ public class MeetingTypeService {
     }
 
     public MeetingType getMeetingType(UUID id) {
-        return meetingTypeRepository.findById(id)
+        return catalog.snapshot().meetingType(id)
             .orElseThrow(() -> new MeetingTypeNotFoundException(id));
     }
 
     public List<MeetingType> getAllMeetingTypes() {
-        return meetingTypeRepository.findAll();
+        return catalog.snapshot().meetingTypes();
     }
 
     public MeetingType updateMeetingType(UUID id, String name, String description,
@@ -13,6 +13,7 @@ import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.catalog.CatalogChanges;
 import com.decisiondesk.backend.meetingtypes.model.MeetingType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -32,13 +33,16 @@ public class MeetingTypeRepository {
 
     private final JdbcClient jdbcClient;
     private final ObjectMapper objectMapper;
+    private final CatalogChanges catalogChanges;
 
-    public MeetingTypeRepository(JdbcClient jdbcClient, ObjectMapper objectMapper) {
+    public MeetingTypeRepository(JdbcClient jdbcClient, ObjectMapper objectMapper, CatalogChanges catalogChanges) {
         this.jdbcClient = jdbcClient;
         this.objectMapper = objectMapper;
+        this.catalogChanges = catalogChanges;
     }
 
     public MeetingType create(MeetingType meetingType) {
+        catalogChanges.recordWrite();
         jdbcClient.sql("""
                 INSERT INTO meeting_types (id, name, description, required_tags, default_whisper_model,
                     summary_template_id, summary_template_ids, extraction_config,
@@ -84,6 +88,7 @@ public class MeetingTypeRepository {
     }
 
     public int update(MeetingType meetingType) {
+        catalogChanges.recordWrite();
         return jdbcClient.sql("""
                 UPDATE meeting_types SET
                     name = :name,
@@ -115,6 +120,7 @@ public class MeetingTypeRepository {
     }
 
     public int deleteById(UUID id) {
+        catalogChanges.recordWrite();
         return jdbcClient.sql("DELETE FROM meeting_types WHERE id = :id")
                 .param("id", id)
                 .update();
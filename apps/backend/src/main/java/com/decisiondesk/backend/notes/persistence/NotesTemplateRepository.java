@@ -10,6 +10,7 @@ import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.catalog.CatalogChanges;
 import com.decisiondesk.backend.notes.model.NotesTemplate;
 
 /**
@@ -19,12 +20,15 @@ import com.decisiondesk.backend.notes.model.NotesTemplate;
 public class NotesTemplateRepository {
 
     private final JdbcClient jdbcClient;
+    private final CatalogChanges catalogChanges;
 
-    public NotesTemplateRepository(JdbcClient jdbcClient) {
+    public NotesTemplateRepository(JdbcClient jdbcClient, CatalogChanges catalogChanges) {
         this.jdbcClient = jdbcClient;
+        this.catalogChanges = catalogChanges;
     }
 
     public NotesTemplate create(NotesTemplate template) {
+        catalogChanges.recordWrite();
         jdbcClient.sql("""
                 INSERT INTO notes_templates (id, language, name, template, is_default)
                 VALUES (:id, :language, :name, :template, :isDefault)
@@ -78,6 +82,7 @@ public class NotesTemplateRepository {
     }
 
     public NotesTemplate update(NotesTemplate template) {
+        catalogChanges.recordWrite();
         jdbcClient.sql("""
                 UPDATE notes_templates SET
                     name = :name,
@@ -95,6 +100,7 @@ public class NotesTemplateRepository {
     }
 
     public boolean delete(UUID id) {
+        catalogChanges.recordWrite();
         int rows = jdbcClient.sql("DELETE FROM notes_templates WHERE id = :id")
                 .param("id", id)
                 .update();
@@ -9,6 +9,7 @@ import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.ai.AiSettingsCache;
 import com.decisiondesk.backend.notes.model.UserPreference;
 
 /**
@@ -18,12 +19,15 @@ import com.decisiondesk.backend.notes.model.UserPreference;
 public class UserPreferenceRepository {
 
     private final JdbcClient jdbcClient;
+    private final AiSettingsCache aiSettingsCache;
 
-    public UserPreferenceRepository(JdbcClient jdbcClient) {
+    public UserPreferenceRepository(JdbcClient jdbcClient, AiSettingsCache aiSettingsCache) {
         this.jdbcClient = jdbcClient;
+        this.aiSettingsCache = aiSettingsCache;
     }
 
     public UserPreference create(UserPreference preference) {
+        aiSettingsCache.invalidate();
         jdbcClient.sql("""
                 INSERT INTO user_preferences (id, user_id, default_language, notes_template, ai_config)
                 VALUES (:id, :userId, :defaultLanguage, :notesTemplate, :aiConfig::jsonb)
@@ -58,6 +62,7 @@ public class UserPreferenceRepository {
     }
 
     public UserPreference upsert(UserPreference preference) {
+        aiSettingsCache.invalidate();
         jdbcClient.sql("""
                 INSERT INTO user_preferences (id, user_id, default_language, notes_template, ai_config)
                 VALUES (:id, :userId, :defaultLanguage, :notesTemplate, :aiConfig::jsonb)
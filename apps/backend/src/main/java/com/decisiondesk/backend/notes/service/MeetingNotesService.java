@@ -10,13 +10,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.decisiondesk.backend.catalog.Catalog;
+import com.decisiondesk.backend.catalog.CatalogSnapshot;
 import com.decisiondesk.backend.meetings.model.Meeting;
+import com.decisiondesk.backend.meetings.model.MeetingSummary;
 import com.decisiondesk.backend.meetings.persistence.MeetingRepository;
 import com.decisiondesk.backend.notes.model.MeetingSeries;
 import com.decisiondesk.backend.notes.model.NotesTemplate;
 import com.decisiondesk.backend.notes.model.UserPreference;
 import com.decisiondesk.backend.notes.persistence.MeetingSeriesRepository;
-import com.decisiondesk.backend.notes.persistence.NotesTemplateRepository;
 import com.decisiondesk.backend.notes.persistence.UserPreferenceRepository;
 import com.decisiondesk.backend.summaries.model.Summary;
 import com.decisiondesk.backend.summaries.persistence.SummaryRepository;
@@ -33,7 +35,7 @@ public class MeetingNotesService {
     private final MeetingRepository meetingRepository;
     private final MeetingSeriesRepository seriesRepository;
     private final UserPreferenceRepository preferenceRepository;
-    private final NotesTemplateRepository templateRepository;
+    private final Catalog catalog;
     private final SummaryRepository summaryRepository;
     private final NotesBlockParser blockParser;
 
@@ -41,13 +43,13 @@ public class MeetingNotesService {
             MeetingRepository meetingRepository,
             MeetingSeriesRepository seriesRepository,
             UserPreferenceRepository preferenceRepository,
-            NotesTemplateRepository templateRepository,
+            Catalog catalog,
             @org.springframework.beans.factory.annotation.Qualifier("summariesSummaryRepository") SummaryRepository summaryRepository,
             NotesBlockParser blockParser) {
         this.meetingRepository = meetingRepository;
         this.seriesRepository = seriesRepository;
         this.preferenceRepository = preferenceRepository;
-        this.templateRepository = templateRepository;
+        this.catalog = catalog;
         this.summaryRepository = summaryRepository;
         this.blockParser = blockParser;
     }
@@ -106,9 +108,10 @@ public class MeetingNotesService {
                 .orElse(UserPreference.DEFAULT_LANGUAGE);
 
         // Get default template for language
-        return templateRepository.findDefaultByLanguage(language)
+        CatalogSnapshot snapshot = catalog.snapshot();
+        return snapshot.defaultNotesTemplate(language)
                 .map(NotesTemplate::template)
-                .orElseGet(() -> templateRepository.findDefaultByLanguage("en")
+                .orElseGet(() -> snapshot.defaultNotesTemplate("en")
                         .map(NotesTemplate::template)
                         .orElse(""));
     }
@@ -241,7 +244,7 @@ public class MeetingNotesService {
                         "SERIES_NOT_FOUND", "Meeting series not found: " + seriesId));
 
         // Calculate next sequence number
-        List<Meeting> seriesMeetings = meetingRepository.findBySeriesId(seriesId);
+        List<MeetingSummary> seriesMeetings = meetingRepository.findBySeriesId(seriesId);
         int nextSequence = seriesMeetings.stream()
                 .mapToInt(m -> m.sequenceNum() != null ? m.sequenceNum() : 0)
                 .max()
@@ -251,7 +254,7 @@ public class MeetingNotesService {
         
         // Auto-link to previous meeting in series if exists
         if (!seriesMeetings.isEmpty()) {
-            Meeting lastInSeries = seriesMeetings.get(seriesMeetings.size() - 1);
+            MeetingSummary lastInSeries = seriesMeetings.get(seriesMeetings.size() - 1);
             meetingRepository.updatePreviousMeeting(meetingId, lastInSeries.id());
         }
 
@@ -260,9 +263,9 @@ public class MeetingNotesService {
     }
 
     /**
-     * Gets all meetings in a series.
+     * Gets all meetings in a series, without their notes documents.
      */
-    public List<Meeting> getSeriesMeetings(UUID seriesId) {
+    public List<MeetingSummary> getSeriesMeetings(UUID seriesId) {
         return meetingRepository.findBySeriesId(seriesId);
     }
 
@@ -1,18 +1,28 @@
 package com.decisiondesk.backend.openai;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.decisiondesk.backend.config.OpenAiProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 /**
  * Client for OpenAI GPT chat completions API.
  */
@@ -100,4 +110,97 @@ public class GptClient {
             throw new GptClientException("GPT request failed: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Streams a chat completion as server-sent events. With {@code include_usage} OpenAI sends
+     * one extra frame with empty {@code choices} and the token usage before {@code [DONE]}.
+     * Cancelling the returned flux closes the connection, which stops generation.
+     */
+    public Flux<GptStreamChunk> streamChatCompletion(
+        String systemPrompt,
+        String userPrompt,
+        String model,
+        int maxTokens,
+        BigDecimal temperature
+    ) {
+        log.info("Streaming chat completion request to model={}, maxTokens={}", model, maxTokens);
+
+        Map<String, Object> request = Map.of(
+            "model", model,
+            "messages", List.of(
+                Map.of("role", "system", "content", systemPrompt),
+                Map.of("role", "user", "content", userPrompt)
+            ),
+            "max_tokens", maxTokens,
+            "temperature", temperature.doubleValue(),
+            "stream", true,
+            "stream_options", Map.of("include_usage", true)
+        );
+
+        Flux<String> data = webClient.post()
+                .uri("/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .timeout(Duration.ofMinutes(2))
+                .mapNotNull(ServerSentEvent::data);
+        return decodeStream(data, model, objectMapper)
+                .onErrorMap(e -> !(e instanceof GptClientException),
+                        e -> new GptClientException("GPT stream failed: " + e.getMessage(), e));
+    }
+
+    /**
+     * Turns the {@code data:} payloads into chunks, accumulating the answer for the final frame.
+     */
+    static Flux<GptStreamChunk> decodeStream(Flux<String> data, String model, ObjectMapper objectMapper) {
+        return Flux.defer(() -> {
+            StringBuilder content = new StringBuilder();
+            AtomicBoolean finished = new AtomicBoolean();
+            AtomicReference<String> usedModel = new AtomicReference<>(model);
+            AtomicReference<JsonNode> usage = new AtomicReference<>();
+            return data
+                    .takeWhile(payload -> {
+                        finished.set("[DONE]".equals(payload.trim()));
+                        return !finished.get();
+                    })
+                    .concatMapIterable(payload -> {
+                        JsonNode frame = readFrame(objectMapper, payload);
+                        if (frame.hasNonNull("error")) {
+                            throw new GptClientException("GPT error: " + frame.path("error").path("message").asText());
+                        }
+                        if (frame.hasNonNull("model")) {
+                            usedModel.set(frame.path("model").asText());
+                        }
+                        if (frame.hasNonNull("usage")) {
+                            usage.set(frame.path("usage"));
+                        }
+                        String delta = frame.path("choices").path(0).path("delta").path("content").asText("");
+                        if (delta.isEmpty()) {
+                            return List.<GptStreamChunk>of();
+                        }
+                        content.append(delta);
+                        return List.of(new GptStreamChunk(delta, null));
+                    })
+                    .concatWith(Mono.defer(() -> {
+                        if (!finished.get()) {
+                            return Mono.error(new GptClientException("GPT stream ended before [DONE]"));
+                        }
+                        JsonNode tokens = usage.get() != null ? usage.get() : objectMapper.createObjectNode();
+                        GptCompletion completion = new GptCompletion(content.toString(), usedModel.get(),
+                                tokens.path("prompt_tokens").asInt(), tokens.path("completion_tokens").asInt(),
+                                tokens.path("total_tokens").asInt());
+                        log.info("GPT stream complete: model={}, tokens={}", completion.model(), completion.totalTokens());
+                        return Mono.just(new GptStreamChunk(null, completion));
+                    }));
+        });
+    }
+
+    private static JsonNode readFrame(ObjectMapper objectMapper, String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new GptClientException("Malformed GPT stream frame", e);
+        }
+    }
 }
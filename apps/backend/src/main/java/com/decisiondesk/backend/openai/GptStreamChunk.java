@@ -0,0 +1,8 @@
+package com.decisiondesk.backend.openai;
+
+/**
+ * One frame of a streamed GPT completion: a content delta, or the final frame with the full
+ * answer and usage.
+ */
+public record GptStreamChunk(String delta, GptCompletion completion) {
+}
@@ -54,9 +54,9 @@ public class PersonService {
     }
 
     /**
-     * Searches people by name for autocomplete.
+     * Searches people by name or email for autocomplete, tolerating typos and accents.
      * 
-     * @param query the search prefix
+     * @param query the search text
      * @return matching people (limited to 10)
      */
     public List<Person> searchPeople(String query) {
@@ -66,6 +66,19 @@ public class PersonService {
         return personRepository.search(query.trim(), DEFAULT_SEARCH_LIMIT);
     }
 
+    /**
+     * Looks up people by email prefix, e.g. while typing an address.
+     *
+     * @param prefix the beginning of the email address
+     * @return matching people (limited to 10)
+     */
+    public List<Person> findByEmailPrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return personRepository.findByEmailPrefix(prefix.trim(), DEFAULT_SEARCH_LIMIT);
+    }
+
     /**
      * Updates a person.
      */
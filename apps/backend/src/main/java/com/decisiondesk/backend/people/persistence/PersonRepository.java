@@ -67,31 +67,63 @@ public class PersonRepository {
     }
 
     /**
-     * Searches people by display name prefix (case-insensitive).
-     * Used for autocomplete functionality.
-     * 
-     * @param query the search prefix
+     * Searches people for autocomplete, ignoring case and accents.
+     *
+     * <p>Matches substrings of display or full name, near misses (typos) by trigram word
+     * similarity, and email prefixes. Results are ordered: name prefix matches, then email
+     * prefix matches, then by similarity. All predicates are served by the trigram and
+     * email-prefix indexes from V16.</p>
+     *
+     * @param query the search text
      * @param limit maximum results to return
      * @return matching people ordered by relevance
      */
     public List<Person> search(String query, int limit) {
-        String pattern = query.toLowerCase() + "%";
+        String escaped = escapeLike(query.toLowerCase());
+        return jdbcClient.sql("""
+                WITH q AS (SELECT lower(immutable_unaccent(:query)) AS term,
+                                  lower(immutable_unaccent(:escaped)) AS pattern)
+                SELECT p.id, p.display_name, p.full_name, p.email, p.notes, p.created_at, p.updated_at
+                FROM people p, q
+                WHERE p.search_name LIKE '%' || q.pattern || '%'
+                   OR p.search_name %> q.term
+                   OR lower(p.email) LIKE :escaped || '%'
+                ORDER BY
+                    CASE WHEN p.search_name LIKE q.pattern || '%' THEN 0
+                         WHEN lower(p.email) LIKE :escaped || '%' THEN 1
+                         ELSE 2 END,
+                    word_similarity(q.term, p.search_name) DESC,
+                    p.display_name
+                LIMIT :limit
+                """)
+                .param("query", query.toLowerCase())
+                .param("escaped", escaped)
+                .param("limit", limit)
+                .query(this::mapPerson)
+                .list();
+    }
+
+    /**
+     * Finds people whose email starts with the given prefix (case-insensitive).
+     */
+    public List<Person> findByEmailPrefix(String prefix, int limit) {
         return jdbcClient.sql("""
                 SELECT id, display_name, full_name, email, notes, created_at, updated_at
-                FROM people 
-                WHERE LOWER(display_name) LIKE :pattern
-                   OR LOWER(full_name) LIKE :pattern
-                ORDER BY 
-                    CASE WHEN LOWER(display_name) LIKE :pattern THEN 0 ELSE 1 END,
-                    display_name
+                FROM people
+                WHERE email IS NOT NULL AND lower(email) LIKE :pattern
+                ORDER BY lower(email)
                 LIMIT :limit
                 """)
-                .param("pattern", pattern)
+                .param("pattern", escapeLike(prefix.toLowerCase()) + "%")
                 .param("limit", limit)
                 .query(this::mapPerson)
                 .list();
     }
 
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     /**
      * Updates an existing person.
      */
@@ -0,0 +1,96 @@
+package com.decisiondesk.backend.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import com.decisiondesk.backend.config.AppProps;
+import com.decisiondesk.backend.meetings.model.Transcript;
+import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
+import com.decisiondesk.backend.search.model.TranscriptSearchHit;
+import com.decisiondesk.backend.search.persistence.TranscriptSearchRepository;
+import com.decisiondesk.backend.web.ApiException;
+
+/**
+ * Ranked full-text search across meeting transcripts.
+ */
+@Service
+public class TranscriptSearchService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final TranscriptSearchRepository searchRepository;
+    private final TranscriptRepository transcriptRepository;
+    private final AppProps appProps;
+
+    public TranscriptSearchService(TranscriptSearchRepository searchRepository,
+                                   TranscriptRepository transcriptRepository, AppProps appProps) {
+        this.searchRepository = searchRepository;
+        this.transcriptRepository = transcriptRepository;
+        this.appProps = appProps;
+    }
+
+    /**
+     * Searches transcripts.
+     *
+     * @param query     search terms; supports quoted phrases, {@code or} and {@code -term}
+     * @param language  language code for stemming, defaults to {@code app.ai.default-language}
+     * @param meetingId optional meeting to search within
+     * @param limit     maximum hits, defaults to {@value #DEFAULT_LIMIT}
+     */
+    @Transactional(readOnly = true)
+    public List<TranscriptSearchHit> search(String query, String language, UUID meetingId, Integer limit) {
+        if (!StringUtils.hasText(query)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", "Search query is required");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_REQUEST",
+                    "Search query must be at most %d characters".formatted(MAX_QUERY_LENGTH));
+        }
+        String lang = StringUtils.hasText(language) ? language : appProps.ai().defaultLanguage();
+        int max = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        String terms = query.trim();
+        return withSnippets(searchRepository.search(terms, lang, meetingId, max), terms, lang);
+    }
+
+    /**
+     * Transcript-level hits on compressed transcripts come back without a snippet. Their texts are
+     * loaded with one query and highlighted with another, however many such hits the page has.
+     */
+    private List<TranscriptSearchHit> withSnippets(List<TranscriptSearchHit> hits, String query, String language) {
+        List<UUID> missing = hits.stream()
+                .filter(TranscriptSearchService::needsSnippet)
+                .map(TranscriptSearchHit::meetingId)
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return hits;
+        }
+        List<Transcript> transcripts = transcriptRepository.findByMeetingIds(missing);
+        List<String> headlines = searchRepository.headlines(
+                transcripts.stream().map(Transcript::text).toList(), query, language);
+        Map<UUID, String> snippets = new HashMap<>();
+        for (int i = 0; i < transcripts.size(); i++) {
+            snippets.put(transcripts.get(i).meetingId(), headlines.get(i));
+        }
+        return hits.stream()
+                .map(hit -> needsSnippet(hit)
+                        ? new TranscriptSearchHit(hit.meetingId(), hit.meetingTitle(), hit.meetingCreatedAt(),
+                                hit.segmentId(), hit.startSec(), hit.endSec(), hit.speakerLabel(), hit.rank(),
+                                snippets.get(hit.meetingId()))
+                        : hit)
+                .toList();
+    }
+
+    private static boolean needsSnippet(TranscriptSearchHit hit) {
+        return hit.snippet() == null && hit.segmentId() == null;
+    }
+}
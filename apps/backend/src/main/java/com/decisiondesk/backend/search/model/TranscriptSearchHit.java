@@ -0,0 +1,30 @@
+package com.decisiondesk.backend.search.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A ranked full-text match inside a meeting transcript.
+ *
+ * @param meetingId        meeting containing the match
+ * @param meetingTitle     meeting title (may be null)
+ * @param meetingCreatedAt meeting creation timestamp
+ * @param segmentId        matching segment, or null when the meeting has no segments and the
+ *                         match is in the plain transcript text
+ * @param startSec         segment start offset in the audio, null for transcript-level matches
+ * @param endSec           segment end offset in the audio
+ * @param speakerLabel     segment speaker label, if any
+ * @param rank             relevance score (higher is better)
+ * @param snippet          HTML-escaped excerpt with matches wrapped in {@code <mark>}
+ */
+public record TranscriptSearchHit(
+    UUID meetingId,
+    String meetingTitle,
+    OffsetDateTime meetingCreatedAt,
+    UUID segmentId,
+    Double startSec,
+    Double endSec,
+    String speakerLabel,
+    double rank,
+    String snippet
+) {}
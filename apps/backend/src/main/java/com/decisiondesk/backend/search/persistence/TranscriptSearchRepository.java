@@ -0,0 +1,129 @@
+package com.decisiondesk.backend.search.persistence;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import com.decisiondesk.backend.search.model.TranscriptSearchHit;
+
+/**
+ * Full-text queries over {@code transcript_segments} and {@code transcripts}.
+ *
+ * <p>Both tables carry a {@code search_vector} column kept current on write (see V15) and
+ * GIN-indexed. Matches are ranked first and only the top rows get a {@code ts_headline}
+ * snippet, since headline generation re-parses the document text.</p>
+ *
+ * <p>Compressed transcripts (see V19) have no text the database can read, so their
+ * transcript-level hits come back without a snippet; {@link #headlines} builds them from the
+ * texts once the caller has decompressed them.</p>
+ */
+@Repository
+public class TranscriptSearchRepository {
+
+    private static final String HEADLINE_OPTIONS =
+            "StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=12, MaxFragments=2, FragmentDelimiter=\" … \"";
+
+    private final JdbcClient jdbcClient;
+
+    public TranscriptSearchRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Searches segment text, plus the plain transcript of meetings that have no segments.
+     *
+     * @param query     web-search style query ({@code "exact phrase"}, {@code or}, {@code -exclude})
+     * @param language  language code selecting the text search configuration
+     * @param meetingId restrict to one meeting, or null for all
+     * @param limit     maximum number of hits
+     */
+    public List<TranscriptSearchHit> search(String query, String language, UUID meetingId, int limit) {
+        return jdbcClient.sql("""
+                WITH q AS (
+                    SELECT text_search_config(:language) AS cfg,
+                           websearch_to_tsquery(text_search_config(:language), :query) AS query
+                ),
+                hits AS (
+                    SELECT s.meeting_id, s.id AS segment_id, s.start_sec, s.end_sec, s.speaker_label, s.text,
+                           ts_rank_cd(s.search_vector, q.query) AS rank
+                    FROM transcript_segments s, q
+                    WHERE s.search_vector @@ q.query
+                      AND (CAST(:meetingId AS UUID) IS NULL OR s.meeting_id = :meetingId)
+                    UNION ALL
+                    SELECT t.meeting_id, NULL, NULL, NULL, NULL, t.text,
+                           ts_rank_cd(t.search_vector, q.query)
+                    FROM transcripts t, q
+                    WHERE t.search_vector @@ q.query
+                      AND (CAST(:meetingId AS UUID) IS NULL OR t.meeting_id = :meetingId)
+                      AND NOT EXISTS (SELECT 1 FROM transcript_segments s2 WHERE s2.meeting_id = t.meeting_id)
+                ),
+                top_hits AS (
+                    SELECT hits.*, m.title, m.created_at
+                    FROM hits
+                    JOIN meetings m ON m.id = hits.meeting_id AND m.deleted_at IS NULL
+                    ORDER BY hits.rank DESC, m.created_at DESC
+                    LIMIT :limit
+                )
+                SELECT top_hits.meeting_id, top_hits.title, top_hits.created_at, top_hits.segment_id,
+                       top_hits.start_sec, top_hits.end_sec, top_hits.speaker_label, top_hits.rank,
+                       ts_headline(q.cfg,
+                                   replace(replace(replace(top_hits.text, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                                   q.query, :headlineOptions) AS snippet
+                FROM top_hits, q
+                ORDER BY top_hits.rank DESC, top_hits.created_at DESC
+                """)
+                .param("language", language)
+                .param("query", query)
+                .param("meetingId", meetingId)
+                .param("limit", limit)
+                .param("headlineOptions", HEADLINE_OPTIONS)
+                .query(this::mapHit)
+                .list();
+    }
+
+    /**
+     * Builds snippets for several texts in one statement, the same way {@link #search} does.
+     *
+     * @return one snippet per text, in the same order
+     */
+    public List<String> headlines(List<String> texts, String query, String language) {
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql("""
+                WITH q AS (
+                    SELECT text_search_config(:language) AS cfg,
+                           websearch_to_tsquery(text_search_config(:language), :query) AS query
+                )
+                SELECT ts_headline(q.cfg,
+                                   replace(replace(replace(d.text, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                                   q.query, :headlineOptions)
+                FROM unnest(CAST(:texts AS TEXT[])) WITH ORDINALITY AS d(text, ord), q
+                ORDER BY d.ord
+                """)
+                .param("language", language)
+                .param("texts", texts.toArray(String[]::new))
+                .param("query", query)
+                .param("headlineOptions", HEADLINE_OPTIONS)
+                .query(String.class)
+                .list();
+    }
+
+    private TranscriptSearchHit mapHit(ResultSet rs, int rowNum) throws SQLException {
+        return new TranscriptSearchHit(
+                rs.getObject("meeting_id", UUID.class),
+                rs.getString("title"),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getObject("segment_id", UUID.class),
+                rs.getObject("start_sec", Double.class),
+                rs.getObject("end_sec", Double.class),
+                rs.getString("speaker_label"),
+                rs.getDouble("rank"),
+                rs.getString("snippet"));
+    }
+}
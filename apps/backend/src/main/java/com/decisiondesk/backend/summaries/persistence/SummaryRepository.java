@@ -10,6 +10,7 @@ import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
 import com.decisiondesk.backend.summaries.model.Summary;
 
 /**
@@ -20,12 +21,15 @@ import com.decisiondesk.backend.summaries.model.Summary;
 public class SummaryRepository {
 
     private final JdbcClient jdbcClient;
+    private final MeetingDetailsCache detailsCache;
 
-    public SummaryRepository(JdbcClient jdbcClient) {
+    public SummaryRepository(JdbcClient jdbcClient, MeetingDetailsCache detailsCache) {
         this.jdbcClient = jdbcClient;
+        this.detailsCache = detailsCache;
     }
 
     public Summary create(Summary summary) {
+        detailsCache.invalidate(summary.meetingId());
         jdbcClient.sql("""
                 INSERT INTO summaries (id, meeting_id, text_md, template_id, model, tokens_used)
                 VALUES (:id, :meetingId, :textMd, :templateId, :model, :tokensUsed)
@@ -97,6 +101,7 @@ public class SummaryRepository {
      * Re-generating the same template for a meeting overwrites the previous result.
      */
     public Summary upsert(Summary summary) {
+        detailsCache.invalidate(summary.meetingId());
         // Use two-step approach: try update first, then insert if no rows affected
         if (summary.templateId() != null) {
             int updated = jdbcClient.sql("""
@@ -138,13 +143,16 @@ public class SummaryRepository {
     }
 
     public boolean deleteById(UUID summaryId) {
-        int rows = jdbcClient.sql("DELETE FROM summaries WHERE id = :id")
+        Optional<UUID> meetingId = jdbcClient.sql("DELETE FROM summaries WHERE id = :id RETURNING meeting_id")
                 .param("id", summaryId)
-                .update();
-        return rows > 0;
+                .query(UUID.class)
+                .optional();
+        meetingId.ifPresent(detailsCache::invalidate);
+        return meetingId.isPresent();
     }
 
     public boolean deleteAllByMeetingId(UUID meetingId) {
+        detailsCache.invalidate(meetingId);
         int rows = jdbcClient.sql("DELETE FROM summaries WHERE meeting_id = :meetingId")
                 .param("meetingId", meetingId)
                 .update();
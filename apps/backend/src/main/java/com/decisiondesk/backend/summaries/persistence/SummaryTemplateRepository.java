@@ -11,6 +11,7 @@ import java.util.UUID;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import com.decisiondesk.backend.catalog.CatalogChanges;
 import com.decisiondesk.backend.summaries.model.SummaryTemplate;
 
 /**
@@ -20,12 +21,15 @@ import com.decisiondesk.backend.summaries.model.SummaryTemplate;
 public class SummaryTemplateRepository {
 
     private final JdbcClient jdbcClient;
+    private final CatalogChanges catalogChanges;
 
-    public SummaryTemplateRepository(JdbcClient jdbcClient) {
+    public SummaryTemplateRepository(JdbcClient jdbcClient, CatalogChanges catalogChanges) {
         this.jdbcClient = jdbcClient;
+        this.catalogChanges = catalogChanges;
     }
 
     public SummaryTemplate create(SummaryTemplate template) {
+        catalogChanges.recordWrite();
         jdbcClient.sql("""
                 INSERT INTO summary_templates 
                 (id, name, description, system_prompt, user_prompt_template, output_format, 
@@ -79,6 +83,7 @@ public class SummaryTemplateRepository {
     }
 
     public SummaryTemplate update(SummaryTemplate template) {
+        catalogChanges.recordWrite();
         jdbcClient.sql("""
                 UPDATE summary_templates SET
                     name = :name,
@@ -108,6 +113,7 @@ public class SummaryTemplateRepository {
     }
 
     public boolean delete(UUID id) {
+        catalogChanges.recordWrite();
         int rows = jdbcClient.sql("DELETE FROM summary_templates WHERE id = :id")
                 .param("id", id)
                 .update();
@@ -118,6 +124,7 @@ public class SummaryTemplateRepository {
      * Sets a template as the default, unsetting any previous default.
      */
     public void setAsDefault(UUID templateId) {
+        catalogChanges.recordWrite();
         // Unset current default
         jdbcClient.sql("UPDATE summary_templates SET is_default = FALSE WHERE is_default = TRUE")
                 .update();
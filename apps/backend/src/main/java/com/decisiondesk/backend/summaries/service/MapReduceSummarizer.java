@@ -0,0 +1,236 @@
+package com.decisiondesk.backend.summaries.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.decisiondesk.backend.ai.AiCompletion;
+import com.decisiondesk.backend.ai.AiCompletionProvider;
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+import com.decisiondesk.backend.summaries.model.SummaryTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Summarizes transcripts too long for one prompt.
+ *
+ * <p>The transcript is cut into chunks on segment boundaries (or line and sentence boundaries
+ * when the meeting has no segments). Each chunk is condensed into notes in parallel, with at most
+ * {@code summaries.map-reduce.concurrency.<provider>} requests in flight per provider. While the
+ * notes are still over the threshold, consecutive notes are merged the same way. The template's
+ * own prompts then run once over the notes, as if they were the transcript.</p>
+ *
+ * <p>The returned completion carries the final answer and the token counts of every call.</p>
+ */
+@Component
+public class MapReduceSummarizer {
+
+    private static final Logger log = LoggerFactory.getLogger(MapReduceSummarizer.class);
+
+    static final String MAP_SYSTEM_PROMPT = """
+            You are taking notes on one part of a long meeting transcript. Your notes will be combined
+            with the notes from the other parts to write the final summary.
+            Write dense bullet points: topics discussed, decisions, action items with owner and due date,
+            open questions, and any figures or dates mentioned. Keep speaker names.
+            No introduction or conclusion. Write in the same language as the transcript.
+            """;
+
+    static final String COMBINE_SYSTEM_PROMPT = """
+            You are merging notes taken on consecutive parts of a long meeting into one set of notes.
+            Remove repetition but keep every decision, action item, owner, date and figure.
+            Use dense bullet points, no introduction or conclusion, in the same language as the notes.
+            """;
+
+    private static final int MAX_COMBINE_ROUNDS = 4;
+
+    private final SummaryMapReduceProperties properties;
+    private final ConcurrentMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MapReduceSummarizer(SummaryMapReduceProperties properties) {
+        this.properties = properties;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Whether {@code transcriptText} is long enough to be summarized in chunks.
+     */
+    public boolean applies(String transcriptText) {
+        return properties.enabled() && transcriptText != null && transcriptText.length() > properties.thresholdChars();
+    }
+
+    /**
+     * Result of a chunked summary.
+     *
+     * @param completion the final answer, with token counts summed over all calls
+     * @param calls      number of completion requests made
+     */
+    public record Result(AiCompletion completion, int calls) {}
+
+    /**
+     * Summarizes a long transcript with the template's prompts.
+     *
+     * @param systemPrompt system prompt for the final call (the template's, or an override)
+     * @param segments     the meeting's segments in order; may be empty
+     */
+    public Result summarize(AiCompletionProvider provider, String model, SummaryTemplate template,
+                            String systemPrompt, List<TranscriptSegment> segments, String transcriptText) {
+        List<String> chunks = chunk(segments, transcriptText, properties.chunkChars());
+        log.info("Summarizing long transcript in {} chunks: provider={} model={}", chunks.size(), provider.name(), model);
+
+        List<AiCompletion> calls = new ArrayList<>();
+        List<String> notes = mapAll(provider, model, MAP_SYSTEM_PROMPT, label(chunks), template, calls);
+        for (int round = 0; round < MAX_COMBINE_ROUNDS && notes.size() > 1
+                && totalLength(notes) > properties.thresholdChars(); round++) {
+            List<String> groups = group(label(notes), properties.chunkChars());
+            if (groups.size() == notes.size()) {
+                break;
+            }
+            notes = mapAll(provider, model, COMBINE_SYSTEM_PROMPT, groups, template, calls);
+        }
+
+        AiCompletion last = provider.chatCompletion(systemPrompt,
+                template.buildUserPrompt(String.join("\n\n", label(notes))),
+                model, template.maxTokens(), template.temperature());
+        calls.add(last);
+
+        int promptTokens = calls.stream().mapToInt(AiCompletion::promptTokens).sum();
+        int completionTokens = calls.stream().mapToInt(AiCompletion::completionTokens).sum();
+        return new Result(new AiCompletion(last.content(), last.model(), last.provider(),
+                promptTokens, completionTokens, promptTokens + completionTokens), calls.size());
+    }
+
+    /**
+     * Runs one prompt per input, in parallel under the provider's cap, and returns the answers in
+     * input order. The first failure cancels the calls still waiting and is rethrown.
+     */
+    private List<String> mapAll(AiCompletionProvider provider, String model, String systemPrompt,
+                                List<String> inputs, SummaryTemplate template, List<AiCompletion> calls) {
+        Semaphore semaphore = permits.computeIfAbsent(provider.name(),
+                name -> new Semaphore(properties.concurrencyFor(name), true));
+        List<Future<AiCompletion>> futures = new ArrayList<>(inputs.size());
+        for (String input : inputs) {
+            futures.add(executor.submit(() -> {
+                semaphore.acquire();
+                try {
+                    return provider.chatCompletion(systemPrompt, input, model,
+                            properties.mapMaxTokens(), template.temperature());
+                } finally {
+                    semaphore.release();
+                }
+            }));
+        }
+        List<String> answers = new ArrayList<>(inputs.size());
+        try {
+            for (Future<AiCompletion> future : futures) {
+                AiCompletion completion = future.get();
+                calls.add(completion);
+                answers.add(completion.content());
+            }
+            return answers;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while summarizing transcript chunks", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Summarizing a transcript chunk failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Cuts the transcript into chunks of about {@code chunkChars}, never splitting a segment.
+     * Segment lines carry their start time and speaker. Without segments the plain text is cut at
+     * the last line break or sentence end before the limit.
+     */
+    static List<String> chunk(List<TranscriptSegment> segments, String transcriptText, int chunkChars) {
+        if (segments.isEmpty()) {
+            return splitText(transcriptText, chunkChars);
+        }
+        List<String> lines = new ArrayList<>(segments.size());
+        for (TranscriptSegment segment : segments) {
+            String speaker = segment.speakerLabel() != null ? segment.speakerLabel() + ": " : "";
+            lines.add("[" + timestamp(segment.startSec()) + "] " + speaker + segment.text());
+        }
+        return group(lines, chunkChars);
+    }
+
+    /**
+     * Joins consecutive parts with blank lines, starting a new group before one would exceed
+     * {@code maxChars}. A single part larger than the limit forms its own group.
+     */
+    static List<String> group(List<String> parts, int maxChars) {
+        List<String> groups = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String part : parts) {
+            if (current.length() > 0 && current.length() + part.length() + 1 > maxChars) {
+                groups.add(current.toString());
+                current.setLength(0);
+            }
+            if (current.length() > 0) {
+                current.append('\n');
+            }
+            current.append(part);
+        }
+        if (current.length() > 0) {
+            groups.add(current.toString());
+        }
+        return groups;
+    }
+
+    static List<String> splitText(String text, int chunkChars) {
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(text.length(), start + chunkChars);
+            if (end < text.length()) {
+                int cut = Math.max(text.lastIndexOf('\n', end), text.lastIndexOf(". ", end) + 1);
+                if (cut > start + chunkChars / 2) {
+                    end = cut + 1;
+                }
+            }
+            String chunk = text.substring(start, end).strip();
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static List<String> label(List<String> parts) {
+        List<String> labelled = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            labelled.add("## Part " + (i + 1) + " of " + parts.size() + "\n\n" + parts.get(i));
+        }
+        return labelled;
+    }
+
+    private static int totalLength(List<String> parts) {
+        return parts.stream().mapToInt(String::length).sum();
+    }
+
+    private static String timestamp(double seconds) {
+        long total = (long) seconds;
+        return total >= 3600
+                ? "%d:%02d:%02d".formatted(total / 3600, total / 60 % 60, total % 60)
+                : "%02d:%02d".formatted(total / 60, total % 60);
+    }
+}
@@ -0,0 +1,37 @@
+package com.decisiondesk.backend.summaries.service;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Hierarchical summarization of transcripts too long for one prompt.
+ *
+ * @param enabled        summarize long transcripts in chunks; off always sends the whole transcript
+ * @param thresholdChars transcripts longer than this are chunked
+ * @param chunkChars     target size of one chunk; chunks end on a segment boundary
+ * @param mapMaxTokens   output budget for the notes of one chunk
+ * @param concurrency    parallel chunk requests per provider name; providers not listed get 2
+ */
+@ConfigurationProperties(prefix = "summaries.map-reduce")
+public record SummaryMapReduceProperties(
+        Boolean enabled,
+        Integer thresholdChars,
+        Integer chunkChars,
+        Integer mapMaxTokens,
+        Map<String, Integer> concurrency) {
+
+    private static final int DEFAULT_CONCURRENCY = 2;
+
+    public SummaryMapReduceProperties {
+        enabled = enabled == null || enabled;
+        thresholdChars = thresholdChars == null ? 48_000 : thresholdChars;
+        chunkChars = chunkChars == null ? 24_000 : chunkChars;
+        mapMaxTokens = mapMaxTokens == null ? 800 : mapMaxTokens;
+        concurrency = concurrency == null ? Map.of("ollama", 2, "openai", 4) : Map.copyOf(concurrency);
+    }
+
+    public int concurrencyFor(String provider) {
+        return Math.max(1, concurrency.getOrDefault(provider, DEFAULT_CONCURRENCY));
+    }
+}
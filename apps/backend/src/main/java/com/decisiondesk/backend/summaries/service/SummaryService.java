@@ -2,7 +2,6 @@ package com.decisiondesk.backend.summaries.service;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,7 +10,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.decisiondesk.backend.meetings.model.Meeting;
 import com.decisiondesk.backend.meetings.model.Transcript;
@@ -19,41 +19,50 @@ import com.decisiondesk.backend.meetings.model.UsageRecord;
 import com.decisiondesk.backend.meetings.persistence.MeetingRepository;
 import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
 import com.decisiondesk.backend.meetings.persistence.UsageRecordRepository;
+import com.decisiondesk.backend.meetings.service.SegmentStorageService;
 import com.decisiondesk.backend.meetingtypes.model.MeetingType;
-import com.decisiondesk.backend.meetingtypes.persistence.MeetingTypeRepository;
 import com.decisiondesk.backend.ai.AiCompletion;
 import com.decisiondesk.backend.ai.AiCompletionProvider;
 import com.decisiondesk.backend.ai.AiProviderRouter;
-import com.decisiondesk.backend.notes.persistence.UserPreferenceRepository;
+import com.decisiondesk.backend.ai.AiResponseCache;
+import com.decisiondesk.backend.ai.AiResponseCache.CachingProvider;
+import com.decisiondesk.backend.ai.AiSettings;
+import com.decisiondesk.backend.ai.AiSettingsService;
+import com.decisiondesk.backend.catalog.Catalog;
 import com.decisiondesk.backend.summaries.model.Summary;
 import com.decisiondesk.backend.summaries.model.SummaryTemplate;
 import com.decisiondesk.backend.summaries.persistence.SummaryRepository;
 import com.decisiondesk.backend.summaries.persistence.SummaryTemplateRepository;
 import com.decisiondesk.backend.web.ApiException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Service for generating meeting summaries using AI providers (OpenAI / Ollama).
  * Supports multiple summaries per meeting (one per template).
+ *
+ * <p>Generation runs without a transaction: the transcript is read first, the provider
+ * calls (possibly dozens for a map-reduce summary) hold no connection, and only the
+ * summary upsert and usage insert share a short transaction at the end.</p>
  */
 @Service
 public class SummaryService {
 
     private static final Logger log = LoggerFactory.getLogger(SummaryService.class);
     private static final BigDecimal USD_TO_BRL = new BigDecimal("5.0");
-    private static final String DEFAULT_USER = "default";
-    private static final String DEFAULT_PROVIDER = "ollama";
-    private static final String DEFAULT_MODEL = "qwen3:14b";
+    private static final String DEFAULT_PROVIDER = AiSettings.DEFAULT_PROVIDER;
+    private static final String DEFAULT_MODEL = AiSettings.DEFAULT_MODEL;
 
     private final TranscriptRepository transcriptRepository;
     private final SummaryRepository summaryRepository;
     private final SummaryTemplateRepository templateRepository;
     private final UsageRecordRepository usageRecordRepository;
     private final MeetingRepository meetingRepository;
-    private final MeetingTypeRepository meetingTypeRepository;
     private final AiProviderRouter aiProviderRouter;
-    private final UserPreferenceRepository preferenceRepository;
-    private final ObjectMapper objectMapper;
+    private final AiSettingsService aiSettingsService;
+    private final Catalog catalog;
+    private final SegmentStorageService segmentStorage;
+    private final MapReduceSummarizer mapReduceSummarizer;
+    private final AiResponseCache responseCache;
+    private final TransactionTemplate saveTx;
 
     public SummaryService(
             TranscriptRepository transcriptRepository,
@@ -61,41 +70,55 @@ public class SummaryService {
             SummaryTemplateRepository templateRepository,
             UsageRecordRepository usageRecordRepository,
             MeetingRepository meetingRepository,
-            MeetingTypeRepository meetingTypeRepository,
             AiProviderRouter aiProviderRouter,
-            UserPreferenceRepository preferenceRepository,
-            ObjectMapper objectMapper) {
+            AiSettingsService aiSettingsService,
+            Catalog catalog,
+            SegmentStorageService segmentStorage,
+            MapReduceSummarizer mapReduceSummarizer,
+            AiResponseCache responseCache,
+            PlatformTransactionManager transactionManager) {
         this.transcriptRepository = transcriptRepository;
         this.summaryRepository = summaryRepository;
         this.templateRepository = templateRepository;
         this.usageRecordRepository = usageRecordRepository;
         this.meetingRepository = meetingRepository;
-        this.meetingTypeRepository = meetingTypeRepository;
         this.aiProviderRouter = aiProviderRouter;
-        this.preferenceRepository = preferenceRepository;
-        this.objectMapper = objectMapper;
+        this.aiSettingsService = aiSettingsService;
+        this.catalog = catalog;
+        this.segmentStorage = segmentStorage;
+        this.mapReduceSummarizer = mapReduceSummarizer;
+        this.responseCache = responseCache;
+        this.saveTx = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Generates a summary for a meeting using the specified template.
      * If no templateId is provided, uses the default template.
      * Re-generating with the same template overwrites the previous summary for that template.
+     *
+     * @param noCache call the provider even when an identical request has a cached answer
      */
-    @Transactional
     public Summary generateSummary(UUID meetingId, UUID templateId,
-                                    String providerName, String modelOverride) {
+                                    String providerName, String modelOverride, boolean noCache) {
         Transcript transcript = transcriptRepository.findByMeetingId(meetingId)
                 .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST,
                         "NO_TRANSCRIPT", "Meeting has no transcript to summarize"));
 
         SummaryTemplate template = resolveTemplate(templateId);
 
-        AiCompletionProvider provider = resolveProvider(providerName);
-        String effectiveModel = resolveModel(modelOverride, template.model());
+        AiSettings settings = aiSettingsService.current();
+        CachingProvider provider = responseCache.wrap(resolveProvider(providerName, settings), noCache);
+        String effectiveModel = resolveModel(modelOverride, template.model(), settings);
 
         log.info("Generating summary for meeting={} using template={} provider={} model={}",
                 meetingId, template.name(), provider.name(), effectiveModel);
 
+        if (mapReduceSummarizer.applies(transcript.text())) {
+            MapReduceSummarizer.Result result = mapReduceSummarizer.summarize(provider, effectiveModel, template,
+                    template.systemPrompt(), segmentStorage.findByMeetingId(meetingId), transcript.text());
+            return save(meetingId, template, template.id(), result.completion(), result.calls(), provider.hits());
+        }
+
         String userPrompt = template.buildUserPrompt(transcript.text());
 
         AiCompletion completion = provider.chatCompletion(
@@ -106,27 +129,16 @@ public class SummaryService {
                 template.temperature()
         );
 
-        recordUsage(meetingId, template, completion);
-
-        Summary summary = Summary.create(
-                meetingId,
-                completion.content(),
-                template.id(),
-                completion.model(),
-                completion.totalTokens()
-        );
-
-        return summaryRepository.upsert(summary);
+        return save(meetingId, template, template.id(), completion, 1, provider.hits());
     }
 
     /**
      * Generates a summary with optional prompt overrides and save-as-template option.
      */
-    @Transactional
     public Summary generateSummary(UUID meetingId, UUID templateId,
                                     String systemPromptOverride, String userPromptOverride,
                                     boolean saveAsTemplate, String newTemplateName,
-                                    String providerName, String modelOverride) {
+                                    String providerName, String modelOverride, boolean noCache) {
         Transcript transcript = transcriptRepository.findByMeetingId(meetingId)
                 .orElseThrow(() -> new ApiException(HttpStatus.BAD_REQUEST,
                         "NO_TRANSCRIPT", "Meeting has no transcript to summarize"));
@@ -139,30 +151,38 @@ public class SummaryService {
             userPrompt = template.buildUserPrompt(transcript.text());
         }
 
-        AiCompletionProvider provider = resolveProvider(providerName);
-        String effectiveModel = resolveModel(modelOverride, template.model());
+        AiSettings settings = aiSettingsService.current();
+        CachingProvider provider = responseCache.wrap(resolveProvider(providerName, settings), noCache);
+        String effectiveModel = resolveModel(modelOverride, template.model(), settings);
 
         log.info("Generating summary for meeting={} using template={} provider={} model={} (overrides: sys={}, user={})",
                 meetingId, template.name(), provider.name(), effectiveModel,
                 systemPromptOverride != null, userPromptOverride != null);
 
-        AiCompletion completion = provider.chatCompletion(
-                systemPrompt, userPrompt, effectiveModel, template.maxTokens(), template.temperature());
-
-        recordUsage(meetingId, template, completion);
-
-        UUID effectiveTemplateId = template.id();
-        if (saveAsTemplate && newTemplateName != null) {
-            SummaryTemplate newTemplate = SummaryTemplate.create(
-                    newTemplateName, systemPrompt, template.userPromptTemplate());
-            templateRepository.create(newTemplate);
-            effectiveTemplateId = newTemplate.id();
-            log.info("Saved new template: id={}, name={}", newTemplate.id(), newTemplateName);
+        AiCompletion completion;
+        int calls = 1;
+        if (userPromptOverride == null && mapReduceSummarizer.applies(transcript.text())) {
+            MapReduceSummarizer.Result result = mapReduceSummarizer.summarize(provider, effectiveModel, template,
+                    systemPrompt, segmentStorage.findByMeetingId(meetingId), transcript.text());
+            completion = result.completion();
+            calls = result.calls();
+        } else {
+            completion = provider.chatCompletion(
+                    systemPrompt, userPrompt, effectiveModel, template.maxTokens(), template.temperature());
         }
 
-        Summary summary = Summary.create(meetingId, completion.content(),
-                effectiveTemplateId, completion.model(), completion.totalTokens());
-        return summaryRepository.upsert(summary);
+        int callCount = calls;
+        return saveTx.execute(status -> {
+            UUID effectiveTemplateId = template.id();
+            if (saveAsTemplate && newTemplateName != null) {
+                SummaryTemplate newTemplate = SummaryTemplate.create(
+                        newTemplateName, systemPrompt, template.userPromptTemplate());
+                templateRepository.create(newTemplate);
+                effectiveTemplateId = newTemplate.id();
+                log.info("Saved new template: id={}, name={}", newTemplate.id(), newTemplateName);
+            }
+            return save(meetingId, template, effectiveTemplateId, completion, callCount, provider.hits());
+        });
     }
 
     /**
@@ -185,8 +205,7 @@ public class SummaryService {
      *
      * @return list of successfully generated summaries
      */
-    @Transactional
-    public List<Summary> generateAllForMeetingType(UUID meetingId) {
+    public List<Summary> generateAllForMeetingType(UUID meetingId, boolean noCache) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND,
                         "MEETING_NOT_FOUND", "Meeting not found: " + meetingId));
@@ -196,7 +215,7 @@ public class SummaryService {
                     "NO_MEETING_TYPE", "Meeting has no type assigned");
         }
 
-        MeetingType meetingType = meetingTypeRepository.findById(meeting.meetingTypeId())
+        MeetingType meetingType = catalog.snapshot().meetingType(meeting.meetingTypeId())
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND,
                         "MEETING_TYPE_NOT_FOUND", "Meeting type not found: " + meeting.meetingTypeId()));
 
@@ -212,7 +231,7 @@ public class SummaryService {
         return templateIds.stream()
                 .map(templateId -> {
                     try {
-                        return generateSummary(meetingId, templateId, null, null);
+                        return generateSummary(meetingId, templateId, null, null, noCache);
                     } catch (Exception e) {
                         log.error("Failed to generate summary for meeting={} template={}: {}",
                                 meetingId, templateId, e.getMessage());
@@ -230,65 +249,21 @@ public class SummaryService {
         return summaryRepository.deleteById(summaryId);
     }
 
-    @SuppressWarnings("unchecked")
-    private AiCompletionProvider resolveProvider(String providerOverride) {
+    private AiCompletionProvider resolveProvider(String providerOverride, AiSettings settings) {
         if (providerOverride != null && !providerOverride.isBlank()) {
             return aiProviderRouter.getProvider(providerOverride);
         }
-        try {
-            return preferenceRepository.findByUserId(DEFAULT_USER)
-                    .filter(p -> p.aiConfig() != null)
-                    .map(p -> {
-                        try {
-                            Map<String, Object> config = objectMapper.readValue(p.aiConfig(), Map.class);
-                            Object summarization = config.get("summarization");
-                            if (summarization instanceof Map<?, ?> s) {
-                                Object provider = s.get("provider");
-                                if (provider instanceof String name && !name.isBlank()) {
-                                    return aiProviderRouter.getProvider(name);
-                                }
-                            }
-                        } catch (Exception e) {
-                            log.warn("Failed to parse AI config for provider resolution: {}", e.getMessage());
-                        }
-                        return (AiCompletionProvider) null;
-                    })
-                    .orElse(aiProviderRouter.getProvider(DEFAULT_PROVIDER));
-        } catch (Exception e) {
-            log.warn("Failed to read AI settings, falling back to {}: {}", DEFAULT_PROVIDER, e.getMessage());
-            return aiProviderRouter.getProvider(DEFAULT_PROVIDER);
-        }
+        String configured = settings.summarization().provider();
+        return aiProviderRouter.getProvider(configured != null ? configured : DEFAULT_PROVIDER);
     }
 
-    @SuppressWarnings("unchecked")
-    private String resolveModel(String modelOverride, String templateModel) {
+    private String resolveModel(String modelOverride, String templateModel, AiSettings settings) {
         if (modelOverride != null && !modelOverride.isBlank()) {
             return modelOverride;
         }
-        try {
-            String fromSettings = preferenceRepository.findByUserId(DEFAULT_USER)
-                    .filter(p -> p.aiConfig() != null)
-                    .map(p -> {
-                        try {
-                            Map<String, Object> config = objectMapper.readValue(p.aiConfig(), Map.class);
-                            Object summarization = config.get("summarization");
-                            if (summarization instanceof Map<?, ?> s) {
-                                Object model = s.get("model");
-                                if (model instanceof String name && !name.isBlank()) {
-                                    return name;
-                                }
-                            }
-                        } catch (Exception e) {
-                            log.warn("Failed to parse AI config for model resolution: {}", e.getMessage());
-                        }
-                        return (String) null;
-                    })
-                    .orElse(null);
-            if (fromSettings != null) {
-                return fromSettings;
-            }
-        } catch (Exception e) {
-            log.warn("Failed to read AI settings for model, using template default: {}", e.getMessage());
+        String configured = settings.summarization().model();
+        if (configured != null) {
+            return configured;
         }
         if (templateModel != null && !templateModel.isBlank()) {
             return templateModel;
@@ -298,16 +273,34 @@ public class SummaryService {
 
     private SummaryTemplate resolveTemplate(UUID templateId) {
         if (templateId != null) {
-            return templateRepository.findById(templateId)
+            return catalog.snapshot().summaryTemplate(templateId)
                     .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND,
                             "TEMPLATE_NOT_FOUND", "Summary template not found: " + templateId));
         }
-        return templateRepository.findDefault()
+        return catalog.snapshot().defaultSummaryTemplate()
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND,
                         "NO_DEFAULT_TEMPLATE", "No default summary template configured"));
     }
 
-    private void recordUsage(UUID meetingId, SummaryTemplate template, AiCompletion completion) {
+    /**
+     * Stores the summary and its usage row in one short transaction (joining the caller's,
+     * if any).
+     */
+    private Summary save(UUID meetingId, SummaryTemplate template, UUID summaryTemplateId,
+                         AiCompletion completion, int calls, int cacheHits) {
+        return saveTx.execute(status -> {
+            recordUsage(meetingId, template, completion, calls, cacheHits);
+            return summaryRepository.upsert(Summary.create(meetingId, completion.content(),
+                    summaryTemplateId, completion.model(), completion.totalTokens()));
+        });
+    }
+
+    /**
+     * Records one usage row for a summary, however many completion calls it took. Calls answered
+     * from the response cache contribute no tokens, so a fully cached summary costs nothing.
+     */
+    private void recordUsage(UUID meetingId, SummaryTemplate template, AiCompletion completion,
+                             int calls, int cacheHits) {
         BigDecimal costUsd = completion.calculateCostUsd();
         BigDecimal costBrl = costUsd.multiply(USD_TO_BRL);
 
@@ -318,24 +311,26 @@ public class SummaryService {
                 new BigDecimal(completion.totalTokens()),
                 costUsd,
                 costBrl,
-                buildUsageMeta(template, completion),
+                buildUsageMeta(template, completion, calls, cacheHits),
                 null
         );
         usageRecordRepository.insert(usageRecord);
 
-        log.info("AI usage recorded: provider={}, meeting={}, tokens={}, costUsd={}",
-                completion.provider(), meetingId, completion.totalTokens(), costUsd);
+        log.info("AI usage recorded: provider={}, meeting={}, calls={}, tokens={}, costUsd={}",
+                completion.provider(), meetingId, calls, completion.totalTokens(), costUsd);
     }
 
-    private String buildUsageMeta(SummaryTemplate template, AiCompletion completion) {
+    private String buildUsageMeta(SummaryTemplate template, AiCompletion completion, int calls, int cacheHits) {
         return String.format(
-                "{\"template_id\":\"%s\",\"template_name\":\"%s\",\"model\":\"%s\",\"provider\":\"%s\",\"prompt_tokens\":%d,\"completion_tokens\":%d}",
+                "{\"template_id\":\"%s\",\"template_name\":\"%s\",\"model\":\"%s\",\"provider\":\"%s\",\"prompt_tokens\":%d,\"completion_tokens\":%d,\"calls\":%d,\"cache_hits\":%d}",
                 template.id(),
                 template.name(),
                 completion.model(),
                 completion.provider(),
                 completion.promptTokens(),
-                completion.completionTokens()
+                completion.completionTokens(),
+                calls,
+                cacheHits
         );
     }
 }
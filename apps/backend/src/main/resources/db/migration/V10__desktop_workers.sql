@@ -0,0 +1,41 @@
+-- V10: Desktop worker registry and capability-aware job matching
+--
+-- Each desktop app registers the Whisper models it has installed, its core count and
+-- whether diarization is available. Jobs are only handed to workers that can run them,
+-- and measured throughput per (worker, model) drives completion-time estimates.
+
+CREATE TABLE IF NOT EXISTS desktop_workers (
+    id                   VARCHAR(100) PRIMARY KEY,
+    name                 VARCHAR(200),
+    installed_models     TEXT[] NOT NULL DEFAULT '{}',
+    cpu_cores            INTEGER NOT NULL DEFAULT 1,
+    supports_diarization BOOLEAN NOT NULL DEFAULT false,
+    registered_at        TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_seen_at         TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_desktop_workers_last_seen ON desktop_workers(last_seen_at);
+
+-- Rolling throughput per worker and model. realtime_factor = audio seconds / wall seconds,
+-- smoothed with an exponentially weighted moving average.
+CREATE TABLE IF NOT EXISTS desktop_worker_throughput (
+    worker_id          VARCHAR(100) NOT NULL REFERENCES desktop_workers(id) ON DELETE CASCADE,
+    model              VARCHAR(50) NOT NULL,
+    jobs_completed     INTEGER NOT NULL DEFAULT 0,
+    audio_seconds      NUMERIC(14, 3) NOT NULL DEFAULT 0,
+    processing_seconds NUMERIC(14, 3) NOT NULL DEFAULT 0,
+    realtime_factor    NUMERIC(10, 3) NOT NULL,
+    updated_at         TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (worker_id, model)
+);
+
+ALTER TABLE transcription_queue
+    ADD COLUMN IF NOT EXISTS worker_id VARCHAR(100) REFERENCES desktop_workers(id) ON DELETE SET NULL,
+    ADD COLUMN IF NOT EXISTS audio_duration_sec INTEGER;
+
+-- Claim path: oldest pending job for a given model
+CREATE INDEX IF NOT EXISTS idx_transcription_queue_pending_model
+    ON transcription_queue(model, created_at) WHERE status = 'PENDING';
+
+COMMENT ON COLUMN transcription_queue.worker_id IS 'Desktop worker that claimed the job';
+COMMENT ON COLUMN transcription_queue.audio_duration_sec IS 'Audio length used for completion-time estimates';
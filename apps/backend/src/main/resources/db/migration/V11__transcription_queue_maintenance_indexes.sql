@@ -0,0 +1,20 @@
+-- V11: Partial indexes for set-based queue maintenance sweeps
+-- Each sweep selects a bounded chunk in index order; the predicates match the
+-- WHERE clauses in TranscriptionQueueRepository so the planner can use them directly.
+
+-- Timeout sweep: accepted/processing jobs ordered by acceptance time
+CREATE INDEX idx_transcription_queue_stalled
+    ON transcription_queue(status, accepted_at)
+    WHERE status IN ('ACCEPTED', 'PROCESSING');
+
+-- Retry sweep: failed jobs below the retry limit, oldest first
+CREATE INDEX idx_transcription_queue_retryable
+    ON transcription_queue(status, retry_count, created_at)
+    WHERE status = 'FAILED';
+
+-- Cleanup sweep: terminal jobs by completion time
+CREATE INDEX idx_transcription_queue_finished
+    ON transcription_queue(completed_at)
+    WHERE status IN ('COMPLETED', 'CANCELLED');
+
+COMMENT ON COLUMN transcription_queue.retry_count IS 'Number of retries performed; incremented by the retry sweep only';
@@ -0,0 +1,68 @@
+-- V12: Append-only history of finished desktop transcription jobs
+-- Terminal jobs (completed, cancelled, failed past the retry limit) are moved here
+-- so transcription_queue only ever holds live work. Partitioned by month on
+-- finished_at; old months can be detached or dropped without touching the queue.
+
+CREATE TABLE transcription_job_history (
+    job_id UUID NOT NULL,
+    meeting_id UUID NOT NULL,
+    worker_id VARCHAR(100),
+    model VARCHAR(50) NOT NULL,
+    language VARCHAR(10) NOT NULL,
+    enable_diarization BOOLEAN NOT NULL,
+    final_status VARCHAR(20) NOT NULL,
+    retry_count INTEGER NOT NULL,
+    error_message TEXT,
+    audio_duration_sec INTEGER,
+    queued_at TIMESTAMPTZ NOT NULL,
+    accepted_at TIMESTAMPTZ,
+    finished_at TIMESTAMPTZ NOT NULL,
+    queue_wait_seconds NUMERIC(12, 3),
+    processing_seconds NUMERIC(12, 3),
+    PRIMARY KEY (job_id, finished_at)
+) PARTITION BY RANGE (finished_at);
+
+-- Catches rows whose month partition has not been created yet
+CREATE TABLE transcription_job_history_default
+    PARTITION OF transcription_job_history DEFAULT;
+
+CREATE INDEX idx_job_history_worker_model
+    ON transcription_job_history(worker_id, model, finished_at);
+CREATE INDEX idx_job_history_meeting
+    ON transcription_job_history(meeting_id);
+
+-- Creates the partition for the month containing the given date (idempotent)
+CREATE OR REPLACE FUNCTION ensure_transcription_job_history_partition(month_of DATE)
+RETURNS VOID AS $$
+DECLARE
+    month_start DATE := date_trunc('month', month_of)::DATE;
+    partition_name TEXT := 'transcription_job_history_' || to_char(month_of, 'YYYY_MM');
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS %I PARTITION OF transcription_job_history FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT ensure_transcription_job_history_partition(CURRENT_DATE);
+SELECT ensure_transcription_job_history_partition((CURRENT_DATE + INTERVAL '1 month')::DATE);
+
+-- Archive terminal rows left in the queue by earlier versions
+WITH moved AS (
+    DELETE FROM transcription_queue
+    WHERE status IN ('COMPLETED', 'CANCELLED')
+    RETURNING *
+)
+INSERT INTO transcription_job_history (
+    job_id, meeting_id, worker_id, model, language, enable_diarization, final_status,
+    retry_count, error_message, audio_duration_sec, queued_at, accepted_at, finished_at,
+    queue_wait_seconds, processing_seconds)
+SELECT id, meeting_id, worker_id, model, language, enable_diarization, status,
+       retry_count, error_message, audio_duration_sec, created_at, accepted_at,
+       COALESCE(completed_at, updated_at),
+       EXTRACT(EPOCH FROM (accepted_at - created_at)),
+       CASE WHEN status = 'COMPLETED' THEN EXTRACT(EPOCH FROM (completed_at - accepted_at)) END
+FROM moved;
+
+COMMENT ON TABLE transcription_job_history IS 'Finished desktop transcription jobs, partitioned by month of finished_at';
+COMMENT ON COLUMN transcription_job_history.processing_seconds IS 'Accept to completion, only for COMPLETED jobs';
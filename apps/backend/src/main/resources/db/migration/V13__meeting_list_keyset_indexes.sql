@@ -0,0 +1,21 @@
+-- V13: Indexes for keyset-paginated meeting listing
+-- The list is ordered by (created_at DESC, id DESC) over non-deleted meetings.
+-- Each filter gets a composite index whose leading column is the equality filter,
+-- followed by the sort key, so a page is a bounded index range scan.
+
+CREATE INDEX IF NOT EXISTS idx_meetings_live_created
+    ON meetings(created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_meetings_live_folder_created
+    ON meetings(folder_id, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_meetings_live_type_created
+    ON meetings(meeting_type_id, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_meetings_live_status_created
+    ON meetings(status, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
@@ -0,0 +1,7 @@
+-- V14: Index for "latest audio asset per meeting" lookups
+-- Serves the top-1 LATERAL join used by the meeting list and stats, and
+-- AudioAssetRepository.findLatestByMeetingId. Also covers the FK lookups
+-- on audio_assets.meeting_id, which had no index.
+
+CREATE INDEX IF NOT EXISTS idx_audio_assets_meeting_latest
+    ON audio_assets(meeting_id, created_at DESC, id DESC);
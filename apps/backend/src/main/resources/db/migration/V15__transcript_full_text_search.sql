@@ -0,0 +1,77 @@
+-- V15: Full-text search over transcripts and transcript segments
+-- Documents are indexed with the text search configuration matching the
+-- transcript language. Segments take the language of their meeting's
+-- transcript, falling back to 'pt' (the transcripts.language default, kept in
+-- line with app.ai.default-language).
+
+-- Maps a language code ('pt', 'pt-BR', 'en', ...) to a text search configuration
+CREATE OR REPLACE FUNCTION text_search_config(lang TEXT)
+RETURNS regconfig AS $$
+    SELECT CASE lower(split_part(COALESCE(lang, ''), '-', 1))
+        WHEN 'pt' THEN 'portuguese'
+        WHEN 'en' THEN 'english'
+        WHEN 'es' THEN 'spanish'
+        WHEN 'fr' THEN 'french'
+        WHEN 'de' THEN 'german'
+        WHEN 'it' THEN 'italian'
+        WHEN 'nl' THEN 'dutch'
+        ELSE 'simple'
+    END::regconfig
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+-- Transcripts: the vector is derived from the row itself
+ALTER TABLE transcripts
+    ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector(text_search_config(language), text)) STORED;
+
+CREATE INDEX idx_transcripts_search ON transcripts USING GIN(search_vector);
+
+-- Segments: the vector depends on the meeting's transcript language
+ALTER TABLE transcript_segments ADD COLUMN search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION transcript_segments_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := to_tsvector(
+        text_search_config(COALESCE(
+            (SELECT language FROM transcripts WHERE meeting_id = NEW.meeting_id),
+            'pt')),
+        NEW.text);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER transcript_segments_search_vector
+    BEFORE INSERT OR UPDATE OF text, meeting_id ON transcript_segments
+    FOR EACH ROW
+    EXECUTE FUNCTION transcript_segments_search_vector();
+
+-- Re-index a meeting's segments when its transcript appears or changes language
+CREATE OR REPLACE FUNCTION transcripts_reindex_segments()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' OR OLD.language IS DISTINCT FROM NEW.language THEN
+        UPDATE transcript_segments
+        SET search_vector = to_tsvector(text_search_config(NEW.language), text)
+        WHERE meeting_id = NEW.meeting_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER transcripts_reindex_segments
+    AFTER INSERT OR UPDATE OF language ON transcripts
+    FOR EACH ROW
+    EXECUTE FUNCTION transcripts_reindex_segments();
+
+-- Backfill existing segments
+UPDATE transcript_segments s
+SET search_vector = to_tsvector(
+        text_search_config(COALESCE(
+            (SELECT language FROM transcripts t WHERE t.meeting_id = s.meeting_id),
+            'pt')),
+        s.text);
+
+CREATE INDEX idx_transcript_segments_search ON transcript_segments USING GIN(search_vector);
+
+COMMENT ON FUNCTION text_search_config(TEXT) IS 'Language code to text search configuration; unknown languages use simple';
@@ -0,0 +1,26 @@
+-- V16: Accent-insensitive, typo-tolerant people search
+-- The participant picker searches on every keystroke. Names are normalised into
+-- a generated search_name column (lower-cased, accents stripped) indexed with
+-- pg_trgm, which serves substring LIKE and word-similarity matching.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is STABLE because its dictionary can change; pinning the dictionary
+-- makes it safe for generated columns and index expressions.
+CREATE OR REPLACE FUNCTION immutable_unaccent(value TEXT)
+RETURNS TEXT AS $$
+    SELECT unaccent('unaccent'::regdictionary, value)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+ALTER TABLE people
+    ADD COLUMN search_name TEXT
+    GENERATED ALWAYS AS (lower(immutable_unaccent(display_name || ' ' || COALESCE(full_name, '')))) STORED;
+
+CREATE INDEX idx_people_search_name_trgm ON people USING GIN(search_name gin_trgm_ops);
+
+-- Email prefix lookup (text_pattern_ops so LIKE 'abc%' can use the btree under any collation)
+CREATE INDEX idx_people_email_prefix ON people(lower(email) text_pattern_ops) WHERE email IS NOT NULL;
+
+-- Replaced by the trigram index
+DROP INDEX IF EXISTS idx_people_display_name_lower;
@@ -0,0 +1,156 @@
+-- V17: Daily dashboard rollup, maintained by triggers
+-- One row per day of meeting creation with live (not soft-deleted) meeting
+-- counts, recorded audio seconds (latest asset per meeting) and meetings
+-- currently processing. Triggers on meetings and audio_assets apply deltas in
+-- the same transaction as the write, so the dashboard reads a few hundred rows
+-- instead of aggregating every meeting. rebuild_meeting_daily_stats() recomputes
+-- the table from scratch.
+
+CREATE TABLE meeting_daily_stats (
+    day DATE PRIMARY KEY,
+    meeting_count INTEGER NOT NULL DEFAULT 0,
+    audio_seconds BIGINT NOT NULL DEFAULT 0,
+    processing_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE OR REPLACE FUNCTION bump_meeting_daily_stats(stat_day DATE, d_count INTEGER, d_seconds BIGINT, d_processing INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    IF d_count = 0 AND d_seconds = 0 AND d_processing = 0 THEN
+        RETURN;
+    END IF;
+    INSERT INTO meeting_daily_stats AS s (day, meeting_count, audio_seconds, processing_count)
+    VALUES (stat_day, d_count, d_seconds, d_processing)
+    ON CONFLICT (day) DO UPDATE SET
+        meeting_count = s.meeting_count + EXCLUDED.meeting_count,
+        audio_seconds = s.audio_seconds + EXCLUDED.audio_seconds,
+        processing_count = s.processing_count + EXCLUDED.processing_count,
+        updated_at = NOW();
+END;
+$$ LANGUAGE plpgsql;
+
+-- Duration of the meeting's latest asset (same ordering as AudioAssetRepository.LATEST_ASSET_JOIN)
+CREATE OR REPLACE FUNCTION latest_audio_seconds(target_meeting UUID)
+RETURNS BIGINT AS $$
+    SELECT COALESCE((
+        SELECT duration_sec FROM audio_assets
+        WHERE meeting_id = target_meeting
+        ORDER BY created_at DESC, id DESC
+        LIMIT 1), 0)
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION meetings_daily_stats_trigger()
+RETURNS TRIGGER AS $$
+DECLARE
+    old_live BOOLEAN := TG_OP <> 'INSERT' AND OLD.deleted_at IS NULL;
+    new_live BOOLEAN := TG_OP <> 'DELETE' AND NEW.deleted_at IS NULL;
+    old_processing INTEGER := CASE WHEN old_live AND OLD.status = 'PROCESSING' THEN 1 ELSE 0 END;
+    new_processing INTEGER := CASE WHEN new_live AND NEW.status = 'PROCESSING' THEN 1 ELSE 0 END;
+    d_count INTEGER := new_live::INTEGER - old_live::INTEGER;
+    target_meeting UUID := CASE WHEN TG_OP = 'DELETE' THEN OLD.id ELSE NEW.id END;
+    stat_day DATE := CASE WHEN TG_OP = 'DELETE' THEN OLD.created_at::DATE ELSE NEW.created_at::DATE END;
+BEGIN
+    PERFORM bump_meeting_daily_stats(
+        stat_day,
+        d_count,
+        CASE WHEN d_count = 0 THEN 0 ELSE d_count * latest_audio_seconds(target_meeting) END,
+        new_processing - old_processing);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER meetings_daily_stats
+    AFTER INSERT OR DELETE OR UPDATE OF status, deleted_at ON meetings
+    FOR EACH ROW
+    EXECUTE FUNCTION meetings_daily_stats_trigger();
+
+-- Audio changes move the meeting's "latest duration"; apply the difference
+CREATE OR REPLACE FUNCTION audio_assets_daily_stats_trigger()
+RETURNS TRIGGER AS $$
+DECLARE
+    target_meeting UUID := CASE WHEN TG_OP = 'DELETE' THEN OLD.meeting_id ELSE NEW.meeting_id END;
+    meeting_day DATE;
+    latest_id UUID;
+    latest_created TIMESTAMPTZ;
+    latest_seconds BIGINT;
+    before_seconds BIGINT;
+BEGIN
+    IF target_meeting IS NULL THEN
+        RETURN NULL;
+    END IF;
+    SELECT created_at::DATE INTO meeting_day
+    FROM meetings WHERE id = target_meeting AND deleted_at IS NULL;
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+
+    SELECT id, created_at, COALESCE(duration_sec, 0) INTO latest_id, latest_created, latest_seconds
+    FROM audio_assets
+    WHERE meeting_id = target_meeting
+    ORDER BY created_at DESC, id DESC
+    LIMIT 1;
+    latest_seconds := COALESCE(latest_seconds, 0);
+
+    IF TG_OP = 'INSERT' THEN
+        -- latest before the insert, excluding the new row
+        SELECT COALESCE(duration_sec, 0) INTO before_seconds
+        FROM audio_assets
+        WHERE meeting_id = target_meeting AND id <> NEW.id
+        ORDER BY created_at DESC, id DESC
+        LIMIT 1;
+        before_seconds := COALESCE(before_seconds, 0);
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF latest_id IS DISTINCT FROM NEW.id THEN
+            RETURN NULL;
+        END IF;
+        before_seconds := COALESCE(OLD.duration_sec, 0);
+    ELSE
+        -- the deleted row was the latest unless a remaining row sorts after it
+        IF latest_id IS NULL OR (OLD.created_at, OLD.id) > (latest_created, latest_id) THEN
+            before_seconds := COALESCE(OLD.duration_sec, 0);
+        ELSE
+            RETURN NULL;
+        END IF;
+    END IF;
+
+    PERFORM bump_meeting_daily_stats(meeting_day, 0, latest_seconds - before_seconds, 0);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER audio_assets_daily_stats
+    AFTER INSERT OR DELETE OR UPDATE OF duration_sec ON audio_assets
+    FOR EACH ROW
+    EXECUTE FUNCTION audio_assets_daily_stats_trigger();
+
+-- Recomputes the whole rollup; used by the admin rebuild endpoint and below
+CREATE OR REPLACE FUNCTION rebuild_meeting_daily_stats()
+RETURNS INTEGER AS $$
+DECLARE
+    days INTEGER;
+BEGIN
+    LOCK TABLE meeting_daily_stats IN EXCLUSIVE MODE;
+    DELETE FROM meeting_daily_stats;
+    INSERT INTO meeting_daily_stats (day, meeting_count, audio_seconds, processing_count)
+    SELECT m.created_at::DATE,
+           COUNT(*),
+           COALESCE(SUM(a.duration_sec), 0),
+           COUNT(*) FILTER (WHERE m.status = 'PROCESSING')
+    FROM meetings m
+    LEFT JOIN LATERAL (
+        SELECT duration_sec FROM audio_assets
+        WHERE meeting_id = m.id
+        ORDER BY created_at DESC, id DESC
+        LIMIT 1
+    ) a ON TRUE
+    WHERE m.deleted_at IS NULL
+    GROUP BY m.created_at::DATE;
+    GET DIAGNOSTICS days = ROW_COUNT;
+    RETURN days;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT rebuild_meeting_daily_stats();
+
+COMMENT ON TABLE meeting_daily_stats IS 'Per-day rollup of live meetings, audio seconds and processing count; trigger-maintained';
@@ -0,0 +1,38 @@
+-- V18: Catalog version counter
+-- Summary templates, meeting types, notes templates and folders are served from an
+-- in-memory snapshot. Any statement touching those tables bumps this single counter
+-- (in the same transaction), giving every backend node the same monotonically
+-- increasing version to tag its snapshot and derive HTTP ETags from.
+
+CREATE TABLE catalog_version (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    version BIGINT NOT NULL
+);
+
+INSERT INTO catalog_version (id, version) VALUES (TRUE, 1);
+
+CREATE OR REPLACE FUNCTION bump_catalog_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE catalog_version SET version = version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER summary_templates_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON summary_templates
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_version();
+
+CREATE TRIGGER meeting_types_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON meeting_types
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_version();
+
+CREATE TRIGGER notes_templates_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON notes_templates
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_version();
+
+CREATE TRIGGER folders_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON folders
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_catalog_version();
+
+COMMENT ON TABLE catalog_version IS 'Single-row counter bumped by any write to the catalog tables';
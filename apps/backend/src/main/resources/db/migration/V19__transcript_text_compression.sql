@@ -0,0 +1,25 @@
+-- V19: Compressed storage for large transcripts
+-- The application stores transcripts above transcripts.compression.threshold-bytes
+-- as zlib deflate frames in text_compressed and leaves text NULL. text_format
+-- records which column holds a row's text. Compression and decompression run in
+-- the JVM, so compressed rows also cross the wire compressed.
+
+ALTER TABLE transcripts
+    ADD COLUMN text_format TEXT NOT NULL DEFAULT 'plain',
+    ADD COLUMN text_compressed BYTEA,
+    ALTER COLUMN text DROP NOT NULL,
+    ADD CONSTRAINT transcripts_text_format_check CHECK (
+        (text_format = 'plain' AND text IS NOT NULL AND text_compressed IS NULL)
+        OR (text_format = 'deflate' AND text IS NULL AND text_compressed IS NOT NULL));
+
+-- Frames are already compressed, so stop TOAST from running pglz over them again
+ALTER TABLE transcripts ALTER COLUMN text_compressed SET STORAGE EXTERNAL;
+
+-- The database can't read the frames, so the vector can no longer be generated
+-- from the row. The application now writes it with the text. Existing values are kept.
+ALTER TABLE transcripts ALTER COLUMN search_vector DROP EXPRESSION;
+
+-- Lets the background migration find plain rows that still need compressing
+CREATE INDEX idx_transcripts_plain ON transcripts(id) WHERE text_format = 'plain';
+
+COMMENT ON COLUMN transcripts.text_format IS 'plain: text column; deflate: zlib frame in text_compressed';
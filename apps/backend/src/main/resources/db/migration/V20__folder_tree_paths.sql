@@ -0,0 +1,39 @@
+-- V20: Materialized folder paths for subtree queries
+-- tree_path is the chain of folder ids from the top-level folder down to the row,
+-- as an ltree whose labels are the ids without hyphens. Folder names can hold
+-- characters ltree labels don't allow, so the names stay in the display path
+-- column. A folder's subtree is then "tree_path <@ ancestor.tree_path", which
+-- the GiST index serves. A move rewrites the subtree's tree_path and path in
+-- one statement. A rename only rewrites path.
+
+CREATE EXTENSION IF NOT EXISTS ltree;
+
+CREATE OR REPLACE FUNCTION folder_label(id UUID)
+RETURNS ltree AS $$
+    SELECT text2ltree(replace(id::text, '-', ''))
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+ALTER TABLE folders ADD COLUMN tree_path ltree;
+
+-- Backfill, repairing display paths that earlier renames left stale on descendants
+WITH RECURSIVE tree AS (
+    SELECT id, folder_label(id) AS tree_path, path
+    FROM folders
+    WHERE parent_id IS NULL
+    UNION ALL
+    SELECT f.id, tree.tree_path || folder_label(f.id),
+           CAST(CASE WHEN tree.path = '/' THEN '/' || f.name ELSE tree.path || '/' || f.name END AS VARCHAR(500))
+    FROM folders f
+    JOIN tree ON f.parent_id = tree.id
+)
+UPDATE folders f
+SET tree_path = tree.tree_path,
+    path = tree.path
+FROM tree
+WHERE tree.id = f.id;
+
+ALTER TABLE folders ALTER COLUMN tree_path SET NOT NULL;
+
+CREATE INDEX idx_folders_tree_path ON folders USING GIST(tree_path);
+
+COMMENT ON COLUMN folders.tree_path IS 'Ancestor chain of folder ids (hyphens stripped), ending with this folder';
@@ -0,0 +1,28 @@
+-- V21: Typed cost columns on usage_records for SQL-side reporting
+-- provider, model and token counts are generated from meta, so every writer
+-- keeps inserting meta as before and reports group and sum plain columns
+-- instead of parsing JSON per row. Token keys are read in both spellings:
+-- summaries write prompt_tokens/completion_tokens, older rows may carry
+-- promptTokens/completionTokens. Non-numeric values become NULL rather than
+-- failing the insert.
+
+ALTER TABLE usage_records
+    ADD COLUMN provider TEXT GENERATED ALWAYS AS (meta ->> 'provider') STORED,
+    ADD COLUMN model TEXT GENERATED ALWAYS AS (meta ->> 'model') STORED,
+    ADD COLUMN prompt_tokens BIGINT GENERATED ALWAYS AS (
+        CASE WHEN jsonb_typeof(COALESCE(meta -> 'prompt_tokens', meta -> 'promptTokens')) = 'number'
+             THEN (COALESCE(meta -> 'prompt_tokens', meta -> 'promptTokens'))::numeric::bigint
+        END) STORED,
+    ADD COLUMN completion_tokens BIGINT GENERATED ALWAYS AS (
+        CASE WHEN jsonb_typeof(COALESCE(meta -> 'completion_tokens', meta -> 'completionTokens')) = 'number'
+             THEN (COALESCE(meta -> 'completion_tokens', meta -> 'completionTokens'))::numeric::bigint
+        END) STORED;
+
+-- Date-range reports scan this index alone: every column they read is
+-- included, so years of usage aggregate without touching the heap.
+CREATE INDEX idx_usage_records_created_at
+    ON usage_records (created_at)
+    INCLUDE (meeting_id, service, provider, model, units, usd, brl, prompt_tokens, completion_tokens);
+
+-- Per-meeting lookups (details, purge) had no index on the foreign key.
+CREATE INDEX IF NOT EXISTS idx_usage_records_meeting ON usage_records (meeting_id);
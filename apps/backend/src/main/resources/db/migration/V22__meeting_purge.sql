@@ -0,0 +1,26 @@
+-- V22: Purge of soft-deleted meetings
+-- MeetingPurgeService hard-deletes meetings soft-deleted longer ago than the
+-- retention window, oldest first, walking this partial index.
+
+CREATE INDEX IF NOT EXISTS idx_meetings_deleted
+    ON meetings(deleted_at, id)
+    WHERE deleted_at IS NOT NULL;
+
+-- Single-row checkpoint. cursor_* is the last meeting the current pass has
+-- handled (purged or skipped after a file error), so a restart resumes there
+-- instead of retrying the same failures first; both are NULL between passes.
+-- The totals accumulate over the life of the installation.
+CREATE TABLE meeting_purge_state (
+    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+    cursor_deleted_at TIMESTAMPTZ,
+    cursor_id UUID,
+    meetings_purged BIGINT NOT NULL DEFAULT 0,
+    files_deleted BIGINT NOT NULL DEFAULT 0,
+    bytes_reclaimed BIGINT NOT NULL DEFAULT 0,
+    meetings_failed BIGINT NOT NULL DEFAULT 0,
+    last_run_started_at TIMESTAMPTZ,
+    last_run_finished_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO meeting_purge_state (id) VALUES (1);
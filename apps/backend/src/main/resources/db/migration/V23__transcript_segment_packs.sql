@@ -0,0 +1,31 @@
+-- V23: Packed segment storage for very long meetings
+-- A meeting's segments live either as rows in transcript_segments or as one
+-- row here, never both. Columns are encoded by PackedSegments:
+--   timings      per segment: ordinal delta, start delta and duration, in
+--                milliseconds, as zigzag varints
+--   speakers     per segment: dictionary index as a varint, 0 for none
+--   text_lengths per segment: UTF-16 length of its text in text_blob
+--   text_blob    all segment texts concatenated (TOAST-compressed)
+-- The speaker dictionary is kept as arrays so speaker merges stay in SQL.
+-- Packed meetings have no segment rows, so search matches them at the
+-- transcript level only.
+
+CREATE TABLE transcript_segment_packs (
+    meeting_id       UUID PRIMARY KEY REFERENCES meetings(id) ON DELETE CASCADE,
+    format_version   SMALLINT NOT NULL DEFAULT 1,
+    segment_count    INTEGER NOT NULL,
+    timings          BYTEA NOT NULL,
+    speakers         BYTEA NOT NULL,
+    text_lengths     BYTEA NOT NULL,
+    text_blob        TEXT NOT NULL,
+    speaker_ids      UUID[] NOT NULL,
+    speaker_labels   TEXT[] NOT NULL,
+    speaker_talk_sec DOUBLE PRECISION[] NOT NULL,
+    created_at       TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Varint columns are already dense; skip pglz on them
+ALTER TABLE transcript_segment_packs
+    ALTER COLUMN timings SET STORAGE EXTERNAL,
+    ALTER COLUMN speakers SET STORAGE EXTERNAL,
+    ALTER COLUMN text_lengths SET STORAGE EXTERNAL;
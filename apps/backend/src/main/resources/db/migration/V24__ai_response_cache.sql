@@ -0,0 +1,21 @@
+-- V24: Content-addressed cache of AI completions
+-- AiResponseCache keys each completion by a SHA-256 of provider, model, system
+-- prompt, user prompt, temperature and max tokens. Entries older than the TTL
+-- are ignored on read and deleted by the sweep, which also trims the table to
+-- its size budget by evicting the least recently hit entries first.
+
+CREATE TABLE ai_response_cache (
+    cache_key BYTEA PRIMARY KEY,
+    provider TEXT NOT NULL,
+    model TEXT NOT NULL,
+    content TEXT NOT NULL,
+    prompt_tokens INTEGER NOT NULL,
+    completion_tokens INTEGER NOT NULL,
+    size_bytes INTEGER NOT NULL,
+    hit_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    last_hit_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_ai_response_cache_created_at ON ai_response_cache(created_at);
+CREATE INDEX idx_ai_response_cache_last_hit_at ON ai_response_cache(last_hit_at, cache_key);
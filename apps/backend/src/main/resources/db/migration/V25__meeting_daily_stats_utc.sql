@@ -0,0 +1,114 @@
+-- V25: Bucket the daily stats rollup by UTC day
+-- V17 used created_at::DATE, which converts with the session's TimeZone, so
+-- writes from sessions in different zones could land a meeting on different
+-- days and a rebuild would not match what the triggers wrote. Every path now
+-- goes through meeting_stat_day(), which is fixed to UTC, and the rollup is
+-- recomputed.
+
+CREATE OR REPLACE FUNCTION meeting_stat_day(ts TIMESTAMPTZ)
+RETURNS DATE AS $$
+    SELECT (ts AT TIME ZONE 'UTC')::DATE
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+CREATE OR REPLACE FUNCTION meetings_daily_stats_trigger()
+RETURNS TRIGGER AS $$
+DECLARE
+    old_live BOOLEAN := TG_OP <> 'INSERT' AND OLD.deleted_at IS NULL;
+    new_live BOOLEAN := TG_OP <> 'DELETE' AND NEW.deleted_at IS NULL;
+    old_processing INTEGER := CASE WHEN old_live AND OLD.status = 'PROCESSING' THEN 1 ELSE 0 END;
+    new_processing INTEGER := CASE WHEN new_live AND NEW.status = 'PROCESSING' THEN 1 ELSE 0 END;
+    d_count INTEGER := new_live::INTEGER - old_live::INTEGER;
+    target_meeting UUID := CASE WHEN TG_OP = 'DELETE' THEN OLD.id ELSE NEW.id END;
+    stat_day DATE := meeting_stat_day(CASE WHEN TG_OP = 'DELETE' THEN OLD.created_at ELSE NEW.created_at END);
+BEGIN
+    PERFORM bump_meeting_daily_stats(
+        stat_day,
+        d_count,
+        CASE WHEN d_count = 0 THEN 0 ELSE d_count * latest_audio_seconds(target_meeting) END,
+        new_processing - old_processing);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION audio_assets_daily_stats_trigger()
+RETURNS TRIGGER AS $$
+DECLARE
+    target_meeting UUID := CASE WHEN TG_OP = 'DELETE' THEN OLD.meeting_id ELSE NEW.meeting_id END;
+    meeting_day DATE;
+    latest_id UUID;
+    latest_created TIMESTAMPTZ;
+    latest_seconds BIGINT;
+    before_seconds BIGINT;
+BEGIN
+    IF target_meeting IS NULL THEN
+        RETURN NULL;
+    END IF;
+    SELECT meeting_stat_day(created_at) INTO meeting_day
+    FROM meetings WHERE id = target_meeting AND deleted_at IS NULL;
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+
+    SELECT id, created_at, COALESCE(duration_sec, 0) INTO latest_id, latest_created, latest_seconds
+    FROM audio_assets
+    WHERE meeting_id = target_meeting
+    ORDER BY created_at DESC, id DESC
+    LIMIT 1;
+    latest_seconds := COALESCE(latest_seconds, 0);
+
+    IF TG_OP = 'INSERT' THEN
+        -- latest before the insert, excluding the new row
+        SELECT COALESCE(duration_sec, 0) INTO before_seconds
+        FROM audio_assets
+        WHERE meeting_id = target_meeting AND id <> NEW.id
+        ORDER BY created_at DESC, id DESC
+        LIMIT 1;
+        before_seconds := COALESCE(before_seconds, 0);
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF latest_id IS DISTINCT FROM NEW.id THEN
+            RETURN NULL;
+        END IF;
+        before_seconds := COALESCE(OLD.duration_sec, 0);
+    ELSE
+        -- the deleted row was the latest unless a remaining row sorts after it
+        IF latest_id IS NULL OR (OLD.created_at, OLD.id) > (latest_created, latest_id) THEN
+            before_seconds := COALESCE(OLD.duration_sec, 0);
+        ELSE
+            RETURN NULL;
+        END IF;
+    END IF;
+
+    PERFORM bump_meeting_daily_stats(meeting_day, 0, latest_seconds - before_seconds, 0);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION rebuild_meeting_daily_stats()
+RETURNS INTEGER AS $$
+DECLARE
+    days INTEGER;
+BEGIN
+    LOCK TABLE meeting_daily_stats IN EXCLUSIVE MODE;
+    DELETE FROM meeting_daily_stats;
+    INSERT INTO meeting_daily_stats (day, meeting_count, audio_seconds, processing_count)
+    SELECT meeting_stat_day(m.created_at),
+           COUNT(*),
+           COALESCE(SUM(a.duration_sec), 0),
+           COUNT(*) FILTER (WHERE m.status = 'PROCESSING')
+    FROM meetings m
+    LEFT JOIN LATERAL (
+        SELECT duration_sec FROM audio_assets
+        WHERE meeting_id = m.id
+        ORDER BY created_at DESC, id DESC
+        LIMIT 1
+    ) a ON TRUE
+    WHERE m.deleted_at IS NULL
+    GROUP BY meeting_stat_day(m.created_at);
+    GET DIAGNOSTICS days = ROW_COUNT;
+    RETURN days;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT rebuild_meeting_daily_stats();
+
+COMMENT ON FUNCTION meeting_stat_day(TIMESTAMPTZ) IS 'UTC calendar day a meeting is counted under in meeting_daily_stats';
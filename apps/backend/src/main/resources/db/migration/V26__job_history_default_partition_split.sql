@@ -0,0 +1,60 @@
+-- V26: Split DEFAULT rows into a job history month partition when it is created
+-- Rows land in transcription_job_history_default when their month has no partition
+-- yet (the V12 backfill, or a month missed while the app was down). Creating that
+-- month's partition afterwards fails with "updated partition constraint for default
+-- partition would be violated", so the function now detaches DEFAULT, creates the
+-- partition, moves the month's rows into it and re-attaches DEFAULT, all in the
+-- caller's transaction.
+
+CREATE OR REPLACE FUNCTION ensure_transcription_job_history_partition(month_of DATE)
+RETURNS VOID AS $$
+DECLARE
+    month_start DATE := date_trunc('month', month_of)::DATE;
+    month_end DATE := (date_trunc('month', month_of) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'transcription_job_history_' || to_char(month_of, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM transcription_job_history_default
+        WHERE finished_at >= month_start AND finished_at < month_end
+    ) THEN
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF transcription_job_history FOR VALUES FROM (%L) TO (%L)',
+            partition_name, month_start, month_end);
+        RETURN;
+    END IF;
+
+    ALTER TABLE transcription_job_history DETACH PARTITION transcription_job_history_default;
+    EXECUTE format(
+        'CREATE TABLE %I PARTITION OF transcription_job_history FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_start, month_end);
+    WITH moved AS (
+        DELETE FROM transcription_job_history_default
+        WHERE finished_at >= month_start AND finished_at < month_end
+        RETURNING *
+    )
+    INSERT INTO transcription_job_history SELECT * FROM moved;
+    ALTER TABLE transcription_job_history ATTACH PARTITION transcription_job_history_default DEFAULT;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Give every month already sitting in DEFAULT its own partition. The months are
+-- collected first so no scan of DEFAULT is open while the function detaches it.
+DO $$
+DECLARE
+    months DATE[];
+    month_of DATE;
+BEGIN
+    SELECT array_agg(DISTINCT date_trunc('month', finished_at)::DATE)
+    INTO months
+    FROM transcription_job_history_default;
+
+    FOREACH month_of IN ARRAY COALESCE(months, ARRAY[]::DATE[])
+    LOOP
+        PERFORM ensure_transcription_job_history_partition(month_of);
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,17 @@
+-- V27: Indexes matching the job history archive sweep
+-- archiveFinishedBatch replaced the V11 cleanup sweep: it selects terminal jobs by
+-- COALESCE(completed_at, updated_at) (cancelled jobs have no completed_at) and
+-- exhausted failures by updated_at. Neither predicate could use the V11 indexes, so
+-- each batch scanned the whole queue.
+
+DROP INDEX IF EXISTS idx_transcription_queue_finished;
+
+-- Finished branch: completed/cancelled jobs by the time they finished
+CREATE INDEX idx_transcription_queue_finished
+    ON transcription_queue((COALESCE(completed_at, updated_at)))
+    WHERE status IN ('COMPLETED', 'CANCELLED');
+
+-- Exhausted branch: failed jobs by the time they last failed
+CREATE INDEX idx_transcription_queue_failed_updated
+    ON transcription_queue(updated_at)
+    WHERE status = 'FAILED';
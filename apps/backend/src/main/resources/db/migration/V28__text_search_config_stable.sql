@@ -0,0 +1,23 @@
+-- V28: text_search_config is STABLE, with schema-qualified configurations
+-- V15 declared it IMMUTABLE, but a regconfig name is resolved against the
+-- catalog and search_path at call time, so the result can change without the
+-- inputs changing. Since V19 no index or generated column calls it (the stored
+-- search_vector columns are written by the repository and the segment
+-- triggers), so it can be STABLE. The built-in configurations are referenced
+-- through pg_catalog so a search_path change cannot pick up a different one.
+
+CREATE OR REPLACE FUNCTION text_search_config(lang TEXT)
+RETURNS regconfig AS $$
+    SELECT CASE lower(split_part(COALESCE(lang, ''), '-', 1))
+        WHEN 'pt' THEN 'pg_catalog.portuguese'
+        WHEN 'en' THEN 'pg_catalog.english'
+        WHEN 'es' THEN 'pg_catalog.spanish'
+        WHEN 'fr' THEN 'pg_catalog.french'
+        WHEN 'de' THEN 'pg_catalog.german'
+        WHEN 'it' THEN 'pg_catalog.italian'
+        WHEN 'nl' THEN 'pg_catalog.dutch'
+        ELSE 'pg_catalog.simple'
+    END::regconfig
+$$ LANGUAGE sql STABLE PARALLEL SAFE;
+
+COMMENT ON FUNCTION text_search_config(TEXT) IS 'Language code to text search configuration; unknown languages use simple';
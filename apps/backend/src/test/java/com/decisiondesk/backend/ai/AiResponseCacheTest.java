@@ -0,0 +1,119 @@
+package com.decisiondesk.backend.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.decisiondesk.backend.ai.AiResponseCache.CachingProvider;
+import com.decisiondesk.backend.ai.persistence.AiResponseCacheRepository;
+import com.decisiondesk.backend.ai.persistence.AiResponseCacheRepository.CachedResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AiResponseCacheTest {
+
+    private static final BigDecimal TEMPERATURE = new BigDecimal("0.3");
+
+    @Mock
+    private AiResponseCacheRepository repository;
+    @Mock
+    private AiCompletionProvider ollama;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry registry;
+    private AiResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new AiResponseCache(repository, new AiResponseCacheProperties(null, null, null), registry,
+                transactionManager);
+    }
+
+    @Test
+    void keyCoversEveryRequestField() {
+        byte[] key = AiResponseCache.key("ollama", "qwen3:14b", "sys", "user", TEMPERATURE, 2000);
+
+        assertThat(AiResponseCache.key("ollama", "qwen3:14b", "sys", "user", new BigDecimal("0.30"), 2000)).isEqualTo(key);
+        assertThat(AiResponseCache.key("openai", "qwen3:14b", "sys", "user", TEMPERATURE, 2000)).isNotEqualTo(key);
+        assertThat(AiResponseCache.key("ollama", "qwen3:8b", "sys", "user", TEMPERATURE, 2000)).isNotEqualTo(key);
+        assertThat(AiResponseCache.key("ollama", "qwen3:14b", "sysu", "ser", TEMPERATURE, 2000)).isNotEqualTo(key);
+        assertThat(AiResponseCache.key("ollama", "qwen3:14b", "sys", "user", new BigDecimal("0.5"), 2000)).isNotEqualTo(key);
+        assertThat(AiResponseCache.key("ollama", "qwen3:14b", "sys", "user", TEMPERATURE, 1024)).isNotEqualTo(key);
+    }
+
+    @Test
+    void hitIsServedWithZeroTokensWithoutCallingTheProvider() {
+        when(ollama.name()).thenReturn("ollama");
+        when(repository.hit(any(), any())).thenReturn(Optional.of(
+                new CachedResponse("ollama", "qwen3:14b", "## Resumo", 12_000, 800)));
+        CachingProvider provider = cache.wrap(ollama, false);
+
+        AiCompletion completion = provider.chatCompletion("sys", "user", "qwen3:14b", 2000, TEMPERATURE);
+
+        assertThat(completion).isEqualTo(new AiCompletion("## Resumo", "qwen3:14b", "ollama", 0, 0, 0));
+        assertThat(provider.hits()).isEqualTo(1);
+        verify(ollama, never()).chatCompletion(any(), any(), any(), anyInt(), any());
+        assertThat(registry.get("ai.response.cache.tokens.saved").counter().count()).isEqualTo(12_800);
+        assertThat(cache.hitRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    void bypassCallsTheProviderAndRefreshesTheEntry() {
+        when(ollama.name()).thenReturn("ollama");
+        AiCompletion fresh = new AiCompletion("## Novo", "qwen3:14b", "ollama", 12_000, 750, 12_750);
+        when(ollama.chatCompletion("sys", "user", "qwen3:14b", 2000, TEMPERATURE)).thenReturn(fresh);
+        CachingProvider provider = cache.wrap(ollama, true);
+
+        assertThat(provider.chatCompletion("sys", "user", "qwen3:14b", 2000, TEMPERATURE)).isEqualTo(fresh);
+
+        verify(repository, never()).hit(any(), any());
+        verify(repository).put(any(), eq(
+                new CachedResponse("ollama", "qwen3:14b", "## Novo", 12_000, 750)));
+        assertThat(provider.hits()).isZero();
+        assertThat(registry.get("ai.response.cache.requests").tag("result", "bypass").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void disabledCacheLeavesTheDatabaseAlone() {
+        AiResponseCache disabled = new AiResponseCache(repository, new AiResponseCacheProperties(false, null, null),
+                new SimpleMeterRegistry(), transactionManager);
+        when(ollama.chatCompletion("sys", "user", "qwen3:14b", 2000, TEMPERATURE))
+                .thenReturn(new AiCompletion("ok", "qwen3:14b", "ollama", 10, 2, 12));
+
+        disabled.wrap(ollama, false).chatCompletion("sys", "user", "qwen3:14b", 2000, TEMPERATURE);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void lookupFailureFallsBackToTheProvider() {
+        when(ollama.name()).thenReturn("ollama");
+        when(repository.hit(any(), any())).thenThrow(new QueryTimeoutException("canceling statement"));
+        AiCompletion fresh = new AiCompletion("## Novo", "qwen3:14b", "ollama", 12_000, 750, 12_750);
+        when(ollama.chatCompletion("sys", "user", "qwen3:14b", 2000, TEMPERATURE)).thenReturn(fresh);
+
+        assertThat(cache.wrap(ollama, false).chatCompletion("sys", "user", "qwen3:14b", 2000, TEMPERATURE))
+                .isEqualTo(fresh);
+
+        verify(transactionManager).rollback(any());
+    }
+}
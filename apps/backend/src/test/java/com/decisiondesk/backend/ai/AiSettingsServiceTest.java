@@ -0,0 +1,77 @@
+package com.decisiondesk.backend.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.decisiondesk.backend.cache.LocalCacheInvalidationBus;
+import com.decisiondesk.backend.notes.model.UserPreference;
+import com.decisiondesk.backend.notes.persistence.UserPreferenceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class AiSettingsServiceTest {
+
+    @Mock
+    private UserPreferenceRepository preferenceRepository;
+
+    private AiSettingsCache cache;
+    private AiSettingsService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AiSettingsCache(new LocalCacheInvalidationBus());
+        service = new AiSettingsService(preferenceRepository, cache, new ObjectMapper());
+    }
+
+    @Test
+    void snapshotIsParsedOnceUntilInvalidated() {
+        when(preferenceRepository.findByUserId("default")).thenReturn(Optional.of(preference("""
+                {"summarization": {"provider": "openai", "model": "gpt-4o"}, "openaiEnabled": true}""")));
+
+        AiSettings first = service.current();
+        AiSettings second = service.current();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.summarization()).isEqualTo(new AiSettings.Task("openai", "gpt-4o"));
+        assertThat(first.chat()).isEqualTo(new AiSettings.Task(null, null));
+        assertThat(first.openaiEnabled()).isTrue();
+        verify(preferenceRepository, times(1)).findByUserId("default");
+
+        cache.invalidate();
+        service.current();
+        verify(preferenceRepository, times(2)).findByUserId("default");
+    }
+
+    @Test
+    void unreadableConfigFallsBackToDefaults() {
+        when(preferenceRepository.findByUserId("default")).thenReturn(Optional.of(preference("{not json")));
+
+        assertThat(service.current()).isEqualTo(AiSettings.DEFAULTS);
+    }
+
+    @Test
+    void databaseFailureIsNotCached() {
+        when(preferenceRepository.findByUserId("default"))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(Optional.empty());
+
+        assertThat(service.current()).isEqualTo(AiSettings.DEFAULTS);
+        service.current();
+
+        verify(preferenceRepository, times(2)).findByUserId("default");
+    }
+
+    private static UserPreference preference(String aiConfig) {
+        return UserPreference.create("default").withAiConfig(aiConfig);
+    }
+}
@@ -0,0 +1,51 @@
+package com.decisiondesk.backend.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.decisiondesk.backend.ai.OllamaClient.OllamaException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+
+class OllamaClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void streamForwardsTokensThenUsageFromFinalFrame() {
+        Flux<String> lines = Flux.just(
+                "{\"model\":\"qwen3:14b\",\"message\":{\"role\":\"assistant\",\"content\":\"O orça\"},\"done\":false}",
+                "{\"model\":\"qwen3:14b\",\"message\":{\"role\":\"assistant\",\"content\":\"mento foi aprovado.\"},\"done\":false}",
+                "",
+                "{\"model\":\"qwen3:14b\",\"message\":{\"role\":\"assistant\",\"content\":\"\"},\"done\":true,"
+                        + "\"prompt_eval_count\":1200,\"eval_count\":9}");
+
+        List<AiCompletionChunk> chunks = OllamaClient.decodeStream(lines, "qwen3:14b", objectMapper).collectList().block();
+
+        assertThat(chunks).extracting(AiCompletionChunk::delta).containsExactly("O orça", "mento foi aprovado.", null);
+        assertThat(chunks.get(2).completion())
+                .isEqualTo(new AiCompletion("O orçamento foi aprovado.", "qwen3:14b", "ollama", 1200, 9, 1209));
+    }
+
+    @Test
+    void streamWithoutFinalFrameFails() {
+        Flux<String> lines = Flux.just("{\"message\":{\"content\":\"O orça\"},\"done\":false}");
+
+        assertThatThrownBy(() -> OllamaClient.decodeStream(lines, "qwen3:14b", objectMapper).collectList().block())
+                .isInstanceOf(OllamaException.class);
+    }
+
+    @Test
+    void errorFrameFailsTheStream() {
+        Flux<String> lines = Flux.just("{\"error\":\"model 'nope' not found\"}");
+
+        assertThatThrownBy(() -> OllamaClient.decodeStream(lines, "nope", objectMapper).collectList().block())
+                .isInstanceOf(OllamaException.class)
+                .hasMessageContaining("not found");
+    }
+}
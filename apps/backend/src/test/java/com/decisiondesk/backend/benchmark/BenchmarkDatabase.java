@@ -0,0 +1,109 @@
+package com.decisiondesk.backend.benchmark;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Wiring for database benchmarks run against a real PostgreSQL instance.
+ *
+ * <p>Benchmarks are skipped unless {@code -Dbenchmark.jdbc-url=jdbc:postgresql://...} is set
+ * (plus {@code benchmark.user} / {@code benchmark.password}). The schema is migrated with
+ * Flyway first, so an empty scratch database works. Run one with e.g.
+ * {@code mvn test -Dtest=TranscriptSegmentInsertBenchmark -Dbenchmark.jdbc-url=...}.</p>
+ */
+final class BenchmarkDatabase {
+
+    static final String URL_PROPERTY = "benchmark.jdbc-url";
+
+    final DataSource dataSource;
+    final JdbcClient jdbcClient;
+    final JdbcTemplate jdbcTemplate;
+    final TransactionTemplate tx;
+
+    private BenchmarkDatabase(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcClient = JdbcClient.create(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    static BenchmarkDatabase connect() {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(System.getProperty(URL_PROPERTY));
+        dataSource.setUser(System.getProperty("benchmark.user", "postgres"));
+        dataSource.setPassword(System.getProperty("benchmark.password", ""));
+        dataSource.setReWriteBatchedInserts(true);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        return new BenchmarkDatabase(dataSource);
+    }
+
+    /**
+     * Inserts an empty meeting to hang benchmark rows off.
+     */
+    UUID createMeeting(String title) {
+        UUID id = UUID.randomUUID();
+        jdbcClient.sql("INSERT INTO meetings (id, status, title) VALUES (:id, 'DONE', :title)")
+                .param("id", id)
+                .param("title", title)
+                .update();
+        return id;
+    }
+
+    /**
+     * Deletes a benchmark meeting and its rows in the baseline tables, whose foreign keys don't cascade.
+     */
+    void deleteMeeting(UUID id) {
+        for (String table : new String[] {"transcripts", "summaries", "usage_records", "audio_assets", "meetings"}) {
+            String column = "meetings".equals(table) ? "id" : "meeting_id";
+            jdbcClient.sql("DELETE FROM " + table + " WHERE " + column + " = :id").param("id", id).update();
+        }
+    }
+
+    /**
+     * Runs {@code action} {@code iterations} times and returns the best wall-clock time in nanoseconds.
+     */
+    static long bestOf(int iterations, Runnable action) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            action.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Runs {@code action} {@code iterations} times and returns the sorted wall-clock times in nanoseconds.
+     */
+    static long[] samples(int iterations, Runnable action) {
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            action.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples, in milliseconds.
+     */
+    static double percentileMillis(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,135 @@
+package com.decisiondesk.backend.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.decisiondesk.backend.cache.LocalCacheInvalidationBus;
+import com.decisiondesk.backend.datasource.ReplicaProperties;
+import com.decisiondesk.backend.meetings.MeetingCostAggregator;
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
+import com.decisiondesk.backend.meetings.model.AudioAsset;
+import com.decisiondesk.backend.meetings.model.Meeting;
+import com.decisiondesk.backend.meetings.model.MeetingDetails;
+import com.decisiondesk.backend.meetings.model.Transcript;
+import com.decisiondesk.backend.meetings.model.UsageRecord;
+import com.decisiondesk.backend.meetings.persistence.AudioAssetRepository;
+import com.decisiondesk.backend.meetings.persistence.MeetingDetailsRepository;
+import com.decisiondesk.backend.meetings.persistence.MeetingRepository;
+import com.decisiondesk.backend.meetings.persistence.SummaryRepository;
+import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
+import com.decisiondesk.backend.meetings.persistence.UsageRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * p50/p99 latency of a cold {@code GET /meetings/{id}} read: five single-table queries against
+ * the one-statement {@link MeetingDetailsRepository}.
+ *
+ * <p>The gap is mostly round trips, so point {@code benchmark.jdbc-url} at a database on another
+ * host; against localhost both paths are dominated by the transcript transfer.</p>
+ */
+@EnabledIfSystemProperty(named = BenchmarkDatabase.URL_PROPERTY, matches = ".+")
+class MeetingDetailsReadBenchmark {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 1_000;
+
+    private static BenchmarkDatabase db;
+    private static UUID meetingId;
+    private static MeetingRepository meetingRepository;
+    private static TranscriptRepository transcriptRepository;
+    private static SummaryRepository summaryRepository;
+    private static UsageRecordRepository usageRecordRepository;
+    private static AudioAssetRepository audioAssetRepository;
+    private static MeetingCostAggregator costAggregator;
+    private static MeetingDetailsRepository detailsRepository;
+
+    @BeforeAll
+    static void setUp() {
+        db = BenchmarkDatabase.connect();
+        ObjectMapper objectMapper = new ObjectMapper();
+        MeetingDetailsCache cache = new MeetingDetailsCache(new SimpleMeterRegistry(), new LocalCacheInvalidationBus(),
+                new ReplicaProperties(false, null, null, null, null, null), 64, 120);
+        meetingRepository = new MeetingRepository(db.jdbcClient, objectMapper, cache);
+        transcriptRepository = new TranscriptRepository(db.jdbcClient, cache, 16_384);
+        summaryRepository = new SummaryRepository(db.jdbcClient);
+        usageRecordRepository = new UsageRecordRepository(db.jdbcClient, cache);
+        audioAssetRepository = new AudioAssetRepository(db.jdbcClient, cache);
+        costAggregator = new MeetingCostAggregator(objectMapper);
+        detailsRepository = new MeetingDetailsRepository(db.jdbcClient, objectMapper, costAggregator);
+        meetingId = seedMeeting();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        db.deleteMeeting(meetingId);
+    }
+
+    @Test
+    void coldReadLatency() {
+        MeetingDetails expected = perTable(meetingId);
+        assertThat(detailsRepository.findById(meetingId)).contains(expected);
+
+        System.out.printf("%-12s %10s %10s%n", "path", "p50 ms", "p99 ms");
+        report("five-query", MeetingDetailsReadBenchmark::perTable);
+        report("single", id -> detailsRepository.findById(id).orElseThrow());
+    }
+
+    private void report(String path, Function<UUID, MeetingDetails> loader) {
+        BenchmarkDatabase.samples(WARMUP, () -> loader.apply(meetingId));
+        long[] samples = BenchmarkDatabase.samples(ITERATIONS, () -> loader.apply(meetingId));
+        System.out.printf("%-12s %10.2f %10.2f%n", path,
+                BenchmarkDatabase.percentileMillis(samples, 50), BenchmarkDatabase.percentileMillis(samples, 99));
+    }
+
+    /**
+     * The read path {@code MeetingService} used before the single-statement query.
+     */
+    private static MeetingDetails perTable(UUID id) {
+        Meeting meeting = meetingRepository.findById(id).orElseThrow();
+        Transcript transcript = transcriptRepository.findByMeetingId(id).orElse(null);
+        var summary = summaryRepository.findByMeetingId(id).orElse(null);
+        List<UsageRecord> usageRecords = usageRecordRepository.findByMeetingId(id);
+        Integer durationSec = audioAssetRepository.findLatestByMeetingId(id).map(AudioAsset::durationSec).orElse(null);
+        return new MeetingDetails(meeting.id(), meeting.status(), meeting.createdAt(), meeting.title(),
+                transcript, summary, costAggregator.aggregate(usageRecords), durationSec);
+    }
+
+    /**
+     * A one-hour meeting: 40 KB transcript, a summary, two audio uploads and a dozen usage records.
+     */
+    private static UUID seedMeeting() {
+        UUID id = db.createMeeting("details benchmark");
+        OffsetDateTime now = OffsetDateTime.now();
+        transcriptRepository.upsert(new Transcript(UUID.randomUUID(), id, "pt",
+                "Vamos revisar o orçamento do trimestre e os próximos passos com o cliente. ".repeat(540), now));
+        db.jdbcClient.sql("INSERT INTO summaries (id, meeting_id, text_md, model, tokens_used) VALUES (:id, :meetingId, :text, 'qwen3:14b', 1800)")
+                .param("id", UUID.randomUUID())
+                .param("meetingId", id)
+                .param("text", "## Resumo\n\n- Orçamento aprovado\n- Próxima reunião na sexta\n".repeat(20))
+                .update();
+        audioAssetRepository.save(new AudioAsset(UUID.randomUUID(), id, "/tmp/a.m4a", "aac", 48_000, 30_000_000L, 3_540, now.minusMinutes(5)));
+        audioAssetRepository.save(new AudioAsset(UUID.randomUUID(), id, "/tmp/b.m4a", "aac", 48_000, 31_000_000L, 3_600, now));
+        for (int i = 0; i < 12; i++) {
+            boolean whisper = i % 3 == 0;
+            usageRecordRepository.insert(new UsageRecord(UUID.randomUUID(), id,
+                    whisper ? UsageRecord.Service.WHISPER : UsageRecord.Service.GPT,
+                    whisper ? new BigDecimal("60") : new BigDecimal("2400"),
+                    new BigDecimal("0.0360"), new BigDecimal("0.2000"),
+                    whisper ? "{\"model\":\"whisper-1\"}" : "{\"promptTokens\":2000,\"completionTokens\":400}",
+                    now.minusMinutes(i)));
+        }
+        return id;
+    }
+}
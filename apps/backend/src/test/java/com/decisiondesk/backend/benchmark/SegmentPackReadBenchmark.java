@@ -0,0 +1,125 @@
+package com.decisiondesk.backend.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.decisiondesk.backend.api.v1.meetings.SegmentsController;
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+import com.decisiondesk.backend.meetings.persistence.MeetingSpeakerRepository;
+import com.decisiondesk.backend.meetings.persistence.SegmentPackRepository;
+import com.decisiondesk.backend.meetings.persistence.TranscriptSegmentRepository;
+import com.decisiondesk.backend.meetings.service.SegmentStorageService;
+import com.decisiondesk.backend.meetings.service.SegmentStorageService.Storage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * p50 latency and heap allocated per {@code GET /meetings/{id}/segments} for row storage and
+ * packed storage at 10k and 100k segments.
+ *
+ * <p>Both paths go through {@link SegmentsController} and write the response to a discarding
+ * stream, so the numbers cover the query, the decode and the JSON encoding. Allocation is the
+ * calling thread's, read from {@code com.sun.management.ThreadMXBean}.</p>
+ */
+@EnabledIfSystemProperty(named = BenchmarkDatabase.URL_PROPERTY, matches = ".+")
+class SegmentPackReadBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 30;
+
+    private static BenchmarkDatabase db;
+    private static SegmentStorageService storage;
+    private static SegmentsController controller;
+    private static ObjectMapper objectMapper;
+    private static final List<UUID> meetings = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        db = BenchmarkDatabase.connect();
+        TranscriptSegmentRepository segmentRepository = new TranscriptSegmentRepository(db.jdbcClient, db.jdbcTemplate);
+        SegmentPackRepository packRepository = new SegmentPackRepository(db.jdbcClient);
+        storage = new SegmentStorageService(segmentRepository, packRepository, 0);
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        controller = new SegmentsController(segmentRepository, packRepository, storage,
+                new MeetingSpeakerRepository(db.jdbcClient), objectMapper);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        meetings.forEach(db::deleteMeeting);
+    }
+
+    @Test
+    void readLatencyAndHeap() throws IOException {
+        System.out.printf("%-8s %10s %10s %12s %12s%n", "storage", "segments", "p50 ms", "heap MB/read", "body MB");
+        for (int size : SIZES) {
+            UUID rows = seed(Storage.ROWS, size);
+            UUID packed = seed(Storage.PACKED, size);
+            assertThat(objectMapper.readTree(body(packed)).get("segments")).hasSize(size);
+            report("rows", size, rows);
+            report("packed", size, packed);
+        }
+    }
+
+    private void report(String path, int size, UUID meetingId) {
+        BenchmarkDatabase.samples(WARMUP, () -> read(meetingId, OutputStream.nullOutputStream()));
+        long[] samples = BenchmarkDatabase.samples(ITERATIONS, () -> read(meetingId, OutputStream.nullOutputStream()));
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            read(meetingId, OutputStream.nullOutputStream());
+        }
+        long allocated = (threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+
+        System.out.printf("%-8s %10d %10.2f %12.1f %12.1f%n", path, size,
+                BenchmarkDatabase.percentileMillis(samples, 50), allocated / 1e6, body(meetingId).length / 1e6);
+    }
+
+    private static UUID seed(Storage format, int size) {
+        UUID meetingId = db.createMeeting("segment pack benchmark " + format + " " + size);
+        meetings.add(meetingId);
+        db.tx.executeWithoutResult(status -> storage.replace(meetingId, segments(meetingId, size), format));
+        return meetingId;
+    }
+
+    private static byte[] body(UUID meetingId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        read(meetingId, out);
+        return out.toByteArray();
+    }
+
+    private static void read(UUID meetingId, OutputStream out) {
+        try {
+            controller.getSegments(meetingId).getBody().writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<TranscriptSegment> segments(UUID meetingId, int size) {
+        List<TranscriptSegment> segments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double start = i * 2.4;
+            TranscriptSegment seg = TranscriptSegment.create(meetingId, i, start, start + 2.3,
+                    "Segmento %d: vamos revisar o orçamento, \"prazo\" e próximos passos.".formatted(i));
+            segments.add(seg.withSpeaker("SPEAKER_0" + (i % 4), null));
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,112 @@
+package com.decisiondesk.backend.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.decisiondesk.backend.cache.LocalCacheInvalidationBus;
+import com.decisiondesk.backend.datasource.ReplicaProperties;
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
+import com.decisiondesk.backend.meetings.model.Transcript;
+import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
+import com.decisiondesk.backend.meetings.persistence.TranscriptTextCodec;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Plain TOAST storage against application-side deflate for 20 KB, 200 KB and 1 MB transcripts.
+ *
+ * <p>Reports the stored row size ({@code pg_column_size}, i.e. after TOAST's own pglz
+ * compression for plain rows), the bytes a read moves over the wire, best-of write and read
+ * latency through {@link TranscriptRepository}, and the JVM time spent deflating and inflating.</p>
+ */
+@EnabledIfSystemProperty(named = BenchmarkDatabase.URL_PROPERTY, matches = ".+")
+class TranscriptCompressionBenchmark {
+
+    private static final int[] SIZES_KB = {20, 200, 1_000};
+    private static final int ITERATIONS = 20;
+
+    private static BenchmarkDatabase db;
+    private static Map<String, TranscriptRepository> repositories;
+    private static final List<UUID> meetings = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        db = BenchmarkDatabase.connect();
+        MeetingDetailsCache cache = new MeetingDetailsCache(new SimpleMeterRegistry(), new LocalCacheInvalidationBus(),
+                new ReplicaProperties(false, null, null, null, null, null), 64, 120);
+        repositories = Map.of(
+                "toast", new TranscriptRepository(db.jdbcClient, cache, 0),
+                "deflate", new TranscriptRepository(db.jdbcClient, cache, 16_384));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        meetings.forEach(db::deleteMeeting);
+    }
+
+    @Test
+    void storageAndLatency() {
+        System.out.printf("%-8s %8s %12s %12s %10s %10s %10s%n",
+                "format", "text KB", "stored KB", "wire KB", "write ms", "read ms", "codec ms");
+        for (int sizeKb : SIZES_KB) {
+            String text = transcript(sizeKb * 1024);
+            report("toast", text);
+            report("deflate", text);
+        }
+    }
+
+    private void report(String format, String text) {
+        TranscriptRepository repository = repositories.get(format);
+        UUID meetingId = db.createMeeting("compression benchmark " + format);
+        meetings.add(meetingId);
+        Transcript transcript = new Transcript(UUID.randomUUID(), meetingId, "pt", text, OffsetDateTime.now());
+
+        long writeNanos = BenchmarkDatabase.bestOf(ITERATIONS, () -> repository.upsert(transcript));
+        long readNanos = BenchmarkDatabase.bestOf(ITERATIONS, () -> repository.findByMeetingId(meetingId));
+        long codecNanos = "toast".equals(format) ? 0 : BenchmarkDatabase.bestOf(ITERATIONS, () -> {
+            TranscriptTextCodec.Encoded encoded = TranscriptTextCodec.encode(text, 1);
+            TranscriptTextCodec.decode(encoded.format(), encoded.text(), encoded.compressed());
+        });
+
+        Map<String, Object> sizes = db.jdbcClient.sql("""
+                SELECT COALESCE(pg_column_size(text), 0) + COALESCE(pg_column_size(text_compressed), 0) AS stored,
+                       COALESCE(octet_length(text), 0) + COALESCE(octet_length(text_compressed), 0) AS wire
+                FROM transcripts WHERE meeting_id = :meetingId
+                """)
+                .param("meetingId", meetingId)
+                .query()
+                .singleRow();
+
+        assertThat(repository.findByMeetingId(meetingId)).get().extracting(Transcript::text).isEqualTo(text);
+        System.out.printf("%-8s %8d %12.1f %12.1f %10.2f %10.2f %10.2f%n", format, text.length() / 1024,
+                ((Number) sizes.get("stored")).longValue() / 1024.0,
+                ((Number) sizes.get("wire")).longValue() / 1024.0,
+                writeNanos / 1e6, readNanos / 1e6, codecNanos / 1e6);
+    }
+
+    /**
+     * Meeting-like text: a small vocabulary in varied order, so neither codec gets a trivially repeating input.
+     */
+    private static String transcript(int chars) {
+        String[] words = {"orçamento", "prazo", "cliente", "reunião", "próximos", "passos", "entrega",
+                "equipe", "revisar", "contrato", "semana", "decisão", "risco", "então", "vamos", "acho",
+                "que", "o", "a", "de", "para", "com", "não", "sim", "isso"};
+        Random random = new Random(7);
+        StringBuilder sb = new StringBuilder(chars + 32);
+        while (sb.length() < chars) {
+            sb.append(words[random.nextInt(words.length)]).append(random.nextInt(12) == 0 ? ". " : " ");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.decisiondesk.backend.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+import com.decisiondesk.backend.meetings.persistence.TranscriptSegmentRepository;
+
+/**
+ * Segments/sec for the JDBC batch path and the COPY path at 1k, 10k and 100k segments.
+ *
+ * <p>Each size is inserted into a fresh meeting and then re-imported over the same
+ * ordinals, so both the insert and the {@code ON CONFLICT} update branch are measured.</p>
+ */
+@EnabledIfSystemProperty(named = BenchmarkDatabase.URL_PROPERTY, matches = ".+")
+class TranscriptSegmentInsertBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+
+    private static BenchmarkDatabase db;
+    private static TranscriptSegmentRepository repository;
+    private static final List<UUID> meetings = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        db = BenchmarkDatabase.connect();
+        repository = new TranscriptSegmentRepository(db.jdbcClient, db.jdbcTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        meetings.forEach(db::deleteMeeting);
+    }
+
+    @Test
+    void segmentsPerSecond() {
+        System.out.printf("%-8s %10s %14s %14s%n", "path", "segments", "insert seg/s", "upsert seg/s");
+        for (int size : SIZES) {
+            report("batch", size, (meetingId, segments) -> repository.insertWithBatch(meetingId, segments));
+            report("copy", size, (meetingId, segments) -> repository.insertWithCopy(meetingId, segments));
+        }
+    }
+
+    private void report(String path, int size, Importer importer) {
+        UUID meetingId = db.createMeeting("segment benchmark " + path + " " + size);
+        meetings.add(meetingId);
+        List<TranscriptSegment> segments = segments(meetingId, size);
+
+        long insertNanos = BenchmarkDatabase.bestOf(1, () -> db.tx.executeWithoutResult(
+                status -> importer.importSegments(meetingId, segments)));
+        long upsertNanos = BenchmarkDatabase.bestOf(3, () -> db.tx.executeWithoutResult(
+                status -> importer.importSegments(meetingId, segments)));
+
+        assertThat(repository.findByMeetingId(meetingId)).hasSize(size);
+        System.out.printf("%-8s %10d %14.0f %14.0f%n", path, size,
+                size / (insertNanos / 1e9), size / (upsertNanos / 1e9));
+    }
+
+    private static List<TranscriptSegment> segments(UUID meetingId, int size) {
+        List<TranscriptSegment> segments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double start = i * 2.4;
+            TranscriptSegment seg = TranscriptSegment.create(meetingId, i, start, start + 2.3,
+                    "Segmento %d: vamos revisar o orçamento, \"prazo\" e próximos passos.".formatted(i));
+            segments.add(i % 3 == 0 ? seg.withSpeaker("SPEAKER_0" + (i % 4), null) : seg);
+        }
+        return segments;
+    }
+
+    @FunctionalInterface
+    private interface Importer {
+        void importSegments(UUID meetingId, List<TranscriptSegment> segments);
+    }
+}
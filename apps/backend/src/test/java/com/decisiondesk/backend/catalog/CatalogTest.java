@@ -0,0 +1,91 @@
+package com.decisiondesk.backend.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.decisiondesk.backend.cache.LocalCacheInvalidationBus;
+import com.decisiondesk.backend.folders.model.Folder;
+import com.decisiondesk.backend.folders.persistence.FolderRepository;
+import com.decisiondesk.backend.meetingtypes.persistence.MeetingTypeRepository;
+import com.decisiondesk.backend.notes.persistence.NotesTemplateRepository;
+import com.decisiondesk.backend.summaries.persistence.SummaryTemplateRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogTest {
+
+    @Mock
+    private SummaryTemplateRepository summaryTemplateRepository;
+    @Mock
+    private MeetingTypeRepository meetingTypeRepository;
+    @Mock
+    private NotesTemplateRepository notesTemplateRepository;
+    @Mock
+    private FolderRepository folderRepository;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private JdbcClient jdbcClient;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogChanges changes;
+    private Catalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        changes = new CatalogChanges(new LocalCacheInvalidationBus());
+        catalog = new Catalog(summaryTemplateRepository, meetingTypeRepository, notesTemplateRepository,
+                folderRepository, changes, jdbcClient, transactionManager);
+        when(jdbcClient.sql(anyString()).query(Long.class).single()).thenReturn(7L, 8L);
+    }
+
+    @Test
+    void readsShareOneSnapshotUntilAWrite() {
+        CatalogSnapshot first = catalog.snapshot();
+
+        assertThat(catalog.snapshot()).isSameAs(first);
+        assertThat(first.etag()).isEqualTo("\"catalog-7\"");
+        verify(folderRepository, times(1)).findAll();
+
+        changes.recordWrite();
+        CatalogSnapshot second = catalog.snapshot();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.etag()).isEqualTo("\"catalog-8\"");
+        verify(folderRepository, times(2)).findAll();
+    }
+
+    @Test
+    void childFoldersAreLookedUpInMemory() {
+        UUID rootId = UUID.randomUUID();
+        Folder root = folder(rootId, "Clients", "/Clients", null);
+        Folder beta = folder(UUID.randomUUID(), "Beta", "/Clients/Beta", rootId);
+        Folder acme = folder(UUID.randomUUID(), "Acme", "/Clients/Acme", rootId);
+        when(folderRepository.findAll()).thenReturn(List.of(root, acme, beta));
+
+        CatalogSnapshot snapshot = catalog.snapshot();
+
+        assertThat(snapshot.folder(rootId)).contains(root);
+        assertThat(snapshot.childFolders(rootId)).containsExactly(acme, beta);
+        assertThat(snapshot.childFolders(null)).containsExactly(root);
+    }
+
+    private static Folder folder(UUID id, String name, String path, UUID parentId) {
+        return new Folder(id, name, path, parentId, Map.of(), null, null, OffsetDateTime.now(), OffsetDateTime.now());
+    }
+}
@@ -0,0 +1,78 @@
+package com.decisiondesk.backend.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import com.decisiondesk.backend.datasource.QueryStatsRecorder.QuerySummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class QueryStatsRecorderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryStatsRecorder recorder =
+            new QueryStatsRecorder(registry, new QueryStatsProperties(true, Duration.ofHours(1), null));
+
+    @Test
+    void numbersPlaceholdersOutsideLiteralsAndComments() {
+        String sql = "SELECT '?' , meta ?? 'k' FROM t -- why?\nWHERE a = ? /* ? */ AND b = ?";
+
+        assertThat(QueryStatsRecorder.numberedPlaceholders(sql))
+                .isEqualTo("SELECT '?' , meta ? 'k' FROM t -- why?\nWHERE a = $1 /* ? */ AND b = $2");
+    }
+
+    @Test
+    void namesStatementsAfterRepositoryMethod() {
+        assertThat(QueryNames.name("com.decisiondesk.backend.meetings.persistence.MeetingRepository", "lambda$findAll$3"))
+                .isEqualTo("MeetingRepository.findAll");
+        assertThat(QueryNames.name("com.decisiondesk.backend.folders.FolderService$$SpringCGLIB$$0", "moveFolder"))
+                .isEqualTo("FolderService.moveFolder");
+    }
+
+    @Test
+    void bindShapeMarksGapsAndDropsSpareSlots() {
+        assertThat(QueryStatsRecorder.bindShape(new String[] {"String", null, "UUID", null, null}))
+                .containsExactly("String", "unset", "UUID");
+    }
+
+    @Test
+    void countsCallsAndRowsPerQuery() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT id FROM meetings WHERE folder_id = ?")).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, true, false);
+
+        DataSource dataSource = new InstrumentedDataSource(target, () -> recorder);
+        try (Connection c = dataSource.getConnection();
+             PreparedStatement ps = c.prepareStatement("SELECT id FROM meetings WHERE folder_id = ?")) {
+            ps.setObject(1, UUID.randomUUID());
+            try (ResultSet result = ps.executeQuery()) {
+                while (result.next()) {
+                    // drain
+                }
+            }
+        }
+
+        QuerySummary summary = recorder.find("QueryStatsRecorderTest.countsCallsAndRowsPerQuery").orElseThrow();
+        assertThat(summary.calls()).isEqualTo(1);
+        assertThat(summary.rows()).isEqualTo(2);
+        assertThat(summary.slowCalls()).isZero();
+        assertThat(registry.get("jdbc.query").tag("query", summary.name()).timer().count()).isEqualTo(1);
+    }
+}
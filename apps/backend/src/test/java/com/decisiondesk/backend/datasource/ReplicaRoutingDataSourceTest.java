@@ -0,0 +1,92 @@
+package com.decisiondesk.backend.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final Map<DataSource, Duration> lags = new HashMap<>();
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), Duration.ofSeconds(5),
+                new SimpleMeterRegistry(), lags::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readsFromHealthyReplica() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        lags.put(replica, Duration.ofMillis(200));
+        routing.probeReplicas();
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLags() throws SQLException {
+        lags.put(replica, Duration.ofSeconds(30));
+        routing.probeReplicas();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaUnreachable() throws SQLException {
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), Duration.ofSeconds(5),
+                new SimpleMeterRegistry(), dataSource -> {
+                    throw new SQLException("connection refused");
+                });
+        routing.probeReplicas();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void pinnedThreadReadsFromPrimary() throws SQLException {
+        lags.put(replica, Duration.ZERO);
+        routing.probeReplicas();
+        ReadYourWrites.pin();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void replicaRefusingConnectionLeavesRotation() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("too many clients"));
+        lags.put(replica, Duration.ZERO);
+        routing.probeReplicas();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        verify(replica, times(1)).getConnection();
+    }
+}
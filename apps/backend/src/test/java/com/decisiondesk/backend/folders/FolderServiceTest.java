@@ -0,0 +1,100 @@
+package com.decisiondesk.backend.folders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import com.decisiondesk.backend.catalog.Catalog;
+import com.decisiondesk.backend.catalog.CatalogSnapshot;
+import com.decisiondesk.backend.folders.model.Folder;
+import com.decisiondesk.backend.folders.persistence.FolderRepository;
+import com.decisiondesk.backend.meetings.persistence.MeetingRepository;
+import com.decisiondesk.backend.web.ApiException;
+
+@ExtendWith(MockitoExtension.class)
+class FolderServiceTest {
+
+    private static final UUID ROOT = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private FolderRepository folderRepository;
+    @Mock
+    private MeetingRepository meetingRepository;
+    @Mock
+    private Catalog catalog;
+
+    private final Folder root = folder(ROOT, "Raiz", "/", null);
+    private final Folder acme = folder(UUID.randomUUID(), "Acme", "/Acme", ROOT);
+    private final Folder q1 = folder(UUID.randomUUID(), "Q1", "/Acme/Q1", acme.id());
+
+    private FolderService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FolderService(folderRepository, meetingRepository, catalog);
+        when(catalog.snapshot()).thenReturn(CatalogSnapshot.of(1, 0, List.of(), List.of(), List.of(), List.of(root, acme, q1)));
+    }
+
+    @Test
+    void renameRewritesSubtreeFromTheNewPath() {
+        when(folderRepository.findById(acme.id())).thenReturn(Optional.of(acme));
+
+        service.updateFolder(acme.id(), "Acme Corp", null, null);
+
+        verify(folderRepository).rename(acme.id(), "Acme Corp", "/Acme Corp");
+    }
+
+    @Test
+    void moveIntoOwnSubtreeIsRejected() {
+        when(folderRepository.isInSubtree(q1.id(), acme.id())).thenReturn(true);
+
+        assertThatThrownBy(() -> service.moveFolder(acme.id(), q1.id()))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("subfolders");
+        verify(folderRepository, never()).move(any(), any(), anyString());
+    }
+
+    @Test
+    void moveBuildsPathUnderNewParent() {
+        when(folderRepository.isInSubtree(ROOT, q1.id())).thenReturn(false);
+        when(folderRepository.move(q1.id(), ROOT, "/Q1")).thenReturn(1);
+        when(folderRepository.findById(q1.id())).thenReturn(Optional.of(q1));
+
+        service.moveFolder(q1.id(), ROOT);
+
+        verify(folderRepository).move(q1.id(), ROOT, "/Q1");
+    }
+
+    @Test
+    void renameThatOverflowsADescendantPathIsRejected() {
+        when(folderRepository.findById(acme.id())).thenReturn(Optional.of(acme));
+        when(folderRepository.subtreePathSuffixLength(acme.id())).thenReturn(3);
+
+        assertThatThrownBy(() -> service.updateFolder(acme.id(), "A".repeat(497), null, null))
+                .isInstanceOfSatisfying(ApiException.class,
+                        ex -> assertThat(ex.status()).isEqualTo(HttpStatus.BAD_REQUEST))
+                .hasMessageContaining("501");
+        verify(folderRepository, never()).rename(any(), anyString(), anyString());
+    }
+
+    private static Folder folder(UUID id, String name, String path, UUID parentId) {
+        return new Folder(id, name, path, parentId, Map.of(), null, null, OffsetDateTime.now(), OffsetDateTime.now());
+    }
+}
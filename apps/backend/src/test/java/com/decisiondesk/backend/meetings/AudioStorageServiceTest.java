@@ -0,0 +1,49 @@
+package com.decisiondesk.backend.meetings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.decisiondesk.backend.config.StorageProperties;
+import com.decisiondesk.backend.meetings.AudioStorageService.ReclaimedAudio;
+
+class AudioStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void deletesMeetingDirectoryAndCountsReclaimedBytes() throws IOException {
+        UUID meetingId = UUID.randomUUID();
+        Path asset = Files.createDirectories(root.resolve(meetingId.toString()).resolve(UUID.randomUUID().toString()));
+        Files.write(asset.resolve("audio.m4a"), new byte[1000]);
+        Files.write(asset.resolve("audio.wav"), new byte[24]);
+        Path legacy = Files.write(root.resolve("legacy.m4a"), new byte[10]);
+        Path outside = Files.createTempFile("outside", ".m4a");
+
+        ReclaimedAudio reclaimed = new AudioStorageService(new StorageProperties(root))
+                .deleteMeetingAudio(meetingId, List.of(legacy.toString(), outside.toString()));
+
+        assertThat(reclaimed.files()).isEqualTo(3);
+        assertThat(reclaimed.bytes()).isEqualTo(1034);
+        assertThat(root.resolve(meetingId.toString())).doesNotExist();
+        assertThat(outside).exists();
+        Files.delete(outside);
+    }
+
+    @Test
+    void missingFilesAreNotAnError() throws IOException {
+        ReclaimedAudio reclaimed = new AudioStorageService(new StorageProperties(root))
+                .deleteMeetingAudio(UUID.randomUUID(), List.of(root.resolve("gone.m4a").toString()));
+
+        assertThat(reclaimed.files()).isZero();
+        assertThat(reclaimed.bytes()).isZero();
+    }
+}
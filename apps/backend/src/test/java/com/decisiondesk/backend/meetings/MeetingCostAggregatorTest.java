@@ -65,4 +65,22 @@ class MeetingCostAggregatorTest {
         assertThat(breakdown.gpt().completionTokens()).isEqualTo(300L);
         assertThat(breakdown.total().usd()).isEqualByComparingTo(new BigDecimal("0.026"));
     }
+
+    @Test
+    void readsSnakeCaseTokenKeysWrittenBySummaries() {
+        UsageRecord gpt = new UsageRecord(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                Service.GPT,
+                new BigDecimal("1500"),
+                new BigDecimal("0.030"),
+                new BigDecimal("0.150"),
+                "{\"provider\":\"ollama\",\"prompt_tokens\":1200,\"completion_tokens\":300}",
+                OffsetDateTime.now());
+
+        MeetingCostBreakdown breakdown = aggregator.aggregate(List.of(gpt));
+
+        assertThat(breakdown.gpt().promptTokens()).isEqualTo(1200L);
+        assertThat(breakdown.gpt().completionTokens()).isEqualTo(300L);
+    }
 }
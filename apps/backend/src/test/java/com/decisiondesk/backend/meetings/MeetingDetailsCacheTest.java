@@ -0,0 +1,103 @@
+package com.decisiondesk.backend.meetings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.decisiondesk.backend.cache.LocalCacheInvalidationBus;
+import com.decisiondesk.backend.datasource.ReplicaProperties;
+import com.decisiondesk.backend.meetings.model.MeetingDetails;
+import com.decisiondesk.backend.meetings.model.Transcript;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MeetingDetailsCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private MeetingDetailsCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new MeetingDetailsCache(registry, new LocalCacheInvalidationBus(),
+                new ReplicaProperties(false, null, null, null, null, null), 64, 120);
+    }
+
+    @Test
+    void repeatedReadsLoadOnce() {
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, this::load);
+        cache.get(id, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("cache.gets").tag("cache", "meetingDetails").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        UUID id = UUID.randomUUID();
+        cache.get(id, this::load);
+
+        cache.invalidate(id);
+        cache.get(id, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void writeDuringLoadIsNotCached() {
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, meetingId -> {
+            cache.invalidate(meetingId);
+            return load(meetingId);
+        });
+        cache.get(id, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void replicaLoadsRightAfterAnEvictionAreNotCached() {
+        MeetingDetailsCache replicaBacked = new MeetingDetailsCache(registry, new LocalCacheInvalidationBus(),
+                new ReplicaProperties(true, null, Duration.ofMinutes(1), Duration.ofSeconds(2), null, null), 64, 120);
+        UUID id = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        replicaBacked.get(id, this::load);
+        replicaBacked.get(other, this::load);
+
+        replicaBacked.invalidate(id);
+        replicaBacked.get(id, this::load);
+        replicaBacked.get(id, this::load);
+        replicaBacked.get(other, this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void weightGrowsWithTranscriptLength() {
+        UUID id = UUID.randomUUID();
+        MeetingDetails empty = details(id, null);
+        MeetingDetails transcribed = details(id, new Transcript(UUID.randomUUID(), id, "pt", "x".repeat(10_000), OffsetDateTime.now()));
+
+        assertThat(MeetingDetailsCache.weigh(transcribed) - MeetingDetailsCache.weigh(empty)).isEqualTo(20_000);
+    }
+
+    private MeetingDetails load(UUID id) {
+        loads.incrementAndGet();
+        return details(id, null);
+    }
+
+    private static MeetingDetails details(UUID id, Transcript transcript) {
+        return new MeetingDetails(id, MeetingStatus.DONE, OffsetDateTime.now(), "Weekly", transcript, null, null, 600);
+    }
+}
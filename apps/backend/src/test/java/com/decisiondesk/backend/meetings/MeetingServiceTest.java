@@ -1,13 +1,18 @@
 package com.decisiondesk.backend.meetings;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,16 +23,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 
+import com.decisiondesk.backend.cache.LocalCacheInvalidationBus;
 import com.decisiondesk.backend.config.AppProps;
+import com.decisiondesk.backend.datasource.ReplicaProperties;
 import com.decisiondesk.backend.meetings.model.AudioAsset;
 import com.decisiondesk.backend.meetings.model.AudioUploadResult;
 import com.decisiondesk.backend.meetings.model.Meeting;
+import com.decisiondesk.backend.meetings.model.MeetingCursor;
+import com.decisiondesk.backend.meetings.model.MeetingDetails;
+import com.decisiondesk.backend.meetings.model.MeetingListFilter;
+import com.decisiondesk.backend.meetings.model.MeetingListItem;
+import com.decisiondesk.backend.meetings.model.MeetingPage;
 import com.decisiondesk.backend.meetings.persistence.AudioAssetRepository;
+import com.decisiondesk.backend.meetings.persistence.MeetingDetailsRepository;
 import com.decisiondesk.backend.meetings.persistence.MeetingRepository;
-import com.decisiondesk.backend.meetings.persistence.SummaryRepository;
-import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
-import com.decisiondesk.backend.meetings.persistence.UsageRecordRepository;
 import com.decisiondesk.backend.meetings.service.TranscriptionOperations;
+import com.decisiondesk.backend.web.ApiException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class MeetingServiceTest {
@@ -37,18 +50,12 @@ class MeetingServiceTest {
     @Mock
     private AudioAssetRepository audioAssetRepository;
     @Mock
-    private TranscriptRepository transcriptRepository;
-    @Mock
-    private SummaryRepository summaryRepository;
-    @Mock
-    private UsageRecordRepository usageRecordRepository;
+    private MeetingDetailsRepository detailsRepository;
     @Mock
     private AudioStorageService storageService;
     @Mock
     private AudioDurationExtractor durationExtractor;
     @Mock
-    private MeetingCostAggregator costAggregator;
-    @Mock
     private TranscriptionOperations transcriptionService;
 
     private MeetingService meetingService;
@@ -63,14 +70,13 @@ class MeetingServiceTest {
         meetingService = new MeetingService(
                 meetingRepository,
                 audioAssetRepository,
-                transcriptRepository,
-                summaryRepository,
-                usageRecordRepository,
+                detailsRepository,
                 storageService,
                 durationExtractor,
-                costAggregator,
                 appProps,
-                transcriptionService);
+                transcriptionService,
+                new MeetingDetailsCache(new SimpleMeterRegistry(), new LocalCacheInvalidationBus(),
+                new ReplicaProperties(false, null, null, null, null, null), 64, 120));
     }
 
     @Test
@@ -94,4 +100,61 @@ class MeetingServiceTest {
         verify(meetingRepository).updateStatus(meetingId, MeetingStatus.NEW);
         verify(transcriptionService, never()).transcribe(any(UUID.class));
     }
+
+    @Test
+    void listMeetingsPageReturnsCursorWhenMoreRowsExist() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<MeetingListItem> rows = List.of(item(now), item(now.minusMinutes(1)), item(now.minusMinutes(2)));
+        when(meetingRepository.findPage(eq(MeetingListFilter.none()), isNull(), eq(3))).thenReturn(rows);
+
+        MeetingPage page = meetingService.listMeetingsPage(MeetingListFilter.none(), null, 2);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(MeetingCursor.decode(page.nextCursor())).isEqualTo(MeetingCursor.after(rows.get(1)));
+    }
+
+    @Test
+    void listMeetingsPageHasNoCursorOnLastPage() {
+        MeetingCursor after = new MeetingCursor(OffsetDateTime.now(), UUID.randomUUID());
+        when(meetingRepository.findPage(MeetingListFilter.none(), after, 3)).thenReturn(List.of(item(OffsetDateTime.now())));
+
+        MeetingPage page = meetingService.listMeetingsPage(MeetingListFilter.none(), after.encode(), 2);
+
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void listMeetingsPageRejectsMalformedCursor() {
+        assertThatThrownBy(() -> meetingService.listMeetingsPage(MeetingListFilter.none(), "not-a-cursor", 20))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("Cursor");
+    }
+
+    @Test
+    void getMeetingLoadsDetailsOnceThenServesFromCache() {
+        UUID meetingId = UUID.randomUUID();
+        MeetingDetails details = new MeetingDetails(meetingId, MeetingStatus.DONE, OffsetDateTime.now(), "Weekly",
+                null, null, null, 600);
+        when(detailsRepository.findById(meetingId)).thenReturn(Optional.of(details));
+
+        assertThat(meetingService.getMeeting(meetingId)).isSameAs(details);
+        assertThat(meetingService.getMeeting(meetingId)).isSameAs(details);
+        verify(detailsRepository, times(1)).findById(meetingId);
+    }
+
+    @Test
+    void getMeetingReportsMissingMeeting() {
+        UUID meetingId = UUID.randomUUID();
+        when(detailsRepository.findById(meetingId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> meetingService.getMeeting(meetingId))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("not found");
+    }
+
+    private static MeetingListItem item(OffsetDateTime createdAt) {
+        return new MeetingListItem(UUID.randomUUID(), MeetingStatus.DONE, "Weekly", createdAt, createdAt,
+                600, 10, null, null);
+    }
 }
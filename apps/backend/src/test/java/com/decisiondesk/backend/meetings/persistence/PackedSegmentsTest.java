@@ -0,0 +1,81 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+
+class PackedSegmentsTest {
+
+    private static final UUID MEETING = UUID.fromString("6f1c2a9e-3b7d-4e0a-9c51-2d8f4b6a1e03");
+    private static final UUID ANA = UUID.fromString("0b9e5d41-7c2f-4a18-8e63-5f0d1c9a2b74");
+
+    @Test
+    void roundTripsSegmentsWithGapsAndSpeakers() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2026-03-02T14:00:00Z");
+        List<TranscriptSegment> segments = List.of(
+                TranscriptSegment.create(MEETING, 0, 0.0, 2.5, "Bom dia a todos.").withSpeaker("SPEAKER_00", ANA),
+                TranscriptSegment.create(MEETING, 1, 2.5, 4.12, "Vamos ao orçamento 🚀").withSpeaker("SPEAKER_01", null),
+                TranscriptSegment.create(MEETING, 4, 10.003, 9.5, ""),
+                TranscriptSegment.create(MEETING, 5, 12.0, 15.75, "Fechado.").withSpeaker("SPEAKER_00", ANA));
+
+        List<TranscriptSegment> unpacked = PackedSegments.pack(segments).unpack(MEETING, createdAt);
+
+        assertThat(unpacked).hasSize(4);
+        for (int i = 0; i < segments.size(); i++) {
+            TranscriptSegment expected = segments.get(i);
+            assertThat(unpacked.get(i)).isEqualTo(new TranscriptSegment(
+                    PackedSegments.segmentId(MEETING, expected.ordinal()), MEETING, expected.ordinal(),
+                    expected.startSec(), expected.endSec(), expected.text(),
+                    expected.speakerLabel(), expected.speakerId(), createdAt));
+        }
+    }
+
+    @Test
+    void dictionaryHoldsEachSpeakerOnceWithTalkTime() {
+        PackedSegments pack = PackedSegments.pack(List.of(
+                TranscriptSegment.create(MEETING, 0, 0.0, 3.0, "a").withSpeaker("SPEAKER_00", ANA),
+                TranscriptSegment.create(MEETING, 1, 3.0, 4.0, "b").withSpeaker("SPEAKER_01", null),
+                TranscriptSegment.create(MEETING, 2, 4.0, 6.5, "c").withSpeaker("SPEAKER_00", ANA)));
+
+        assertThat(pack.speakerLabels()).containsExactly("SPEAKER_00", "SPEAKER_01");
+        assertThat(pack.speakerIds()).containsExactly(ANA, null);
+        assertThat(pack.speakerTalkSec()).containsExactly(5.5, 1.0);
+        assertThat(pack.text()).isEqualTo("abc");
+    }
+
+    @Test
+    void timesRoundToMillisecondsLikeTheNumericColumn() {
+        assertThat(PackedSegments.toMillis(0.5005)).isEqualTo(501);
+        assertThat(PackedSegments.toMillis(2.12349)).isEqualTo(2123);
+        assertThat(PackedSegments.toMillis(7.4)).isEqualTo(7400);
+
+        List<TranscriptSegment> unpacked = PackedSegments.pack(List.of(
+                TranscriptSegment.create(MEETING, 0, 0.5005, 3.14159, "a")))
+                .unpack(MEETING, OffsetDateTime.now());
+        assertThat(unpacked.getFirst().startSec()).isEqualTo(0.501);
+        assertThat(unpacked.getFirst().endSec()).isEqualTo(3.142);
+    }
+
+    @Test
+    void rejectsOutOfOrderOrdinals() {
+        List<TranscriptSegment> segments = List.of(
+                TranscriptSegment.create(MEETING, 2, 0.0, 1.0, "b"),
+                TranscriptSegment.create(MEETING, 1, 1.0, 2.0, "a"));
+
+        assertThatThrownBy(() -> PackedSegments.pack(segments)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void segmentIdsAreStablePerMeetingAndOrdinal() {
+        assertThat(PackedSegments.segmentId(MEETING, 7)).isEqualTo(PackedSegments.segmentId(MEETING, 7));
+        assertThat(PackedSegments.segmentId(MEETING, 7)).isNotEqualTo(PackedSegments.segmentId(MEETING, 8));
+        assertThat(PackedSegments.segmentId(MEETING, 7)).isNotEqualTo(PackedSegments.segmentId(ANA, 7));
+    }
+}
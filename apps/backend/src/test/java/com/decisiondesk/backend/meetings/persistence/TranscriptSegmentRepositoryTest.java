@@ -0,0 +1,62 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+
+class TranscriptSegmentRepositoryTest {
+
+    private static final UUID MEETING = UUID.randomUUID();
+
+    @Test
+    void repeatedOrdinalsKeepTheLastSegment() {
+        TranscriptSegment first = TranscriptSegment.create(MEETING, 0, 0.0, 4.0, "Bom dia");
+        TranscriptSegment draft = TranscriptSegment.create(MEETING, 1, 4.0, 8.0, "Vamos começar");
+        TranscriptSegment last = TranscriptSegment.create(MEETING, 2, 8.0, 12.0, "Primeiro item");
+        TranscriptSegment corrected = TranscriptSegment.create(MEETING, 1, 4.0, 8.5, "Vamos começar pela pauta");
+
+        assertThat(TranscriptSegmentRepository.lastPerOrdinal(List.of(first, draft, last, corrected)))
+                .containsExactly(first, corrected, last);
+    }
+
+    @Test
+    void uniqueOrdinalsAreReturnedAsGiven() {
+        List<TranscriptSegment> segments = List.of(
+                TranscriptSegment.create(MEETING, 0, 0.0, 4.0, "Bom dia"),
+                TranscriptSegment.create(MEETING, 1, 4.0, 8.0, "Vamos começar"));
+
+        assertThat(TranscriptSegmentRepository.lastPerOrdinal(segments)).isSameAs(segments);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchInsertSendsEachOrdinalOnce() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TranscriptSegmentRepository repository = new TranscriptSegmentRepository(mock(JdbcClient.class), jdbcTemplate);
+        TranscriptSegment draft = TranscriptSegment.create(MEETING, 0, 0.0, 4.0, "Bom di");
+        TranscriptSegment corrected = TranscriptSegment.create(MEETING, 0, 0.0, 4.0, "Bom dia");
+
+        List<TranscriptSegment> stored = repository.insertWithBatch(MEETING, List.of(draft, corrected));
+
+        ArgumentCaptor<Collection<TranscriptSegment>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(500),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(rows.getValue()).containsExactly(corrected);
+        assertThat(stored).containsExactly(corrected);
+    }
+}
@@ -0,0 +1,55 @@
+package com.decisiondesk.backend.meetings.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.decisiondesk.backend.meetings.persistence.TranscriptTextCodec.Encoded;
+
+class TranscriptTextCodecTest {
+
+    private static final String LONG_TEXT = "Vamos revisar o orçamento e os próximos passos. ".repeat(2_000);
+
+    @Test
+    void largeTextRoundTripsThroughDeflate() {
+        Encoded encoded = TranscriptTextCodec.encode(LONG_TEXT, 16_384);
+
+        assertThat(encoded.format()).isEqualTo(TranscriptTextCodec.DEFLATE);
+        assertThat(encoded.text()).isNull();
+        assertThat(encoded.compressed().length).isLessThan(LONG_TEXT.length() / 10);
+        assertThat(TranscriptTextCodec.decode(encoded.format(), encoded.text(), encoded.compressed()))
+                .isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    void smallOrDisabledStaysPlain() {
+        assertThat(TranscriptTextCodec.encode("Olá", 16_384).format()).isEqualTo(TranscriptTextCodec.PLAIN);
+        assertThat(TranscriptTextCodec.encode(LONG_TEXT, 0)).satisfies(encoded -> {
+            assertThat(encoded.format()).isEqualTo(TranscriptTextCodec.PLAIN);
+            assertThat(encoded.text()).isEqualTo(LONG_TEXT);
+        });
+    }
+
+    @Test
+    void incompressibleTextStaysPlain() {
+        Random random = new Random(42);
+        StringBuilder noise = new StringBuilder();
+        random.ints(40_000, 0x21, 0x7F).forEach(noise::appendCodePoint);
+
+        assertThat(TranscriptTextCodec.encode(noise.toString(), 1_024).format()).isEqualTo(TranscriptTextCodec.PLAIN);
+    }
+
+    @Test
+    void truncatedFrameFails() {
+        byte[] frame = TranscriptTextCodec.encode(LONG_TEXT, 1).compressed();
+        byte[] truncated = Arrays.copyOf(frame, frame.length / 2);
+
+        assertThatThrownBy(() -> TranscriptTextCodec.decode(TranscriptTextCodec.DEFLATE, null, truncated))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+}
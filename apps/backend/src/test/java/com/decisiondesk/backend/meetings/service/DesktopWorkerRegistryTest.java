@@ -0,0 +1,94 @@
+package com.decisiondesk.backend.meetings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.decisiondesk.backend.meetings.WhisperModel;
+import com.decisiondesk.backend.meetings.model.DesktopWorker;
+import com.decisiondesk.backend.meetings.persistence.DesktopWorkerRepository;
+import com.decisiondesk.backend.meetings.persistence.TranscriptionJobHistoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DesktopWorkerRegistryTest {
+
+    @Mock
+    private DesktopWorkerRepository workerRepository;
+    @Mock
+    private TranscriptionJobHistoryRepository historyRepository;
+
+    private DesktopWorkerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new DesktopWorkerRegistry(workerRepository, historyRepository);
+    }
+
+    @Test
+    void workerWithoutModelCannotRunJob() {
+        DesktopWorker worker = worker("old-mac", 8, false, WhisperModel.SMALL, WhisperModel.MEDIUM);
+
+        assertThat(worker.canRun(WhisperModel.LARGE_V3, false)).isFalse();
+        assertThat(worker.canRun(WhisperModel.SMALL, false)).isTrue();
+        assertThat(worker.canRun(WhisperModel.SMALL, true)).isFalse();
+    }
+
+    @Test
+    void nominalRealtimeFactorScalesWithCores() {
+        DesktopWorker small = worker("old-mac", 8, false, WhisperModel.LARGE_V3);
+        DesktopWorker big = worker("new-mac", 24, true, WhisperModel.LARGE_V3);
+
+        assertThat(DesktopWorkerRegistry.nominalRealtimeFactor(small, WhisperModel.LARGE_V3)).isEqualTo(7.5);
+        assertThat(DesktopWorkerRegistry.nominalRealtimeFactor(big, WhisperModel.LARGE_V3)).isEqualTo(22.5);
+    }
+
+    @Test
+    void estimateUsesMeasuredRealtimeFactor() {
+        DesktopWorker worker = worker("new-mac", 16, true, WhisperModel.LARGE_V3);
+        when(workerRepository.findRealtimeFactor("new-mac", WhisperModel.LARGE_V3)).thenReturn(Optional.of(20.0));
+
+        Optional<Duration> estimate = registry.estimateProcessingTime(worker, job(WhisperModel.LARGE_V3, 3600));
+
+        assertThat(estimate).contains(Duration.ofSeconds(180));
+    }
+
+    @Test
+    void estimateIsEmptyWhenAudioLengthUnknown() {
+        DesktopWorker worker = worker("new-mac", 16, true, WhisperModel.LARGE_V3);
+
+        assertThat(registry.estimateProcessingTime(worker, job(WhisperModel.LARGE_V3, null))).isEmpty();
+    }
+
+    @Test
+    void ignoresSamplesTooShortToMeasure() {
+        registry.recordCompletion("new-mac", WhisperModel.TINY, 30, 0.2);
+
+        verify(workerRepository, never()).recordSample(anyString(), any(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    private static DesktopWorker worker(String id, int cores, boolean diarization, WhisperModel... models) {
+        return new DesktopWorker(id, id, EnumSet.of(models[0], models), cores, diarization,
+                OffsetDateTime.now(), OffsetDateTime.now());
+    }
+
+    private static DesktopTranscriptionJob job(WhisperModel model, Integer audioDurationSec) {
+        return new DesktopTranscriptionJob(UUID.randomUUID(), Path.of("/tmp/a.m4a"), model, "pt", false, audioDurationSec);
+    }
+}
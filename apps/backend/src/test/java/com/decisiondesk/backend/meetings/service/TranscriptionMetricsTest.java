@@ -0,0 +1,65 @@
+package com.decisiondesk.backend.meetings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.decisiondesk.backend.meetings.TranscriptionProvider;
+import com.decisiondesk.backend.meetings.model.TranscriptionQueueJob.JobStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TranscriptionMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private TranscriptionMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new TranscriptionMetrics(registry);
+    }
+
+    @Test
+    void transitionsMoveJobsBetweenDepthGauges() {
+        metrics.transition(null, JobStatus.PENDING);
+        metrics.transition(null, JobStatus.PENDING);
+        metrics.transition(JobStatus.PENDING, JobStatus.PROCESSING);
+
+        assertThat(gauge("pending")).isEqualTo(1.0);
+        assertThat(gauge("processing")).isEqualTo(1.0);
+
+        metrics.transition(JobStatus.PROCESSING, null);
+        assertThat(gauge("processing")).isZero();
+    }
+
+    @Test
+    void depthNeverGoesNegativeAndResetsFromDatabaseCounts() {
+        metrics.transition(JobStatus.FAILED, JobStatus.PENDING);
+        assertThat(gauge("failed")).isZero();
+
+        metrics.resetQueueDepth(Map.of(JobStatus.PENDING, 7L));
+        assertThat(gauge("pending")).isEqualTo(7.0);
+        assertThat(gauge("failed")).isZero();
+    }
+
+    @Test
+    void timersAreTaggedByProviderAndModel() {
+        OffsetDateTime start = OffsetDateTime.now();
+        metrics.recordQueueWait(TranscriptionProvider.DESKTOP_LOCAL, "large-v3", start, start.plusSeconds(30));
+
+        assertThat(registry.get("transcription.queue.wait")
+                .tag("provider", "desktop_local")
+                .tag("model", "large-v3")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    private double gauge(String status) {
+        return registry.get("transcription.queue.depth").tag("status", status).gauge().value();
+    }
+}
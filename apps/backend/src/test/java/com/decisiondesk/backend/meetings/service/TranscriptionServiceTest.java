@@ -39,6 +39,8 @@ import com.decisiondesk.backend.openai.WhisperClientException;
 import com.decisiondesk.backend.web.ApiException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class TranscriptionServiceTest {
 
@@ -77,7 +79,8 @@ class TranscriptionServiceTest {
                 appProps,
                 new ObjectMapper(),
                 Optional.empty(),
-                Optional.empty());
+                Optional.empty(),
+                new TranscriptionMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
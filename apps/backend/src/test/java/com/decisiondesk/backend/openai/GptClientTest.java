@@ -0,0 +1,43 @@
+package com.decisiondesk.backend.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+
+class GptClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void streamForwardsDeltasThenUsageFrame() {
+        Flux<String> data = Flux.just(
+                "{\"model\":\"gpt-4o-2024-08-06\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"\"}}]}",
+                "{\"model\":\"gpt-4o-2024-08-06\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"Sim, \"}}]}",
+                "{\"model\":\"gpt-4o-2024-08-06\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"na sexta.\"}}]}",
+                "{\"model\":\"gpt-4o-2024-08-06\",\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}]}",
+                "{\"model\":\"gpt-4o-2024-08-06\",\"choices\":[],"
+                        + "\"usage\":{\"prompt_tokens\":900,\"completion_tokens\":4,\"total_tokens\":904}}",
+                "[DONE]");
+
+        List<GptStreamChunk> chunks = GptClient.decodeStream(data, "gpt-4o", objectMapper).collectList().block();
+
+        assertThat(chunks).extracting(GptStreamChunk::delta).containsExactly("Sim, ", "na sexta.", null);
+        assertThat(chunks.get(2).completion())
+                .isEqualTo(new GptCompletion("Sim, na sexta.", "gpt-4o-2024-08-06", 900, 4, 904));
+    }
+
+    @Test
+    void streamCutBeforeDoneFails() {
+        Flux<String> data = Flux.just("{\"choices\":[{\"index\":0,\"delta\":{\"content\":\"Sim\"}}]}");
+
+        assertThatThrownBy(() -> GptClient.decodeStream(data, "gpt-4o", objectMapper).collectList().block())
+                .isInstanceOf(GptClientException.class);
+    }
+}
@@ -0,0 +1,143 @@
+package com.decisiondesk.backend.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import com.decisiondesk.backend.config.AppProps;
+import com.decisiondesk.backend.meetings.model.Transcript;
+import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
+import com.decisiondesk.backend.search.model.TranscriptSearchHit;
+import com.decisiondesk.backend.search.persistence.TranscriptSearchRepository;
+import com.decisiondesk.backend.web.ApiException;
+
+@ExtendWith(MockitoExtension.class)
+class TranscriptSearchServiceTest {
+
+    @Mock
+    private TranscriptSearchRepository searchRepository;
+    @Mock
+    private TranscriptRepository transcriptRepository;
+
+    private TranscriptSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        AppProps appProps = new AppProps(
+                "0.1.0",
+                new AppProps.Upload(200),
+                new AppProps.Ai("pt"),
+                new AppProps.Features(false));
+        service = new TranscriptSearchService(searchRepository, transcriptRepository, appProps);
+    }
+
+    @Test
+    void blankOrOverlongQueriesAreRejected() {
+        assertThatThrownBy(() -> service.search("   ", null, null, null))
+                .isInstanceOfSatisfying(ApiException.class,
+                        ex -> assertThat(ex.status()).isEqualTo(HttpStatus.BAD_REQUEST))
+                .hasMessageContaining("required");
+        assertThatThrownBy(() -> service.search("a".repeat(201), null, null, null))
+                .isInstanceOfSatisfying(ApiException.class,
+                        ex -> assertThat(ex.status()).isEqualTo(HttpStatus.BAD_REQUEST))
+                .hasMessageContaining("at most 200");
+        verifyNoInteractions(searchRepository);
+    }
+
+    @Test
+    void termsAreTrimmedAndLanguageDefaultsToTheConfiguredOne() {
+        UUID meetingId = UUID.randomUUID();
+
+        service.search("  \"próximos passos\" -orçamento ", null, meetingId, null);
+        service.search("budget", "en", null, null);
+
+        verify(searchRepository).search("\"próximos passos\" -orçamento", "pt", meetingId, 20);
+        verify(searchRepository).search("budget", "en", null, 20);
+    }
+
+    @Test
+    void limitIsClampedBetweenOneAndOneHundred() {
+        service.search("orçamento", null, null, 0);
+        service.search("pauta", null, null, 1_000);
+        service.search("ata", null, null, 35);
+
+        verify(searchRepository).search("orçamento", "pt", null, 1);
+        verify(searchRepository).search("pauta", "pt", null, 100);
+        verify(searchRepository).search("ata", "pt", null, 35);
+    }
+
+    @Test
+    void segmentHitsAreReturnedAsTheRepositoryBuiltThem() {
+        TranscriptSearchHit segmentHit = hit(UUID.randomUUID(), UUID.randomUUID(), "<mark>orçamento</mark> aprovado");
+        when(searchRepository.search("orçamento", "pt", null, 20)).thenReturn(List.of(segmentHit));
+
+        assertThat(service.search("orçamento", null, null, null)).containsExactly(segmentHit);
+        verifyNoInteractions(transcriptRepository);
+    }
+
+    @Test
+    void compressedTranscriptHitsGetSnippetsFromOneBatch() {
+        UUID plain = UUID.randomUUID();
+        UUID compressed = UUID.randomUUID();
+        UUID alsoCompressed = UUID.randomUUID();
+        UUID segmented = UUID.randomUUID();
+        when(searchRepository.search("orçamento", "pt", null, 20)).thenReturn(List.of(
+                hit(compressed, null, null),
+                hit(segmented, UUID.randomUUID(), "o <mark>orçamento</mark>"),
+                hit(plain, null, "<mark>orçamento</mark> do trimestre"),
+                hit(alsoCompressed, null, null)));
+        when(transcriptRepository.findByMeetingIds(List.of(compressed, alsoCompressed))).thenReturn(List.of(
+                transcript(alsoCompressed, "Revisão do orçamento anual."),
+                transcript(compressed, "Fechamos o orçamento do projeto.")));
+        when(searchRepository.headlines(
+                List.of("Revisão do orçamento anual.", "Fechamos o orçamento do projeto."), "orçamento", "pt"))
+                .thenReturn(List.of("Revisão do <mark>orçamento</mark>", "Fechamos o <mark>orçamento</mark>"));
+
+        List<TranscriptSearchHit> hits = service.search("orçamento", null, null, null);
+
+        assertThat(hits).extracting(TranscriptSearchHit::meetingId)
+                .containsExactly(compressed, segmented, plain, alsoCompressed);
+        assertThat(hits).extracting(TranscriptSearchHit::snippet).containsExactly(
+                "Fechamos o <mark>orçamento</mark>",
+                "o <mark>orçamento</mark>",
+                "<mark>orçamento</mark> do trimestre",
+                "Revisão do <mark>orçamento</mark>");
+    }
+
+    @Test
+    void noTranscriptFetchWhenEveryHitHasASnippet() {
+        when(searchRepository.search(anyString(), anyString(), any(), anyInt()))
+                .thenReturn(List.of(hit(UUID.randomUUID(), null, "<mark>pauta</mark> da reunião")));
+
+        service.search("pauta", null, null, null);
+
+        verifyNoInteractions(transcriptRepository);
+        verify(searchRepository).search(eq("pauta"), eq("pt"), any(), eq(20));
+    }
+
+    private static TranscriptSearchHit hit(UUID meetingId, UUID segmentId, String snippet) {
+        return new TranscriptSearchHit(meetingId, "Reunião semanal", OffsetDateTime.now(), segmentId,
+                segmentId != null ? 12.0 : null, segmentId != null ? 15.5 : null, null, 0.5, snippet);
+    }
+
+    private static Transcript transcript(UUID meetingId, String text) {
+        return new Transcript(UUID.randomUUID(), meetingId, "pt", text, OffsetDateTime.now());
+    }
+}
@@ -0,0 +1,164 @@
+package com.decisiondesk.backend.search.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import com.decisiondesk.backend.cache.LocalCacheInvalidationBus;
+import com.decisiondesk.backend.datasource.ReplicaProperties;
+import com.decisiondesk.backend.meetings.MeetingDetailsCache;
+import com.decisiondesk.backend.meetings.model.Transcript;
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+import com.decisiondesk.backend.meetings.persistence.TranscriptRepository;
+import com.decisiondesk.backend.meetings.persistence.TranscriptSegmentRepository;
+import com.decisiondesk.backend.search.model.TranscriptSearchHit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the search SQL against a real PostgreSQL, since ranking, stemming and the segment /
+ * transcript fallback all happen in the database. Skipped unless
+ * {@code -Dbenchmark.jdbc-url=jdbc:postgresql://...} points at a scratch database (the same one
+ * the benchmarks use); the schema is migrated first.
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc-url", matches = ".+")
+class TranscriptSearchRepositoryTest {
+
+    private static JdbcClient jdbcClient;
+    private static TranscriptSearchRepository searchRepository;
+    private static TranscriptRepository transcriptRepository;
+    private static TranscriptSegmentRepository segmentRepository;
+    private static final List<UUID> meetings = new ArrayList<>();
+
+    /** A word no other data in the scratch database contains, so hits come only from these tests. */
+    private static final String TOKEN = "zq" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+
+    @BeforeAll
+    static void setUp() {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(System.getProperty("benchmark.jdbc-url"));
+        dataSource.setUser(System.getProperty("benchmark.user", "postgres"));
+        dataSource.setPassword(System.getProperty("benchmark.password", ""));
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcClient = JdbcClient.create(dataSource);
+        MeetingDetailsCache cache = new MeetingDetailsCache(new SimpleMeterRegistry(), new LocalCacheInvalidationBus(),
+                new ReplicaProperties(false, null, null, null, null, null), 64, 120);
+        searchRepository = new TranscriptSearchRepository(jdbcClient);
+        transcriptRepository = new TranscriptRepository(jdbcClient, cache, 16_384);
+        segmentRepository = new TranscriptSegmentRepository(jdbcClient, new JdbcTemplate(dataSource));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        for (UUID id : meetings) {
+            jdbcClient.sql("DELETE FROM transcript_segments WHERE meeting_id = :id").param("id", id).update();
+            jdbcClient.sql("DELETE FROM transcripts WHERE meeting_id = :id").param("id", id).update();
+            jdbcClient.sql("DELETE FROM meetings WHERE id = :id").param("id", id).update();
+        }
+    }
+
+    @Test
+    void languageCodesMapToTextSearchConfigs() {
+        assertThat(config("pt-BR")).isEqualTo("portuguese");
+        assertThat(config("EN")).isEqualTo("english");
+        assertThat(config("es")).isEqualTo("spanish");
+        assertThat(config("tlh")).isEqualTo("simple");
+        assertThat(config(null)).isEqualTo("simple");
+    }
+
+    @Test
+    void queriesAreStemmedWithTheRequestedLanguage() {
+        UUID meetingId = meeting("Planejamento");
+        transcript(meetingId, "pt", "Os orçamentos foram aprovados pela diretoria.");
+
+        assertThat(searchRepository.search("orçamento", "pt", meetingId, 10)).hasSize(1);
+        assertThat(searchRepository.search("\"orçamentos aprovados\"", "pt", meetingId, 10)).isEmpty();
+        assertThat(searchRepository.search("orçamento -diretoria", "pt", meetingId, 10)).isEmpty();
+    }
+
+    @Test
+    void segmentsAnswerWhenPresentAndTheTranscriptOtherwise() {
+        UUID segmented = meeting("Com segmentos");
+        transcript(segmented, "pt", "Revisamos o " + TOKEN + " e o cronograma.");
+        segmentRepository.insertWithBatch(segmented, List.of(
+                TranscriptSegment.create(segmented, 0, 0.0, 4.0, "Bom dia a todos."),
+                TranscriptSegment.create(segmented, 1, 4.0, 9.5, "Revisamos o " + TOKEN + " e o cronograma.")));
+        UUID plain = meeting("Sem segmentos");
+        transcript(plain, "pt", "O " + TOKEN + " ficou para a próxima semana.");
+
+        List<TranscriptSearchHit> hits = searchRepository.search(TOKEN, "pt", null, 10);
+
+        assertThat(hits).extracting(TranscriptSearchHit::meetingId).containsExactlyInAnyOrder(segmented, plain);
+        assertThat(hits).filteredOn(hit -> hit.meetingId().equals(segmented)).singleElement().satisfies(hit -> {
+            assertThat(hit.segmentId()).isNotNull();
+            assertThat(hit.startSec()).isEqualTo(4.0);
+            assertThat(hit.snippet()).contains("<mark>" + TOKEN + "</mark>");
+        });
+        assertThat(hits).filteredOn(hit -> hit.meetingId().equals(plain)).singleElement().satisfies(hit -> {
+            assertThat(hit.segmentId()).isNull();
+            assertThat(hit.startSec()).isNull();
+            assertThat(hit.snippet()).contains("<mark>" + TOKEN + "</mark>");
+        });
+    }
+
+    @Test
+    void compressedTranscriptHitsComeBackWithoutSnippetUntilHighlighted() {
+        UUID meetingId = meeting("Transcrição longa");
+        String text = "Discutimos o " + TOKEN + "x com a equipe. " + "Seguimos com a pauta da reunião. ".repeat(1_000);
+        transcript(meetingId, "pt", text);
+
+        List<TranscriptSearchHit> hits = searchRepository.search(TOKEN + "x", "pt", meetingId, 10);
+
+        assertThat(hits).singleElement().satisfies(hit -> assertThat(hit.snippet()).isNull());
+        assertThat(searchRepository.headlines(List.of(text, "Sem <b>termo</b> & nada"), TOKEN + "x", "pt"))
+                .satisfiesExactly(
+                        snippet -> assertThat(snippet).contains("<mark>" + TOKEN + "x</mark>"),
+                        snippet -> assertThat(snippet).contains("&lt;b&gt;").contains("&amp;"));
+    }
+
+    @Test
+    void limitCapsTheNumberOfHits() {
+        UUID meetingId = meeting("Muitos segmentos");
+        List<TranscriptSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            segments.add(TranscriptSegment.create(meetingId, i, i * 5.0, i * 5.0 + 4.5, "Item " + i + " do " + TOKEN + "y."));
+        }
+        segmentRepository.insertWithBatch(meetingId, segments);
+
+        assertThat(searchRepository.search(TOKEN + "y", "pt", meetingId, 3)).hasSize(3);
+        assertThat(searchRepository.search(TOKEN + "y", "pt", meetingId, 100)).hasSize(8);
+    }
+
+    private static String config(String language) {
+        return jdbcClient.sql("SELECT CAST(text_search_config(:language) AS TEXT)")
+                .param("language", language)
+                .query(String.class)
+                .single();
+    }
+
+    private static UUID meeting(String title) {
+        UUID id = UUID.randomUUID();
+        jdbcClient.sql("INSERT INTO meetings (id, status, title) VALUES (:id, 'DONE', :title)")
+                .param("id", id)
+                .param("title", title)
+                .update();
+        meetings.add(id);
+        return id;
+    }
+
+    private static void transcript(UUID meetingId, String language, String text) {
+        transcriptRepository.upsert(new Transcript(UUID.randomUUID(), meetingId, language, text, OffsetDateTime.now()));
+    }
+}
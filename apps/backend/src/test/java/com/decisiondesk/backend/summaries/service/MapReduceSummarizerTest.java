@@ -0,0 +1,83 @@
+package com.decisiondesk.backend.summaries.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.decisiondesk.backend.ai.AiCompletion;
+import com.decisiondesk.backend.ai.AiCompletionProvider;
+import com.decisiondesk.backend.meetings.model.TranscriptSegment;
+import com.decisiondesk.backend.summaries.model.SummaryTemplate;
+
+class MapReduceSummarizerTest {
+
+    private static final UUID MEETING = UUID.randomUUID();
+
+    @Test
+    void chunksEndOnSegmentBoundaries() {
+        List<TranscriptSegment> segments = segments(50);
+
+        List<String> chunks = MapReduceSummarizer.chunk(segments, "", 500);
+
+        assertThat(chunks).hasSizeGreaterThan(1).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(500));
+        assertThat(String.join("\n", chunks).lines()).hasSize(50);
+        assertThat(chunks.get(0)).startsWith("[00:00] SPEAKER_00: Item 0 do orçamento");
+    }
+
+    @Test
+    void plainTextIsCutAtSentenceEnds() {
+        String text = "Vamos revisar o orçamento do trimestre. ".repeat(100);
+
+        List<String> chunks = MapReduceSummarizer.splitText(text, 1_000);
+
+        assertThat(chunks).hasSizeGreaterThan(3).allSatisfy(chunk -> assertThat(chunk).endsWith("trimestre."));
+    }
+
+    @Test
+    void reducesWithTemplatePromptAndSumsUsageOfEveryCall() {
+        AiCompletionProvider provider = mock(AiCompletionProvider.class);
+        when(provider.name()).thenReturn("ollama");
+        when(provider.chatCompletion(anyString(), anyString(), anyString(), anyInt(), any()))
+                .thenReturn(new AiCompletion("- notas", "qwen3:14b", "ollama", 100, 10, 110));
+        SummaryTemplate template = SummaryTemplate.create("Ata", "Você resume reuniões.", "Resuma:\n{{transcript}}");
+        MapReduceSummarizer summarizer = new MapReduceSummarizer(
+                new SummaryMapReduceProperties(true, 1_000, 500, 200, Map.of("ollama", 1)));
+
+        MapReduceSummarizer.Result result = summarizer.summarize(provider, "qwen3:14b", template,
+                template.systemPrompt(), segments(50), "unused");
+
+        int chunks = MapReduceSummarizer.chunk(segments(50), "", 500).size();
+        assertThat(result.calls()).isEqualTo(chunks + 1);
+        assertThat(result.completion().promptTokens()).isEqualTo(100 * result.calls());
+        assertThat(result.completion().totalTokens()).isEqualTo(110 * result.calls());
+
+        ArgumentCaptor<String> userPrompt = ArgumentCaptor.forClass(String.class);
+        verify(provider, times(1)).chatCompletion(eq("Você resume reuniões."), userPrompt.capture(),
+                eq("qwen3:14b"), eq(2000), eq(new BigDecimal("0.3")));
+        assertThat(userPrompt.getValue()).startsWith("Resuma:\n## Part 1 of " + chunks);
+    }
+
+    private static List<TranscriptSegment> segments(int count) {
+        List<TranscriptSegment> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            segments.add(TranscriptSegment.create(MEETING, i, i * 4.0, i * 4.0 + 3.5,
+                    "Item " + i + " do orçamento aprovado pela equipe.").withSpeaker("SPEAKER_0" + (i % 2), null));
+        }
+        return segments;
+    }
+}
@@ -4,6 +4,8 @@ import { join } from 'path';
 import { app } from 'electron';
 import { pipeline } from 'stream/promises';
 
+import type { MeetingListParams } from '../shared/types';
+
 export interface PendingJob {
   meetingId: string;
   model: string;
@@ -295,9 +297,10 @@ export class ApiService {
     };
   }
 
-  async fetchAllMeetings(): Promise<any[]> {
-    const response = await this.client.get('/api/v1/meetings');
-    return response.data;
+  /** Fetches one page of meetings; nextCursor is the X-Next-Cursor header, null on the last page. */
+  async fetchMeetingsPage(params: MeetingListParams = {}): Promise<{ items: any[]; nextCursor: string | null }> {
+    const response = await this.client.get('/api/v1/meetings', { params });
+    return { items: response.data, nextCursor: response.headers['x-next-cursor'] ?? null };
   }
 
   async fetchAllFolders(): Promise<any[]> {
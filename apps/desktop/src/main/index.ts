@@ -12,6 +12,7 @@ import { initDatabase, closeDatabase } from './database';
 import { ConnectivityService } from './connectivity';
 import { SyncService } from './syncService';
 import * as repo from './repositories';
+import type { MeetingListParams } from '../shared/types';
 
 // Store for app settings (simple key-value, not entities)
 const store = new Store({
@@ -222,11 +223,11 @@ function setupIPC(): void {
     connectivityService.setBackendUrl(url);
   });
 
-  ipcMain.handle('api:meetings:list', async () => {
+  ipcMain.handle('api:meetings:list', async (_, params?: MeetingListParams) => {
     try {
-      const data = await apiService.fetchAllMeetings();
+      const page = await apiService.fetchMeetingsPage(params);
       // Normalize backend response to match local Meeting shape
-      return data.map((m: any) => ({
+      const items = page.items.map((m: any) => ({
         id: m.id,
         remoteId: m.id,
         createdAt: m.createdAt,
@@ -238,8 +239,9 @@ function setupIPC(): void {
         meetingTypeId: m.meetingTypeId ?? null,
         meetingTypeName: m.meetingTypeName ?? null,
       }));
+      return { items, nextCursor: page.nextCursor };
     } catch {
-      return [];
+      return { items: [], nextCursor: null };
     }
   });
 
@@ -6,7 +6,7 @@ import type {
   Template, Settings, PendingJob, AcceptedJob,
   TranscriptSegment, MeetingSpeaker, ChatResponse,
   ParticipantSuggestion, PersonMeetingRow,
-  ActionItem
+  ActionItem, MeetingListParams, MeetingListPage
 } from '../shared/types';
 
 // ─── ElectronAPI type definition ─────────────────────────────
@@ -41,7 +41,7 @@ export interface ElectronAPI {
   };
   api: {
     setUrl: (url: string) => Promise<void>;
-    fetchMeetings: () => Promise<Meeting[]>;
+    fetchMeetings: (params?: MeetingListParams) => Promise<MeetingListPage>;
     fetchMeeting: (id: string) => Promise<any>;
     fetchTemplates: () => Promise<{ id: string; name: string; isDefault: boolean; description?: string; systemPrompt?: string; userPromptTemplate?: string; model?: string; maxTokens?: number; temperature?: number; outputFormat?: string }[]>;
     generateSummary: (meetingId: string, templateId?: string) => Promise<{ id: string; text: string; model?: string; tokensUsed?: number }>;
@@ -223,7 +223,7 @@ const electronAPI: ElectronAPI = {
   },
   api: {
     setUrl: (url) => ipcRenderer.invoke('api:set-url', url),
-    fetchMeetings: () => ipcRenderer.invoke('api:meetings:list'),
+    fetchMeetings: (params) => ipcRenderer.invoke('api:meetings:list', params),
     fetchMeeting: (id) => ipcRenderer.invoke('api:meetings:get', id),
     fetchTemplates: () => ipcRenderer.invoke('api:templates:list'),
     generateSummary: (meetingId, templateId) => ipcRenderer.invoke('api:summary:generate', meetingId, templateId),
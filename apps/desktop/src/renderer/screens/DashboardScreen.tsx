@@ -136,14 +136,15 @@ export function DashboardScreen() {
   });
 
   const { data: meetings, isLoading: meetingsLoading } = useQuery({
-    queryKey: ['meetings'],
+    queryKey: ['meetings', 'recent'],
     queryFn: async () => {
+      // Only the newest page is needed for the recent list
       const [local, remote] = await Promise.all([
         window.electronAPI.db.listMeetings(),
-        window.electronAPI.api.fetchMeetings().catch(() => [] as Meeting[]),
+        window.electronAPI.api.fetchMeetings({ limit: 5 }).catch(() => ({ items: [] as Meeting[], nextCursor: null })),
       ]);
       const merged = new Map<string, Meeting>();
-      for (const m of remote) merged.set(m.id, m);
+      for (const m of remote.items) merged.set(m.id, m);
       for (const m of local) {
         const r = merged.get(m.id);
         if (r) {
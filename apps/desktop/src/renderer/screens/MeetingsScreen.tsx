@@ -1,6 +1,6 @@
-import { useState, useEffect, useRef } from 'react';
+import { useState, useEffect, useMemo, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { useQuery, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery, useQueryClient } from '@tanstack/react-query';
 import type { Meeting, MeetingStatus } from '../../shared/types';
 
 // ─── Helpers ─────────────────────────────────────────────────
@@ -116,41 +116,52 @@ function MeetingCard({ meeting, onClick }: { meeting: Meeting; onClick: () => vo
 
 // ─── MeetingsScreen ──────────────────────────────────────────
 
+const PAGE_SIZE = 50;
+
 export function MeetingsScreen() {
   const navigate = useNavigate();
   const queryClient = useQueryClient();
   const [search, setSearch] = useState('');
 
-  const { data: meetings = [], isLoading, error } = useQuery({
-    queryKey: ['meetings'],
-    queryFn: async () => {
-      // Fetch both local and remote, merge by ID
-      const [local, remote] = await Promise.all([
-        window.electronAPI.db.listMeetings(),
-        window.electronAPI.api.fetchMeetings().catch(() => [] as Meeting[]),
-      ]);
+  // Remote meetings one page at a time; older pages load on demand
+  const remote = useInfiniteQuery({
+    queryKey: ['meetings', 'remote'],
+    queryFn: ({ pageParam }) =>
+      window.electronAPI.api.fetchMeetings({ cursor: pageParam, limit: PAGE_SIZE }),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+  });
+  const local = useQuery({
+    queryKey: ['meetings', 'local'],
+    queryFn: () => window.electronAPI.db.listMeetings(),
+  });
+  const isLoading = remote.isLoading || local.isLoading;
+  const error = local.error;
 
-      const merged = new Map<string, Meeting>();
-      // Remote is authoritative for status, duration, title, etc.
-      for (const m of remote) merged.set(m.id, m);
-      // Local adds offline-only fields (recordingUri, local transcript)
-      for (const m of local) {
-        const r = merged.get(m.id);
-        if (r) {
-          merged.set(m.id, {
-            ...r,
-            recordingUri: m.recordingUri ?? r.recordingUri,
-            transcriptText: r.transcriptText || m.transcriptText || null,
-            summarySnippet: m.summarySnippet ?? r.summarySnippet ?? null,
-            status: r.transcriptText ? r.status : (m.transcriptText ? m.status : r.status),
-          });
-        } else {
-          merged.set(m.id, m);
-        }
+  const meetings = useMemo(() => {
+    // Merge loaded remote pages with local meetings by ID
+    const merged = new Map<string, Meeting>();
+    // Remote is authoritative for status, duration, title, etc.
+    for (const page of remote.data?.pages ?? []) {
+      for (const m of page.items) merged.set(m.id, m);
+    }
+    // Local adds offline-only fields (recordingUri, local transcript)
+    for (const m of local.data ?? []) {
+      const r = merged.get(m.id);
+      if (r) {
+        merged.set(m.id, {
+          ...r,
+          recordingUri: m.recordingUri ?? r.recordingUri,
+          transcriptText: r.transcriptText || m.transcriptText || null,
+          summarySnippet: m.summarySnippet ?? r.summarySnippet ?? null,
+          status: r.transcriptText ? r.status : (m.transcriptText ? m.status : r.status),
+        });
+      } else {
+        merged.set(m.id, m);
       }
-      return Array.from(merged.values());
-    },
-  });
+    }
+    return Array.from(merged.values());
+  }, [remote.data, local.data]);
 
   // Settings (for preferLocal)
   const { data: settings } = useQuery({
@@ -311,6 +322,15 @@ export function MeetingsScreen() {
               </div>
             </section>
           ))}
+          {remote.hasNextPage && (
+            <button
+              onClick={() => remote.fetchNextPage()}
+              disabled={remote.isFetchingNextPage}
+              className="w-full rounded-lg bg-dd-elevated py-2.5 text-sm text-slate-300 hover:bg-dd-elevated disabled:opacity-50"
+            >
+              {remote.isFetchingNextPage ? 'Carregando...' : 'Carregar mais'}
+            </button>
+          )}
         </div>
       )}
     </div>
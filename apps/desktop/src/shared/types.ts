@@ -295,3 +295,21 @@ export interface MeetingDetailsPayload {
     total?: { usd: number | null; brl: number | null } | null;
   } | null;
 }
+
+/** Query parameters of GET /api/v1/meetings; filters are applied by the backend. */
+export interface MeetingListParams {
+  cursor?: string;
+  limit?: number;
+  folderId?: string;
+  meetingTypeId?: string;
+  status?: MeetingStatus;
+  tag?: string;
+  from?: string;
+  to?: string;
+}
+
+/** One page of the meeting list; nextCursor is null on the last page. */
+export interface MeetingListPage {
+  items: Meeting[];
+  nextCursor: string | null;
+}
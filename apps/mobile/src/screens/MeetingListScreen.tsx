@@ -58,7 +58,7 @@ function toCardMeeting(m: Meeting) {
 export type MeetingListScreenProps = NativeStackScreenProps<RootStackParamList, 'Home'>;
 
 export function MeetingListScreen({ navigation }: MeetingListScreenProps) {
-  const { meetings, loading, syncError, syncPendingOperations } = useMeetings();
+  const { meetings, loading, syncError, hasMoreMeetings, loadMoreMeetings, syncPendingOperations } = useMeetings();
   const { allowCellular } = useSettings();
   const [search, setSearch] = useState('');
   const [refreshing, setRefreshing] = useState(false);
@@ -150,6 +150,8 @@ export function MeetingListScreen({ navigation }: MeetingListScreenProps) {
           refreshControl={
             <RefreshControl refreshing={refreshing} onRefresh={handleRefresh} tintColor="#818cf8" />
           }
+          onEndReached={hasMoreMeetings ? loadMoreMeetings : undefined}
+          onEndReachedThreshold={0.5}
           renderSectionHeader={({ section: { title } }) => (
             <Text className="mb-2 mt-5 text-xs font-semibold uppercase tracking-wider text-slate-500">
               {title}
@@ -152,12 +152,28 @@ export interface ListMeetingItem {
   meetingTypeName: string | null;
 }
 
-export async function fetchAllMeetings(): Promise<ListMeetingItem[]> {
-  const { data } = await api.get<ListMeetingItem[] | { content: ListMeetingItem[] }>('/meetings', {
-    params: { size: 200 },
-  });
-  if (Array.isArray(data)) return data;
-  return (data as { content: ListMeetingItem[] }).content;
+/** Query parameters of GET /meetings; filters are applied by the backend. */
+export interface MeetingListParams {
+  cursor?: string;
+  limit?: number;
+  folderId?: string;
+  meetingTypeId?: string;
+  status?: string;
+  tag?: string;
+  from?: string;
+  to?: string;
+}
+
+/** One page of meetings; nextCursor comes from the X-Next-Cursor header and is null on the last page. */
+export interface MeetingListPage {
+  items: ListMeetingItem[];
+  nextCursor: string | null;
+}
+
+/** Fetches one page of meetings, newest first. */
+export async function fetchMeetingsPage(params: MeetingListParams = {}): Promise<MeetingListPage> {
+  const response = await api.get<ListMeetingItem[]>('/meetings', { params });
+  return { items: response.data, nextCursor: response.headers['x-next-cursor'] ?? null };
 }
 
 export interface ImportResult {
@@ -1,8 +1,8 @@
-import { ReactNode, createContext, useCallback, useContext, useEffect, useMemo, useState } from 'react';
+import { ReactNode, createContext, useCallback, useContext, useEffect, useMemo, useRef, useState } from 'react';
 import { File, Directory, Paths } from 'expo-file-system';
 import * as Crypto from 'expo-crypto';
 
-import { fetchAllMeetings } from '../services/api';
+import { ListMeetingItem, fetchMeetingsPage } from '../services/api';
 import { loadMeetingDetails, requestTranscription, syncRecordingWithBackend } from '../services/meetingService';
 import {
   enqueueUploadOperation,
@@ -27,6 +27,8 @@ interface MeetingContextValue {
   meetings: Meeting[];
   loading: boolean;
   syncError: string | null;
+  hasMoreMeetings: boolean;
+  loadMoreMeetings: () => Promise<void>;
   recordAndQueue: (fileUri: string) => Promise<string>;
   refreshMeeting: (id: string) => Promise<void>;
   syncPendingOperations: () => Promise<void>;
@@ -43,41 +45,57 @@ async function ensureRecordingLibrary() {
   return recordingsDir;
 }
 
+const PAGE_SIZE = 50;
+
+/** Inserts remote meetings missing locally and refreshes the ones already stored. */
+async function mergeRemoteMeetings(remoteMeetings: ListMeetingItem[]) {
+  for (const rm of remoteMeetings) {
+    const existing = await getMeetingByRemoteId(rm.id);
+    if (!existing) {
+      // New remote meeting — insert locally with remoteId = backend id
+      await upsertMeeting({
+        id: rm.id,
+        remoteId: rm.id,
+        createdAt: rm.createdAt,
+        status: (rm.status as Meeting['status']) ?? 'NEW',
+        recordingUri: null,
+        title: rm.title ?? null,
+        durationSec: rm.durationSec ?? null,
+        minutes: rm.minutes ?? null,
+        updatedAt: rm.updatedAt ?? null,
+      });
+    } else {
+      // Already exists locally — patch status/title/duration if backend has newer data
+      await patchMeeting(existing.id, {
+        status: (rm.status as Meeting['status']) ?? existing.status,
+        title: rm.title ?? existing.title,
+        durationSec: rm.durationSec ?? existing.durationSec,
+        minutes: rm.minutes ?? existing.minutes,
+        updatedAt: rm.updatedAt ?? existing.updatedAt,
+      });
+    }
+  }
+}
+
 export function MeetingProvider({ children }: { children: ReactNode }) {
   const [meetings, setMeetings] = useState<Meeting[]>([]);
   const [loading, setLoading] = useState(true);
   const [syncError, setSyncError] = useState<string | null>(null);
+  // Cursor of the next remote page; null once the oldest page has been merged
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const loadingMore = useRef(false);
+
+  const loadLocal = useCallback(async () => {
+    const collection = await listMeetings();
+    setMeetings(collection);
+  }, []);
 
   const loadFromDatabase = useCallback(async () => {
-    // 1. Try fetching from backend to merge remote meetings into local SQLite
+    // 1. Merge the newest page from the backend into local SQLite; older pages load on scroll
     try {
-      const remoteMeetings = await fetchAllMeetings();
-      for (const rm of remoteMeetings) {
-        const existing = await getMeetingByRemoteId(rm.id);
-        if (!existing) {
-          // New remote meeting — insert locally with remoteId = backend id
-          await upsertMeeting({
-            id: rm.id,
-            remoteId: rm.id,
-            createdAt: rm.createdAt,
-            status: (rm.status as Meeting['status']) ?? 'NEW',
-            recordingUri: null,
-            title: rm.title ?? null,
-            durationSec: rm.durationSec ?? null,
-            minutes: rm.minutes ?? null,
-            updatedAt: rm.updatedAt ?? null,
-          });
-        } else {
-          // Already exists locally — patch status/title/duration if backend has newer data
-          await patchMeeting(existing.id, {
-            status: (rm.status as Meeting['status']) ?? existing.status,
-            title: rm.title ?? existing.title,
-            durationSec: rm.durationSec ?? existing.durationSec,
-            minutes: rm.minutes ?? existing.minutes,
-            updatedAt: rm.updatedAt ?? existing.updatedAt,
-          });
-        }
-      }
+      const page = await fetchMeetingsPage({ limit: PAGE_SIZE });
+      await mergeRemoteMeetings(page.items);
+      setNextCursor(page.nextCursor);
       setSyncError(null);
     } catch {
       // Offline or backend unreachable — continue with local data only
@@ -85,9 +103,25 @@ export function MeetingProvider({ children }: { children: ReactNode }) {
     }
 
     // 2. Read merged local data
-    const collection = await listMeetings();
-    setMeetings(collection);
-  }, []);
+    await loadLocal();
+  }, [loadLocal]);
+
+  const loadMoreMeetings = useCallback(async () => {
+    if (!nextCursor || loadingMore.current) {
+      return;
+    }
+    loadingMore.current = true;
+    try {
+      const page = await fetchMeetingsPage({ cursor: nextCursor, limit: PAGE_SIZE });
+      await mergeRemoteMeetings(page.items);
+      setNextCursor(page.nextCursor);
+      await loadLocal();
+    } catch {
+      console.log('[MeetingContext] Could not load more meetings');
+    } finally {
+      loadingMore.current = false;
+    }
+  }, [nextCursor, loadLocal]);
 
   useEffect(() => {
     initializeDatabase()
@@ -139,9 +173,9 @@ export function MeetingProvider({ children }: { children: ReactNode }) {
         minutes: details.minutes,
         durationSec: details.durationSec,
       });
-      await loadFromDatabase();
+      await loadLocal();
     },
-    [loadFromDatabase]
+    [loadLocal]
   );
 
   const syncPendingOperations = useCallback(async () => {
@@ -209,12 +243,24 @@ export function MeetingProvider({ children }: { children: ReactNode }) {
       meetings,
       loading,
       syncError,
+      hasMoreMeetings: nextCursor !== null,
+      loadMoreMeetings,
       recordAndQueue,
       refreshMeeting,
       syncPendingOperations,
       transcribeMeeting
     }),
-    [loading, meetings, syncError, recordAndQueue, refreshMeeting, syncPendingOperations, transcribeMeeting]
+    [
+      loading,
+      meetings,
+      syncError,
+      nextCursor,
+      loadMoreMeetings,
+      recordAndQueue,
+      refreshMeeting,
+      syncPendingOperations,
+      transcribeMeeting
+    ]
   );
 
   return <MeetingContext.Provider value={value}>{children}</MeetingContext.Provider>;
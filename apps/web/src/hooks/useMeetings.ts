@@ -1,15 +1,20 @@
-import { useQuery } from '@tanstack/react-query';
-import { fetchMeetings } from '../services/api';
-import type { Meeting } from '../types';
+import { useInfiniteQuery } from '@tanstack/react-query';
+import { fetchMeetings, type MeetingListParams } from '../services/api';
+
+const PAGE_SIZE = 50;
 
 /**
- * Fetches the full list of meetings from the backend.
+ * Fetches the meeting list one page at a time; fetchNextPage follows the
+ * backend cursor. Filters are sent to the backend as query parameters.
  * Refetches every 15 seconds to pick up status changes (polling-only MVP).
  */
-export function useMeetings() {
-  return useQuery<Meeting[], Error>({
-    queryKey: ['meetings'],
-    queryFn: fetchMeetings,
+export function useMeetings(filters: Omit<MeetingListParams, 'cursor' | 'limit'> = {}) {
+  return useInfiniteQuery({
+    queryKey: ['meetings', 'list', filters],
+    queryFn: ({ pageParam }) => fetchMeetings({ ...filters, cursor: pageParam, limit: PAGE_SIZE }),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+    select: (data) => data.pages.flatMap((page) => page.items),
     refetchInterval: 15_000,
     staleTime: 10_000,
   });
@@ -100,19 +100,12 @@ export function DashboardPage() {
     queryFn: () => fetchCalendar(from, to),
   });
 
-  const { data: meetings, isLoading: meetingsLoading } = useQuery({
-    queryKey: ['meetings'],
-    queryFn: fetchMeetings,
+  // The backend returns meetings newest first, so the first page of 5 is the recent list.
+  const { data: recentMeetings = [], isLoading: meetingsLoading } = useQuery({
+    queryKey: ['meetings', 'recent'],
+    queryFn: async () => (await fetchMeetings({ limit: 5 })).items,
   });
 
-  // Take the 5 most recent meetings, sorted newest first.
-  const recentMeetings = useMemo(() => {
-    if (!meetings) return [];
-    return [...meetings]
-      .sort((a, b) => new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime())
-      .slice(0, 5);
-  }, [meetings]);
-
   const weekDays = useMemo(() => buildWeekDays(from, calendarData), [from, calendarData]);
 
   // ── Stats cards config ─────────────────────────────────────────────────────
@@ -47,7 +47,7 @@ function groupByDate(meetings: Meeting[]): [string, Meeting[]][] {
 
 /** Main meeting list page with search and date-grouped cards. */
 export function MeetingsPage() {
-  const { data: meetings, isLoading, isError } = useMeetings();
+  const { data: meetings, isLoading, isError, hasNextPage, fetchNextPage, isFetchingNextPage } = useMeetings();
   const queryClient = useQueryClient();
   const [search, setSearch] = useState('');
   const [showImport, setShowImport] = useState(false);
@@ -246,6 +246,16 @@ export function MeetingsPage() {
             </div>
           </section>
         ))}
+
+        {hasNextPage && (
+          <button
+            onClick={() => fetchNextPage()}
+            disabled={isFetchingNextPage}
+            className="w-full rounded-lg bg-dd-elevated py-2.5 text-sm text-slate-300 hover:bg-dd-elevated disabled:opacity-50"
+          >
+            {isFetchingNextPage ? 'Carregando...' : 'Carregar mais'}
+          </button>
+        )}
       </div>
     </div>
   );
@@ -13,16 +13,28 @@ const client = axios.create({
 
 // ─── Meetings ─────────────────────────────────────────────────────────────────
 
-/** Fetch paginated list of meetings. Returns raw content array for simplicity. */
-export async function fetchMeetings(): Promise<Meeting[]> {
-  const { data } = await client.get<PagedResponse<Meeting> | Meeting[]>('/meetings', {
-    params: { size: 200 },
-  });
-  // Backend may return a Page object or a plain array depending on version.
-  if (Array.isArray(data)) {
-    return data;
-  }
-  return (data as PagedResponse<Meeting>).content;
+/** Query parameters of GET /meetings; filters are applied by the backend. */
+export interface MeetingListParams {
+  cursor?: string;
+  limit?: number;
+  folderId?: string;
+  meetingTypeId?: string;
+  status?: string;
+  tag?: string;
+  from?: string;
+  to?: string;
+}
+
+/** One page of meetings; nextCursor comes from the X-Next-Cursor header and is null on the last page. */
+export interface MeetingListPage {
+  items: Meeting[];
+  nextCursor: string | null;
+}
+
+/** Fetch one page of meetings, newest first. */
+export async function fetchMeetings(params: MeetingListParams = {}): Promise<MeetingListPage> {
+  const response = await client.get<Meeting[]>('/meetings', { params });
+  return { items: response.data, nextCursor: response.headers['x-next-cursor'] ?? null };
 }
 
 /** Fetch a single meeting by ID. Flattens nested backend response into our flat Meeting shape. */